@@ -14,13 +14,15 @@ package org.flowable.cmmn.api.history;
 
 import java.util.Set;
 
+import org.flowable.common.engine.api.query.CursorPagingQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 
 /**
  * @author Joram Barrez
  */
-public interface HistoricVariableInstanceQuery extends Query<HistoricVariableInstanceQuery, HistoricVariableInstance> {
+public interface HistoricVariableInstanceQuery extends Query<HistoricVariableInstanceQuery, HistoricVariableInstance>,
+        CursorPagingQuery<HistoricVariableInstanceQuery, HistoricVariableInstance> {
     
     /** Only select a historic variable with the given id. */
     HistoricVariableInstanceQuery id(String id);
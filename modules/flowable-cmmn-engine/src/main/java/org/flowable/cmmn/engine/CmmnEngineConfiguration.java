@@ -27,6 +27,8 @@ import javax.sql.DataSource;
 
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
+import org.flowable.batch.service.BatchServiceConfiguration;
+import org.flowable.batch.service.impl.db.BatchDbSchemaManager;
 import org.flowable.cmmn.api.CallbackTypes;
 import org.flowable.cmmn.api.CandidateManager;
 import org.flowable.cmmn.api.CmmnEngineConfigurationApi;
@@ -115,6 +117,7 @@ import org.flowable.cmmn.engine.impl.interceptor.CmmnCommandInvoker;
 import org.flowable.cmmn.engine.impl.interceptor.DefaultCmmnIdentityLinkInterceptor;
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.AsyncInitializePlanModelJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchPartJobHandler;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
 import org.flowable.cmmn.engine.impl.job.ExternalWorkerTaskCompleteJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
@@ -192,6 +195,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.MybatisPlanIte
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.MybatisResourceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.MybatisSentryPartInstanceDataManagerImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntryWeigher;
 import org.flowable.cmmn.engine.impl.process.ProcessInstanceService;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceHelper;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceHelperImpl;
@@ -223,6 +227,7 @@ import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -254,7 +259,6 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
@@ -293,6 +297,7 @@ import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
@@ -407,6 +412,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected CaseDefinitionDiagramHelper caseDefinitionDiagramHelper;
 
     protected int caseDefinitionCacheLimit = -1;
+
+    /**
+     * Only used with the concurrent deployment cache: the maximum total weight of the case definition cache,
+     * where the weight of a case definition is the number of case elements in its model. By default, no limit.
+     */
+    protected long caseDefinitionCacheWeightLimit = -1;
+
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
     protected CmmnParser cmmnParser;
@@ -434,6 +446,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * Whether the {@link ScriptingEngines} created by the engine compile scripts once and keep them in a cache,
+     * see {@link ScriptingEngines#setCacheCompiledScripts(boolean)}. Default false.
+     */
+    protected boolean cacheCompiledScripts;
+    /**
+     * The max number of compiled scripts kept in the cache when {@link #cacheCompiledScripts} is enabled, no limit when zero or negative.
+     */
+    protected int compiledScriptCacheLimit = ScriptingEngines.DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -448,6 +470,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected SchemaManager variableSchemaManager;
     protected SchemaManager taskSchemaManager;
     protected SchemaManager jobSchemaManager;
+    protected SchemaManager batchSchemaManager;
 
     /**
      * Case diagram generator. Default value is DefaultCaseDiagramGenerator
@@ -518,6 +541,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     // Async executor
     protected JobServiceConfiguration jobServiceConfiguration;
 
+    protected BatchServiceConfiguration batchServiceConfiguration;
+
     protected AsyncExecutor asyncExecutor;
     protected AsyncTaskExecutor asyncTaskExecutor;
     protected boolean shutdownAsyncTaskExecutor;
@@ -622,6 +647,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected long asyncExecutorSecondsToWaitOnShutdown = 60L;
 
+    /**
+     * Whether the jobs (and the future based service tasks) are executed in virtual threads instead of the threadpool. Default value = false.
+     * This requires a Java runtime with virtual thread support (JDK 21+), otherwise the threadpool is used.
+     * <p>
+     * Instead of the threadpool and queue size, the number of concurrently executed jobs is then limited by {@link #asyncExecutorVirtualThreadsMaxConcurrency}.
+     */
+    protected boolean asyncExecutorVirtualThreadsEnabled;
+    protected int asyncExecutorVirtualThreadsMaxConcurrency = 256;
+
     /**
      * Whether or not core threads can time out (which is needed to scale down the threads). Default true.
      *
@@ -680,6 +714,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
 
+    /**
+     * Whether the async jobs are acquired ahead into a bounded local prefetch buffer, from which they are handed to the task executor
+     * only when it has capacity left. This avoids rejected jobs that need to be unacquired again. False by default.
+     * <p>
+     * The size of the buffer adapts to the observed job execution rate,
+     * between {@link #asyncExecutorAsyncJobsPrefetchMinBufferSize} and {@link #asyncExecutorAsyncJobsPrefetchMaxBufferSize}.
+     * <p>
+     * This property is only applicable when using the threadpool-based async executor.
+     */
+    protected boolean asyncExecutorAsyncJobsPrefetchEnabled;
+    protected int asyncExecutorAsyncJobsPrefetchMinBufferSize = 32;
+    protected int asyncExecutorAsyncJobsPrefetchMaxBufferSize = 512;
+
+    /**
+     * Whether the timer jobs that are due within a look-ahead window are acquired into a timing wheel, from which they are moved
+     * to the executable jobs at their exact due time, instead of only acquiring the timer jobs that are already due. False by default.
+     * <p>
+     * The look-ahead window adapts to the number of acquired timer jobs,
+     * between {@link #asyncExecutorTimerJobsLookAheadMinWindowInMillis} and {@link #asyncExecutorTimerJobsLookAheadMaxWindowInMillis}.
+     * Idle nodes acquire every half window, so new timers that are due sooner can be moved up to half of the max window late.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerJobsTimingWheelEnabled;
+    protected int asyncExecutorTimerJobsLookAheadMinWindowInMillis = 20 * 1000;
+    protected int asyncExecutorTimerJobsLookAheadMaxWindowInMillis = 2 * 60 * 1000;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it.
      * While doing this, the 'name' of the lock owner is written into a column of the job.
@@ -770,6 +831,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
     protected AsyncHistoryListener asyncHistoryListener;
 
     // More info: see similar async executor properties.
@@ -781,18 +843,23 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int asyncHistoryExecutorThreadPoolQueueSize = 2048;
     protected BlockingQueue<Runnable> asyncHistoryExecutorThreadPoolQueue;
     protected long asyncHistoryExecutorSecondsToWaitOnShutdown = 60L;
+    protected boolean asyncHistoryExecutorVirtualThreadsEnabled;
+    protected int asyncHistoryExecutorVirtualThreadsMaxConcurrency = 256;
     protected int asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime = 10 * 1000;
     protected int asyncHistoryExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
     protected String asyncHistoryExecutorLockOwner;
     protected int asyncHistoryExecutorAsyncJobLockTimeInMillis = 60 * 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsInterval = 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsPageSize = 3;
+    // When larger than 1, the async history executor executes the acquired history jobs in batches of this size, each batch in one transaction
+    protected int asyncHistoryExecutorJobBatchSize = 1;
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
     
     protected boolean enableHistoryCleaning = false;
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
+    protected int cleanInstancesBatchSize = 100;
     protected CmmnHistoryCleaningManager cmmnHistoryCleaningManager;
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
@@ -925,6 +992,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initHistoryJobHandlers();
         initFailedJobCommandFactory();
         initJobServiceConfiguration();
+        initBatchServiceConfiguration();
         initAsyncExecutor();
         initAsyncHistoryExecutor();
         initScriptingEngines();
@@ -952,6 +1020,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             initVariableSchemaManager();
             initTaskSchemaManager();
             initJobSchemaManager();
+            initBatchSchemaManager();
         }
     }
     
@@ -1009,6 +1078,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
 
+    protected void initBatchSchemaManager() {
+        if (this.batchSchemaManager == null) {
+            this.batchSchemaManager = new BatchDbSchemaManager();
+        }
+    }
+
     @Override
     public void initMybatisTypeHandlers(Configuration configuration) {
         super.initMybatisTypeHandlers(configuration);
@@ -1081,7 +1156,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             }
             
             if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                cmmnExpressionManager.setExpressionCache(createDeploymentCache(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
             
@@ -1282,11 +1357,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
-            }
+            caseDefinitionCache = createDeploymentCache(caseDefinitionCacheLimit, caseDefinitionCacheWeightLimit, new CaseDefinitionCacheEntryWeigher());
         }
     }
 
@@ -1459,6 +1530,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         if (scriptingEngines == null) {
 
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
+            scriptingEngines.setCacheCompiledScripts(cacheCompiledScripts);
+            scriptingEngines.setCompiledScriptCacheLimit(compiledScriptCacheLimit);
         }
     }
     
@@ -1719,6 +1792,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
         jobHandlers.put(AsyncInitializePlanModelJobHandler.TYPE, new AsyncInitializePlanModelJobHandler());
         jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
+        jobHandlers.put(CmmnHistoryCleanupBatchPartJobHandler.TYPE, new CmmnHistoryCleanupBatchPartJobHandler());
         jobHandlers.put(ExternalWorkerTaskCompleteJobHandler.TYPE, new ExternalWorkerTaskCompleteJobHandler(this));
 
         // if we have custom job handlers, register them
@@ -1858,6 +1932,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            if (asyncHistoryPayloadCodec != null) {
+                jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
+            }
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
@@ -1893,6 +1970,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected JobServiceConfiguration instantiateJobServiceConfiguration() {
         return new JobServiceConfiguration(ScopeTypes.CMMN);
     }
+
+    public void initBatchServiceConfiguration() {
+        if (batchServiceConfiguration == null) {
+            this.batchServiceConfiguration = instantiateBatchServiceConfiguration();
+            this.batchServiceConfiguration.setClock(this.clock);
+            this.batchServiceConfiguration.setIdGenerator(this.idGenerator);
+            this.batchServiceConfiguration.setObjectMapper(this.objectMapper);
+            this.batchServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+
+            this.batchServiceConfiguration.init();
+        }
+
+        addServiceConfiguration(EngineConfigurationConstants.KEY_BATCH_SERVICE_CONFIG, this.batchServiceConfiguration);
+    }
+
+    protected BatchServiceConfiguration instantiateBatchServiceConfiguration() {
+        return new BatchServiceConfiguration(ScopeTypes.CMMN);
+    }
     
     public void addJobHandler(JobHandler jobHandler) {
         this.jobHandlers.put(jobHandler.getType(), jobHandler);
@@ -1909,6 +2004,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && asyncExecutorVirtualThreadsEnabled) {
+            if (VirtualThreadAsyncTaskExecutor.isVirtualThreadsSupported()) {
+                VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor();
+                virtualThreadAsyncTaskExecutor.setMaxConcurrency(asyncExecutorVirtualThreadsMaxConcurrency);
+                virtualThreadAsyncTaskExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
+                virtualThreadAsyncTaskExecutor.setThreadNamePrefix("flowable-async-job-executor-virtual-thread-");
+                virtualThreadAsyncTaskExecutor.start();
+                this.shutdownAsyncTaskExecutor = true;
+
+                this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+
+            } else {
+                logger.warn("Virtual threads are not supported by the current Java runtime, using the threadpool for the async task executor instead");
+            }
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -1965,6 +2076,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Prefetching
+            defaultAsyncExecutor.setAsyncJobsPrefetchEnabled(asyncExecutorAsyncJobsPrefetchEnabled);
+            defaultAsyncExecutor.setAsyncJobsPrefetchMinBufferSize(asyncExecutorAsyncJobsPrefetchMinBufferSize);
+            defaultAsyncExecutor.setAsyncJobsPrefetchMaxBufferSize(asyncExecutorAsyncJobsPrefetchMaxBufferSize);
+
+            // Timing wheel
+            defaultAsyncExecutor.setTimerJobsTimingWheelEnabled(asyncExecutorTimerJobsTimingWheelEnabled);
+            defaultAsyncExecutor.setTimerJobsLookAheadMinWindowInMillis(asyncExecutorTimerJobsLookAheadMinWindowInMillis);
+            defaultAsyncExecutor.setTimerJobsLookAheadMaxWindowInMillis(asyncExecutorTimerJobsLookAheadMaxWindowInMillis);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -1994,6 +2115,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
     
     protected void initAsyncHistoryTaskExecutor() {
+        if (this.asyncHistoryTaskExecutor == null && asyncHistoryExecutorVirtualThreadsEnabled) {
+            if (VirtualThreadAsyncTaskExecutor.isVirtualThreadsSupported()) {
+                VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor();
+                virtualThreadAsyncTaskExecutor.setMaxConcurrency(asyncHistoryExecutorVirtualThreadsMaxConcurrency);
+                virtualThreadAsyncTaskExecutor.setSecondsToWaitOnShutdown(asyncHistoryExecutorSecondsToWaitOnShutdown);
+                virtualThreadAsyncTaskExecutor.setThreadNamePrefix("flowable-async-history-job-executor-virtual-thread-");
+                virtualThreadAsyncTaskExecutor.start();
+                shutdownAsyncHistoryTaskExecutor = true;
+
+                this.asyncHistoryTaskExecutor = virtualThreadAsyncTaskExecutor;
+
+            } else {
+                logger.warn("Virtual threads are not supported by the current Java runtime, using the threadpool for the async history task executor instead");
+            }
+        }
+
         if (this.asyncHistoryTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -2055,6 +2192,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 // Reset expired
                 defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncHistoryExecutorResetExpiredJobsInterval);
                 defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncHistoryExecutorResetExpiredJobsPageSize);
+
+                // Batched execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
     
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
                 
@@ -2600,6 +2740,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public long getCaseDefinitionCacheWeightLimit() {
+        return caseDefinitionCacheWeightLimit;
+    }
+
+    public CmmnEngineConfiguration setCaseDefinitionCacheWeightLimit(long caseDefinitionCacheWeightLimit) {
+        this.caseDefinitionCacheWeightLimit = caseDefinitionCacheWeightLimit;
+        return this;
+    }
+
     public DeploymentCache<CaseDefinitionCacheEntry> getCaseDefinitionCache() {
         return caseDefinitionCache;
     }
@@ -2919,6 +3068,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public SchemaManager getBatchSchemaManager() {
+        return batchSchemaManager;
+    }
+
+    public CmmnEngineConfiguration setBatchSchemaManager(SchemaManager batchSchemaManager) {
+        this.batchSchemaManager = batchSchemaManager;
+        return this;
+    }
+
     @Override
     public VariableTypes getVariableTypes() {
         return variableTypes;
@@ -3143,6 +3301,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public BatchServiceConfiguration getBatchServiceConfiguration() {
+        return batchServiceConfiguration;
+    }
+
+    public CmmnEngineConfiguration setBatchServiceConfiguration(BatchServiceConfiguration batchServiceConfiguration) {
+        this.batchServiceConfiguration = batchServiceConfiguration;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -3360,6 +3527,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreadsEnabled() {
+        return asyncExecutorVirtualThreadsEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorVirtualThreadsEnabled(boolean asyncExecutorVirtualThreadsEnabled) {
+        this.asyncExecutorVirtualThreadsEnabled = asyncExecutorVirtualThreadsEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorVirtualThreadsMaxConcurrency() {
+        return asyncExecutorVirtualThreadsMaxConcurrency;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorVirtualThreadsMaxConcurrency(int asyncExecutorVirtualThreadsMaxConcurrency) {
+        this.asyncExecutorVirtualThreadsMaxConcurrency = asyncExecutorVirtualThreadsMaxConcurrency;
+        return this;
+    }
+
     public boolean isAsyncExecutorAllowCoreThreadTimeout() {
         return asyncExecutorAllowCoreThreadTimeout;
     }
@@ -3423,6 +3608,60 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorAsyncJobsPrefetchEnabled() {
+        return asyncExecutorAsyncJobsPrefetchEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAsyncJobsPrefetchEnabled(boolean asyncExecutorAsyncJobsPrefetchEnabled) {
+        this.asyncExecutorAsyncJobsPrefetchEnabled = asyncExecutorAsyncJobsPrefetchEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorAsyncJobsPrefetchMinBufferSize() {
+        return asyncExecutorAsyncJobsPrefetchMinBufferSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAsyncJobsPrefetchMinBufferSize(int asyncExecutorAsyncJobsPrefetchMinBufferSize) {
+        this.asyncExecutorAsyncJobsPrefetchMinBufferSize = asyncExecutorAsyncJobsPrefetchMinBufferSize;
+        return this;
+    }
+
+    public int getAsyncExecutorAsyncJobsPrefetchMaxBufferSize() {
+        return asyncExecutorAsyncJobsPrefetchMaxBufferSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAsyncJobsPrefetchMaxBufferSize(int asyncExecutorAsyncJobsPrefetchMaxBufferSize) {
+        this.asyncExecutorAsyncJobsPrefetchMaxBufferSize = asyncExecutorAsyncJobsPrefetchMaxBufferSize;
+        return this;
+    }
+
+    public boolean isAsyncExecutorTimerJobsTimingWheelEnabled() {
+        return asyncExecutorTimerJobsTimingWheelEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobsTimingWheelEnabled(boolean asyncExecutorTimerJobsTimingWheelEnabled) {
+        this.asyncExecutorTimerJobsTimingWheelEnabled = asyncExecutorTimerJobsTimingWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobsLookAheadMinWindowInMillis() {
+        return asyncExecutorTimerJobsLookAheadMinWindowInMillis;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobsLookAheadMinWindowInMillis(int asyncExecutorTimerJobsLookAheadMinWindowInMillis) {
+        this.asyncExecutorTimerJobsLookAheadMinWindowInMillis = asyncExecutorTimerJobsLookAheadMinWindowInMillis;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobsLookAheadMaxWindowInMillis() {
+        return asyncExecutorTimerJobsLookAheadMaxWindowInMillis;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobsLookAheadMaxWindowInMillis(int asyncExecutorTimerJobsLookAheadMaxWindowInMillis) {
+        this.asyncExecutorTimerJobsLookAheadMaxWindowInMillis = asyncExecutorTimerJobsLookAheadMaxWindowInMillis;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -3593,6 +3832,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
         return this;
     }
+
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
     
     public boolean isAsyncHistoryExecutorMessageQueueMode() {
         return asyncHistoryExecutorMessageQueueMode;
@@ -3687,6 +3935,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorVirtualThreadsEnabled() {
+        return asyncHistoryExecutorVirtualThreadsEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorVirtualThreadsEnabled(boolean asyncHistoryExecutorVirtualThreadsEnabled) {
+        this.asyncHistoryExecutorVirtualThreadsEnabled = asyncHistoryExecutorVirtualThreadsEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorVirtualThreadsMaxConcurrency() {
+        return asyncHistoryExecutorVirtualThreadsMaxConcurrency;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorVirtualThreadsMaxConcurrency(int asyncHistoryExecutorVirtualThreadsMaxConcurrency) {
+        this.asyncHistoryExecutorVirtualThreadsMaxConcurrency = asyncHistoryExecutorVirtualThreadsMaxConcurrency;
+        return this;
+    }
+
     public int getAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime() {
         return asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime;
     }
@@ -3740,6 +4006,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.asyncHistoryExecutorResetExpiredJobsPageSize = asyncHistoryExecutorResetExpiredJobsPageSize;
         return this;
     }
+
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
     
     public boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled() {
         return isAsyncHistoryExecutorAsyncJobAcquisitionEnabled;
@@ -4038,6 +4313,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.scriptingEngines = scriptingEngines;
         return this;
     }
+
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public CmmnEngineConfiguration setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
     
     public void resetClock() {
         if (this.clock != null) {
@@ -4080,6 +4373,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getCleanInstancesBatchSize() {
+        return cleanInstancesBatchSize;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesBatchSize(int cleanInstancesBatchSize) {
+        this.cleanInstancesBatchSize = cleanInstancesBatchSize;
+        return this;
+    }
+
     public CmmnHistoryCleaningManager getCmmnHistoryCleaningManager() {
         return cmmnHistoryCleaningManager;
     }
@@ -56,7 +56,8 @@ public class SaveTaskCmd implements Command<Void>, Serializable {
             cmmnEngineConfiguration.getCmmnHistoryManager().recordTaskCreated(task);
 
             if (CommandContextUtil.getEventDispatcher() != null && CommandContextUtil.getEventDispatcher().isEnabled()) {
-                CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(
+                CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_CREATED,
+                        () -> FlowableTaskEventBuilder.createEntityEvent(
                         FlowableEngineEventType.TASK_CREATED, task), EngineConfigurationConstants.KEY_CMMN_ENGINE_CONFIG);
             }
 
@@ -79,7 +80,8 @@ public class SaveTaskCmd implements Command<Void>, Serializable {
                 cmmnEngineConfiguration.getListenerNotificationHelper().executeTaskListeners(task, TaskListener.EVENTNAME_ASSIGNMENT);
 
                 if (CommandContextUtil.getEventDispatcher() != null && CommandContextUtil.getEventDispatcher().isEnabled()) {
-                    CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(
+                    CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_ASSIGNED,
+                            () -> FlowableTaskEventBuilder.createEntityEvent(
                             FlowableEngineEventType.TASK_ASSIGNED, task), EngineConfigurationConstants.KEY_CMMN_ENGINE_CONFIG);
                 }
 
@@ -69,6 +69,7 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
             getTaskSchemaManager().schemaCreate();
             getVariableSchemaManager().schemaCreate();
             getJobSchemaManager().schemaCreate();
+            getBatchSchemaManager().schemaCreate();
             
             super.schemaCreate();
         } catch (Exception e) {
@@ -84,6 +85,12 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
             logger.info("Error dropping CMMN engine tables", e);
         }
         
+        try {
+            getBatchSchemaManager().schemaDrop();
+        } catch (Exception e) {
+            logger.info("Error dropping batch tables", e);
+        }
+        
         try {
             getJobSchemaManager().schemaDrop();
         } catch (Exception e) {
@@ -140,6 +147,7 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
                 getTaskSchemaManager().schemaUpdate();
                 getVariableSchemaManager().schemaUpdate();
                 getJobSchemaManager().schemaUpdate();
+                getBatchSchemaManager().schemaUpdate();
             }
 
             super.schemaUpdate();
@@ -177,4 +185,8 @@ public class CmmnDbSchemaManager extends LiquibaseBasedSchemaManager {
     protected SchemaManager getJobSchemaManager() {
         return CommandContextUtil.getCmmnEngineConfiguration().getJobSchemaManager();
     }
+    
+    protected SchemaManager getBatchSchemaManager() {
+        return CommandContextUtil.getCmmnEngineConfiguration().getBatchSchemaManager();
+    }
 }
@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.flowable.batch.service.impl.persistence.entity.BatchEntityImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityImpl;
@@ -89,6 +91,8 @@ public class EntityDependencyOrder {
         DELETE_ORDER.add(HistoricPlanItemInstanceEntityImpl.class);
         DELETE_ORDER.add(CaseInstanceEntityImpl.class);
         DELETE_ORDER.add(CaseDefinitionEntityImpl.class);
+        DELETE_ORDER.add(BatchPartEntityImpl.class);
+        DELETE_ORDER.add(BatchEntityImpl.class);
         DELETE_ORDER.add(ByteArrayEntityImpl.class);
         DELETE_ORDER.add(CmmnResourceEntityImpl.class);
         DELETE_ORDER.add(CmmnDeploymentEntityImpl.class);
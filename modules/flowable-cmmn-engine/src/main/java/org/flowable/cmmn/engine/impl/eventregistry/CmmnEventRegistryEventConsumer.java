@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.eventregistry;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
@@ -67,11 +68,21 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.CMMN, eventInstance, correlationKeys);
+        handleEventSubscriptions(eventInstance, correlationKeys, eventSubscriptions);
+
+    }
+
+    @Override
+    protected Map<EventInstance, RuntimeException> eventsReceived(List<EventInstance> eventInstances) {
+        return eventsReceivedInBatch(ScopeTypes.CMMN, eventInstances);
+    }
+
+    @Override
+    protected void handleEventSubscriptions(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, List<EventSubscription> eventSubscriptions) {
         CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
         for (EventSubscription eventSubscription : eventSubscriptions) {
             handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys);
         }
-
     }
 
     protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
@@ -119,7 +130,8 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
                     
                     long caseInstanceCount = caseInstanceQuery.count();
 
-                    if (caseInstanceCount > 0) {
+                    if (caseInstanceCount > 0 || !registerUniqueReferenceInCurrentTransaction(caseDefinition.getKey(),
+                            correlationKeyWithAllParameters.getValue(), eventInstance.getTenantId())) {
                         // Returning, no new instance should be started
                         LOGGER.debug("Event received to start a new case instance, but a unique instance already exists.");
                         return;
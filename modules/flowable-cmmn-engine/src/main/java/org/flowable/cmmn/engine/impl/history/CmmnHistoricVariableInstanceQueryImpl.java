@@ -148,6 +148,12 @@ public class CmmnHistoricVariableInstanceQueryImpl implements HistoricVariableIn
         return this;
     }
 
+    @Override
+    public HistoricVariableInstanceQuery afterCursor(String cursor) {
+        wrappedHistoricVariableInstanceQuery.afterCursor(cursor);
+        return this;
+    }
+
     @Override
     public long count() {
         return wrappedHistoricVariableInstanceQuery.count();
@@ -0,0 +1,230 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cmd.DeleteRelatedDataOfRemovedHistoricCaseInstancesCmd;
+import org.flowable.cmmn.engine.impl.cmd.DeleteTaskAndPlanItemInstanceDataOfRemovedHistoricCaseInstancesCmd;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic case instances of one part of a history cleanup batch created by the {@link CmmnHistoryCleanupJobHandler}.
+ *
+ * The ids of the instances are stored in the document of the batch part, which is replaced by the result when the part is completed.
+ * The instances are deleted with one set based delete, in the same transaction that completes the part, so a failed job can simply be retried.
+ *
+ * The ids to clean are selected page per page: at most {@link #MAX_BATCH_PARTS_PER_TRANSACTION} parts are created at once,
+ * and the last of them creates the parts for the next page of ids when it's executed.
+ * When all instances are deleted, two last parts delete the data related to them (tasks, plan item instances, variables, ...), the second one completes the batch.
+ */
+public class CmmnHistoryCleanupBatchPartJobHandler implements JobHandler {
+
+    public static final String TYPE = "cmmn-history-cleanup-batch-part";
+
+    public static final int MAX_BATCH_PARTS_PER_TRANSACTION = 10;
+
+    protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+    protected static final String INSTANCE_IDS_LABEL = "instanceIds";
+    protected static final String CREATE_NEXT_BATCH_PARTS_LABEL = "createNextBatchParts";
+    protected static final String DELETE_RELATED_DATA_STEP_LABEL = "deleteRelatedDataStep";
+    protected static final String NUMBER_OF_INSTANCES_LABEL = "numberOfInstances";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        BatchService batchService = cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        ObjectMapper objectMapper = cmmnEngineConfiguration.getObjectMapper();
+
+        BatchPart batchPart = batchService.getBatchPart(readJson(configuration, objectMapper).path(CFG_LABEL_BATCH_PART_ID).asText(null));
+        if (batchPart == null || batchPart.isCompleted()) {
+            // The batch was deleted in the meantime or the part was already handled by a rescheduled job
+            return;
+        }
+
+        JsonNode batchPartDocument = readJson(batchPart.getResultDocumentJson(cmmnEngineConfiguration.getEngineCfgKey()), objectMapper);
+        int deleteRelatedDataStep = batchPartDocument.path(DELETE_RELATED_DATA_STEP_LABEL).asInt();
+        if (deleteRelatedDataStep > 0) {
+            deleteRelatedData(batchPart, deleteRelatedDataStep, commandContext, cmmnEngineConfiguration);
+            return;
+        }
+
+        List<String> caseInstanceIds = new ArrayList<>();
+        for (JsonNode instanceIdNode : batchPartDocument.path(INSTANCE_IDS_LABEL)) {
+            caseInstanceIds.add(instanceIdNode.asText());
+        }
+
+        boolean nextBatchPartsCreated = false;
+        if (batchPartDocument.path(CREATE_NEXT_BATCH_PARTS_LABEL).asBoolean() && !caseInstanceIds.isEmpty()) {
+            // The ids are selected in order, so the next ones come after the last id of this part
+            List<String> nextCaseInstanceIds = findCaseInstanceIdsToClean(caseInstanceIds.get(caseInstanceIds.size() - 1),
+                    cmmnEngineConfiguration);
+            if (!nextCaseInstanceIds.isEmpty()) {
+                createBatchParts(batchService.getBatch(batchPart.getBatchId()), nextCaseInstanceIds, cmmnEngineConfiguration);
+                nextBatchPartsCreated = true;
+            }
+        }
+
+        if (!caseInstanceIds.isEmpty()) {
+            HistoricCaseInstanceQueryImpl caseInstanceQuery = new HistoricCaseInstanceQueryImpl();
+            caseInstanceQuery.caseInstanceIds(new HashSet<>(caseInstanceIds));
+            cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().deleteHistoricCaseInstances(caseInstanceQuery);
+        }
+
+        ObjectNode resultNode = objectMapper.createObjectNode();
+        resultNode.put(NUMBER_OF_INSTANCES_LABEL, caseInstanceIds.size());
+        batchService.completeBatchPart(batchPart.getId(), CmmnHistoryCleanupJobHandler.STATUS_COMPLETED, resultNode.toString());
+
+        // The parts completed by other (parallel) jobs that didn't commit yet are not seen here,
+        // in that case the related data is deleted and the batch is completed by the next run of the history cleanup
+        if (!nextBatchPartsCreated && areOtherBatchPartsCompleted(batchPart, batchService)) {
+            createDeleteRelatedDataBatchPart(batchService.getBatch(batchPart.getBatchId()), 1, cmmnEngineConfiguration);
+        }
+    }
+
+    /**
+     * Deletes the data related to the deleted instances, in the same steps as {@link HistoricCaseInstanceQueryImpl#deleteWithRelatedData()}.
+     * The related data is found by the absence of the instances (or of the tasks in the second step),
+     * so every step is a separate part, which is only executed after the deletes of the previous one are committed.
+     */
+    protected void deleteRelatedData(BatchPart batchPart, int step, CommandContext commandContext, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        BatchService batchService = cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        batchService.completeBatchPart(batchPart.getId(), CmmnHistoryCleanupJobHandler.STATUS_COMPLETED, null);
+
+        Batch batch = batchService.getBatch(batchPart.getBatchId());
+        if (step == 1) {
+            new DeleteTaskAndPlanItemInstanceDataOfRemovedHistoricCaseInstancesCmd().execute(commandContext);
+            createDeleteRelatedDataBatchPart(batch, 2, cmmnEngineConfiguration);
+
+        } else {
+            new DeleteRelatedDataOfRemovedHistoricCaseInstancesCmd().execute(commandContext);
+            CmmnHistoryCleanupJobHandler.completeBatch(batch, cmmnEngineConfiguration);
+        }
+    }
+
+    protected boolean areOtherBatchPartsCompleted(BatchPart batchPart, BatchService batchService) {
+        for (BatchPart otherBatchPart : batchService.findBatchPartsByBatchId(batchPart.getBatchId())) {
+            if (!otherBatchPart.getId().equals(batchPart.getId()) && !otherBatchPart.isCompleted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the ids of the next page of historic case instances to clean, ordered by id.
+     *
+     * @param afterCaseInstanceId the last id of the previous page, null for the first page
+     */
+    public static List<String> findCaseInstanceIdsToClean(String afterCaseInstanceId, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        HistoricCaseInstanceQueryImpl cleaningQuery = (HistoricCaseInstanceQueryImpl) cmmnEngineConfiguration.getCmmnHistoryCleaningManager()
+                .createHistoricCaseInstanceCleaningQuery();
+        cleaningQuery.afterCursor(afterCaseInstanceId);
+        cleaningQuery.setFirstResult(0);
+        cleaningQuery.setMaxResults(getBatchSize(cmmnEngineConfiguration) * MAX_BATCH_PARTS_PER_TRANSACTION);
+        return cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().findHistoricCaseInstanceIdsByQueryCriteria(cleaningQuery);
+    }
+
+    /**
+     * Creates the parts for a page of ids selected with {@link #findCaseInstanceIdsToClean(String, CmmnEngineConfiguration)}.
+     * When the page is full, the last part will create the parts for the next page.
+     */
+    public static void createBatchParts(Batch batch, List<String> caseInstanceIds, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        int batchSize = getBatchSize(cmmnEngineConfiguration);
+        boolean morePages = caseInstanceIds.size() >= batchSize * MAX_BATCH_PARTS_PER_TRANSACTION;
+        for (int i = 0; i < caseInstanceIds.size(); i += batchSize) {
+            boolean lastBatchPart = i + batchSize >= caseInstanceIds.size();
+            ObjectNode batchPartDocument = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
+            ArrayNode instanceIdsNode = batchPartDocument.putArray(INSTANCE_IDS_LABEL);
+            for (String caseInstanceId : caseInstanceIds.subList(i, Math.min(i + batchSize, caseInstanceIds.size()))) {
+                instanceIdsNode.add(caseInstanceId);
+            }
+            if (lastBatchPart && morePages) {
+                batchPartDocument.put(CREATE_NEXT_BATCH_PARTS_LABEL, true);
+            }
+            createBatchPart(batch, batchPartDocument, cmmnEngineConfiguration);
+        }
+    }
+
+    public static void createDeleteRelatedDataBatchPart(Batch batch, int step, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        ObjectNode batchPartDocument = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
+        batchPartDocument.put(DELETE_RELATED_DATA_STEP_LABEL, step);
+        createBatchPart(batch, batchPartDocument, cmmnEngineConfiguration);
+    }
+
+    protected static void createBatchPart(Batch batch, ObjectNode batchPartDocument, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        BatchService batchService = cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        BatchPart batchPart = batchService.createBatchPart(batch, CmmnHistoryCleanupJobHandler.STATUS_WAITING, null, null, ScopeTypes.CMMN);
+        ((BatchPartEntity) batchPart).setResultDocumentJson(batchPartDocument.toString(), cmmnEngineConfiguration.getEngineCfgKey());
+
+        scheduleBatchPartJob(batchPart, cmmnEngineConfiguration);
+    }
+
+    protected static int getBatchSize(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return Math.max(1, cmmnEngineConfiguration.getCleanInstancesBatchSize());
+    }
+
+    public static void scheduleBatchPartJob(BatchPart batchPart, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        ObjectNode handlerCfg = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_PART_ID, batchPart.getId());
+
+        JobService jobService = cmmnEngineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(handlerCfg.toString());
+        job.setScopeType(ScopeTypes.CMMN);
+
+        // Not exclusive, so the parts are deleted in parallel
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    protected static JsonNode readJson(String json, ObjectMapper objectMapper) {
+        if (json == null) {
+            return objectMapper.createObjectNode();
+        }
+
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read history cleanup batch part json " + json, e);
+        }
+    }
+
+}
@@ -1,9 +1,9 @@
 /* Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
- * 
+ *
  *      http://www.apache.org/licenses/LICENSE-2.0
- * 
+ *
  * Unless required by applicable law or agreed to in writing, software
  * distributed under the License is distributed on an "AS IS" BASIS,
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
@@ -12,17 +12,50 @@
  */
 package org.flowable.cmmn.engine.impl.job;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic case instances matching the cleaning query of the {@link org.flowable.cmmn.api.CmmnHistoryCleaningManager}.
+ *
+ * Instead of deleting everything in one transaction, the ids of the instances are split into batch parts of
+ * {@link CmmnEngineConfiguration#getCleanInstancesBatchSize()} instances, which are deleted in parallel
+ * by {@link CmmnHistoryCleanupBatchPartJobHandler} jobs. Only the parts for the first page of ids are created here,
+ * the next ones are created by the batch part jobs.
+ *
+ * A new cleanup is only started when the previous one is finished. When none of the remaining parts of the previous cleanup
+ * will be executed anymore (because their jobs were moved to the dead letter jobs), the parts and the batch are marked as failed,
+ * so the next run can start a new cleanup. The dead letter jobs are kept, with their exception, and can still be moved back by an operator.
+ */
 public class CmmnHistoryCleanupJobHandler implements JobHandler {
 
     public static final String TYPE = "cmmn-history-cleanup";
 
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_FAILED = "failed";
+
+    protected static final String BATCH_SIZE_LABEL = "batchSize";
+
     @Override
     public String getType() {
         return TYPE;
@@ -31,8 +64,77 @@ public class CmmnHistoryCleanupJobHandler implements JobHandler {
     @Override
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        BatchService batchService = cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService();
 
-        cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        List<Batch> unfinishedBatches = batchService.findBatchesByQueryCriteria(new BatchQueryImpl()
+                .batchType(Batch.HISTORIC_CASE_DELETE_TYPE)
+                .status(STATUS_IN_PROGRESS));
+        if (!unfinishedBatches.isEmpty()) {
+            // A new batch is only started when the previous one is completed
+            for (Batch unfinishedBatch : unfinishedBatches) {
+                continueBatch(unfinishedBatch, commandContext, cmmnEngineConfiguration);
+            }
+            return;
+        }
+
+        List<String> caseInstanceIds = CmmnHistoryCleanupBatchPartJobHandler.findCaseInstanceIdsToClean(null, cmmnEngineConfiguration);
+        if (caseInstanceIds.isEmpty()) {
+            return;
+        }
+
+        ObjectNode batchDocument = cmmnEngineConfiguration.getObjectMapper().createObjectNode();
+        batchDocument.put(BATCH_SIZE_LABEL, CmmnHistoryCleanupBatchPartJobHandler.getBatchSize(cmmnEngineConfiguration));
+
+        Batch batch = batchService.createBatchBuilder()
+                .batchType(Batch.HISTORIC_CASE_DELETE_TYPE)
+                .status(STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchDocument.toString())
+                .create();
+
+        CmmnHistoryCleanupBatchPartJobHandler.createBatchParts(batch, caseInstanceIds, cmmnEngineConfiguration);
     }
-    
+
+    protected void continueBatch(Batch batch, CommandContext commandContext, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        BatchService batchService = cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        List<BatchPart> waitingBatchParts = new ArrayList<>();
+        for (BatchPart batchPart : batchService.findBatchPartsByBatchId(batch.getId())) {
+            if (!batchPart.isCompleted()) {
+                waitingBatchParts.add(batchPart);
+            }
+        }
+
+        if (waitingBatchParts.isEmpty()) {
+            // The last parts were completed in parallel, so none of them saw that all others were completed
+            CmmnHistoryCleanupBatchPartJobHandler.createDeleteRelatedDataBatchPart(batch, 1, cmmnEngineConfiguration);
+            return;
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = cmmnEngineConfiguration.getJobServiceConfiguration();
+        long pendingJobCount = jobServiceConfiguration.getJobEntityManager().findJobCountByQueryCriteria(
+                new JobQueryImpl(commandContext, jobServiceConfiguration).handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE))
+                + jobServiceConfiguration.getTimerJobEntityManager().findJobCountByQueryCriteria(
+                new TimerJobQueryImpl(commandContext, jobServiceConfiguration).handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE));
+
+        if (pendingJobCount == 0) {
+            // None of the remaining parts will be executed anymore, their dead letter jobs are left for an operator to inspect
+            for (BatchPart waitingBatchPart : waitingBatchParts) {
+                ((BatchPartEntity) waitingBatchPart).setStatus(STATUS_FAILED);
+            }
+            failBatch(batch, cmmnEngineConfiguration);
+        }
+    }
+
+    protected void failBatch(Batch batch, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        BatchEntity batchEntity = (BatchEntity) batch;
+        batchEntity.setStatus(STATUS_FAILED);
+        cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService().updateBatch(batchEntity);
+    }
+
+    protected static void completeBatch(Batch batch, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        BatchEntity batchEntity = (BatchEntity) batch;
+        batchEntity.setStatus(STATUS_COMPLETED);
+        batchEntity.setCompleteTime(cmmnEngineConfiguration.getClock().getCurrentTime());
+        cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService().updateBatch(batchEntity);
+    }
+
 }
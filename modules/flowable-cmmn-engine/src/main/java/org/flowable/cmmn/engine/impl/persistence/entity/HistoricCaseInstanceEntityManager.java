@@ -37,6 +37,8 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQuery query);
 
     long countByCriteria(HistoricCaseInstanceQuery query);
+
+    List<String> findHistoricCaseInstanceIdsByQueryCriteria(HistoricCaseInstanceQuery query);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
 }
\ No newline at end of file
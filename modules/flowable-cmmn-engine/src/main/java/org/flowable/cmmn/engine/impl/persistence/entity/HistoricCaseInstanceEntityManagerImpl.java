@@ -64,6 +64,11 @@ public class HistoricCaseInstanceEntityManagerImpl
     public long countByCriteria(HistoricCaseInstanceQuery query) {
         return dataManager.countByCriteria((HistoricCaseInstanceQueryImpl) query);
     }
+
+    @Override
+    public List<String> findHistoricCaseInstanceIdsByQueryCriteria(HistoricCaseInstanceQuery query) {
+        return dataManager.findHistoricCaseInstanceIdsByQueryCriteria((HistoricCaseInstanceQueryImpl) query);
+    }
     
     @Override
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
@@ -33,6 +33,8 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
     
     long countByCriteria(HistoricCaseInstanceQueryImpl query);
 
+    List<String> findHistoricCaseInstanceIdsByQueryCriteria(HistoricCaseInstanceQueryImpl query);
+
     List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
 
     void deleteByCaseDefinitionId(String caseDefinitionId);
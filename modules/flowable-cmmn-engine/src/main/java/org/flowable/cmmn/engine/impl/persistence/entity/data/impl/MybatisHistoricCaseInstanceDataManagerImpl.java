@@ -68,6 +68,13 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
         return (Long) getDbSqlSession().selectOne("selectHistoricCaseInstanceCountByQueryCriteria", query);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricCaseInstanceIdsByQueryCriteria(HistoricCaseInstanceQueryImpl query) {
+        setSafeInValueLists(query);
+        return getDbSqlSession().selectList("selectHistoricCaseInstanceIdsByQueryCriteria", query);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
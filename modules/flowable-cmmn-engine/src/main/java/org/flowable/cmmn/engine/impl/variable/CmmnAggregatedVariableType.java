@@ -17,11 +17,12 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.ClassResolvableVariableType;
 
 /**
  * @author Filip Hrisafov
  */
-public class CmmnAggregatedVariableType implements VariableType {
+public class CmmnAggregatedVariableType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "cmmnAggregation";
 
@@ -46,6 +47,11 @@ public class CmmnAggregatedVariableType implements VariableType {
         return value instanceof CmmnAggregation;
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(CmmnAggregation.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public boolean isReadOnly() {
         return true;
@@ -95,6 +95,28 @@ public class HistoricCaseInstanceQueryImplTest extends FlowableCmmnTestCase {
         }
     }
 
+    @Test
+    public void getCaseInstancesAfterCursor() {
+        List<String> caseInstanceIds = Stream.generate(() -> cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start().getId())
+                .limit(5)
+                .sorted()
+                .collect(Collectors.toList());
+
+        if (CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, cmmnEngineConfiguration)) {
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseDefinitionKey("oneTaskCase").afterCursor(caseInstanceIds.get(1)).listPage(0, 2))
+                .extracting(HistoricCaseInstance::getId)
+                .containsExactly(caseInstanceIds.get(2), caseInstanceIds.get(3));
+
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseDefinitionKey("oneTaskCase").afterCursor(caseInstanceIds.get(1))
+                .orderByCaseInstanceId().desc().list())
+                .extracting(HistoricCaseInstance::getId)
+                .containsExactly(caseInstanceIds.get(0));
+
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseDefinitionKey("oneTaskCase").afterCursor(caseInstanceIds.get(3)).count())
+                .isEqualTo(1);
+        }
+    }
+
     @Test
     public void getCaseInstanceByCaseInstanceName() {
         cmmnRuntimeService.createCaseInstanceBuilder()
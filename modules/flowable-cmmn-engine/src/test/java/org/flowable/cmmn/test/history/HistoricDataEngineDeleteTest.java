@@ -18,12 +18,16 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
 import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.api.CmmnManagementService;
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupBatchPartJobHandler;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
 import org.flowable.cmmn.engine.test.CmmnConfigurationResource;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
@@ -75,6 +79,22 @@ public class HistoricDataEngineDeleteTest {
 
                 assertThat(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).count()).isEqualTo(1);
 
+                // The instances are deleted by the jobs of the parts of the cleanup batch
+                List<Batch> batches = findHistoryCleanupBatches(cmmnEngineConfiguration);
+                assertThat(batches).extracting(Batch::getStatus).containsExactly(CmmnHistoryCleanupJobHandler.STATUS_IN_PROGRESS);
+                assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(20);
+
+                // The last part job creates the part that deletes the related data
+                List<Job> batchPartJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                while (!batchPartJobs.isEmpty()) {
+                    for (Job batchPartJob : batchPartJobs) {
+                        cmmnManagementService.executeJob(batchPartJob.getId());
+                    }
+                    batchPartJobs = cmmnManagementService.createJobQuery().handlerType(CmmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                }
+
+                assertThat(findHistoryCleanupBatches(cmmnEngineConfiguration)).extracting(Batch::getStatus)
+                        .containsExactly(CmmnHistoryCleanupJobHandler.STATUS_COMPLETED);
                 assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(10);
                 assertThat(cmmnHistoryService.createHistoricPlanItemInstanceQuery().count()).isEqualTo(20);
                 assertThat(cmmnHistoryService.createHistoricTaskInstanceQuery().count()).isEqualTo(10);
@@ -97,10 +117,26 @@ public class HistoricDataEngineDeleteTest {
 
                 cmmnManagementService
                         .deleteTimerJob(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                deleteHistoryCleanupBatches(cmmnEngineConfiguration);
             }
 
         } finally {
             cmmnEngineConfiguration.resetClock();
         }
     }
+
+    protected List<Batch> findHistoryCleanupBatches(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> cmmnEngineConfiguration.getBatchServiceConfiguration()
+                .getBatchService().findBatchesByQueryCriteria(new BatchQueryImpl().batchType(Batch.HISTORIC_CASE_DELETE_TYPE)));
+    }
+
+    protected void deleteHistoryCleanupBatches(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            BatchService batchService = cmmnEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+            for (Batch batch : batchService.findBatchesByQueryCriteria(new BatchQueryImpl().batchType(Batch.HISTORIC_CASE_DELETE_TYPE))) {
+                batchService.deleteBatch(batch.getId());
+            }
+            return null;
+        });
+    }
 }
\ No newline at end of file
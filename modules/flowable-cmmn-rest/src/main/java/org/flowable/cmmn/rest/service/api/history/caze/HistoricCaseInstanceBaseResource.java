@@ -13,8 +13,11 @@
 
 package org.flowable.cmmn.rest.service.api.history.caze;
 
+import static org.flowable.common.rest.api.ExportListUtil.exportList;
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +40,8 @@ import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -61,10 +66,31 @@ public class HistoricCaseInstanceBaseResource {
     @Autowired
     protected CmmnRepositoryService repositoryService;
     
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     @Autowired(required=false)
     protected CmmnRestApiInterceptor restApiInterceptor;
 
     protected DataResponse<HistoricCaseInstanceResponse> getQueryResponse(HistoricCaseInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricCaseInstanceQuery query = createQuery(queryRequest);
+
+        DataResponse<HistoricCaseInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "caseInstanceId", allowedSortProperties,
+            restResponseFactory::createHistoricCaseInstanceResponseList);
+        addCaseDefinitionInfo(responseList.getData());
+
+        return responseList;
+    }
+
+    protected long exportQueryResponse(HistoricCaseInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, OutputStream outputStream) throws IOException {
+        return exportList(allRequestParams, createQuery(queryRequest), HistoricCaseInstance::getId, historicCaseInstances -> {
+            List<HistoricCaseInstanceResponse> caseInstanceList = restResponseFactory.createHistoricCaseInstanceResponseList(historicCaseInstances);
+            addCaseDefinitionInfo(caseInstanceList);
+            return caseInstanceList;
+        }, objectMapper, outputStream);
+    }
+
+    protected HistoricCaseInstanceQuery createQuery(HistoricCaseInstanceQueryRequest queryRequest) {
         HistoricCaseInstanceQuery query = historyService.createHistoricCaseInstanceQuery();
 
         // Populate query based on request
@@ -131,11 +157,11 @@ public class HistoricCaseInstanceBaseResource {
             restApiInterceptor.accessHistoryCaseInfoWithQuery(query, queryRequest);
         }
 
-        DataResponse<HistoricCaseInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "caseInstanceId", allowedSortProperties,
-            restResponseFactory::createHistoricCaseInstanceResponseList);
-        
+        return query;
+    }
+
+    protected void addCaseDefinitionInfo(List<HistoricCaseInstanceResponse> caseInstanceList) {
         Set<String> caseDefinitionIds = new HashSet<>();
-        List<HistoricCaseInstanceResponse> caseInstanceList = responseList.getData();
         for (HistoricCaseInstanceResponse caseInstanceResponse : caseInstanceList) {
             if (!caseDefinitionIds.contains(caseInstanceResponse.getCaseDefinitionId())) {
                 caseDefinitionIds.add(caseInstanceResponse.getCaseDefinitionId());
@@ -157,8 +183,6 @@ public class HistoricCaseInstanceBaseResource {
                 }
             }
         }
-        
-        return responseList;
     }
     
     protected HistoricCaseInstance getHistoricCaseInstanceFromRequest(String caseInstanceId) {
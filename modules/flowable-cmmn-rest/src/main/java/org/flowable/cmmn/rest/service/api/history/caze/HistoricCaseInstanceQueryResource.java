@@ -13,11 +13,14 @@
 
 package org.flowable.cmmn.rest.service.api.history.caze;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.ExportListUtil;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -46,4 +49,17 @@ public class HistoricCaseInstanceQueryResource extends HistoricCaseInstanceBaseR
     public DataResponse<HistoricCaseInstanceResponse> queryCasesInstances(@RequestBody HistoricCaseInstanceQueryRequest queryRequest, @ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletRequest request) {
         return getQueryResponse(queryRequest, allRequestParams);
     }
+
+    @ApiOperation(value = "Export historic case instances", tags = {"History Case", "Query" }, nickname = "exportHistoricCaseInstances",
+            notes = "Streams all historic case instances matching the query as newline delimited JSON (one case instance per line), ordered by id. The JSON-body supports the same parameters as the query for historic case instances, the paging and sorting parameters are ignored. The optional pageSize URL-parameter (1000 by default) is the number of case instances fetched from the database at once. When the export fails after results have been streamed, a last line with an error object is written.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates request was successful and the case instances are streamed"),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information.") })
+    @PostMapping(value = "/cmmn-query/historic-case-instances/export", produces = ExportListUtil.NDJSON_CONTENT_TYPE)
+    public void exportCaseInstances(@RequestBody HistoricCaseInstanceQueryRequest queryRequest, @ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(ExportListUtil.NDJSON_CONTENT_TYPE);
+        exportQueryResponse(queryRequest, allRequestParams, response.getOutputStream());
+    }
 }
@@ -13,8 +13,11 @@
 
 package org.flowable.cmmn.rest.service.api.history.variable;
 
+import static org.flowable.common.rest.api.ExportListUtil.exportList;
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,8 @@ import org.flowable.variable.service.impl.HistoricVariableInstanceQueryProperty;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -54,10 +59,22 @@ public class HistoricVariableInstanceBaseResource {
     @Autowired
     protected CmmnHistoryService historyService;
     
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     @Autowired(required=false)
     protected CmmnRestApiInterceptor restApiInterceptor;
 
     protected DataResponse<HistoricVariableInstanceResponse> getQueryResponse(HistoricVariableInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        return paginateList(allRequestParams, createQuery(queryRequest), "variableName", allowedSortProperties, restResponseFactory::createHistoricVariableInstanceResponseList);
+    }
+
+    protected long exportQueryResponse(HistoricVariableInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, OutputStream outputStream) throws IOException {
+        return exportList(allRequestParams, createQuery(queryRequest), HistoricVariableInstance::getId,
+                restResponseFactory::createHistoricVariableInstanceResponseList, objectMapper, outputStream);
+    }
+
+    protected HistoricVariableInstanceQuery createQuery(HistoricVariableInstanceQueryRequest queryRequest) {
         HistoricVariableInstanceQuery query = historyService.createHistoricVariableInstanceQuery();
 
         // Populate query based on request
@@ -96,7 +113,7 @@ public class HistoricVariableInstanceBaseResource {
             restApiInterceptor.accessHistoryVariableInfoWithQuery(query, queryRequest);
         }
 
-        return paginateList(allRequestParams, query, "variableName", allowedSortProperties, restResponseFactory::createHistoricVariableInstanceResponseList);
+        return query;
     }
     
     public RestVariable getVariableFromRequest(boolean includeBinary, String varInstanceId, HttpServletRequest request) {
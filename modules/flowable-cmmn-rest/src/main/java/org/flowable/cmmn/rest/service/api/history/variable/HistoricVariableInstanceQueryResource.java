@@ -13,11 +13,14 @@
 
 package org.flowable.cmmn.rest.service.api.history.variable;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.ExportListUtil;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -51,4 +54,20 @@ public class HistoricVariableInstanceQueryResource extends HistoricVariableInsta
 
         return getQueryResponse(queryRequest, allRequestParams);
     }
+
+    @ApiOperation(value = "Export historic variable instances", tags = { "History", "Query" }, nickname = "exportHistoricVariableInstances",
+            notes = "Streams all historic variable instances matching the query as newline delimited JSON (one variable instance per line), ordered by id. "
+            + "The JSON-body supports the same parameters as the query for historic variable instances, the paging and sorting parameters are ignored. "
+            + "The optional pageSize URL-parameter (1000 by default) is the number of variable instances fetched from the database at once. "
+            + "When the export fails after results have been streamed, a last line with an error object is written.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates request was successful and the variables are streamed"),
+            @ApiResponse(code = 400, message = "Indicates an parameter was passed in the wrong format. The status-message contains additional information.") })
+    @PostMapping(value = "/cmmn-query/historic-variable-instances/export", produces = ExportListUtil.NDJSON_CONTENT_TYPE)
+    public void exportVariableInstances(@RequestBody HistoricVariableInstanceQueryRequest queryRequest, @ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(ExportListUtil.NDJSON_CONTENT_TYPE);
+        exportQueryResponse(queryRequest, allRequestParams, response.getOutputStream());
+    }
 }
@@ -36,6 +36,9 @@ public class DataResponse<T> {
         return this;
     }
 
+    /**
+     * @return the total number of results, or -1 when the total was not requested (the includeTotal parameter of the request is false).
+     */
     public long getTotal() {
         return total;
     }
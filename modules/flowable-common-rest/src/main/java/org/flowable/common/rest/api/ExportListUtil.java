@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.CursorPagingQuery;
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.rest.exception.ErrorInfo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A util class that can be used to stream all results of a query as newline delimited JSON (one JSON object per line).
+ *
+ * The results are fetched in pages with a cursor (see {@link CursorPagingQuery}), and every page is written and flushed before the next one is fetched.
+ * This way only one page is kept in memory, regardless of the total number of results, and every page is fetched in its own short transaction.
+ *
+ * When fetching or converting a page fails after results have been written, the response can't be turned into an error response anymore.
+ * Instead, a last line with an {@value #ERROR_FIELD} object (see {@link ErrorInfo}) is written before the exception is rethrown,
+ * so clients can tell an incomplete export apart from a complete one.
+ */
+public interface ExportListUtil {
+
+    String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    int DEFAULT_PAGE_SIZE = 1000;
+
+    String ERROR_FIELD = "error";
+
+    /**
+     * Writes all results of the query, ordered by id, to the output stream.
+     *
+     * @param requestParams The request containing the optional pageSize parameter (the number of results fetched at once)
+     * @param query The query to get the results from, needs to be a {@link CursorPagingQuery}
+     * @param idProvider Provides the id of a result element, which is used as the cursor for the next page
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param objectMapper The object mapper used to write the response elements
+     * @param outputStream The stream the response elements are written to, which is not closed
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     * @return the number of written elements
+     * @throws IOException when writing to the output stream fails
+     */
+    static <RES, REQ> long exportList(Map<String, String> requestParams, Query<?, REQ> query, Function<REQ, String> idProvider,
+        ListProcessor<REQ, RES> listProcessor, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+
+        if (!(query instanceof CursorPagingQuery)) {
+            throw new FlowableIllegalArgumentException("The results of this query cannot be exported, they cannot be paged with a cursor");
+        }
+        CursorPagingQuery<?, ?> cursorPagingQuery = (CursorPagingQuery<?, ?>) query;
+
+        int pageSize = RequestUtil.getInteger(requestParams, "pageSize", DEFAULT_PAGE_SIZE);
+        if (pageSize <= 0) {
+            throw new FlowableIllegalArgumentException("Value for param 'pageSize' is not valid : '" + pageSize + "', must be greater than 0");
+        }
+
+        long exportedElements = 0;
+        long writtenElements = 0;
+        String afterCursor = null;
+        try {
+            while (true) {
+                cursorPagingQuery.afterCursor(afterCursor);
+                List<REQ> page = query.listPage(0, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                for (RES element : listProcessor.processList(page)) {
+                    outputStream.write(objectMapper.writeValueAsBytes(element));
+                    outputStream.write('\n');
+                    writtenElements++;
+                }
+                outputStream.flush();
+
+                exportedElements += page.size();
+                if (page.size() < pageSize) {
+                    break;
+                }
+                afterCursor = idProvider.apply(page.get(page.size() - 1));
+            }
+
+        } catch (RuntimeException | JsonProcessingException e) {
+            // When nothing has been written yet, the exception can still be handled as a regular error response
+            if (writtenElements > 0) {
+                writeError(e, writtenElements, objectMapper, outputStream);
+            }
+            throw e;
+        }
+
+        return exportedElements;
+    }
+
+    /**
+     * Writes the line marking the export as incomplete.
+     */
+    static void writeError(Exception exception, long writtenElements, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        ErrorInfo errorInfo = new ErrorInfo("Exporting the results failed after " + writtenElements + " results, the export is incomplete", exception);
+        outputStream.write(objectMapper.writeValueAsBytes(Collections.singletonMap(ERROR_FIELD, errorInfo)));
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.CursorPagingQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 
@@ -77,12 +78,24 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getAfterCursor() == null) {
+            paginateRequest.setAfterCursor(requestParams.get("afterCursor"));
+        }
+
+        if (paginateRequest.getIncludeTotal() == null && requestParams.containsKey("includeTotal")) {
+            paginateRequest.setIncludeTotal(RequestUtil.getBoolean(requestParams, "includeTotal", true));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
     /**
      * Uses the pagination attributes perform the querying and render the response.
      *
+     * When the request contains a cursor (the id of the last result of the previous page), the query needs to be a {@link CursorPagingQuery}
+     * and only the results after the cursor are returned, which is faster than skipping the results before the start for deep pages.
+     * The total number of results is not counted when the includeTotal attribute of the request is false, in that case the total is -1.
+     *
      * @param paginateRequest The paginated request that is used to get the pagination parameters from
      * @param query The query to get the paged list from
      * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
@@ -130,6 +143,14 @@ public interface PaginateListUtil {
             }
         }
 
+        String afterCursor = paginateRequest.getAfterCursor();
+        if (afterCursor != null) {
+            if (!(query instanceof CursorPagingQuery)) {
+                throw new FlowableIllegalArgumentException("Value for param 'afterCursor' is not valid, the results of this query cannot be paged with a cursor");
+            }
+            ((CursorPagingQuery<?, ?>) query).afterCursor(afterCursor);
+        }
+
         DataResponse<RES> response = new DataResponse<>();
         response.setStart(start);
         response.setSort(sort);
@@ -137,10 +158,16 @@ public interface PaginateListUtil {
 
         // Get result and set pagination parameters
         List<RES> list = listProcessor.processList(query.listPage(start, size));
-        if (start == 0 && list.size() < size) {
+        if (start == 0 && afterCursor == null && list.size() < size) {
             response.setTotal(list.size());
-        } else {
+        } else if (paginateRequest.getIncludeTotal() == null || paginateRequest.getIncludeTotal()) {
+            if (afterCursor != null) {
+                // The total is the number of all results, not only the ones after the cursor
+                ((CursorPagingQuery<?, ?>) query).afterCursor(null);
+            }
             response.setTotal(query.count());
+        } else {
+            response.setTotal(-1);
         }
 
         response.setSize(list.size());
@@ -36,7 +36,6 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
@@ -200,6 +199,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to create an index on the input entries of decision tables when they are deployed.
+     * Input columns of which the entries are string equality checks or comparisons with a number are indexed,
+     * and only the rules that can match the input values are evaluated.
+     *
+     * This is useful for decision tables with many rules. Note that the audit trail of a decision execution then only contains the evaluated rules.
+     */
+    protected boolean decisionTableIndexingEnabled;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -482,11 +490,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (definitionCache == null) {
-            if (decisionCacheLimit <= 0) {
-                definitionCache = new DefaultDeploymentCache<>();
-            } else {
-                definitionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
-            }
+            definitionCache = createDeploymentCache(decisionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(definitionCache, this);
@@ -1089,6 +1093,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isDecisionTableIndexingEnabled() {
+        return decisionTableIndexingEnabled;
+    }
+
+    public DmnEngineConfiguration setDecisionTableIndexingEnabled(boolean decisionTableIndexingEnabled) {
+        this.decisionTableIndexingEnabled = decisionTableIndexingEnabled;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -12,16 +12,22 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.CompiledInputEntry;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.CompiledOutputEntry;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.CompiledRule;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -31,12 +37,13 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.HitPolicy;
 import org.flowable.dmn.model.LiteralExpression;
-import org.flowable.dmn.model.RuleInputClauseContainer;
 import org.flowable.dmn.model.RuleOutputClauseContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,7 +93,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             sanityCheckDecisionTable(currentDecisionTable);
 
             // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            evaluateDecisionTable(getCompiledDecisionTable(decision, currentDecisionTable, executeDecisionInfo), executionContext);
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -101,7 +108,29 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return executionContext.getAuditContainer();
     }
 
-    protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+    /**
+     * Returns the compiled form of the decision table, as created when the decision was put in the decision cache.
+     * When it is not available (e.g. when the decision is not executed through the engine), the decision table is compiled now.
+     */
+    protected CompiledDecisionTable getCompiledDecisionTable(Decision decision, DecisionTable decisionTable, ExecuteDecisionContext executeDecisionInfo) {
+        if (executeDecisionInfo != null && executeDecisionInfo.getDecisionId() != null && Context.getCommandContext() != null) {
+            DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+            if (dmnEngineConfiguration != null && dmnEngineConfiguration.getDeploymentManager() != null) {
+                DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(executeDecisionInfo.getDecisionId());
+                if (cacheEntry != null) {
+                    CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable(decision.getId());
+                    if (compiledDecisionTable != null && compiledDecisionTable.getDecisionTable() == decisionTable) {
+                        return compiledDecisionTable;
+                    }
+                }
+            }
+        }
+
+        return CompiledDecisionTable.compile(decisionTable, expressionManager);
+    }
+
+    protected void evaluateDecisionTable(CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
+        DecisionTable decisionTable = compiledDecisionTable.getDecisionTable();
         if (decisionTable == null || decisionTable.getRules().isEmpty()) {
             throw new IllegalArgumentException("no rules present in table");
         }
@@ -114,10 +143,15 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         try {
             // evaluate rule conditions
-            Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
+            Map<Integer, List<CompiledOutputEntry>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            // rules that are not a candidate according to the index can't match and are not evaluated
+            BitSet candidateRules = compiledDecisionTable.getCandidateRules(executionContext.getStackVariables());
+
+            List<CompiledRule> rules = compiledDecisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                CompiledRule rule = rules.get(i);
+                boolean ruleResult = candidateRules == null || candidateRules.get(i) ? executeRule(rule, executionContext) : false;
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -139,7 +173,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             }
 
             // compose rule conclusions
-            for (Map.Entry<Integer, List<RuleOutputClauseContainer>> entry : validRuleOutputEntries.entrySet()) {
+            for (Map.Entry<Integer, List<CompiledOutputEntry>> entry : validRuleOutputEntries.entrySet()) {
                 executeOutputEntryAction(entry.getKey(), entry.getValue(), decisionTable.getHitPolicy(), executionContext);
             }
 
@@ -158,11 +192,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
-    protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
-        if (rule == null) {
+    protected boolean executeRule(CompiledRule compiledRule, ELExecutionContext executionContext) {
+        if (compiledRule == null) {
             throw new FlowableException("rule cannot be null");
         }
 
+        DecisionRule rule = compiledRule.getRule();
         LOGGER.debug("Start rule {} evaluation", rule.getRuleNumber());
 
         // add audit entry
@@ -171,27 +206,25 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        for (CompiledInputEntry inputEntry : compiledRule.getInputEntries()) {
 
             // resetting value
-            String inputEntryId = conditionContainer.getInputEntry().getId();
+            String inputEntryId = inputEntry.getInputContainer().getInputEntry().getId();
             conditionResult = false;
 
             try {
-                // if condition is empty condition or has dash symbol result is TRUE
-                String inputEntryText = conditionContainer.getInputEntry().getText();
-                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                if (inputEntry.isAlwaysTrue()) {
                     conditionResult = true;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    conditionResult = ELExpressionExecutor.executeInputExpression(inputEntry, executionContext);
                 }
 
                 // add audit entry
                 executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
 
                 LOGGER.debug("input entry {} ( {} {} ): {}", inputEntryId,
-                        conditionContainer.getInputClause().getInputExpression().getText(),
-                        inputEntryText, conditionResult);
+                        inputEntry.getInputContainer().getInputClause().getInputExpression().getText(),
+                        inputEntry.getInputEntryText(), conditionResult);
 
             } catch (FlowableException ade) {
                 // add failed audit entry and rethrow
@@ -222,21 +255,18 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
-    protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
-        return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
-    }
-
-    protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+    protected void executeOutputEntryAction(int ruleNumber, List<CompiledOutputEntry> outputEntries, HitPolicy hitPolicy, ELExecutionContext executionContext) {
         LOGGER.debug("Start conclusion processing");
 
-        for (RuleOutputClauseContainer clauseContainer : ruleOutputContainers) {
-            composeOutputEntryResult(ruleNumber, clauseContainer, hitPolicy, executionContext);
+        for (CompiledOutputEntry outputEntry : outputEntries) {
+            composeOutputEntryResult(ruleNumber, outputEntry, hitPolicy, executionContext);
         }
 
         LOGGER.debug("End conclusion processing");
     }
 
-    protected void composeOutputEntryResult(int ruleNumber, RuleOutputClauseContainer ruleClauseContainer, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+    protected void composeOutputEntryResult(int ruleNumber, CompiledOutputEntry outputEntry, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+        RuleOutputClauseContainer ruleClauseContainer = outputEntry.getOutputContainer();
         LOGGER.debug("Start evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
 
         String outputVariableId = ruleClauseContainer.getOutputClause().getName();
@@ -244,10 +274,10 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         LiteralExpression outputEntryExpression = ruleClauseContainer.getOutputEntry();
 
-        if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
+        if (!outputEntry.isEmpty()) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue = ELExpressionExecutor.executeOutputExpression(outputEntry, executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // update execution context
@@ -12,14 +12,21 @@
  */
 package org.flowable.dmn.engine.impl.deployer;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -34,6 +41,7 @@ public class CachingAndArtifactsManager {
         final DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DeploymentCache<DecisionCacheEntry> decisionCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
         DmnDeploymentEntity deployment = parsedDeployment.getDeployment();
+        Map<DmnDefinition, Map<String, CompiledDecisionTable>> compiledDecisionTablesByDefinition = new IdentityHashMap<>();
 
         for (DecisionEntity decisionEntity : parsedDeployment.getAllDecisions()) {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecision(decisionEntity);
@@ -47,10 +55,28 @@ public class CachingAndArtifactsManager {
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
             }
 
+            cacheEntry.setCompiledDecisionTables(compiledDecisionTablesByDefinition.computeIfAbsent(dmnDefinition,
+                    definition -> compileDecisionTables(definition, dmnEngineConfiguration)));
+
             decisionCache.add(decisionEntity.getId(), cacheEntry);
 
             // Add to deployment for further usage
             deployment.addDeployedArtifact(decisionEntity);
         }
     }
+
+    /**
+     * Compiles the decision tables of all decisions of the definition, so they don't need to be parsed on every execution.
+     */
+    protected Map<String, CompiledDecisionTable> compileDecisionTables(DmnDefinition dmnDefinition, DmnEngineConfiguration dmnEngineConfiguration) {
+        ExpressionManager expressionManager = dmnEngineConfiguration.getRuleEngineExecutor().getExpressionManager();
+        Map<String, CompiledDecisionTable> compiledDecisionTables = new HashMap<>();
+        for (Decision decision : dmnDefinition.getDecisions()) {
+            if (decision.getExpression() instanceof DecisionTable) {
+                compiledDecisionTables.put(decision.getId(), CompiledDecisionTable.compile((DecisionTable) decision.getExpression(), expressionManager,
+                        dmnEngineConfiguration.isDecisionTableIndexingEnabled()));
+            }
+        }
+        return compiledDecisionTables;
+    }
 }
@@ -0,0 +1,237 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+
+/**
+ * The executable form of a {@link DecisionTable}: the input and output entries of all rules are pre-parsed
+ * and their expressions are created once, instead of on every execution of the decision.
+ * <p>
+ * Creating an expression can fail (e.g. for a syntax error in an input entry). Such a failure is kept and rethrown
+ * when the entry is evaluated, so that an invalid entry only fails the decision execution, as it would without compilation.
+ * <p>
+ * Optionally, a {@link DecisionTableIndex} is created on the input entries, to only evaluate the rules that can match the input.
+ */
+public class CompiledDecisionTable {
+
+    protected final DecisionTable decisionTable;
+    protected final List<CompiledRule> rules;
+    protected final DecisionTableIndex index;
+
+    public CompiledDecisionTable(DecisionTable decisionTable, List<CompiledRule> rules, DecisionTableIndex index) {
+        this.decisionTable = decisionTable;
+        this.rules = rules;
+        this.index = index;
+    }
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        return compile(decisionTable, expressionManager, false);
+    }
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager, boolean indexingEnabled) {
+        List<CompiledRule> compiledRules = new ArrayList<>(decisionTable.getRules().size());
+        for (DecisionRule rule : decisionTable.getRules()) {
+            List<CompiledInputEntry> inputEntries = new ArrayList<>(rule.getInputEntries().size());
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                inputEntries.add(compileInputEntry(inputContainer, expressionManager));
+            }
+
+            List<CompiledOutputEntry> outputEntries = new ArrayList<>(rule.getOutputEntries().size());
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                outputEntries.add(compileOutputEntry(outputContainer, expressionManager));
+            }
+
+            compiledRules.add(new CompiledRule(rule, inputEntries, outputEntries));
+        }
+
+        DecisionTableIndex index = indexingEnabled ? DecisionTableIndex.build(decisionTable, compiledRules) : null;
+        return new CompiledDecisionTable(decisionTable, Collections.unmodifiableList(compiledRules), index);
+    }
+
+    protected static CompiledInputEntry compileInputEntry(RuleInputClauseContainer inputContainer, ExpressionManager expressionManager) {
+        String inputEntryText = inputContainer.getInputEntry().getText();
+
+        // if condition is empty condition or has dash symbol result is always TRUE
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+            return new CompiledInputEntry(inputContainer, true, null, null, null);
+        }
+
+        InputClause inputClause = inputContainer.getInputClause();
+        if (inputClause == null || inputClause.getInputExpression() == null) {
+            // Invalid input clauses are reported at execution time
+            return new CompiledInputEntry(inputContainer, false, null, null, null);
+        }
+
+        String parsedExpression = null;
+        try {
+            parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntryText, inputClause.getInputExpression().getText(),
+                    inputClause.getInputExpression().getTypeRef());
+            RuleExpressionCondition condition = new RuleExpressionCondition(expressionManager.createExpression(parsedExpression));
+            return new CompiledInputEntry(inputContainer, false, parsedExpression, condition, null);
+
+        } catch (RuntimeException e) {
+            return new CompiledInputEntry(inputContainer, false, parsedExpression, null, e);
+        }
+    }
+
+    protected static CompiledOutputEntry compileOutputEntry(RuleOutputClauseContainer outputContainer, ExpressionManager expressionManager) {
+        String outputEntryText = outputContainer.getOutputEntry() != null ? outputContainer.getOutputEntry().getText() : null;
+        if (StringUtils.isEmpty(outputEntryText)) {
+            return new CompiledOutputEntry(outputContainer, null, null);
+        }
+
+        try {
+            String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntryText);
+            RuleExpressionOutput output = new RuleExpressionOutput(expressionManager.createExpression(parsedExpression));
+            return new CompiledOutputEntry(outputContainer, output, null);
+
+        } catch (RuntimeException e) {
+            return new CompiledOutputEntry(outputContainer, null, e);
+        }
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    public List<CompiledRule> getRules() {
+        return rules;
+    }
+
+    public DecisionTableIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the positions (in {@link #getRules()}) of the rules that can match the input variables, or null when all rules need to be evaluated.
+     */
+    public BitSet getCandidateRules(Map<String, Object> variables) {
+        return index != null ? index.getCandidateRules(variables) : null;
+    }
+
+    public static class CompiledRule {
+
+        protected final DecisionRule rule;
+        protected final List<CompiledInputEntry> inputEntries;
+        protected final List<CompiledOutputEntry> outputEntries;
+
+        public CompiledRule(DecisionRule rule, List<CompiledInputEntry> inputEntries, List<CompiledOutputEntry> outputEntries) {
+            this.rule = rule;
+            this.inputEntries = inputEntries;
+            this.outputEntries = outputEntries;
+        }
+
+        public DecisionRule getRule() {
+            return rule;
+        }
+
+        public int getRuleNumber() {
+            return rule.getRuleNumber();
+        }
+
+        public List<CompiledInputEntry> getInputEntries() {
+            return inputEntries;
+        }
+
+        public List<CompiledOutputEntry> getOutputEntries() {
+            return outputEntries;
+        }
+    }
+
+    public static class CompiledInputEntry {
+
+        protected final RuleInputClauseContainer inputContainer;
+        protected final boolean alwaysTrue;
+        protected final String parsedExpression;
+        protected final RuleExpressionCondition condition;
+        protected final RuntimeException compileException;
+
+        public CompiledInputEntry(RuleInputClauseContainer inputContainer, boolean alwaysTrue, String parsedExpression,
+                RuleExpressionCondition condition, RuntimeException compileException) {
+            this.inputContainer = inputContainer;
+            this.alwaysTrue = alwaysTrue;
+            this.parsedExpression = parsedExpression;
+            this.condition = condition;
+            this.compileException = compileException;
+        }
+
+        /**
+         * @return true for an empty input entry or a dash, which always match.
+         */
+        public boolean isAlwaysTrue() {
+            return alwaysTrue;
+        }
+
+        public String getInputEntryText() {
+            return inputContainer.getInputEntry().getText();
+        }
+
+        public RuleInputClauseContainer getInputContainer() {
+            return inputContainer;
+        }
+
+        public String getParsedExpression() {
+            return parsedExpression;
+        }
+
+        public RuleExpressionCondition getCondition() {
+            return condition;
+        }
+
+        public RuntimeException getCompileException() {
+            return compileException;
+        }
+    }
+
+    public static class CompiledOutputEntry {
+
+        protected final RuleOutputClauseContainer outputContainer;
+        protected final RuleExpressionOutput output;
+        protected final RuntimeException compileException;
+
+        public CompiledOutputEntry(RuleOutputClauseContainer outputContainer, RuleExpressionOutput output, RuntimeException compileException) {
+            this.outputContainer = outputContainer;
+            this.output = output;
+            this.compileException = compileException;
+        }
+
+        public boolean isEmpty() {
+            return output == null && compileException == null;
+        }
+
+        public RuleOutputClauseContainer getOutputContainer() {
+            return outputContainer;
+        }
+
+        public RuleExpressionOutput getOutput() {
+            return output;
+        }
+
+        public RuntimeException getCompileException() {
+            return compileException;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.CompiledInputEntry;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable.CompiledRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+
+/**
+ * Index on the input entries of a {@link CompiledDecisionTable}, used to narrow down the rules that need to be evaluated.
+ * <p>
+ * An index is created for every input column with a plain variable as input expression, of which all input entries are either
+ * string equality checks (e.g. <code>"GOLD"</code> or <code>== "GOLD"</code>), or comparisons with a number (e.g. <code>== 10</code> or <code>&gt;= 10</code>).
+ * Entries that match anything (empty or <code>-</code>) are allowed in both. String columns use a hash index, number columns an interval index.
+ * <p>
+ * The index is conservative: the candidate rules are a superset of the matching rules, and every candidate rule is still fully evaluated.
+ * The index is not used for a column when the input value has a different type than the entries (e.g. a string for a number column),
+ * as the expression language would coerce the values in that case.
+ */
+public class DecisionTableIndex {
+
+    protected static final Pattern VARIABLE_PATTERN = Pattern.compile("[a-zA-Z_$][a-zA-Z0-9_$]*");
+    protected static final Pattern STRING_ENTRY_PATTERN = Pattern.compile("(?:==\\s*)?(?:\"([^\"\\\\]*)\"|'([^'\\\\]*)')");
+    protected static final Pattern NUMBER_ENTRY_PATTERN = Pattern.compile("(==|<=|>=|<|>)?\\s*(-?\\d+(?:\\.\\d+)?)");
+
+    /**
+     * Relative margin around the input value when looking up number entries, so that rounding differences
+     * between the index and the expression language can never exclude a matching rule.
+     */
+    protected static final double NUMBER_MARGIN = 1e-9;
+
+    protected final int numberOfRules;
+    protected final List<ColumnIndex> columnIndexes;
+
+    public DecisionTableIndex(int numberOfRules, List<ColumnIndex> columnIndexes) {
+        this.numberOfRules = numberOfRules;
+        this.columnIndexes = columnIndexes;
+    }
+
+    /**
+     * @return the index for the decision table or null when none of its input columns can be indexed.
+     */
+    public static DecisionTableIndex build(DecisionTable decisionTable, List<CompiledRule> rules) {
+        List<ColumnIndex> columnIndexes = new ArrayList<>();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            ColumnIndex columnIndex = buildColumnIndex(inputClause, rules);
+            if (columnIndex != null) {
+                columnIndexes.add(columnIndex);
+            }
+        }
+
+        return columnIndexes.isEmpty() ? null : new DecisionTableIndex(rules.size(), columnIndexes);
+    }
+
+    protected static ColumnIndex buildColumnIndex(InputClause inputClause, List<CompiledRule> rules) {
+        if (inputClause.getInputExpression() == null || inputClause.getInputExpression().getText() == null) {
+            return null;
+        }
+
+        String variableName = inputClause.getInputExpression().getText().trim();
+        if (!VARIABLE_PATTERN.matcher(variableName).matches()) {
+            return null;
+        }
+
+        BitSet alwaysMatchingRules = new BitSet(rules.size());
+        Map<String, BitSet> stringRules = new HashMap<>();
+        Map<Integer, NumberInterval> numberRules = new HashMap<>();
+
+        for (int i = 0; i < rules.size(); i++) {
+            CompiledInputEntry inputEntry = findInputEntry(rules.get(i), inputClause);
+            if (inputEntry == null || inputEntry.isAlwaysTrue()) {
+                alwaysMatchingRules.set(i);
+                continue;
+            }
+
+            if (inputEntry.getCompileException() != null) {
+                return null;
+            }
+
+            String inputEntryText = inputEntry.getInputEntryText().trim();
+            Matcher stringMatcher = STRING_ENTRY_PATTERN.matcher(inputEntryText);
+            if (stringMatcher.matches()) {
+                String value = stringMatcher.group(1) != null ? stringMatcher.group(1) : stringMatcher.group(2);
+                stringRules.computeIfAbsent(value, key -> new BitSet(rules.size())).set(i);
+                continue;
+            }
+
+            Matcher numberMatcher = NUMBER_ENTRY_PATTERN.matcher(inputEntryText);
+            if (numberMatcher.matches()) {
+                numberRules.put(i, NumberInterval.create(numberMatcher.group(1), Double.parseDouble(numberMatcher.group(2))));
+                continue;
+            }
+
+            // Any other entry can't be indexed, which means the column can't be indexed
+            return null;
+        }
+
+        if (!stringRules.isEmpty() && !numberRules.isEmpty()) {
+            return null;
+
+        } else if (!stringRules.isEmpty()) {
+            return new StringColumnIndex(variableName, alwaysMatchingRules, stringRules);
+
+        } else if (!numberRules.isEmpty()) {
+            return NumberColumnIndex.create(variableName, alwaysMatchingRules, numberRules, rules.size());
+        }
+
+        // All entries match anything, nothing to narrow down
+        return null;
+    }
+
+    protected static CompiledInputEntry findInputEntry(CompiledRule rule, InputClause inputClause) {
+        for (CompiledInputEntry inputEntry : rule.getInputEntries()) {
+            if (inputEntry.getInputContainer().getInputClause() == inputClause) {
+                return inputEntry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the positions (in the list of compiled rules) of the rules that can match the given input variables,
+     *         or null when the index can't narrow down the rules for these variables.
+     */
+    public BitSet getCandidateRules(Map<String, Object> variables) {
+        if (variables == null) {
+            return null;
+        }
+
+        BitSet candidateRules = null;
+        for (ColumnIndex columnIndex : columnIndexes) {
+            BitSet columnCandidateRules = columnIndex.getCandidateRules(variables.get(columnIndex.getVariableName()));
+            if (columnCandidateRules != null) {
+                if (candidateRules == null) {
+                    candidateRules = columnCandidateRules;
+                } else {
+                    candidateRules.and(columnCandidateRules);
+                }
+            }
+        }
+
+        return candidateRules;
+    }
+
+    public int getNumberOfRules() {
+        return numberOfRules;
+    }
+
+    public List<ColumnIndex> getColumnIndexes() {
+        return columnIndexes;
+    }
+
+    public abstract static class ColumnIndex {
+
+        protected final String variableName;
+        protected final BitSet alwaysMatchingRules;
+
+        protected ColumnIndex(String variableName, BitSet alwaysMatchingRules) {
+            this.variableName = variableName;
+            this.alwaysMatchingRules = alwaysMatchingRules;
+        }
+
+        /**
+         * @return a new bit set with the rules that can match the value, or null when the value can't be looked up in this index.
+         */
+        public abstract BitSet getCandidateRules(Object value);
+
+        public String getVariableName() {
+            return variableName;
+        }
+    }
+
+    public static class StringColumnIndex extends ColumnIndex {
+
+        protected final Map<String, BitSet> rulesByValue;
+
+        public StringColumnIndex(String variableName, BitSet alwaysMatchingRules, Map<String, BitSet> rulesByValue) {
+            super(variableName, alwaysMatchingRules);
+            this.rulesByValue = rulesByValue;
+        }
+
+        @Override
+        public BitSet getCandidateRules(Object value) {
+            if (!(value instanceof String)) {
+                return null;
+            }
+
+            BitSet candidateRules = (BitSet) alwaysMatchingRules.clone();
+            BitSet valueRules = rulesByValue.get(value);
+            if (valueRules != null) {
+                candidateRules.or(valueRules);
+            }
+            return candidateRules;
+        }
+    }
+
+    /**
+     * The distinct numbers of all entries split the number line into segments: every number itself and the open intervals in between.
+     * For every segment, the rules that match any value in it are kept. For n distinct numbers, segment 2i+1 is the i-th number
+     * and segment 2i is the open interval just below it (segment 2n being the one above the highest number).
+     */
+    public static class NumberColumnIndex extends ColumnIndex {
+
+        protected final double[] values;
+        protected final BitSet[] segmentRules;
+
+        public NumberColumnIndex(String variableName, BitSet alwaysMatchingRules, double[] values, BitSet[] segmentRules) {
+            super(variableName, alwaysMatchingRules);
+            this.values = values;
+            this.segmentRules = segmentRules;
+        }
+
+        protected static NumberColumnIndex create(String variableName, BitSet alwaysMatchingRules, Map<Integer, NumberInterval> numberRules, int numberOfRules) {
+            TreeSet<Double> distinctValues = new TreeSet<>();
+            for (NumberInterval interval : numberRules.values()) {
+                distinctValues.add(interval.value);
+            }
+
+            double[] values = new double[distinctValues.size()];
+            int index = 0;
+            for (Double value : distinctValues) {
+                values[index++] = value;
+            }
+
+            BitSet[] segmentRules = new BitSet[2 * values.length + 1];
+            for (int i = 0; i < segmentRules.length; i++) {
+                segmentRules[i] = new BitSet(numberOfRules);
+            }
+
+            for (Map.Entry<Integer, NumberInterval> entry : numberRules.entrySet()) {
+                NumberInterval interval = entry.getValue();
+                int valueSegment = 2 * Arrays.binarySearch(values, interval.value) + 1;
+                int firstSegment = interval.includesBelow ? 0 : (interval.includesValue ? valueSegment : valueSegment + 1);
+                int lastSegment = interval.includesAbove ? segmentRules.length - 1 : (interval.includesValue ? valueSegment : valueSegment - 1);
+                for (int segment = firstSegment; segment <= lastSegment; segment++) {
+                    segmentRules[segment].set(entry.getKey());
+                }
+            }
+
+            return new NumberColumnIndex(variableName, alwaysMatchingRules, values, segmentRules);
+        }
+
+        @Override
+        public BitSet getCandidateRules(Object value) {
+            if (!(value instanceof Number)) {
+                return null;
+            }
+
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return null;
+            }
+
+            double margin = Math.max(Math.abs(doubleValue), 1.0) * NUMBER_MARGIN;
+            int lastSegment = getSegment(doubleValue + margin);
+
+            BitSet candidateRules = (BitSet) alwaysMatchingRules.clone();
+            for (int segment = getSegment(doubleValue - margin); segment <= lastSegment; segment++) {
+                candidateRules.or(segmentRules[segment]);
+            }
+            return candidateRules;
+        }
+
+        protected int getSegment(double value) {
+            int index = Arrays.binarySearch(values, value);
+            return index >= 0 ? 2 * index + 1 : 2 * (-index - 1);
+        }
+    }
+
+    protected static class NumberInterval {
+
+        protected final double value;
+        protected final boolean includesBelow;
+        protected final boolean includesValue;
+        protected final boolean includesAbove;
+
+        protected NumberInterval(double value, boolean includesBelow, boolean includesValue, boolean includesAbove) {
+            this.value = value;
+            this.includesBelow = includesBelow;
+            this.includesValue = includesValue;
+            this.includesAbove = includesAbove;
+        }
+
+        protected static NumberInterval create(String operator, double value) {
+            if (operator == null || "==".equals(operator)) {
+                return new NumberInterval(value, false, true, false);
+            } else if ("<".equals(operator)) {
+                return new NumberInterval(value, true, false, false);
+            } else if ("<=".equals(operator)) {
+                return new NumberInterval(value, true, true, false);
+            } else if (">".equals(operator)) {
+                return new NumberInterval(value, false, false, true);
+            } else {
+                return new NumberInterval(value, false, true, true);
+            }
+        }
+    }
+}
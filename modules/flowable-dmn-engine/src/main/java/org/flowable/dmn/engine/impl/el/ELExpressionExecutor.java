@@ -60,6 +60,35 @@ public class ELExpressionExecutor {
         }
     }
 
+    public static Boolean executeInputExpression(CompiledDecisionTable.CompiledInputEntry inputEntry, ELExecutionContext executionContext) {
+        if (inputEntry == null) {
+            throw new IllegalArgumentException("input entry is required");
+        }
+        InputClause inputClause = inputEntry.getInputContainer().getInputClause();
+        if (inputClause == null) {
+            throw new IllegalArgumentException("input clause is required");
+        }
+        if (inputClause.getInputExpression() == null) {
+            throw new IllegalArgumentException("input expression is required");
+        }
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
+        executionContext.checkExecutionContext(inputClause.getInputExpression().getText());
+
+        if (inputEntry.getCompileException() != null) {
+            throw inputEntry.getCompileException();
+        }
+
+        try {
+            return inputEntry.getCondition().evaluate(executionContext.getStackVariables(), executionContext);
+        } catch (Exception ex) {
+            LOGGER.warn("Error while executing input entry: {}", inputEntry.getParsedExpression(), ex);
+            throw new FlowableDmnExpressionException("error while executing input entry", inputEntry.getParsedExpression(), ex);
+        }
+    }
+
     public static Object executeOutputExpression(OutputClause outputClause, LiteralExpression outputEntry, ExpressionManager expressionManager, ELExecutionContext executionContext) {
         if (outputClause == null) {
             throw new IllegalArgumentException("output clause is required");
@@ -83,4 +112,28 @@ public class ELExpressionExecutor {
             throw new FlowableDmnExpressionException("error while executing output entry", outputEntry.getText(), ex);
         }
     }
+
+    public static Object executeOutputExpression(CompiledDecisionTable.CompiledOutputEntry outputEntry, ELExecutionContext executionContext) {
+        if (outputEntry == null) {
+            throw new IllegalArgumentException("output entry is required");
+        }
+        if (outputEntry.getOutputContainer().getOutputClause() == null) {
+            throw new IllegalArgumentException("output clause is required");
+        }
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
+        if (outputEntry.getCompileException() != null) {
+            throw outputEntry.getCompileException();
+        }
+
+        try {
+            return outputEntry.getOutput().getValue(executionContext.getStackVariables());
+        } catch (Exception ex) {
+            String outputEntryText = outputEntry.getOutputContainer().getOutputEntry().getText();
+            LOGGER.warn("Error while executing output entry: {}", outputEntryText, ex);
+            throw new FlowableDmnExpressionException("error while executing output entry", outputEntryText, ex);
+        }
+    }
 }
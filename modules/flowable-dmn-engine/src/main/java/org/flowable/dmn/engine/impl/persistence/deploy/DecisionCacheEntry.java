@@ -13,7 +13,9 @@
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.Map;
 
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
@@ -32,6 +34,9 @@ public class DecisionCacheEntry implements Serializable {
     protected DecisionService decisionService;
     protected Decision decision;
 
+    // The executable form of the decision tables of the definition, by decision id
+    protected transient Map<String, CompiledDecisionTable> compiledDecisionTables;
+
     public DecisionCacheEntry(DecisionEntity decisionEntity, DmnDefinition dmnDefinition, DecisionService decisionService) {
         this.decisionEntity = decisionEntity;
         this.dmnDefinition = dmnDefinition;
@@ -72,4 +77,16 @@ public class DecisionCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    public Map<String, CompiledDecisionTable> getCompiledDecisionTables() {
+        return compiledDecisionTables;
+    }
+
+    public void setCompiledDecisionTables(Map<String, CompiledDecisionTable> compiledDecisionTables) {
+        this.compiledDecisionTables = compiledDecisionTables;
+    }
+
+    public CompiledDecisionTable getCompiledDecisionTable(String decisionId) {
+        return compiledDecisionTables != null ? compiledDecisionTables.get(decisionId) : null;
+    }
 }
@@ -20,6 +20,8 @@ import java.util.List;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DecisionTypes;
 import org.flowable.dmn.api.DmnDecision;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
@@ -95,6 +97,33 @@ public class DeploymentTest extends AbstractFlowableDmnTest {
         assertThat(decision.getDecisionType()).isEqualTo(DecisionTypes.DECISION_TABLE);
     }
 
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void deploySingleDecisionAndValidateCompiledDecisionTable() {
+        DmnDecision decision = repositoryService.createDecisionQuery()
+                .latestVersion()
+                .decisionKey("decision")
+                .singleResult();
+        assertThat(decision).isNotNull();
+
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+        CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable("decision");
+        assertThat(compiledDecisionTable).isNotNull();
+        assertThat(compiledDecisionTable.getDecisionTable()).isSameAs(cacheEntry.getDecision().getExpression());
+        assertThat(compiledDecisionTable.getRules()).hasSize(3);
+
+        assertThat(ruleService.createExecuteDecisionBuilder().decisionKey("decision").variable("input1", 11).executeWithSingleResult())
+                .containsEntry("output1", "test");
+
+        // The decision table is compiled again when the decision is put back in the cache
+        dmnEngineConfiguration.getDeploymentManager().getDecisionCache().clear();
+        assertThat(ruleService.createExecuteDecisionBuilder().decisionKey("decision").variable("input1", 9).executeWithSingleResult())
+                .containsEntry("output1", "test2");
+
+        cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+        assertThat(cacheEntry.getCompiledDecisionTable("decision")).isNotNull();
+    }
+
     @Test
     @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
     public void deploySingleDecisionAndValidateVersioning() {
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecision;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedDecisionTableTest extends AbstractFlowableDmnTest {
+
+    protected static final List<String> DECISION_KEYS = Arrays.asList("firstDecision", "collectDecision", "outputOrderDecision",
+            "priorityDecision", "uniqueDecision", "ruleOrderDecision");
+
+    protected static final List<Object> CUSTOMER_TYPES = Arrays.asList("GOLD", "SILVER", "BRONZE", "OTHER", null, 5);
+    protected static final List<Object> AMOUNTS = Arrays.asList(-10, -5, 0, 100, 101, 500, 500.0, 999.99, 1000, 5000L, null, "500");
+
+    protected DmnDeployment deployment;
+
+    @Before
+    public void deployIndexedDecisions() {
+        dmnEngineConfiguration.setDecisionTableIndexingEnabled(true);
+        deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/runtime/IndexedDecisionTableTest.dmn")
+                .deploy();
+    }
+
+    @After
+    public void deleteDeployment() {
+        dmnEngineConfiguration.setDecisionTableIndexingEnabled(false);
+        repositoryService.deleteDeployment(deployment.getId());
+    }
+
+    @Test
+    public void indexIsCreatedOnDeployment() {
+        CompiledDecisionTable compiledDecisionTable = getCompiledDecisionTable("firstDecision");
+        assertThat(compiledDecisionTable.getIndex()).isNotNull();
+        assertThat(compiledDecisionTable.getIndex().getColumnIndexes())
+                .extracting("variableName")
+                .containsExactly("customerType", "amount");
+
+        BitSet candidateRules = compiledDecisionTable.getCandidateRules(variables("GOLD", new BigInteger("1000")));
+        // Values close to the boundary of a range are candidates as well
+        assertThat(candidateRules.stream().toArray()).containsExactly(0, 1, 6);
+
+        candidateRules = compiledDecisionTable.getCandidateRules(variables("SILVER", new BigDecimal("500")));
+        assertThat(candidateRules.stream().toArray()).containsExactly(2, 3, 6);
+
+        // Values of another type than the entries are not looked up in the index
+        assertThat(compiledDecisionTable.getCandidateRules(variables(5, "500"))).isNull();
+        assertThat(compiledDecisionTable.getCandidateRules(variables("BRONZE", "500")).stream().toArray()).containsExactly(3, 4, 5, 6);
+    }
+
+    @Test
+    public void indexedResultsAreEqualToNotIndexedResultsForAllHitPolicies() {
+        Map<String, List<Object>> indexedResults = executeAllDecisions();
+        assertThat(getCompiledDecisionTable("collectDecision").getIndex()).isNotNull();
+
+        // Put the decisions in the cache again, without index
+        dmnEngineConfiguration.setDecisionTableIndexingEnabled(false);
+        dmnEngineConfiguration.getDeploymentManager().getDecisionCache().clear();
+        Map<String, List<Object>> notIndexedResults = executeAllDecisions();
+        assertThat(getCompiledDecisionTable("collectDecision").getIndex()).isNull();
+
+        assertThat(indexedResults).isEqualTo(notIndexedResults);
+        assertThat(indexedResults.get("firstDecision")).contains(
+                "GOLD/1000: false [{result=gold-high}]",
+                "GOLD/999.99: false [{result=gold-low}]",
+                "OTHER/500.0: false [{result=exact-500}]",
+                "OTHER/-5: false [{result=negative}]");
+        assertThat(indexedResults.get("uniqueDecision")).contains("OTHER/0: false [{result=default}]", "SILVER/100: true []");
+    }
+
+    protected Map<String, List<Object>> executeAllDecisions() {
+        Map<String, List<Object>> results = new HashMap<>();
+        for (String decisionKey : DECISION_KEYS) {
+            List<Object> decisionResults = new ArrayList<>();
+            for (Object customerType : CUSTOMER_TYPES) {
+                for (Object amount : AMOUNTS) {
+                    DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                            .decisionKey(decisionKey)
+                            .variables(variables(customerType, amount))
+                            .executeWithAuditTrail();
+                    decisionResults.add(customerType + "/" + amount + ": " + auditContainer.isFailed() + " " + auditContainer.getDecisionResult());
+                }
+            }
+            results.put(decisionKey, decisionResults);
+        }
+        return results;
+    }
+
+    protected CompiledDecisionTable getCompiledDecisionTable(String decisionKey) {
+        DmnDecision decision = repositoryService.createDecisionQuery().deploymentId(deployment.getId()).decisionKey(decisionKey).singleResult();
+        repositoryService.getDecision(decision.getId());
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+        return cacheEntry.getCompiledDecisionTable(decisionKey);
+    }
+
+    protected Map<String, Object> variables(Object customerType, Object amount) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customerType", customerType);
+        variables.put("amount", amount);
+        return variables;
+    }
+}
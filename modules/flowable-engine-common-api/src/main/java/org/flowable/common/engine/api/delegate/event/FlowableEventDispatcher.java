@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.api.delegate.event;
 
+import java.util.function.Supplier;
+
 /**
  * Dispatcher which allows for adding and removing {@link FlowableEventListener} s to the Flowable Engine as well as dispatching {@link FlowableEvent} to all the listeners registered.
  * 
@@ -55,6 +57,36 @@ public interface FlowableEventDispatcher {
      */
     void dispatchEvent(FlowableEvent event, String engineType);
 
+    /**
+     * Returns whether an event of the given type would be received by any listener. This allows to skip creating the event when nobody is interested in it.
+     * When this can't be determined, true is returned.
+     *
+     * @param type
+     *            type of the event
+     * @param engineType
+     *            type of engine to dispatch
+     */
+    default boolean hasListeners(FlowableEventType type, String engineType) {
+        return true;
+    }
+
+    /**
+     * Dispatches the event created by the given supplier, but only creates the event when there are listeners for the given type
+     * (see {@link #hasListeners(FlowableEventType, String)}).
+     *
+     * @param type
+     *            type of the event created by the supplier
+     * @param eventSupplier
+     *            creates the event to dispatch
+     * @param engineType
+     *            type of engine to dispatch
+     */
+    default void dispatchEvent(FlowableEventType type, Supplier<? extends FlowableEvent> eventSupplier, String engineType) {
+        if (hasListeners(type, engineType)) {
+            dispatchEvent(eventSupplier.get(), engineType);
+        }
+    }
+
     /**
      * @param enabled
      *            true, if event dispatching should be enabled.
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+/**
+ * Describes methods for Queries that support keyset (cursor) paging.
+ *
+ * Instead of skipping the first results of the ordered list (which gets slower for every next page),
+ * only the results with an id after the id of the last result of the previous page are selected.
+ * The id of the last result of a page is used as cursor for the next page, which is retrieved with {@link Query#listPage(int, int)} with 0 as first result.
+ */
+public interface CursorPagingQuery<T extends CursorPagingQuery<T, U>, U> {
+
+    /**
+     * Only select the results with an id after the given id, in the order of the ids.
+     * Descending order is used when the query is ordered descending by id, ordering by any other property is not supported.
+     *
+     * @param cursor the id of the last result of the previous page, null to start at the first result.
+     */
+    T afterCursor(String cursor);
+
+}
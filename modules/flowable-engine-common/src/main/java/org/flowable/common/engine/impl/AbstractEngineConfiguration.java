@@ -80,10 +80,13 @@ import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
 import org.flowable.common.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.common.engine.impl.db.CommonDbSchemaManager;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.db.DbSqlSessionFlushListener;
 import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.event.AsyncEventListenerExecutor;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventListener;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -106,6 +109,10 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -234,6 +241,27 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, updates and deletes of entities are grouped per statement and sent to the database as JDBC batches when flushing.
+     * The update count of every row is still verified, so optimistic locking behaves the same as with regular updates and deletes.
+     * When the JDBC driver doesn't report the update counts of a batch (returning {@link java.sql.Statement#SUCCESS_NO_INFO}),
+     * the transaction is rolled back with a {@link org.flowable.common.engine.api.FlowableOptimisticLockingException} so that it can be retried,
+     * and the updates and deletes that need to be verified are no longer batched from then on. Default false.
+     */
+    protected boolean isBatchedFlushEnabled;
+
+    /**
+     * If set to true, entities implementing {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity} that were loaded
+     * and not changed afterwards are skipped when determining the updated entities at flush time, instead of calculating and comparing their persistent state.
+     * Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    /**
+     * Listener that is notified after every flush of the {@link org.flowable.common.engine.impl.db.DbSqlSession}, with the number of inserts, updates and deletes.
+     */
+    protected DbSqlSessionFlushListener dbSqlSessionFlushListener;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
     protected String mybatisMappingFile;
@@ -255,6 +283,13 @@ public abstract class AbstractEngineConfiguration {
     protected Map<String, List<FlowableEventListener>> typedEventListeners;
     protected List<EventDispatchAction> additionalEventDispatchActions;
 
+    /**
+     * Event listeners that are executed by the {@link #asyncEventListenerExecutor} after the transaction is committed,
+     * instead of on the thread executing the command. The events they are registered for are determined by {@link FlowableEventListener#getTypes()}.
+     */
+    protected List<FlowableEventListener> asyncEventListeners;
+    protected AsyncEventListenerExecutor asyncEventListenerExecutor;
+
     protected LoggingListener loggingListener;
 
     protected boolean transactionsExternallyManaged;
@@ -355,6 +390,18 @@ public abstract class AbstractEngineConfiguration {
     protected List<EngineDeployer> customPreDeployers;
     protected List<EngineDeployer> customPostDeployers;
     protected List<EngineDeployer> deployers;
+
+    /**
+     * If set to true, the definition and expression caches are created as {@link ConcurrentDeploymentCache}, which doesn't take a global lock when reading
+     * and supports weight based limits, expiry after access and hit/miss/eviction statistics. Default false, meaning the {@link DefaultDeploymentCache} is used.
+     */
+    protected boolean enableConcurrentDeploymentCache;
+
+    /**
+     * Only used with the concurrent deployment cache: entries that weren't accessed within this duration are removed from the cache.
+     * Default null, meaning that entries never expire.
+     */
+    protected Duration deploymentCacheExpireAfterAccess;
     
     // CONFIGURATORS ////////////////////////////////////////////////////////////
 
@@ -784,6 +831,9 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(isBatchedFlushEnabled);
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(isEntityDirtyTrackingEnabled);
+        dbSqlSessionFactory.setFlushListener(dbSqlSessionFlushListener);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -814,6 +864,33 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    /**
+     * Creates a deployment cache for definitions or expressions, using the {@link ConcurrentDeploymentCache} when enabled.
+     *
+     * @param limit the maximum number of cached entries, no limit when zero or negative
+     */
+    public <T> DeploymentCache<T> createDeploymentCache(int limit) {
+        return createDeploymentCache(limit, -1, null);
+    }
+
+    /**
+     * Creates a deployment cache for definitions or expressions, using the {@link ConcurrentDeploymentCache} when enabled.
+     * The weight limit and weigher are only applicable to the concurrent deployment cache.
+     *
+     * @param limit the maximum number of cached entries, no limit when zero or negative
+     * @param weightLimit the maximum total weight of the cached entries, no limit when zero or negative
+     * @param weigher calculates the weight of a cached entry (e.g. based on the model size)
+     */
+    public <T> DeploymentCache<T> createDeploymentCache(int limit, long weightLimit, DeploymentCacheWeigher<T> weigher) {
+        if (enableConcurrentDeploymentCache) {
+            return new ConcurrentDeploymentCache<>(limit, weightLimit, weigher, deploymentCacheExpireAfterAccess);
+        } else if (limit <= 0) {
+            return new DefaultDeploymentCache<>();
+        } else {
+            return new DefaultDeploymentCache<>(limit);
+        }
+    }
+
     public void initTransactionFactory() {
         if (transactionFactory == null) {
             if (transactionsExternallyManaged) {
@@ -1087,6 +1164,10 @@ public abstract class AbstractEngineConfiguration {
              */
             ((PooledDataSource) dataSource).forceCloseAll();
         }
+
+        if (asyncEventListenerExecutor != null) {
+            asyncEventListenerExecutor.shutdown();
+        }
     }
 
     protected List<EngineConfigurator> getEngineSpecificEngineConfigurators() {
@@ -1556,6 +1637,33 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public DbSqlSessionFlushListener getDbSqlSessionFlushListener() {
+        return dbSqlSessionFlushListener;
+    }
+
+    public AbstractEngineConfiguration setDbSqlSessionFlushListener(DbSqlSessionFlushListener dbSqlSessionFlushListener) {
+        this.dbSqlSessionFlushListener = dbSqlSessionFlushListener;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -1802,6 +1910,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public List<FlowableEventListener> getAsyncEventListeners() {
+        return asyncEventListeners;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListeners(List<FlowableEventListener> asyncEventListeners) {
+        this.asyncEventListeners = asyncEventListeners;
+        return this;
+    }
+
+    public AsyncEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListenerExecutor(AsyncEventListenerExecutor asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+        return this;
+    }
+
     public List<EventDispatchAction> getAdditionalEventDispatchActions() {
         return additionalEventDispatchActions;
     }
@@ -1822,6 +1948,7 @@ public abstract class AbstractEngineConfiguration {
 
         initEventListeners();
         initTypedEventListeners();
+        initAsyncEventListeners();
     }
 
     protected void initEventListeners() {
@@ -1832,6 +1959,18 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    protected void initAsyncEventListeners() {
+        if (asyncEventListeners != null && !asyncEventListeners.isEmpty()) {
+            if (asyncEventListenerExecutor == null) {
+                asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+            }
+
+            for (FlowableEventListener listenerToAdd : asyncEventListeners) {
+                this.eventDispatcher.addEventListener(new AsyncFlowableEventListener(listenerToAdd, asyncEventListenerExecutor));
+            }
+        }
+    }
+
     protected void initAdditionalEventDispatchActions() {
         if (this.additionalEventDispatchActions == null) {
             this.additionalEventDispatchActions = new ArrayList<>();
@@ -1923,6 +2062,24 @@ public abstract class AbstractEngineConfiguration {
         this.schemaLockWaitTime = schemaLockWaitTime;
     }
 
+    public boolean isEnableConcurrentDeploymentCache() {
+        return enableConcurrentDeploymentCache;
+    }
+
+    public AbstractEngineConfiguration setEnableConcurrentDeploymentCache(boolean enableConcurrentDeploymentCache) {
+        this.enableConcurrentDeploymentCache = enableConcurrentDeploymentCache;
+        return this;
+    }
+
+    public Duration getDeploymentCacheExpireAfterAccess() {
+        return deploymentCacheExpireAfterAccess;
+    }
+
+    public AbstractEngineConfiguration setDeploymentCacheExpireAfterAccess(Duration deploymentCacheExpireAfterAccess) {
+        this.deploymentCacheExpireAfterAccess = deploymentCacheExpireAfterAccess;
+        return this;
+    }
+
     public AbstractEngineConfiguration setPropertyDataManager(PropertyDataManager propertyDataManager) {
         this.propertyDataManager = propertyDataManager;
         return this;
@@ -176,6 +176,10 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     }
 
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     public int getCorePoolSize() {
         return corePoolSize;
     }
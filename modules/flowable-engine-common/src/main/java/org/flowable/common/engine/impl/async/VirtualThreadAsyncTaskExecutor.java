@@ -0,0 +1,201 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.flowable.common.engine.impl.util.ExceptionUtil.sneakyThrow;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncTaskExecutor} that executes every task in a new virtual thread (JDK 21+).
+ * <p>
+ * Instead of a thread pool with a queue, the number of concurrently executing tasks is limited by a semaphore:
+ * a task is rejected with a {@link RejectedExecutionException} when the {@link #maxConcurrency} is reached.
+ * This makes it suitable for I/O bound work (e.g. HTTP or REST calls in service tasks),
+ * where the threads spend most of the time being blocked.
+ * <p>
+ * The virtual threads are created through reflection, so that this class can be used when running on older Java versions.
+ * Use {@link #isVirtualThreadsSupported()} to check whether the current runtime supports virtual threads.
+ * Alternatively, a custom {@link ThreadFactory} can be set.
+ */
+public class VirtualThreadAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncTaskExecutor.class);
+
+    /**
+     * The maximum number of tasks that are executed concurrently.
+     */
+    protected int maxConcurrency = 256;
+
+    /**
+     * The time (in seconds) that is waited to gracefully shut down the executor, waiting for the running tasks to finish.
+     */
+    protected long secondsToWaitOnShutdown = 60L;
+
+    protected String threadNamePrefix = "flowable-async-job-executor-virtual-thread-";
+
+    protected ThreadFactory threadFactory;
+
+    protected Semaphore permits;
+    protected volatile boolean isActive;
+
+    public static boolean isVirtualThreadsSupported() {
+        try {
+            createVirtualThreadFactory("flowable-virtual-thread-check-");
+            return true;
+        } catch (FlowableException e) {
+            return false;
+        }
+    }
+
+    protected static ThreadFactory createVirtualThreadFactory(String threadNamePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new FlowableException("Virtual threads are not supported by the current Java runtime " + System.getProperty("java.version"), e);
+        }
+    }
+
+    public void start() {
+        if (isActive) {
+            return;
+        }
+
+        if (threadFactory == null) {
+            LOGGER.info("Creating virtual thread factory with name prefix {}", threadNamePrefix);
+            threadFactory = createVirtualThreadFactory(threadNamePrefix);
+        }
+
+        LOGGER.info("Creating virtual thread executor with max concurrency {}", maxConcurrency);
+        permits = new Semaphore(maxConcurrency);
+        isActive = true;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!isActive) {
+            throw new RejectedExecutionException("Virtual thread executor is not active");
+        }
+
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Max concurrency of " + maxConcurrency + " tasks reached");
+        }
+
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, this::execute);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception exception) {
+                sneakyThrow(exception);
+                return null;
+            }
+        }, this::execute);
+    }
+
+    @Override
+    public void shutdown() {
+        if (!isActive) {
+            return;
+        }
+        isActive = false;
+
+        // All permits are available again when the currently running tasks have finished
+        try {
+            if (permits.tryAcquire(maxConcurrency, secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                permits.release(maxConcurrency);
+            } else {
+                LOGGER.warn("Timeout during shutdown of virtual thread executor. The current running tasks could not end within {} seconds after shutdown operation.",
+                        secondsToWaitOnShutdown);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the virtual thread executor. ", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        return isActive ? permits.availablePermits() : 0;
+    }
+
+    public int getActiveCount() {
+        return isActive ? maxConcurrency - permits.availablePermits() : 0;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+}
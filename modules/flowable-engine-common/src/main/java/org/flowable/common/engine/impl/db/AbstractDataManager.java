@@ -15,9 +15,11 @@ package org.flowable.common.engine.impl.db;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
@@ -26,6 +28,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
@@ -175,7 +178,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 // Cache entities
                 if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                    for (CachedEntity cachedObject : findCachedObjectCandidates(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter)) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -187,7 +190,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                         Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                         if (subclassCachedObjects != null) {
-                            for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                            for (CachedEntity subclassCachedObject : findCachedObjectCandidates(entitySubClass, subclassCachedObjects, cachedEntityMatcher, parameter)) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                                 if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedSubclassEntity, parameter)) {
                                     entityMap.put(cachedSubclassEntity.getId(), cachedSubclassEntity); // will overwrite db version with newer version
@@ -228,7 +231,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         List<EntityImpl> result = new ArrayList<>(cachedObjects != null ? cachedObjects.size() : 1);
         if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : findCachedObjectCandidates(getManagedEntityClass(), cachedObjects, entityMatcher, parameter)) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter)
                         && (includeDeletedEntities || !dbSqlSession.isEntityToBeDeleted(cachedEntity))) {
@@ -241,7 +244,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                 Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                 if (subclassCachedObjects != null) {
-                    for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                    for (CachedEntity subclassCachedObject : findCachedObjectCandidates(entitySubClass, subclassCachedObjects, entityMatcher, parameter)) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                         if (entityMatcher.isRetained(null, cachedObjects, cachedSubclassEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedSubclassEntity)) {
                             result.add(cachedSubclassEntity);
@@ -254,6 +257,28 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return result;
     }
     
+    /**
+     * Returns the cached entities of the given type that need to be checked with the {@link CachedEntityMatcher}.
+     * For an {@link IndexedCachedEntityMatcher} these are only the entities with the key of the parameter in the index, otherwise all cached entities of the type.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> findCachedObjectCandidates(Class<?> entityClass, Collection<CachedEntity> cachedObjects,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            Object indexKey = indexedCachedEntityMatcher.getIndexKey(parameter);
+            if (indexKey != null) {
+                Collection<CachedEntity> indexedCachedObjects = getEntityCache().findInCacheAsCachedObjects(entityClass, indexedCachedEntityMatcher.getIndex(), indexKey);
+                if (indexedCachedObjects != null) {
+                    return indexedCachedObjects;
+                }
+            }
+        }
+
+        return cachedObjects;
+    }
+
     /**
      * Does a bulk delete, but also uses the provided {@link CachedEntityMatcher}
      * to look in the cache to mark the cached entities as deleted. 
@@ -364,6 +389,47 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         });
     }
     
+    /**
+     * Fetches the entities of a set-based query (e.g. all entities of a list of executions) and remembers for the rest of the current command
+     * that all entities related to these ids are in the entity cache, so that lookups checking {@link #isFetched(String, String)} can use the cache.
+     */
+    protected List<EntityImpl> fetchAll(String dbQueryName, Collection<String> ids, String relation) {
+        List<EntityImpl> result = new ArrayList<>();
+        for (List<String> safeIds : createSafeInValuesList(ids)) {
+            result.addAll(getList(dbQueryName, safeIds, null, false));
+        }
+        markFetched(relation, ids);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void markFetched(String relation, Collection<String> ids) {
+        CommandContext commandContext = getCommandContext();
+        String attributeName = getFetchedIdsAttributeName(relation);
+        Set<String> fetchedIds = (Set<String>) commandContext.getAttribute(attributeName);
+        if (fetchedIds == null) {
+            fetchedIds = new HashSet<>();
+            commandContext.addAttribute(attributeName, fetchedIds);
+        }
+        fetchedIds.addAll(ids);
+    }
+
+    /**
+     * @return true when all entities related to the id were fetched with {@link #fetchAll(String, Collection, String)} in the current command
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean isFetched(String relation, String id) {
+        if (id == null) {
+            return false;
+        }
+        Set<String> fetchedIds = (Set<String>) getCommandContext().getAttribute(getFetchedIdsAttributeName(relation));
+        return fetchedIds != null && fetchedIds.contains(id);
+    }
+
+    protected String getFetchedIdsAttributeName(String relation) {
+        return "fetched." + getManagedEntityClass().getName() + "." + relation;
+    }
+
     protected boolean isEntityInserted(DbSqlSession dbSqlSession, String entityLogicalName, String entityId) {
         Class<?> executionEntityClass = dbSqlSession.getDbSqlSessionFactory().getLogicalNameToClassMapping().get(entityLogicalName);
         return executionEntityClass != null && dbSqlSession.isEntityInserted(executionEntityClass, entityId);
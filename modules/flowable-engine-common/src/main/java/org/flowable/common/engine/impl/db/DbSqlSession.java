@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,7 +25,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
@@ -50,6 +57,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -353,6 +361,9 @@ public class DbSqlSession implements Session {
 
     @Override
     public void flush() {
+        DbSqlSessionFlushListener flushListener = dbSqlSessionFactory.getFlushListener();
+        long flushStartTime = flushListener != null ? System.nanoTime() : 0L;
+
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
@@ -360,9 +371,34 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        // Counted before flushing, as flushing the deletes removes the bulk delete operations
+        int insertCount = 0;
+        int updateCount = 0;
+        int deleteCount = 0;
+        if (flushListener != null) {
+            insertCount = countOperations(insertedObjects);
+            updateCount = updatedObjects.size();
+            deleteCount = countOperations(deletedObjects);
+            for (Collection<BulkDeleteOperation> bulkDeleteOperationList : bulkDeleteOperations.values()) {
+                deleteCount += bulkDeleteOperationList.size();
+            }
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (flushListener != null) {
+            flushListener.flushed(insertCount, updateCount, deleteCount, System.nanoTime() - flushStartTime);
+        }
+    }
+
+    protected int countOperations(Map<Class<? extends Entity>, Map<String, Entity>> objects) {
+        int count = 0;
+        for (Map<String, Entity> objectMap : objects.values()) {
+            count += objectMap.size();
+        }
+        return count;
     }
 
     /**
@@ -399,6 +435,7 @@ public class DbSqlSession implements Session {
 
     public void determineUpdatedObjects() {
         updatedObjects = new ArrayList<>();
+        boolean useDirtyTracking = dbSqlSessionFactory.isEntityDirtyTrackingEnabled();
         Map<Class<?>, Map<String, CachedEntity>> cachedObjects = entityCache.getAllCachedEntities();
         for (Class<?> clazz : cachedObjects.keySet()) {
 
@@ -413,7 +450,7 @@ public class DbSqlSession implements Session {
 
                 if (!isEntityInserted(cachedEntity) &&
                         (cachedEntity instanceof AlwaysUpdatedPersistentObject || !isEntityToBeDeleted(cachedEntity)) &&
-                        cachedObject.hasChanged()) {
+                        cachedObject.hasChanged(useDirtyTracking)) {
 
                     updatedObjects.add(cachedEntity);
                 }
@@ -562,13 +599,14 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+        // Every update is verified, so updates can only be batched when the driver reports the update counts
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && !dbSqlSessionFactory.isBatchUpdateCountsUnavailable() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+            return;
+        }
 
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
-            }
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
 
             LOGGER.debug("updating: {}", updatedObject);
 
@@ -586,6 +624,98 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Groups the updated objects per update statement and sends every group as one JDBC batch.
+     * The update count of every row in the batch is verified, so optimistic locking behaves the same as for a regular update.
+     */
+    protected void flushBatchedUpdates() {
+        Map<String, List<Entity>> updatesPerStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            updatesPerStatement.computeIfAbsent(getMappedUpdateStatement(updatedObject), key -> new ArrayList<>()).add(updatedObject);
+        }
+
+        for (Map.Entry<String, List<Entity>> entry : updatesPerStatement.entrySet()) {
+            SqlSession batchSession = getBatchSqlSession();
+            for (Entity updatedObject : entry.getValue()) {
+                LOGGER.debug("updating (batched): {}", updatedObject);
+                batchSession.update(entry.getKey(), updatedObject);
+            }
+
+            verifyBatchResults(entry.getKey(), batchSession.flushStatements(), true);
+
+            for (Entity updatedObject : entry.getValue()) {
+                // See https://activiti.atlassian.net/browse/ACT-1290
+                if (updatedObject instanceof HasRevision) {
+                    ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+                }
+            }
+        }
+
+        // The batch session bypasses the local cache of the regular session
+        sqlSession.clearCache();
+        updatedObjects.clear();
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
+    /**
+     * Checks the update counts of every statement in the given batch results.
+     * A row that wasn't affected means that the entity was changed or removed by another transaction.
+     */
+    protected void verifyBatchResults(String statement, List<BatchResult> batchResults, boolean checkAll) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (!checkAll && !(parameterObject instanceof HasRevision)) {
+                    continue;
+                }
+
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    handleUnavailableBatchUpdateCount(statement, parameterObject);
+                } else if (updateCounts[i] == 0) {
+                    throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * The driver didn't report whether the row of the given object was affected, so a concurrent modification can't be ruled out.
+     * Subsequent updates and deletes that need to be verified are executed without batching,
+     * and the current transaction is rolled back with an optimistic locking exception so that it can be retried.
+     */
+    protected void handleUnavailableBatchUpdateCount(String statement, Object parameterObject) {
+        if (!dbSqlSessionFactory.isBatchUpdateCountsUnavailable()) {
+            LOGGER.warn("The JDBC driver did not report the update counts of the batch for {}. "
+                    + "Updates and deletes that need to be verified will not be batched anymore.", statement);
+            dbSqlSessionFactory.setBatchUpdateCountsUnavailable(true);
+        }
+        throw new FlowableOptimisticLockingException(parameterObject + " could not be verified to be unchanged by another transaction, "
+                + "as the JDBC driver did not report the update count of the batch");
+    }
+
+    /**
+     * Returns a {@link SqlSession} using a batch executor on the same connection (and thus transaction) as the regular session.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = sqlSession.getConfiguration();
+            Executor executor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration, executor, false);
+        }
+        return batchSqlSession;
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -628,12 +758,15 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        // Only deletes of entities with a revision are verified, which needs the update counts
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && entitiesToDelete.size() > 1
+                && (!dbSqlSessionFactory.isBatchUpdateCountsUnavailable() || !HasRevision.class.isAssignableFrom(entityClass))) {
+            flushBatchedDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -648,17 +781,52 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void flushBatchedDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        Map<String, List<Entity>> deletesPerStatement = new LinkedHashMap<>();
+        for (Entity entity : entitiesToDelete) {
+            deletesPerStatement.computeIfAbsent(getMappedDeleteStatement(entity), key -> new ArrayList<>()).add(entity);
+        }
+
+        for (Map.Entry<String, List<Entity>> entry : deletesPerStatement.entrySet()) {
+            SqlSession batchSession = getBatchSqlSession();
+            for (Entity entity : entry.getValue()) {
+                LOGGER.debug("deleting (batched): {}", entity);
+                batchSession.delete(entry.getKey(), entity);
+            }
+
+            // It only makes sense to check for optimistic locking exceptions
+            // for objects that actually have a revision
+            verifyBatchResults(entry.getKey(), batchSession.flushStatements(), false);
+        }
+
+        // The batch session bypasses the local cache of the regular session
+        sqlSession.clearCache();
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
     @Override
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        // Statements executed through the batch session don't mark the regular session as dirty, hence the commit needs to be forced
+        sqlSession.commit(batchSqlSession != null);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchSqlSession != null);
     }
 
     public <T> T getCustomMapper(Class<T> type) {
@@ -62,6 +62,15 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean isBatchedFlushEnabled;
+
+    // Set when the JDBC driver doesn't report the update counts of a batch
+    protected volatile boolean isBatchUpdateCountsUnavailable;
+
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    protected DbSqlSessionFlushListener flushListener;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -202,6 +211,43 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public void setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+    }
+
+    public boolean isBatchUpdateCountsUnavailable() {
+        return isBatchUpdateCountsUnavailable;
+    }
+
+    /**
+     * When set to true, updates and deletes of which the update count needs to be verified are not batched.
+     * This is set automatically when a batch returns {@link java.sql.Statement#SUCCESS_NO_INFO} instead of an update count,
+     * but can be set upfront for JDBC drivers known to do so, to avoid rolling back the first transaction that hits it.
+     */
+    public void setBatchUpdateCountsUnavailable(boolean isBatchUpdateCountsUnavailable) {
+        this.isBatchUpdateCountsUnavailable = isBatchUpdateCountsUnavailable;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public void setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+    }
+
+    public DbSqlSessionFlushListener getFlushListener() {
+        return flushListener;
+    }
+
+    public void setFlushListener(DbSqlSessionFlushListener flushListener) {
+        this.flushListener = flushListener;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+/**
+ * Listener that is notified after every {@link DbSqlSession#flush()}, e.g. to gather metrics about the size of the flushes.
+ * It is configured with {@link org.flowable.common.engine.impl.AbstractEngineConfiguration#setDbSqlSessionFlushListener(DbSqlSessionFlushListener)}
+ * and is also notified of flushes without any changes (e.g. of read-only commands), with all counts being 0.
+ * The listener is invoked on the thread that flushes, within the transaction of the command, so it should return quickly.
+ * An exception thrown by the listener rolls back the transaction of the command.
+ */
+public interface DbSqlSessionFlushListener {
+
+    /**
+     * @param insertCount the number of inserted entities
+     * @param updateCount the number of updated entities
+     * @param deleteCount the number of deleted entities and bulk delete statements
+     * @param durationInNanos the time it took to flush
+     */
+    void flushed(int insertCount, int updateCount, int deleteCount, long durationInNanos);
+
+}
@@ -34,6 +34,9 @@ public class ListQueryParameterObject {
 
     protected static final OrderBy DEFAULT_ORDER_BY = new OrderBy("RES.ID_", "asc", null);
 
+    // The column of the ids that is used for the keyset (cursor) paging
+    public static final String CURSOR_COLUMN = "RES.ID_";
+
     public static class OrderBy {
 
         protected final String columnName;
@@ -72,6 +75,8 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected String afterCursor;
+    protected boolean afterCursorDescending;
     
     public ListQueryParameterObject() {
         
@@ -266,6 +271,22 @@ public class ListQueryParameterObject {
         return databaseType;
     }
 
+    public String getAfterCursor() {
+        return afterCursor;
+    }
+
+    public void setAfterCursor(String afterCursor) {
+        this.afterCursor = afterCursor;
+    }
+
+    public boolean isAfterCursorDescending() {
+        return afterCursorDescending;
+    }
+
+    public void setAfterCursorDescending(boolean afterCursorDescending) {
+        this.afterCursorDescending = afterCursorDescending;
+    }
+
     public String getNullHandlingColumn() {
         return nullHandlingColumn;
     }
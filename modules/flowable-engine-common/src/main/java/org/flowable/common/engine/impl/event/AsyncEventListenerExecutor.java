@@ -0,0 +1,247 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the {@link AsyncFlowableEventListener}s on a dedicated pool of worker threads.
+ *
+ * Every worker has its own bounded queue. The events of the same process instance (or case instance) are always routed to the same worker,
+ * so the listeners receive them in the order in which they were dispatched. Other events are spread over the workers.
+ * What happens when the queue of a worker is full is determined by the {@link AsyncEventListenerOverflowPolicy}.
+ *
+ * The workers are started when the first event is executed and stopped with {@link #shutdown()}, which waits (at most the shutdown timeout)
+ * for the queued events to be delivered.
+ */
+public class AsyncEventListenerExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventListenerExecutor.class);
+
+    protected int numberOfWorkers = 4;
+    protected int queueCapacity = 1000;
+    protected AsyncEventListenerOverflowPolicy overflowPolicy = AsyncEventListenerOverflowPolicy.BLOCK;
+    protected long shutdownTimeoutInMillis = 10000L;
+    protected String threadNamingPattern = "flowable-async-event-listener-%d";
+
+    protected volatile ThreadPoolExecutor[] workers;
+    protected volatile boolean isShutdown;
+    protected final AtomicInteger nextWorker = new AtomicInteger();
+    protected final AtomicLong droppedEventCount = new AtomicLong();
+
+    public void execute(FlowableEventListener listener, FlowableEvent event) {
+        ThreadPoolExecutor[] currentWorkers = getWorkers();
+        if (currentWorkers == null) {
+            LOGGER.warn("Async event listener executor is shut down, event {} is not delivered to {}", event.getType(), listener);
+            droppedEventCount.incrementAndGet();
+            return;
+        }
+
+        currentWorkers[getWorkerIndex(event, currentWorkers.length)].execute(new AsyncEventListenerRunnable(listener, event));
+    }
+
+    protected int getWorkerIndex(FlowableEvent event, int numberOfWorkers) {
+        String orderingKey = getOrderingKey(event);
+        int hash = orderingKey != null ? orderingKey.hashCode() : nextWorker.getAndIncrement();
+        return (hash & Integer.MAX_VALUE) % numberOfWorkers;
+    }
+
+    /**
+     * @return the key of which all events are delivered in order, or null when the event can be delivered by any worker
+     */
+    protected String getOrderingKey(FlowableEvent event) {
+        if (event instanceof FlowableEngineEvent) {
+            FlowableEngineEvent engineEvent = (FlowableEngineEvent) event;
+            return engineEvent.getProcessInstanceId() != null ? engineEvent.getProcessInstanceId() : engineEvent.getScopeId();
+        }
+        return null;
+    }
+
+    protected ThreadPoolExecutor[] getWorkers() {
+        if (workers == null && !isShutdown) {
+            synchronized (this) {
+                if (workers == null && !isShutdown) {
+                    workers = createWorkers();
+                }
+            }
+        }
+        return isShutdown ? null : workers;
+    }
+
+    protected ThreadPoolExecutor[] createWorkers() {
+        BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(threadNamingPattern).daemon(true).build();
+        ThreadPoolExecutor[] newWorkers = new ThreadPoolExecutor[Math.max(1, numberOfWorkers)];
+        for (int i = 0; i < newWorkers.length; i++) {
+            // A single thread per worker, as that is what guarantees the ordering of the events
+            newWorkers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                    threadFactory, this::handleOverflow);
+        }
+        return newWorkers;
+    }
+
+    protected void handleOverflow(Runnable runnable, ThreadPoolExecutor worker) {
+        if (worker.isShutdown()) {
+            droppedEventCount.incrementAndGet();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    worker.getQueue().put(runnable);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropEvent(runnable);
+                }
+                break;
+            case CALLER_RUNS:
+                runnable.run();
+                break;
+            default:
+                dropEvent(runnable);
+        }
+    }
+
+    protected void dropEvent(Runnable runnable) {
+        droppedEventCount.incrementAndGet();
+        if (runnable instanceof AsyncEventListenerRunnable) {
+            AsyncEventListenerRunnable listenerRunnable = (AsyncEventListenerRunnable) runnable;
+            LOGGER.warn("Queue of async event listeners is full, event {} is not delivered to {}", listenerRunnable.event.getType(), listenerRunnable.listener);
+        }
+    }
+
+    public void shutdown() {
+        ThreadPoolExecutor[] currentWorkers;
+        synchronized (this) {
+            isShutdown = true;
+            currentWorkers = workers;
+            workers = null;
+        }
+
+        if (currentWorkers == null) {
+            return;
+        }
+
+        for (ThreadPoolExecutor worker : currentWorkers) {
+            worker.shutdown();
+        }
+
+        long deadline = System.currentTimeMillis() + shutdownTimeoutInMillis;
+        try {
+            for (ThreadPoolExecutor worker : currentWorkers) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 || !worker.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Timeout while waiting for the async event listeners to finish, {} queued events are not delivered", worker.getQueue().size());
+                    worker.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (ThreadPoolExecutor worker : currentWorkers) {
+                worker.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * @return the number of events that are waiting to be delivered
+     */
+    public int getQueuedEventCount() {
+        ThreadPoolExecutor[] currentWorkers = workers;
+        int count = 0;
+        if (currentWorkers != null) {
+            for (ThreadPoolExecutor worker : currentWorkers) {
+                count += worker.getQueue().size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of events that were not delivered because a queue was full or the executor was shut down
+     */
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    public int getNumberOfWorkers() {
+        return numberOfWorkers;
+    }
+
+    public void setNumberOfWorkers(int numberOfWorkers) {
+        this.numberOfWorkers = numberOfWorkers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public AsyncEventListenerOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(AsyncEventListenerOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public long getShutdownTimeoutInMillis() {
+        return shutdownTimeoutInMillis;
+    }
+
+    public void setShutdownTimeoutInMillis(long shutdownTimeoutInMillis) {
+        this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+    protected static class AsyncEventListenerRunnable implements Runnable {
+
+        protected final FlowableEventListener listener;
+        protected final FlowableEvent event;
+
+        public AsyncEventListenerRunnable(FlowableEventListener listener, FlowableEvent event) {
+            this.listener = listener;
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+            try {
+                listener.onEvent(event);
+            } catch (Throwable t) {
+                LOGGER.warn("Exception while executing async event-listener, which was ignored", t);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+/**
+ * What the {@link AsyncEventListenerExecutor} does with an event when the queue it's routed to is full.
+ */
+public enum AsyncEventListenerOverflowPolicy {
+
+    /**
+     * The thread that committed the transaction waits until there is room in the queue.
+     */
+    BLOCK,
+
+    /**
+     * The event is not delivered to the listener (which is logged and counted).
+     */
+    DROP,
+
+    /**
+     * The listener is executed by the thread that committed the transaction, which gives up the ordering of the events
+     * of the process or case instance in favour of not losing the event.
+     */
+    CALLER_RUNS
+
+}
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.util.Collection;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+
+/**
+ * Wraps a {@link FlowableEventListener} so that it is executed by the workers of an {@link AsyncEventListenerExecutor}
+ * after the transaction in which the event was dispatched is committed, instead of on the thread executing the command.
+ * Events of a transaction that is rolled back are never delivered.
+ *
+ * As the wrapped listener is executed outside of a command context (and after the transaction is committed),
+ * it should only use the data of the event or the public services of the engine. Exceptions thrown by it are logged.
+ */
+public class AsyncFlowableEventListener implements FlowableEventListener {
+
+    protected final FlowableEventListener delegate;
+    protected final AsyncEventListenerExecutor asyncEventListenerExecutor;
+
+    public AsyncFlowableEventListener(FlowableEventListener delegate, AsyncEventListenerExecutor asyncEventListenerExecutor) {
+        this.delegate = delegate;
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        // Called by the ExecuteEventListenerTransactionListener, once the transaction is committed
+        asyncEventListenerExecutor.execute(delegate, event);
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        // The transaction is already committed, so the exception can't influence it anymore
+        return false;
+    }
+
+    @Override
+    public boolean isFireOnTransactionLifecycleEvent() {
+        return true;
+    }
+
+    @Override
+    public String getOnTransaction() {
+        return TransactionState.COMMITTED.name();
+    }
+
+    @Override
+    public Collection<? extends FlowableEventType> getTypes() {
+        return delegate.getTypes();
+    }
+
+    public FlowableEventListener getDelegate() {
+        return delegate;
+    }
+
+    public AsyncEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // Makes sure the wrapper can be removed from the dispatcher using a new wrapper of the same listener
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        AsyncFlowableEventListener otherListener = (AsyncFlowableEventListener) other;
+        return delegate.equals(otherListener.delegate) && asyncEventListenerExecutor == otherListener.asyncEventListenerExecutor;
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+}
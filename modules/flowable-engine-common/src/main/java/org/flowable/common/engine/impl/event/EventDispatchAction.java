@@ -13,10 +13,18 @@
 package org.flowable.common.engine.impl.event;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 
 public interface EventDispatchAction {
     
     void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event); 
 
+    /**
+     * @return whether this action could dispatch an event of the given type to a listener, true when this is not known
+     */
+    default boolean hasListeners(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEventType type) {
+        return true;
+    }
+
 }
@@ -109,6 +109,18 @@ public class FlowableEventSupport {
         }
     }
 
+    /**
+     * @return true when there is a listener that will receive events of the given type
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        if (!eventListeners.isEmpty()) {
+            return true;
+        }
+
+        List<FlowableEventListener> typed = typedListeners.get(type);
+        return typed != null && !typed.isEmpty();
+    }
+
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
         if (listener.isFireOnTransactionLifecycleEvent()) {
             dispatchTransactionEventListener(event, listener);
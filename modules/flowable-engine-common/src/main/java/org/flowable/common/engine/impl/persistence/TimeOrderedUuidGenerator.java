@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+
+/**
+ * {@link IdGenerator} implementation generating version 7 UUIDs (as specified in RFC 9562), which start with the current time in milliseconds.
+ * Contrary to the {@link StrongUuidGenerator}, the generated ids sort in the order in which they were generated,
+ * so inserts into the primary key indexes of the tables are appended to the end of the index instead of landing on random pages.
+ *
+ * The 12 bits following the timestamp are used as a sequence within the same millisecond, which makes the ids strictly increasing
+ * within one JVM (also when the clock goes backwards). The remaining 62 bits come from a {@link SecureRandom}, like the ones of
+ * {@link UUID#randomUUID()}, which makes it safe to use the generator on multiple nodes of a cluster.
+ *
+ * The ids have the same format as the ids of the {@link StrongUuidGenerator}, so it can be used by any engine configuration.
+ */
+public class TimeOrderedUuidGenerator implements IdGenerator {
+
+    protected static final int SEQUENCE_BITS = 12;
+    protected static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // different engines on the same classloader share the state, to keep the ids increasing within the JVM
+    protected static final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    // A cryptographically strong generator, as nodes seeding a weaker generator similarly could generate the same random bits
+    protected static final SecureRandom numberGenerator = new SecureRandom();
+
+    @Override
+    public String getNextId() {
+        return generate().toString();
+    }
+
+    public UUID generate() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & SEQUENCE_MASK;
+
+        long mostSignificantBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSignificantBits = (numberGenerator.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    protected long nextTimestampAndSequence() {
+        long currentTimestamp = getCurrentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long lastValue = lastTimestampAndSequence.get();
+
+            // When the sequence of the millisecond is exhausted (or the clock went back), the timestamp of the last id is advanced instead
+            long nextValue = currentTimestamp > lastValue ? currentTimestamp : lastValue + 1;
+            if (lastTimestampAndSequence.compareAndSet(lastValue, nextValue)) {
+                return nextValue;
+            }
+        }
+    }
+
+    protected long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -40,6 +41,11 @@ public class CachedEntity {
         } else if (entity.getOriginalPersistentState() == null){
             entity.setOriginalPersistentState(new HashMap<>(1));
         }
+
+        if (entity instanceof DirtyTrackingEntity) {
+            // When the state is stored, the entity is unchanged from this point on. Otherwise it's always seen as changed.
+            ((DirtyTrackingEntity) entity).setDirty(!storeState);
+        }
     }
 
     public Entity getEntity() {
@@ -58,9 +64,19 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    /**
+     * Returns false without comparing the persistent state for a {@link DirtyTrackingEntity} that hasn't been marked as dirty.
+     */
+    public boolean hasChanged(boolean useDirtyTracking) {
+        if (useDirtyTracking && entity instanceof DirtyTrackingEntity && !((DirtyTrackingEntity) entity).isDirty()) {
+            return false;
+        }
+        return hasChanged();
+    }
+
     public boolean hasChanged() {
         Object currentPersistentState = entity.getPersistentState();
-        return currentPersistentState != null && !entity.getPersistentState().equals(originalPersistentState)
+        return currentPersistentState != null && !currentPersistentState.equals(originalPersistentState)
                 || currentPersistentState == null && originalPersistentState != null;
     }
 
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.CacheIndexedEntity;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A secondary index of the {@link EntityCache}, which groups the cached entities of a type by a key derived from the entity
+ * (e.g. the parent id of an execution). Instances are compared by identity, so an index is typically defined once as a constant
+ * and shared by the {@link IndexedCachedEntityMatcher} instances using it.
+ *
+ * Entities with a null key are not indexed. When the key of a cached entity can change, the entity must implement
+ * {@link CacheIndexedEntity} and call {@link #keyChanged(CacheIndexedEntity)} when it does.
+ */
+public class CachedEntityIndex<EntityImpl extends Entity> {
+
+    protected final String name;
+    protected final Function<EntityImpl, Object> keyProvider;
+
+    public CachedEntityIndex(String name, Function<EntityImpl, Object> keyProvider) {
+        this.name = name;
+        this.keyProvider = keyProvider;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Object getKey(Entity entity) {
+        return keyProvider.apply((EntityImpl) entity);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Updates the indexes of the current {@link EntityCache} for the given entity, if it has been added to an index before.
+     */
+    public static void keyChanged(CacheIndexedEntity entity) {
+        if (entity.isCacheIndexed()) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null) {
+                commandContext.getSession(EntityCache.class).updateIndexes(entity);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachedEntityIndex[" + name + "]";
+    }
+}
@@ -59,6 +59,17 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances of the given type with the given key for the {@link CachedEntityIndex}.
+     * The index is built when it's used for the first time and is maintained from then on. Returns null if no instances of the given type exist.
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, CachedEntityIndex<?> index, Object key);
+
+    /**
+     * Updates the position of the given cached {@link Entity} in the indexes of its type, after a property used as index key has changed.
+     */
+    void updateIndexes(Entity entity);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
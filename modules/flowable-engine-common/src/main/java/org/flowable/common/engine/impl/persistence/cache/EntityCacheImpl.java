@@ -16,9 +16,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.entity.CacheIndexedEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -28,6 +30,11 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * The secondary indexes per entity type: { entityClass, { index, indexedEntities } }. Only contains the indexes that have been used in a lookup.
+     */
+    protected Map<Class<?>, Map<CachedEntityIndex<?>, IndexedEntities>> cachedObjectIndexes = new HashMap<>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -37,6 +44,14 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (Map.Entry<CachedEntityIndex<?>, IndexedEntities> indexEntry : classIndexes.entrySet()) {
+                indexEntry.getValue().add(indexEntry.getKey(), cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
@@ -77,6 +92,13 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (IndexedEntities indexedEntities : classIndexes.values()) {
+                indexedEntities.remove(entityId);
+            }
+        }
     }
 
     @Override
@@ -88,6 +110,48 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, CachedEntityIndex<?> index, Object key) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<>();
+            cachedObjectIndexes.put(entityClass, classIndexes);
+        }
+
+        IndexedEntities indexedEntities = classIndexes.get(index);
+        if (indexedEntities == null) {
+            indexedEntities = new IndexedEntities();
+            for (CachedEntity cachedObject : classCache.values()) {
+                indexedEntities.add(index, cachedObject);
+            }
+            classIndexes.put(index, indexedEntities);
+        }
+
+        return indexedEntities.get(key);
+    }
+
+    @Override
+    public void updateIndexes(Entity entity) {
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        // Only the entity instance that is cached is indexed, not e.g. a stale copy from a previous command
+        Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
+        CachedEntity cachedObject = classCache != null ? classCache.get(entity.getId()) : null;
+        if (cachedObject != null && cachedObject.getEntity() == entity) {
+            for (Map.Entry<CachedEntityIndex<?>, IndexedEntities> indexEntry : classIndexes.entrySet()) {
+                indexEntry.getValue().add(indexEntry.getKey(), cachedObject);
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
@@ -122,4 +186,44 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    /**
+     * The cached entities of one type grouped by their key for one {@link CachedEntityIndex}.
+     */
+    protected static class IndexedEntities {
+
+        protected Map<Object, Map<String, CachedEntity>> entitiesByKey = new HashMap<>();
+        protected Map<String, Object> keysByEntityId = new HashMap<>();
+
+        public void add(CachedEntityIndex<?> index, CachedEntity cachedObject) {
+            Entity entity = cachedObject.getEntity();
+            remove(entity.getId());
+
+            Object key = index.getKey(entity);
+            if (key != null) {
+                entitiesByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(entity.getId(), cachedObject);
+                keysByEntityId.put(entity.getId(), key);
+
+                if (entity instanceof CacheIndexedEntity) {
+                    ((CacheIndexedEntity) entity).setCacheIndexed(true);
+                }
+            }
+        }
+
+        public void remove(String entityId) {
+            Object key = keysByEntityId.remove(entityId);
+            if (key != null) {
+                Map<String, CachedEntity> entities = entitiesByKey.get(key);
+                entities.remove(entityId);
+                if (entities.isEmpty()) {
+                    entitiesByKey.remove(key);
+                }
+            }
+        }
+
+        public Collection<CachedEntity> get(Object key) {
+            Map<String, CachedEntity> entities = entitiesByKey.get(key);
+            return entities != null ? entities.values() : Collections.<CachedEntity>emptyList();
+        }
+    }
 }
@@ -0,0 +1,301 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deployment cache that doesn't take a global lock for reading, intended for caches that are read on every command by many threads.
+ *
+ * The cache can be bounded by the number of entries, by the total weight of the entries (see {@link DeploymentCacheWeigher})
+ * or both. When a bound is exceeded, the least recently accessed entry out of a sample of entries is evicted, which avoids
+ * ordering the whole cache on every addition. Consecutive samples sweep over the cache, so every entry is eventually considered.
+ * Entries can optionally expire when they haven't been accessed for a given duration: expired entries are removed when they are
+ * read, and the whole cache is scanned for them at most once per expiration duration. Hit, miss and eviction counts are kept for monitoring.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final int DEFAULT_EVICTION_SAMPLE_SIZE = 16;
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected final int limit;
+    protected final long weightLimit;
+    protected final DeploymentCacheWeigher<T> weigher;
+    protected final long expireAfterAccessNanos;
+
+    protected final AtomicLong totalWeight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    protected int evictionSampleSize = DEFAULT_EVICTION_SAMPLE_SIZE;
+    protected volatile long nextExpirationScanTime;
+
+    // Only accessed when holding the eviction lock
+    protected Iterator<Map.Entry<String, CacheEntry<T>>> evictionIterator;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, -1, null, null);
+    }
+
+    /**
+     * @param limit the maximum number of entries, no limit when zero or negative
+     * @param weightLimit the maximum total weight of the entries as calculated by the weigher, no limit when zero or negative
+     * @param weigher the weigher for the entries, every entry has weight 1 when null
+     * @param expireAfterAccess entries not accessed within this duration are removed, entries never expire when null
+     */
+    public ConcurrentDeploymentCache(int limit, long weightLimit, DeploymentCacheWeigher<T> weigher, Duration expireAfterAccess) {
+        this.limit = limit;
+        this.weightLimit = weightLimit;
+        this.weigher = weigher;
+        this.expireAfterAccessNanos = expireAfterAccess != null ? expireAfterAccess.toNanos() : -1L;
+        this.nextExpirationScanTime = System.nanoTime() + expireAfterAccessNanos;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (isExpired(entry, now)) {
+            evict(id, entry);
+            missCount.increment();
+            return null;
+        }
+
+        entry.lastAccessTime = now;
+        hitCount.increment();
+        return entry.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        return entry != null && !isExpired(entry, System.nanoTime());
+    }
+
+    @Override
+    public void add(String id, T object) {
+        int weight = weigher != null ? weigher.weigh(id, object) : 1;
+        CacheEntry<T> entry = new CacheEntry<>(object, weight, System.nanoTime());
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        totalWeight.addAndGet(previousEntry != null ? weight - previousEntry.weight : weight);
+
+        if (isLimitExceeded() || isExpirationScanDue(System.nanoTime())) {
+            evictEntries();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            totalWeight.addAndGet(-entry.weight);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (String id : cache.keySet()) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    protected boolean isExpired(CacheEntry<T> entry, long now) {
+        return expireAfterAccessNanos > 0 && now - entry.lastAccessTime > expireAfterAccessNanos;
+    }
+
+    protected boolean isExpirationScanDue(long now) {
+        return expireAfterAccessNanos > 0 && now - nextExpirationScanTime >= 0;
+    }
+
+    protected boolean isLimitExceeded() {
+        return (limit > 0 && cache.size() > limit) || (weightLimit > 0 && totalWeight.get() > weightLimit);
+    }
+
+    /**
+     * Evicts the expired entries when a scan for them is due, and then sampled least recently accessed entries,
+     * until the cache is within its limits again. Only one thread evicts at a time, readers are never blocked.
+     */
+    protected void evictEntries() {
+        evictionLock.lock();
+        try {
+            long now = System.nanoTime();
+            if (isExpirationScanDue(now)) {
+                evictExpiredEntries(now);
+                nextExpirationScanTime = now + expireAfterAccessNanos;
+            }
+
+            // The most recently accessed entry is always kept, even when it exceeds the weight limit on its own
+            while (isLimitExceeded() && cache.size() > 1) {
+                Map.Entry<String, CacheEntry<T>> candidate = sampleLeastRecentlyAccessedEntry();
+                if (candidate == null) {
+                    break;
+                }
+
+                if (evict(candidate.getKey(), candidate.getValue()) && LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Cache limit is reached, {} was evicted", candidate.getKey());
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected void evictExpiredEntries(long now) {
+        for (Map.Entry<String, CacheEntry<T>> entry : cache.entrySet()) {
+            if (isExpired(entry.getValue(), now) && evict(entry.getKey(), entry.getValue()) && LOGGER.isTraceEnabled()) {
+                LOGGER.trace("{} was not accessed within the expiration duration and was evicted", entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Returns the least recently accessed entry out of the next entries of the eviction sweep.
+     * When the cache has no more entries than the sample size, this is the least recently accessed entry of the cache.
+     */
+    protected Map.Entry<String, CacheEntry<T>> sampleLeastRecentlyAccessedEntry() {
+        Map.Entry<String, CacheEntry<T>> leastRecentlyAccessedEntry = null;
+        long leastRecentAccessTime = 0L;
+
+        int sampleSize = Math.min(Math.max(evictionSampleSize, 1), cache.size());
+        for (int i = 0; i < sampleSize; i++) {
+            if (evictionIterator == null || !evictionIterator.hasNext()) {
+                // The iterator of a concurrent map never fails on concurrent modifications, it's restarted when the end is reached
+                evictionIterator = cache.entrySet().iterator();
+                if (!evictionIterator.hasNext()) {
+                    break;
+                }
+            }
+
+            Map.Entry<String, CacheEntry<T>> entry = evictionIterator.next();
+            long lastAccessTime = entry.getValue().lastAccessTime;
+            if (leastRecentlyAccessedEntry == null || lastAccessTime - leastRecentAccessTime < 0) {
+                leastRecentlyAccessedEntry = entry;
+                leastRecentAccessTime = lastAccessTime;
+            }
+        }
+        return leastRecentlyAccessedEntry;
+    }
+
+    protected boolean evict(String id, CacheEntry<T> entry) {
+        if (cache.remove(id, entry)) {
+            totalWeight.addAndGet(-entry.weight);
+            evictionCount.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // statistics
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getWeightLimit() {
+        return weightLimit;
+    }
+
+    public int getEvictionSampleSize() {
+        return evictionSampleSize;
+    }
+
+    /**
+     * The number of entries out of which the least recently accessed one is evicted. A larger sample approaches
+     * exact least recently used eviction, at the cost of more work per eviction.
+     */
+    public void setEvictionSampleSize(int evictionSampleSize) {
+        this.evictionSampleSize = evictionSampleSize;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T value;
+        protected final int weight;
+        protected volatile long lastAccessTime;
+
+        public CacheEntry(T value, int weight, long lastAccessTime) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+}
@@ -63,8 +63,10 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity, DM extend
     protected void fireEntityInsertedEvent(Entity entity) {
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity), engineType);
-            eventDispatcher.dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity), engineType);
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity), engineType);
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                    () -> createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity), engineType);
         }
     }
 
@@ -85,7 +87,8 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity, DM extend
     protected void fireEntityUpdatedEvent(Entity entity) {
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            getEventDispatcher().dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity), engineType);
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_UPDATED,
+                    () -> createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity), engineType);
         }
     }
 
@@ -113,7 +116,8 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity, DM extend
     protected void fireEntityDeletedEvent(Entity entity) {
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity), engineType);
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity), engineType);
         }
     }
 
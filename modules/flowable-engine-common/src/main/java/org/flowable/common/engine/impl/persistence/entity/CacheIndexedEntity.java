@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+
+/**
+ * An {@link Entity} of which properties used as key of a {@link CachedEntityIndex} can change while the entity is cached.
+ *
+ * The {@link EntityCache} marks the entity as indexed when it's added to an index.
+ * Implementations must call {@link CachedEntityIndex#keyChanged(CacheIndexedEntity)} in the setters of those properties,
+ * otherwise lookups through the index would miss the entity.
+ */
+public interface CacheIndexedEntity extends Entity {
+
+    boolean isCacheIndexed();
+
+    void setCacheIndexed(boolean isCacheIndexed);
+
+}
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.CursorPagingQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
@@ -91,10 +92,43 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return (T) this;
     }
 
+    /**
+     * Keyset (cursor) paging, see {@link CursorPagingQuery}.
+     * Only supported by the queries implementing {@link CursorPagingQuery}, which take the cursor into account in their sql.
+     */
+    @SuppressWarnings("unchecked")
+    public T afterCursor(String cursor) {
+        this.afterCursor = cursor;
+        return (T) this;
+    }
+
     protected void checkQueryOk() {
         if (orderProperty != null) {
             throw new FlowableIllegalArgumentException("Invalid query: call asc() or desc() after using orderByXX()");
         }
+
+        if (afterCursor != null) {
+            checkCursorOrderOk();
+        }
+    }
+
+    protected void checkCursorOrderOk() {
+        afterCursorDescending = false;
+        if (orderByCollection != null) {
+            for (OrderBy orderBy : orderByCollection) {
+                if (!isCursorOrderColumn(orderBy.getColumnName()) || orderBy.getNullHandlingOnOrder() != null) {
+                    throw new FlowableIllegalArgumentException("Invalid query: the results can only be ordered by id when using a cursor");
+                }
+                afterCursorDescending = SORTORDER_DESC.equals(orderBy.getDirection());
+            }
+        }
+    }
+
+    /**
+     * @return whether ordering on the given column is the same as ordering on the ids used as cursor.
+     */
+    protected boolean isCursorOrderColumn(String columnName) {
+        return CURSOR_COLUMN.equals(columnName);
     }
 
     @Override
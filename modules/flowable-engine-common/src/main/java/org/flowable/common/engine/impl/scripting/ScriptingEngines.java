@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -25,6 +27,7 @@ import javax.script.ScriptException;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -37,12 +40,23 @@ public class ScriptingEngines {
     public static final String DEFAULT_SCRIPTING_LANGUAGE = "juel";
     public static final String GROOVY_SCRIPTING_LANGUAGE = "groovy";
 
+    public static final int DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT = 1000;
+
     private final ScriptEngineManager scriptEngineManager;
     protected ScriptBindingsFactory scriptBindingsFactory;
 
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * When enabled, the scripts of cached engines implementing {@link Compilable} are compiled once and kept in a cache
+     * (keyed by language and script text), instead of being parsed and compiled again on every evaluation.
+     * Disabled by default, as some engines (e.g. Groovy) wrap the exceptions of compiled scripts differently,
+     * which changes the message of the exceptions thrown by failing scripts.
+     */
+    protected boolean cacheCompiledScripts;
+    protected ConcurrentDeploymentCache<CompiledScript> compiledScriptCache = new ConcurrentDeploymentCache<>(DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT);
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -82,8 +96,30 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+    }
+
+    public ConcurrentDeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    /**
+     * Replaces the compiled script cache by an empty cache holding at most the given number of scripts (no limit when zero or negative).
+     */
+    public void setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCache = new ConcurrentDeploymentCache<>(compiledScriptCacheLimit);
+    }
+
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
+        if (isCompiledScriptCacheable(language, scriptEngine)) {
+            return evaluate(getCompiledScript(language, script, (Compilable) scriptEngine), bindings);
+        }
         return evaluate(scriptEngine, script, bindings);
     }
 
@@ -91,12 +127,49 @@ public class ScriptingEngines {
         try {
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
-            Throwable rootCause = ExceptionUtils.getRootCause(e);
-            if (rootCause instanceof FlowableException) {
-                throw (FlowableException) rootCause;
+            throw convertScriptException(e);
+        }
+    }
+
+    protected Object evaluate(CompiledScript compiledScript, Bindings bindings) {
+        try {
+            return compiledScript.eval(bindings);
+        } catch (ScriptException e) {
+            throw convertScriptException(e);
+        }
+    }
+
+    protected FlowableException convertScriptException(ScriptException e) {
+        Throwable rootCause = ExceptionUtils.getRootCause(e);
+        if (rootCause instanceof FlowableException) {
+            return (FlowableException) rootCause;
+        }
+        return new FlowableException("problem evaluating script: " + e.getMessage(), e);
+    }
+
+    /**
+     * Only the scripts of cached engines are cached, as a compiled script is bound to the engine instance that compiled it.
+     * JUEL scripts are excluded, as the JUEL engine maps the variables of the script context at parse time.
+     */
+    protected boolean isCompiledScriptCacheable(String language, ScriptEngine scriptEngine) {
+        return cacheCompiledScripts && compiledScriptCache != null
+                && scriptEngine instanceof Compilable
+                && !DEFAULT_SCRIPTING_LANGUAGE.equals(language)
+                && cachedEngines.get(language) == scriptEngine;
+    }
+
+    protected CompiledScript getCompiledScript(String language, String script, Compilable scriptEngine) {
+        String cacheKey = language + ":" + script;
+        CompiledScript compiledScript = compiledScriptCache.get(cacheKey);
+        if (compiledScript == null) {
+            try {
+                compiledScript = scriptEngine.compile(script);
+            } catch (ScriptException e) {
+                throw convertScriptException(e);
             }
-            throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
+            compiledScriptCache.add(cacheKey, compiledScript);
         }
+        return compiledScript;
     }
 
     protected ScriptEngine getEngineByName(String language) {
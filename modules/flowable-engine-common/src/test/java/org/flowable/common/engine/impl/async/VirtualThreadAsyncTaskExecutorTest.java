@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadAsyncTaskExecutorTest {
+
+    protected VirtualThreadAsyncTaskExecutor executor;
+
+    @AfterEach
+    void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void concurrencyIsLimited() throws Exception {
+        executor = new VirtualThreadAsyncTaskExecutor();
+        executor.setMaxConcurrency(2);
+        executor.setThreadFactory(Thread::new);
+        executor.start();
+
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CompletableFuture<?> first = executor.submit(() -> await(blockingLatch));
+        CompletableFuture<String> second = executor.submit(() -> {
+            await(blockingLatch);
+            return "second";
+        });
+
+        assertThat(executor.getRemainingCapacity()).isZero();
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> executor.submit(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        blockingLatch.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("second");
+
+        executor.shutdown();
+        assertThat(executor.getRemainingCapacity()).isZero();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void failingTaskReleasesPermit() throws Exception {
+        executor = new VirtualThreadAsyncTaskExecutor();
+        executor.setMaxConcurrency(1);
+        executor.setThreadFactory(Thread::new);
+        executor.start();
+
+        CompletableFuture<Object> future = executor.submit(() -> {
+            throw new FlowableException("failure");
+        });
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(FlowableException.class);
+        executor.submit(() -> "next").get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void tasksAreExecutedInVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreadAsyncTaskExecutor.isVirtualThreadsSupported(), "Virtual threads are not supported by the current Java runtime");
+
+        executor = new VirtualThreadAsyncTaskExecutor();
+        executor.setThreadNamePrefix("virtual-test-");
+        executor.start();
+
+        Boolean isVirtual = executor.submit(() -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+                .get(10, TimeUnit.SECONDS);
+        assertThat(isVirtual).isTrue();
+        assertThat(executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS)).startsWith("virtual-test-");
+    }
+
+    protected void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Statement;
+import java.util.Collections;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntityNoRevision;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DbSqlSessionBatchResultsTest {
+
+    protected DbSqlSessionFactory dbSqlSessionFactory;
+    protected DbSqlSession dbSqlSession;
+
+    @BeforeEach
+    void createSession() {
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), new UnpooledDataSource()));
+        dbSqlSessionFactory = new DbSqlSessionFactory(false);
+        dbSqlSessionFactory.setSqlSessionFactory(new DefaultSqlSessionFactory(configuration));
+        dbSqlSession = new DbSqlSession(dbSqlSessionFactory, new EntityCacheImpl());
+    }
+
+    @AfterEach
+    void closeSession() {
+        dbSqlSession.close();
+    }
+
+    @Test
+    void updateCountsAreVerified() {
+        dbSqlSession.verifyBatchResults("updateRevisionEntity", Collections.singletonList(createBatchResult(new RevisionEntity(), 1)), true);
+
+        assertThatThrownBy(() -> dbSqlSession.verifyBatchResults("updateRevisionEntity", Collections.singletonList(createBatchResult(new RevisionEntity(), 0)), true))
+                .isExactlyInstanceOf(FlowableOptimisticLockingException.class);
+    }
+
+    @Test
+    void updateCountsOfEntitiesWithoutRevisionAreOnlyVerifiedWhenCheckingAll() {
+        dbSqlSession.verifyBatchResults("deleteNoRevisionEntity", Collections.singletonList(createBatchResult(new NoRevisionEntity(), 0)), false);
+        dbSqlSession.verifyBatchResults("deleteNoRevisionEntity",
+                Collections.singletonList(createBatchResult(new NoRevisionEntity(), Statement.SUCCESS_NO_INFO)), false);
+        assertThat(dbSqlSessionFactory.isBatchUpdateCountsUnavailable()).isFalse();
+
+        assertThatThrownBy(() -> dbSqlSession.verifyBatchResults("updateNoRevisionEntity",
+                Collections.singletonList(createBatchResult(new NoRevisionEntity(), 0)), true))
+                .isExactlyInstanceOf(FlowableOptimisticLockingException.class);
+    }
+
+    @Test
+    void missingUpdateCountsRollBackAndDisableBatching() {
+        assertThatThrownBy(() -> dbSqlSession.verifyBatchResults("deleteRevisionEntity",
+                Collections.singletonList(createBatchResult(new RevisionEntity(), Statement.SUCCESS_NO_INFO)), false))
+                .isExactlyInstanceOf(FlowableOptimisticLockingException.class);
+        assertThat(dbSqlSessionFactory.isBatchUpdateCountsUnavailable()).isTrue();
+
+        // Flushes that were already batching when the flag flipped are rolled back as well
+        assertThatThrownBy(() -> dbSqlSession.verifyBatchResults("updateNoRevisionEntity",
+                Collections.singletonList(createBatchResult(new NoRevisionEntity(), Statement.SUCCESS_NO_INFO)), true))
+                .isExactlyInstanceOf(FlowableOptimisticLockingException.class);
+    }
+
+    protected BatchResult createBatchResult(Object parameterObject, int updateCount) {
+        BatchResult batchResult = new BatchResult(null, "update", parameterObject);
+        batchResult.setUpdateCounts(new int[] { updateCount });
+        return batchResult;
+    }
+
+    static class RevisionEntity extends AbstractEntity {
+
+        @Override
+        public Object getPersistentState() {
+            return null;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "TEST-";
+        }
+    }
+
+    static class NoRevisionEntity extends AbstractEntityNoRevision {
+
+        @Override
+        public Object getPersistentState() {
+            return null;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "TEST-";
+        }
+    }
+
+}
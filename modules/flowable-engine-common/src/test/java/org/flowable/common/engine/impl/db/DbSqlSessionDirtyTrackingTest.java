@@ -0,0 +1,191 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies the entity dirty tracking when determining the updated entities at flush time,
+ * and contains a small microbenchmark comparing it with the persistent state comparison.
+ */
+class DbSqlSessionDirtyTrackingTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbSqlSessionDirtyTrackingTest.class);
+
+    protected DbSqlSession dbSqlSession;
+
+    @AfterEach
+    void closeSession() {
+        if (dbSqlSession != null) {
+            dbSqlSession.close();
+        }
+    }
+
+    @Test
+    void unchangedEntitiesAreSkippedWithDirtyTracking() {
+        dbSqlSession = createDbSqlSession(true);
+        TestEntity unchanged = loadEntity("unchanged");
+        TestEntity changed = loadEntity("changed");
+        changed.setName("changed name");
+        TestEntity changedBackToOriginal = loadEntity("changedBack");
+        changedBackToOriginal.setName("other");
+        changedBackToOriginal.setName("changedBack");
+        TestEntity.persistentStateCalls = 0;
+
+        dbSqlSession.determineUpdatedObjects();
+
+        assertThat(dbSqlSession.updatedObjects).containsExactly(changed);
+        assertThat(unchanged.isDirty()).isFalse();
+        // Only the dirty entities have their persistent state calculated
+        assertThat(TestEntity.persistentStateCalls).isEqualTo(2);
+    }
+
+    @Test
+    void allEntitiesAreComparedWithoutDirtyTracking() {
+        dbSqlSession = createDbSqlSession(false);
+        loadEntity("unchanged");
+        TestEntity changed = loadEntity("changed");
+        changed.setName("changed name");
+        TestEntity.persistentStateCalls = 0;
+
+        dbSqlSession.determineUpdatedObjects();
+
+        assertThat(dbSqlSession.updatedObjects).containsExactly(changed);
+        assertThat(TestEntity.persistentStateCalls).isEqualTo(2);
+    }
+
+    @Test
+    void updatedEntitiesAreAlwaysDirty() {
+        dbSqlSession = createDbSqlSession(true);
+        TestEntity entity = loadEntity("entity");
+        dbSqlSession.update(entity);
+
+        dbSqlSession.determineUpdatedObjects();
+
+        assertThat(dbSqlSession.updatedObjects).containsExactly(entity);
+    }
+
+    /**
+     * Timing only, it doesn't verify more than the tests above. Run it with -Dflowable.test.benchmarks=true.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "flowable.test.benchmarks", matches = "true")
+    void determineUpdatedObjectsMicrobenchmark() {
+        int nrOfEntities = 1000;
+        int nrOfIterations = 500;
+
+        long persistentStateTime = benchmarkDetermineUpdatedObjects(false, nrOfEntities, nrOfIterations);
+        long dirtyTrackingTime = benchmarkDetermineUpdatedObjects(true, nrOfEntities, nrOfIterations);
+
+        LOGGER.info("determineUpdatedObjects for {} cached entities with 1 change, {} iterations: persistent state comparison {}ms, dirty tracking {}ms",
+                nrOfEntities, nrOfIterations, persistentStateTime / 1_000_000, dirtyTrackingTime / 1_000_000);
+    }
+
+    protected long benchmarkDetermineUpdatedObjects(boolean useDirtyTracking, int nrOfEntities, int nrOfIterations) {
+        dbSqlSession = createDbSqlSession(useDirtyTracking);
+        for (int i = 0; i < nrOfEntities; i++) {
+            loadEntity("entity" + i);
+        }
+        dbSqlSession.entityCache.findInCache(TestEntity.class, "entity0").setName("changed");
+
+        // warm up
+        for (int i = 0; i < nrOfIterations; i++) {
+            dbSqlSession.determineUpdatedObjects();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < nrOfIterations; i++) {
+            dbSqlSession.determineUpdatedObjects();
+        }
+        long duration = System.nanoTime() - start;
+
+        assertThat(dbSqlSession.updatedObjects).hasSize(1);
+        dbSqlSession.close();
+        dbSqlSession = null;
+        return duration;
+    }
+
+    protected TestEntity loadEntity(String id) {
+        TestEntity entity = new TestEntity();
+        entity.setId(id);
+        entity.setName(id);
+        dbSqlSession.entityCache.put(entity, true);
+        return entity;
+    }
+
+    protected DbSqlSession createDbSqlSession(boolean useDirtyTracking) {
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), new UnpooledDataSource()));
+        DbSqlSessionFactory dbSqlSessionFactory = new DbSqlSessionFactory(false);
+        dbSqlSessionFactory.setSqlSessionFactory(new DefaultSqlSessionFactory(configuration));
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(useDirtyTracking);
+        return new DbSqlSession(dbSqlSessionFactory, new EntityCacheImpl());
+    }
+
+    static class TestEntity extends AbstractEntity implements DirtyTrackingEntity {
+
+        static int persistentStateCalls;
+
+        protected String name;
+        protected boolean isDirty;
+
+        @Override
+        public Object getPersistentState() {
+            persistentStateCalls++;
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("name", name);
+            return persistentState;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "TEST-";
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            this.isDirty = true;
+        }
+
+        @Override
+        public boolean isDirty() {
+            return isDirty;
+        }
+
+        @Override
+        public void setDirty(boolean isDirty) {
+            this.isDirty = isDirty;
+        }
+    }
+
+}
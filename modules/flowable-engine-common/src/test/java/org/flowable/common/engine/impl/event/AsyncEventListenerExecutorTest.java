@@ -0,0 +1,229 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventListenerExecutorTest {
+
+    protected AsyncEventListenerExecutor executor = new AsyncEventListenerExecutor();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    void eventsOfSameProcessInstanceAreDeliveredInOrder() throws Exception {
+        executor.setNumberOfWorkers(3);
+        executor.setQueueCapacity(1000);
+
+        int numberOfEvents = 500;
+        CountDownLatch latch = new CountDownLatch(numberOfEvents);
+        Map<String, List<String>> receivedExecutionIds = Collections.synchronizedMap(new HashMap<>());
+        List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        RecordingEventListener listener = new RecordingEventListener(event -> {
+            FlowableEngineEvent engineEvent = (FlowableEngineEvent) event;
+            receivedExecutionIds.computeIfAbsent(engineEvent.getProcessInstanceId(), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(engineEvent.getExecutionId());
+            threadNames.add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        for (int i = 0; i < numberOfEvents; i++) {
+            executor.execute(listener, new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, String.valueOf(i), "pi" + (i % 7), "pd"));
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(receivedExecutionIds).hasSize(7);
+        for (List<String> executionIds : receivedExecutionIds.values()) {
+            assertThat(executionIds).isSortedAccordingTo((first, second) -> Integer.compare(Integer.parseInt(first), Integer.parseInt(second)));
+        }
+        assertThat(threadNames).allMatch(name -> name.startsWith("flowable-async-event-listener-"));
+        assertThat(executor.getDroppedEventCount()).isZero();
+    }
+
+    @Test
+    void dropPolicyDropsEventsWhenQueueIsFull() throws Exception {
+        executor.setNumberOfWorkers(1);
+        executor.setQueueCapacity(1);
+        executor.setOverflowPolicy(AsyncEventListenerOverflowPolicy.DROP);
+
+        CountDownLatch blockWorker = new CountDownLatch(1);
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        List<FlowableEvent> receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        RecordingEventListener listener = new RecordingEventListener(event -> {
+            workerStarted.countDown();
+            awaitQuietly(blockWorker);
+            receivedEvents.add(event);
+        });
+
+        FlowableEngineEventImpl first = new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "1", "pi", "pd");
+        FlowableEngineEventImpl second = new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "2", "pi", "pd");
+        FlowableEngineEventImpl third = new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "3", "pi", "pd");
+
+        executor.execute(listener, first);
+        assertThat(workerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.execute(listener, second);
+        executor.execute(listener, third);
+
+        assertThat(executor.getQueuedEventCount()).isEqualTo(1);
+        assertThat(executor.getDroppedEventCount()).isEqualTo(1);
+
+        blockWorker.countDown();
+        executor.shutdown();
+        assertThat(receivedEvents).containsExactly(first, second);
+    }
+
+    @Test
+    void callerRunsPolicyExecutesListenerOnCallingThreadWhenQueueIsFull() throws Exception {
+        executor.setNumberOfWorkers(1);
+        executor.setQueueCapacity(1);
+        executor.setOverflowPolicy(AsyncEventListenerOverflowPolicy.CALLER_RUNS);
+
+        CountDownLatch blockWorker = new CountDownLatch(1);
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        Map<String, String> threadNamePerExecution = Collections.synchronizedMap(new HashMap<>());
+        RecordingEventListener listener = new RecordingEventListener(event -> {
+            threadNamePerExecution.put(((FlowableEngineEvent) event).getExecutionId(), Thread.currentThread().getName());
+            if (workerStarted.getCount() > 0) {
+                workerStarted.countDown();
+                awaitQuietly(blockWorker);
+            }
+        });
+
+        executor.execute(listener, new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "1", "pi", "pd"));
+        assertThat(workerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.execute(listener, new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "2", "pi", "pd"));
+        executor.execute(listener, new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "3", "pi", "pd"));
+
+        assertThat(threadNamePerExecution.get("3")).isEqualTo(Thread.currentThread().getName());
+
+        blockWorker.countDown();
+        executor.shutdown();
+        assertThat(threadNamePerExecution).containsOnlyKeys("1", "2", "3");
+        assertThat(executor.getDroppedEventCount()).isZero();
+    }
+
+    @Test
+    void asyncListenerIsOnlyExecutedAfterCommit() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<FlowableEvent> receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        RecordingEventListener listener = new RecordingEventListener(event -> {
+            receivedEvents.add(event);
+            latch.countDown();
+        });
+
+        FlowableEventSupport eventSupport = new FlowableEventSupport();
+        eventSupport.addEventListener(new AsyncFlowableEventListener(listener, executor));
+
+        TestTransactionContext transactionContext = new TestTransactionContext();
+        FlowableEngineEventImpl event = new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "1", "pi", "pd");
+        try {
+            Context.setTransactionContext(transactionContext);
+            eventSupport.dispatchEvent(event);
+        } finally {
+            Context.removeTransactionContext();
+        }
+
+        assertThat(receivedEvents).isEmpty();
+        assertThat(transactionContext.transactionListeners).containsOnlyKeys(TransactionState.COMMITTED);
+
+        transactionContext.commit();
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(receivedEvents).containsExactly(event);
+
+        // Removing a new wrapper of the same listener removes the registered one
+        eventSupport.removeEventListener(new AsyncFlowableEventListener(listener, executor));
+        assertThat(eventSupport.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+    }
+
+    @Test
+    void eventsAreDroppedAfterShutdown() {
+        executor.shutdown();
+
+        RecordingEventListener listener = new RecordingEventListener(event -> {
+        });
+        executor.execute(listener, new FlowableEngineEventImpl(FlowableEngineEventType.ENTITY_CREATED, "1", "pi", "pd"));
+
+        assertThat(executor.getDroppedEventCount()).isEqualTo(1);
+    }
+
+    protected static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected static class RecordingEventListener extends AbstractFlowableEventListener {
+
+        protected final Consumer<FlowableEvent> consumer;
+
+        public RecordingEventListener(Consumer<FlowableEvent> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            consumer.accept(event);
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+    }
+
+    protected static class TestTransactionContext implements TransactionContext {
+
+        protected final Map<TransactionState, List<TransactionListener>> transactionListeners = new HashMap<>();
+
+        @Override
+        public void commit() {
+            for (TransactionListener transactionListener : transactionListeners.getOrDefault(TransactionState.COMMITTED, Collections.emptyList())) {
+                transactionListener.execute(null);
+            }
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public void addTransactionListener(TransactionState transactionState, TransactionListener transactionListener) {
+            transactionListeners.computeIfAbsent(transactionState, key -> new ArrayList<>()).add(transactionListener);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void idsAreVersion7Uuids() {
+        long before = System.currentTimeMillis();
+        UUID uuid = new TimeOrderedUuidGenerator().generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void idsAreIncreasing() {
+        TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+
+        List<String> sortedIds = new ArrayList<>(ids);
+        Collections.sort(sortedIds);
+        assertThat(ids).isEqualTo(sortedIds);
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    void idsAreIncreasingWhenClockGoesBack() {
+        TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator() {
+
+            protected long time = System.currentTimeMillis() + 1000;
+
+            @Override
+            protected long getCurrentTimeMillis() {
+                return time--;
+            }
+        };
+
+        String previousId = idGenerator.getNextId();
+        for (int i = 0; i < 100; i++) {
+            String id = idGenerator.getNextId();
+            assertThat(id).isGreaterThan(previousId);
+            previousId = id;
+        }
+    }
+
+    @Test
+    void concurrentIdsAreUnique() throws Exception {
+        TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    ids.add(idGenerator.getNextId());
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(ids).hasSize(80000);
+    }
+
+}
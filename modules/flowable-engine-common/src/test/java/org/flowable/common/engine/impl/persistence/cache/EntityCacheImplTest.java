@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.CacheIndexedEntity;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheImplTest {
+
+    protected static final CachedEntityIndex<TestEntity> PARENT_ID_INDEX = new CachedEntityIndex<>("parentId", TestEntity::getParentId);
+
+    @Test
+    void findThroughIndex() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        entityCache.put(new TestEntity("1", "parent1"), true);
+        entityCache.put(new TestEntity("2", "parent1"), true);
+        entityCache.put(new TestEntity("3", "parent2"), true);
+        entityCache.put(new TestEntity("4", null), true);
+
+        assertThat(findIds(entityCache, "parent1")).containsExactly("1", "2");
+        assertThat(findIds(entityCache, "parent2")).containsExactly("3");
+        assertThat(findIds(entityCache, "unknown")).isEmpty();
+        assertThat(entityCache.findInCacheAsCachedObjects(OtherEntity.class, PARENT_ID_INDEX, "parent1")).isNull();
+    }
+
+    @Test
+    void indexIsMaintainedAfterFirstLookup() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        entityCache.put(new TestEntity("1", "parent1"), true);
+        assertThat(findIds(entityCache, "parent1")).containsExactly("1");
+
+        entityCache.put(new TestEntity("2", "parent1"), true);
+        entityCache.put(new TestEntity("1", "parent2"), true);
+        assertThat(findIds(entityCache, "parent1")).containsExactly("2");
+        assertThat(findIds(entityCache, "parent2")).containsExactly("1");
+
+        entityCache.cacheRemove(TestEntity.class, "2");
+        assertThat(findIds(entityCache, "parent1")).isEmpty();
+    }
+
+    @Test
+    void changedKeyIsReindexed() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        TestEntity entity = new TestEntity("1", "parent1");
+        entityCache.put(entity, true);
+        assertThat(entity.isCacheIndexed()).isFalse();
+
+        assertThat(findIds(entityCache, "parent1")).containsExactly("1");
+        assertThat(entity.isCacheIndexed()).isTrue();
+
+        entity.setParentId("parent2");
+        entityCache.updateIndexes(entity);
+        assertThat(findIds(entityCache, "parent1")).isEmpty();
+        assertThat(findIds(entityCache, "parent2")).containsExactly("1");
+
+        // A copy of the cached entity doesn't change the index
+        TestEntity copy = new TestEntity("1", "parent3");
+        entityCache.updateIndexes(copy);
+        assertThat(findIds(entityCache, "parent2")).containsExactly("1");
+        assertThat(findIds(entityCache, "parent3")).isEmpty();
+    }
+
+    protected List<String> findIds(EntityCache entityCache, String parentId) {
+        Collection<CachedEntity> cachedEntities = entityCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID_INDEX, parentId);
+        List<String> ids = new ArrayList<>();
+        for (CachedEntity cachedEntity : cachedEntities) {
+            ids.add(cachedEntity.getEntity().getId());
+        }
+        return ids;
+    }
+
+    static class TestEntity extends AbstractEntity implements CacheIndexedEntity {
+
+        protected String parentId;
+        protected boolean isCacheIndexed;
+
+        TestEntity(String id, String parentId) {
+            this.id = id;
+            this.parentId = parentId;
+        }
+
+        public String getParentId() {
+            return parentId;
+        }
+
+        public void setParentId(String parentId) {
+            this.parentId = parentId;
+        }
+
+        @Override
+        public boolean isCacheIndexed() {
+            return isCacheIndexed;
+        }
+
+        @Override
+        public void setCacheIndexed(boolean isCacheIndexed) {
+            this.isCacheIndexed = isCacheIndexed;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return null;
+        }
+
+        @Override
+        public Object getPersistentState() {
+            return parentId;
+        }
+    }
+
+    static class OtherEntity extends TestEntity {
+
+        OtherEntity(String id, String parentId) {
+            super(id, parentId);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void unlimitedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("key" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("key42")).isEqualTo("value42");
+        assertThat(cache.contains("key99")).isTrue();
+        assertThat(cache.getAll()).hasSize(100).contains("value0", "value99");
+
+        cache.remove("key42");
+        assertThat(cache.get("key42")).isNull();
+        assertThat(cache.getEvictionCount()).isZero();
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getTotalWeight()).isZero();
+    }
+
+    @Test
+    void sizeLimitEvictsLeastRecentlyAccessed() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "A");
+        Thread.sleep(1L);
+        cache.add("b", "B");
+        Thread.sleep(1L);
+        cache.add("c", "C");
+        Thread.sleep(1L);
+
+        // Accessing a makes b the least recently accessed entry
+        assertThat(cache.get("a")).isEqualTo("A");
+        Thread.sleep(1L);
+        cache.add("d", "D");
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.contains("d")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sampledEvictionKeepsRecentlyAccessedEntries() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        cache.setEvictionSampleSize(4);
+        for (int i = 0; i < 1000; i++) {
+            cache.add("key" + i, "value" + i);
+            // key0 is accessed after every addition, so it's never the least recently accessed entry of a sample
+            assertThat(cache.get("key0")).isEqualTo("value0");
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getTotalWeight()).isEqualTo(100);
+        assertThat(cache.getEvictionCount()).isEqualTo(900);
+        assertThat(cache.contains("key0")).isTrue();
+        assertThat(cache.contains("key999")).isTrue();
+    }
+
+    @Test
+    void weightLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, 10, (id, value) -> value.length(), null);
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbb");
+        assertThat(cache.getTotalWeight()).isEqualTo(8);
+
+        cache.add("c", "cccc");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getTotalWeight()).isEqualTo(8);
+        assertThat(cache.contains("c")).isTrue();
+
+        // Replacing an entry updates the weight
+        cache.add("c", "cc");
+        assertThat(cache.getTotalWeight()).isLessThanOrEqualTo(10);
+
+        // An entry exceeding the limit on its own is still kept, as long as it's the only one
+        cache.add("d", "dddddddddddddddd");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("d")).isNotNull();
+    }
+
+    @Test
+    void expireAfterAccess() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, -1, null, Duration.ofMillis(50));
+        cache.add("a", "A");
+        assertThat(cache.get("a")).isEqualTo("A");
+
+        Thread.sleep(100L);
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntriesAreRemovedWhenAdding() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, -1, null, Duration.ofMillis(50));
+        cache.add("a", "A");
+        cache.add("b", "B");
+
+        Thread.sleep(100L);
+        cache.add("c", "C");
+
+        // The expired entries are removed without being read
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getTotalWeight()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    void statistics() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10);
+        cache.add("a", "A");
+        cache.get("a");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        assertThat(cache.getHitCount()).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<Integer> cache = new ConcurrentDeploymentCache<>(50);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String key = "key" + ((i + offset) % 200);
+                        if (cache.get(key) == null) {
+                            cache.add(key, i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getTotalWeight()).isEqualTo(cache.size());
+    }
+
+}
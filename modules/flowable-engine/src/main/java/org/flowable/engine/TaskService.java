@@ -25,6 +25,7 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.NativeQuery;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BulkTaskCompletionBuilder;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.Event;
 import org.flowable.form.api.FormInfo;
@@ -68,6 +69,13 @@ public interface TaskService {
      * @return task completion builder
      */
     TaskCompletionBuilder createTaskCompletionBuilder();
+
+    /**
+     * Create a builder to complete many tasks at once, in transactions of a configurable number of tasks.
+     *
+     * @return bulk task completion builder
+     */
+    BulkTaskCompletionBuilder createBulkTaskCompletionBuilder();
     
     /**
      * Saves the given task to the persistent data store. If the task is already present in the persistent store, it is updated. After a new task has been saved, the task instance passed into this
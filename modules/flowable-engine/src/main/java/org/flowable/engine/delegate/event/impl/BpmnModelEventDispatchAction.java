@@ -12,11 +12,15 @@
  */
 package org.flowable.engine.delegate.event.impl;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -26,6 +30,35 @@ import org.flowable.engine.repository.ProcessDefinition;
 
 public class BpmnModelEventDispatchAction implements EventDispatchAction {
 
+    // The event types of the listeners defined in any parsed process definition, which is only used to know when events can be skipped.
+    // This never shrinks, so it could report listeners that are gone (e.g. after undeploying), which only means that the event is created.
+    protected final Set<FlowableEventType> eventListenerTypes = ConcurrentHashMap.newKeySet();
+    protected volatile boolean allEventTypesListener;
+    protected boolean eventListenerTypesTracked;
+
+    public void registerEventListenerTypes(FlowableEventType... types) {
+        if (types == null || types.length == 0) {
+            allEventTypesListener = true;
+        } else {
+            for (FlowableEventType type : types) {
+                eventListenerTypes.add(type);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasListeners(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEventType type) {
+        return !eventListenerTypesTracked || allEventTypesListener || eventListenerTypes.contains(type);
+    }
+
+    public boolean isEventListenerTypesTracked() {
+        return eventListenerTypesTracked;
+    }
+
+    public void setEventListenerTypesTracked(boolean eventListenerTypesTracked) {
+        this.eventListenerTypesTracked = eventListenerTypesTracked;
+    }
+
     @Override
     public void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event) {
         if (event.getType() == FlowableEngineEventType.ENTITY_DELETED && event instanceof FlowableEntityEvent) {
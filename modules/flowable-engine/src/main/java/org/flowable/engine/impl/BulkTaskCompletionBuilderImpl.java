@@ -0,0 +1,211 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cmd.BulkCompleteTasksCmd;
+import org.flowable.engine.task.BulkTaskCompletionBuilder;
+import org.flowable.engine.task.BulkTaskCompletionResult;
+
+/**
+ * The variables, form definition and outcome of the {@link TaskCompletionBuilderImpl} are used for all tasks.
+ */
+public class BulkTaskCompletionBuilderImpl extends TaskCompletionBuilderImpl implements BulkTaskCompletionBuilder {
+
+    protected List<TaskData> tasks = new ArrayList<>();
+    protected int transactionSize = 100;
+
+    public BulkTaskCompletionBuilderImpl(CommandExecutor commandExecutor) {
+        super(commandExecutor);
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl variables(Map<String, Object> variables) {
+        super.variables(variables);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl variablesLocal(Map<String, Object> variablesLocal) {
+        super.variablesLocal(variablesLocal);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl transientVariables(Map<String, Object> transientVariables) {
+        super.transientVariables(transientVariables);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl transientVariablesLocal(Map<String, Object> transientVariablesLocal) {
+        super.transientVariablesLocal(transientVariablesLocal);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl variable(String variableName, Object variableValue) {
+        super.variable(variableName, variableValue);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl variableLocal(String variableName, Object variableValue) {
+        super.variableLocal(variableName, variableValue);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl transientVariable(String variableName, Object variableValue) {
+        super.transientVariable(variableName, variableValue);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl transientVariableLocal(String variableName, Object variableValue) {
+        super.transientVariableLocal(variableName, variableValue);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl formDefinitionId(String formDefinitionId) {
+        super.formDefinitionId(formDefinitionId);
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl outcome(String outcome) {
+        super.outcome(outcome);
+        return this;
+    }
+
+    /**
+     * Adds a task to complete, same as {@link #task(String)}.
+     */
+    @Override
+    public BulkTaskCompletionBuilderImpl taskId(String taskId) {
+        return task(taskId);
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl task(String taskId) {
+        return task(taskId, null);
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl task(String taskId, Map<String, Object> variables) {
+        tasks.add(new TaskData(taskId, variables));
+        return this;
+    }
+
+    @Override
+    public BulkTaskCompletionBuilderImpl transactionSize(int transactionSize) {
+        if (transactionSize < 1) {
+            throw new FlowableIllegalArgumentException("The transaction size must be at least 1");
+        }
+        this.transactionSize = transactionSize;
+        return this;
+    }
+
+    @Override
+    public List<BulkTaskCompletionResult> completeAll() {
+        List<BulkTaskCompletionResult> results = new ArrayList<>(tasks.size());
+        for (int start = 0; start < tasks.size(); start += transactionSize) {
+            List<TaskData> transactionTasks = tasks.subList(start, Math.min(start + transactionSize, tasks.size()));
+            try {
+                results.addAll(commandExecutor.execute(new BulkCompleteTasksCmd(this, transactionTasks)));
+
+            } catch (RuntimeException e) {
+                // The whole transaction is rolled back, so the tasks are completed one by one to find out which ones are failing
+                for (TaskData task : transactionTasks) {
+                    try {
+                        results.addAll(commandExecutor.execute(new BulkCompleteTasksCmd(this, Collections.singletonList(task))));
+                    } catch (RuntimeException taskException) {
+                        results.add(new BulkTaskCompletionResultImpl(task.getTaskId(), taskException));
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Completes all tasks and throws the exception of the first task that couldn't be completed, if any.
+     */
+    @Override
+    public void complete() {
+        for (BulkTaskCompletionResult result : completeAll()) {
+            if (!result.isSuccessful()) {
+                throw result.getException();
+            }
+        }
+    }
+
+    public List<TaskData> getTasks() {
+        return tasks;
+    }
+
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public Map<String, Object> getVariablesLocal() {
+        return variablesLocal;
+    }
+
+    public Map<String, Object> getTransientVariables() {
+        return transientVariables;
+    }
+
+    public Map<String, Object> getTransientVariablesLocal() {
+        return transientVariablesLocal;
+    }
+
+    public String getFormDefinitionId() {
+        return formDefinitionId;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public static class TaskData {
+
+        protected final String taskId;
+        protected final Map<String, Object> variables;
+
+        public TaskData(String taskId, Map<String, Object> variables) {
+            this.taskId = taskId;
+            this.variables = variables;
+        }
+
+        public String getTaskId() {
+            return taskId;
+        }
+
+        public Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import org.flowable.engine.task.BulkTaskCompletionResult;
+
+public class BulkTaskCompletionResultImpl implements BulkTaskCompletionResult {
+
+    protected final String taskId;
+    protected final RuntimeException exception;
+
+    public BulkTaskCompletionResultImpl(String taskId, RuntimeException exception) {
+        this.taskId = taskId;
+        this.exception = exception;
+    }
+
+    @Override
+    public String getTaskId() {
+        return taskId;
+    }
+
+    @Override
+    public RuntimeException getException() {
+        return exception;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkTaskCompletionResult[taskId=" + taskId + (exception != null ? ", exception=" + exception.getMessage() : "") + "]";
+    }
+}
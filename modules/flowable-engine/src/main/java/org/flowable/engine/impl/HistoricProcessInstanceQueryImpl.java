@@ -1080,6 +1080,12 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return withLocalizationFallback;
     }
 
+    @Override
+    protected boolean isCursorOrderColumn(String columnName) {
+        // The id of a historic process instance is the same as its process instance id
+        return super.isCursorOrderColumn(columnName) || HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.getName().equals(columnName);
+    }
+
     public boolean isNeedsProcessDefinitionOuterJoin() {
         if (isNeedsPaging()) {
             if (AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)
@@ -96,7 +96,8 @@ public class ProcessEngineImpl implements ProcessEngine {
             }
         }
 
-        processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CREATED), 
+        processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENGINE_CREATED,
+                () -> FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CREATED), 
                 processEngineConfiguration.getEngineCfgKey());
     }
 
@@ -138,7 +139,8 @@ public class ProcessEngineImpl implements ProcessEngine {
             }
         }
 
-        processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED),
+        processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENGINE_CLOSED,
+                () -> FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED),
                 processEngineConfiguration.getEngineCfgKey());
     }
 
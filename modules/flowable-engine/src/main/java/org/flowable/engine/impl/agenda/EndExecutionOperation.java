@@ -223,7 +223,8 @@ public class EndExecutionOperation extends AbstractOperation {
                 executionEntityManager.deleteExecutionAndRelatedData(parentExecution, null, false);
 
                 CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                        FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
+                        FlowableEngineEventType.ACTIVITY_COMPLETED,
+                        () -> FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
                                 parentExecution.getId(), parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId(), subProcess),
                         processEngineConfiguration.getEngineCfgKey());
 
@@ -347,7 +348,8 @@ public class EndExecutionOperation extends AbstractOperation {
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
+                FlowableEngineEventType.ACTIVITY_COMPLETED,
+                () -> FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
                         parentExecution.getId(), parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId(), subProcess),
                 processEngineConfiguration.getEngineCfgKey());
         return executionToContinue;
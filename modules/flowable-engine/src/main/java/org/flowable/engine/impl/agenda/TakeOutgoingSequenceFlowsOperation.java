@@ -124,7 +124,8 @@ public class TakeOutgoingSequenceFlowsOperation extends AbstractOperation {
                 
                 ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
                 CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                        FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, flowNode.getId(), flowNode.getName(),
+                        FlowableEngineEventType.ACTIVITY_COMPLETED,
+                        () -> FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, flowNode.getId(), flowNode.getName(),
                                 execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode),
                         processEngineConfiguration.getEngineCfgKey());
             }
@@ -47,7 +47,8 @@ public class BoundaryConditionalEventActivityBehavior extends BoundaryEventActiv
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_WAITING, executionEntity.getActivityId(), 
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_WAITING,
+                    () -> FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_WAITING, executionEntity.getActivityId(), 
                     conditionExpression, executionEntity.getId(), executionEntity.getProcessInstanceId(), executionEntity.getProcessDefinitionId()),
                     processEngineConfiguration.getEngineCfgKey());
         }
@@ -66,7 +67,8 @@ public class BoundaryConditionalEventActivityBehavior extends BoundaryEventActiv
             
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_RECEIVED, executionEntity.getActivityId(), 
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_RECEIVED,
+                        () -> FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_RECEIVED, executionEntity.getActivityId(), 
                         conditionExpression, executionEntity.getId(), executionEntity.getProcessInstanceId(), executionEntity.getProcessDefinitionId()),
                         processEngineConfiguration.getEngineCfgKey());
             }
@@ -45,19 +45,21 @@ public class BoundaryEscalationEventActivityBehavior extends BoundaryEventActivi
         CommandContext commandContext = Context.getCommandContext();
         ExecutionEntity executionEntity = (ExecutionEntity) execution;
 
-        String escalationCode = null;
-        String escalationName = null;
+        String escalationCode;
+        String escalationName;
         if (escalation != null) {
             escalationCode = escalation.getEscalationCode();
             escalationName = escalation.getName();
         } else {
             escalationCode = escalationEventDefinition.getEscalationCode();
+            escalationName = null;
         }
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEscalationEvent(FlowableEngineEventType.ACTIVITY_ESCALATION_WAITING, executionEntity.getActivityId(), escalationCode,
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_ESCALATION_WAITING,
+                    () -> FlowableEventBuilder.createEscalationEvent(FlowableEngineEventType.ACTIVITY_ESCALATION_WAITING, executionEntity.getActivityId(), escalationCode,
                     escalationName, executionEntity.getId(), executionEntity.getProcessInstanceId(), executionEntity.getProcessDefinitionId()),
                     processEngineConfiguration.getEngineCfgKey());
         }
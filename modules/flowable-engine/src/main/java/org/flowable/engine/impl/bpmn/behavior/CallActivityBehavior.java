@@ -144,7 +144,8 @@ public class CallActivityBehavior extends AbstractBpmnActivityBehavior implement
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_CREATED, subProcessInstance),
+                    FlowableEngineEventType.PROCESS_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_CREATED, subProcessInstance),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -202,7 +203,8 @@ public class CallActivityBehavior extends AbstractBpmnActivityBehavior implement
         }
 
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, subProcessInstance),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, subProcessInstance),
                     processEngineConfiguration.getEngineCfgKey());
         }
         
@@ -66,7 +66,8 @@ public class ExclusiveGatewayActivityBehavior extends GatewayActivityBehavior {
         }
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, exclusiveGateway.getId(), exclusiveGateway.getName(), execution.getId(),
+                    FlowableEngineEventType.ACTIVITY_COMPLETED,
+                    () -> FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, exclusiveGateway.getId(), exclusiveGateway.getName(), execution.getId(),
                             execution.getProcessInstanceId(), execution.getProcessDefinitionId(), exclusiveGateway),
                     processEngineConfiguration.getEngineCfgKey());
         }
@@ -41,7 +41,8 @@ public class IntermediateCatchConditionalEventActivityBehavior extends Intermedi
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_WAITING, 
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_WAITING,
+                    () -> FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_WAITING, 
                     executionEntity.getActivityId(), conditionExpression, executionEntity.getId(), 
                     executionEntity.getProcessInstanceId(), executionEntity.getProcessDefinitionId()),
                     processEngineConfiguration.getEngineCfgKey());
@@ -58,7 +59,8 @@ public class IntermediateCatchConditionalEventActivityBehavior extends Intermedi
             ExecutionEntity executionEntity = (ExecutionEntity) execution;
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_RECEIVED, executionEntity.getActivityId(), 
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_RECEIVED,
+                        () -> FlowableEventBuilder.createConditionalEvent(FlowableEngineEventType.ACTIVITY_CONDITIONAL_RECEIVED, executionEntity.getActivityId(), 
                         conditionExpression, executionEntity.getId(), executionEntity.getProcessInstanceId(), executionEntity.getProcessDefinitionId()),
                         processEngineConfiguration.getEngineCfgKey());
             }
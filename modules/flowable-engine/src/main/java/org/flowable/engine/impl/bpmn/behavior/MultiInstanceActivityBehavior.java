@@ -407,15 +407,15 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
 
     protected void sendCompletedWithConditionEvent(DelegateExecution execution) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                buildCompletedEvent(execution, FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_COMPLETED_WITH_CONDITION),
+        processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_COMPLETED_WITH_CONDITION,
+                () -> buildCompletedEvent(execution, FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_COMPLETED_WITH_CONDITION),
                 processEngineConfiguration.getEngineCfgKey());
     }
 
     protected void sendCompletedEvent(DelegateExecution execution) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                buildCompletedEvent(execution, FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_COMPLETED),
+        processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_COMPLETED,
+                () -> buildCompletedEvent(execution, FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_COMPLETED),
                 processEngineConfiguration.getEngineCfgKey());
     }
 
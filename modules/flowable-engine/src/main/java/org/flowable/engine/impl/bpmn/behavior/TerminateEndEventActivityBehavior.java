@@ -180,7 +180,8 @@ public class TerminateEndEventActivityBehavior extends FlowNodeActivityBehavior
                 eventDispatcher = processEngineConfiguration.getEventDispatcher();
             }
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance),
                         processEngineConfiguration.getEngineCfgKey());
             }
         }
@@ -175,7 +175,8 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior implements Ac
             // All properties set, now firing 'create' events
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getTaskServiceConfiguration().getEventDispatcher();
             if (eventDispatcher != null  && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_CREATED, task),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.TASK_CREATED,
+                        () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_CREATED, task),
                         processEngineConfiguration.getEngineCfgKey());
             }
             
@@ -223,7 +223,8 @@ public class BpmnDeployer implements EngineDeployer {
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processDefinition),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processDefinition),
                         processEngineConfiguration.getEngineCfgKey());
             }
         }
@@ -267,7 +268,8 @@ public class BpmnDeployer implements EngineDeployer {
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processDefinition),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processDefinition),
                         processEngineConfiguration.getEngineCfgKey());
             }
         }
@@ -303,7 +305,8 @@ public class BpmnDeployer implements EngineDeployer {
         for (ProcessDefinitionEntity processDefinitionEntity : parsedDeployment.getAllProcessDefinitions()) {
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, processDefinitionEntity),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, processDefinitionEntity),
                         processEngineConfiguration.getEngineCfgKey());
             }
         }
@@ -186,7 +186,8 @@ public class ErrorPropagation {
                 }
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
                     processEngineConfiguration.getEventDispatcher()
-                            .dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT, processInstanceEntity),
+                            .dispatchEvent(FlowableEngineEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT,
+                                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_COMPLETED_WITH_ERROR_END_EVENT, processInstanceEntity),
                                     processEngineConfiguration.getEngineCfgKey());
                 }
             }
@@ -215,7 +216,8 @@ public class ErrorPropagation {
             eventDispatcher = processEngineConfiguration.getEventDispatcher();
         }
 
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && eventDispatcher.hasListeners(FlowableEngineEventType.ACTIVITY_ERROR_RECEIVED, processEngineConfiguration.getEngineCfgKey())) {
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
                     FlowableEventBuilder.createErrorEvent(FlowableEngineEventType.ACTIVITY_ERROR_RECEIVED, event.getId(), errorId, errorCode, parentExecution.getId(),
                             parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId()),
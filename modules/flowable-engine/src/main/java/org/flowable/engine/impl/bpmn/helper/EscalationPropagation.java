@@ -170,7 +170,8 @@ public class EscalationPropagation {
                     eventDispatcher = processEngineConfiguration.getEventDispatcher();
                 }
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(
+                    processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.PROCESS_COMPLETED_WITH_ESCALATION_END_EVENT,
+                            () -> FlowableEventBuilder.createEntityEvent(
                             FlowableEngineEventType.PROCESS_COMPLETED_WITH_ESCALATION_END_EVENT, processInstanceEntity),
                             processEngineConfiguration.getEngineCfgKey());
                 }
@@ -189,7 +190,8 @@ public class EscalationPropagation {
         
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableEventBuilder.createEscalationEvent(FlowableEngineEventType.ACTIVITY_ESCALATION_RECEIVED, event.getId(), escalationCode, 
+                    FlowableEngineEventType.ACTIVITY_ESCALATION_RECEIVED,
+                    () -> FlowableEventBuilder.createEscalationEvent(FlowableEngineEventType.ACTIVITY_ESCALATION_RECEIVED, event.getId(), escalationCode, 
                             escalationName, parentExecution.getId(), parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId()),
                     processEngineConfiguration.getEngineCfgKey());
         }
@@ -20,7 +20,9 @@ import org.flowable.bpmn.model.EventListener;
 import org.flowable.bpmn.model.ImplementationType;
 import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -104,12 +106,27 @@ public class ProcessParseHandler extends AbstractBpmnParseHandler<Process> {
 
                 } else {
                     LOGGER.warn("Unsupported implementation type for EventListener: {} for element {}", eventListener.getImplementationType(), bpmnParse.getCurrentFlowElement().getId());
+                    continue;
                 }
+
+                registerEventListenerTypes(types);
             }
         }
 
     }
 
+    protected void registerEventListenerTypes(FlowableEngineEventType[] types) {
+        // Makes sure the events of these types are created, even when there are no engine wide listeners for them
+        List<EventDispatchAction> eventDispatchActions = CommandContextUtil.getProcessEngineConfiguration().getAdditionalEventDispatchActions();
+        if (eventDispatchActions != null) {
+            for (EventDispatchAction eventDispatchAction : eventDispatchActions) {
+                if (eventDispatchAction instanceof BpmnModelEventDispatchAction) {
+                    ((BpmnModelEventDispatchAction) eventDispatchAction).registerEventListenerTypes(types);
+                }
+            }
+        }
+    }
+
     protected FlowableEventSupport getEventSupport(BpmnModel bpmnModel) {
         return (FlowableEventSupport) bpmnModel.getEventSupport();
     }
@@ -39,6 +39,7 @@ import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.ProcessInstancePreloadUtil;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.ScopeAwareInternalJobManager;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -64,6 +65,10 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
     @Override
     protected VariableScope resolveVariableScopeInternal(Job job) {
         if (job.getExecutionId() != null) {
+            if (job.getProcessInstanceId() != null
+                    && processEngineConfiguration.getPerformanceSettings().getProcessInstancePreloadingJobHandlerTypes().contains(job.getJobHandlerType())) {
+                ProcessInstancePreloadUtil.preloadProcessInstance(job.getProcessInstanceId(), CommandContextUtil.getCommandContext());
+            }
             return getExecutionEntityManager().findById(job.getExecutionId());
         }
         return null;
@@ -12,6 +12,9 @@
  */
 package org.flowable.engine.impl.cfg;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * @author Joram Barrez
  */
@@ -61,6 +64,17 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * The handler types of the jobs for which the runtime state of the process instance (executions, variables, tasks, identity links,
+     * event subscriptions and timer jobs) is fetched upfront, with one query per type of data, before the job is executed.
+     *
+     * This trades a few larger queries for the many small queries that are otherwise done while continuing the process instance,
+     * which is typically beneficial for jobs that continue process instances with a large execution tree or many variables
+     * (for example {@link org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler#TYPE}).
+     * By default, no state is preloaded.
+     */
+    protected Set<String> processInstancePreloadingJobHandlerTypes = new HashSet<>();
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +123,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public Set<String> getProcessInstancePreloadingJobHandlerTypes() {
+        return processInstancePreloadingJobHandlerTypes;
+    }
+
+    public void setProcessInstancePreloadingJobHandlerTypes(Set<String> processInstancePreloadingJobHandlerTypes) {
+        this.processInstancePreloadingJobHandlerTypes = processInstancePreloadingJobHandlerTypes;
+    }
+
 }
@@ -52,6 +52,7 @@ import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -90,7 +91,6 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
@@ -237,6 +237,7 @@ import org.flowable.engine.impl.history.DefaultHistoryManager;
 import org.flowable.engine.impl.history.DefaultHistoryTaskManager;
 import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.history.async.ActivityHistoryJsonBatchMerger;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.HistoryJsonConstants;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
@@ -276,6 +277,7 @@ import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncSendEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchPartJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
@@ -290,6 +292,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
@@ -393,6 +396,7 @@ import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
@@ -516,6 +520,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
     protected AsyncHistoryListener asyncHistoryListener;
 
     // Job Manager
@@ -560,6 +565,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+
+    /**
+     * Only used with the concurrent deployment cache: the maximum total weight of the process definition cache,
+     * where the weight of a process definition is the number of flow elements in its model. By default, no limit.
+     */
+    protected long processDefinitionCacheWeightLimit = -1;
+
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
@@ -640,6 +652,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected long asyncExecutorSecondsToWaitOnShutdown = 60L;
 
+    /**
+     * Whether the jobs (and the future based service tasks) are executed in virtual threads instead of the threadpool. Default value = false.
+     * This requires a Java runtime with virtual thread support (JDK 21+), otherwise the threadpool is used.
+     * <p>
+     * Instead of the threadpool and queue size, the number of concurrently executed jobs is then limited by {@link #asyncExecutorVirtualThreadsMaxConcurrency}.
+     */
+    protected boolean asyncExecutorVirtualThreadsEnabled;
+    protected int asyncExecutorVirtualThreadsMaxConcurrency = 256;
+
     /**
      * Whether or not core threads can time out (which is needed to scale down the threads). Default true.
      *
@@ -692,6 +713,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
 
+    /**
+     * Whether the async jobs are acquired ahead into a bounded local prefetch buffer, from which they are handed to the task executor
+     * only when it has capacity left. This avoids rejected jobs that need to be unacquired again. False by default.
+     * <p>
+     * The size of the buffer adapts to the observed job execution rate,
+     * between {@link #asyncExecutorAsyncJobsPrefetchMinBufferSize} and {@link #asyncExecutorAsyncJobsPrefetchMaxBufferSize}.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAsyncJobsPrefetchEnabled;
+    protected int asyncExecutorAsyncJobsPrefetchMinBufferSize = 32;
+    protected int asyncExecutorAsyncJobsPrefetchMaxBufferSize = 512;
+
+    /**
+     * Whether the timer jobs that are due within a look-ahead window are acquired into a timing wheel, from which they are moved
+     * to the executable jobs at their exact due time, instead of only acquiring the timer jobs that are already due. False by default.
+     * <p>
+     * The look-ahead window adapts to the number of acquired timer jobs,
+     * between {@link #asyncExecutorTimerJobsLookAheadMinWindowInMillis} and {@link #asyncExecutorTimerJobsLookAheadMaxWindowInMillis}.
+     * Idle nodes acquire every half window, so new timers that are due sooner can be moved up to half of the max window late.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerJobsTimingWheelEnabled;
+    protected int asyncExecutorTimerJobsLookAheadMinWindowInMillis = 20 * 1000;
+    protected int asyncExecutorTimerJobsLookAheadMaxWindowInMillis = 2 * 60 * 1000;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      * <p>
@@ -781,12 +829,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryExecutorThreadPoolQueueSize = 2048;
     protected BlockingQueue<Runnable> asyncHistoryExecutorThreadPoolQueue;
     protected long asyncHistoryExecutorSecondsToWaitOnShutdown = 60L;
+    protected boolean asyncHistoryExecutorVirtualThreadsEnabled;
+    protected int asyncHistoryExecutorVirtualThreadsMaxConcurrency = 256;
     protected int asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime = 10 * 1000;
     protected int asyncHistoryExecutorDefaultQueueSizeFullWaitTime = 5 * 1000;
     protected String asyncHistoryExecutorLockOwner;
     protected int asyncHistoryExecutorAsyncJobLockTimeInMillis = 60 * 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsInterval = 60 * 1000;
     protected int asyncHistoryExecutorResetExpiredJobsPageSize = 3;
+    // When larger than 1, the async history executor executes the acquired history jobs in batches of this size, each batch in one transaction
+    protected int asyncHistoryExecutorJobBatchSize = 1;
     protected boolean isAsyncHistoryExecutorAsyncJobAcquisitionEnabled = true;
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
 
@@ -886,6 +938,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * Whether the {@link ScriptingEngines} created by the engine compile scripts once and keep them in a cache,
+     * see {@link ScriptingEngines#setCacheCompiledScripts(boolean)}. Default false.
+     */
+    protected boolean cacheCompiledScripts;
+    /**
+     * The max number of compiled scripts kept in the cache when {@link #cacheCompiledScripts} is enabled, no limit when zero or negative.
+     */
+    protected int compiledScriptCacheLimit = ScriptingEngines.DEFAULT_COMPILED_SCRIPT_CACHE_LIMIT;
+
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
@@ -937,6 +999,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
+
+    /**
+     * When true, events are only created when there is a listener for their type. Event listeners defined in a process definition are
+     * only known once the process definition is parsed by this engine (when deploying it, or when it's used for the first time after a reboot),
+     * so with this enabled such listeners can miss events until then (e.g. on another node of a cluster).
+     * Only enable this when all event listeners are engine wide ones. False by default.
+     */
+    protected boolean skipEventsWithoutListeners;
+
     protected boolean enableHistoricTaskLogging;
 
     /**
@@ -1708,6 +1779,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            if (asyncHistoryPayloadCodec != null) {
+                jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
+            }
 
             // set the job processors
             this.jobServiceConfiguration.setJobProcessors(this.jobProcessors);
@@ -1823,11 +1897,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
-            }
+            processDefinitionCache = createDeploymentCache(processDefinitionCacheLimit, processDefinitionCacheWeightLimit, new ProcessDefinitionCacheEntryWeigher());
         }
     }
 
@@ -1843,21 +1913,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
-            } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
-            }
+            appResourceCache = createDeploymentCache(appResourceCacheLimit);
         }
     }
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
-            } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
-            }
+            knowledgeBaseCache = createDeploymentCache(knowledgeBaseCacheLimit);
         }
     }
 
@@ -2123,6 +2185,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
         jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
 
+        BpmnHistoryCleanupBatchPartJobHandler bpmnHistoryCleanupBatchPartJobHandler = new BpmnHistoryCleanupBatchPartJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupBatchPartJobHandler.getType(), bpmnHistoryCleanupBatchPartJobHandler);
+
         ProcessInstanceMigrationJobHandler processInstanceMigrationJobHandler = new ProcessInstanceMigrationJobHandler();
         jobHandlers.put(processInstanceMigrationJobHandler.getType(), processInstanceMigrationJobHandler);
         
@@ -2155,11 +2220,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobHandler.setHistoryJsonBatchMerger(new ActivityHistoryJsonBatchMerger());
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobZippedHandler.setHistoryJsonBatchMerger(new ActivityHistoryJsonBatchMerger());
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
             if (getCustomHistoryJobHandlers() != null) {
@@ -2214,6 +2281,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // /////////////////////////////////////////////////////////////
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && asyncExecutorVirtualThreadsEnabled) {
+            if (VirtualThreadAsyncTaskExecutor.isVirtualThreadsSupported()) {
+                VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor();
+                virtualThreadAsyncTaskExecutor.setMaxConcurrency(asyncExecutorVirtualThreadsMaxConcurrency);
+                virtualThreadAsyncTaskExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
+                virtualThreadAsyncTaskExecutor.setThreadNamePrefix("flowable-async-job-executor-virtual-thread-");
+                virtualThreadAsyncTaskExecutor.start();
+                this.shutdownAsyncTaskExecutor = true;
+
+                this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+
+            } else {
+                logger.warn("Virtual threads are not supported by the current Java runtime, using the threadpool for the async task executor instead");
+            }
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -2274,6 +2357,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Prefetching
+            defaultAsyncExecutor.setAsyncJobsPrefetchEnabled(asyncExecutorAsyncJobsPrefetchEnabled);
+            defaultAsyncExecutor.setAsyncJobsPrefetchMinBufferSize(asyncExecutorAsyncJobsPrefetchMinBufferSize);
+            defaultAsyncExecutor.setAsyncJobsPrefetchMaxBufferSize(asyncExecutorAsyncJobsPrefetchMaxBufferSize);
+
+            // Timing wheel
+            defaultAsyncExecutor.setTimerJobsTimingWheelEnabled(asyncExecutorTimerJobsTimingWheelEnabled);
+            defaultAsyncExecutor.setTimerJobsLookAheadMinWindowInMillis(asyncExecutorTimerJobsLookAheadMinWindowInMillis);
+            defaultAsyncExecutor.setTimerJobsLookAheadMaxWindowInMillis(asyncExecutorTimerJobsLookAheadMaxWindowInMillis);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -2303,6 +2396,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
 
     protected void initAsyncHistoryTaskExecutor() {
+        if (this.asyncHistoryTaskExecutor == null && asyncHistoryExecutorVirtualThreadsEnabled) {
+            if (VirtualThreadAsyncTaskExecutor.isVirtualThreadsSupported()) {
+                VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor();
+                virtualThreadAsyncTaskExecutor.setMaxConcurrency(asyncHistoryExecutorVirtualThreadsMaxConcurrency);
+                virtualThreadAsyncTaskExecutor.setSecondsToWaitOnShutdown(asyncHistoryExecutorSecondsToWaitOnShutdown);
+                virtualThreadAsyncTaskExecutor.setThreadNamePrefix("flowable-async-history-job-executor-virtual-thread-");
+                virtualThreadAsyncTaskExecutor.start();
+                shutdownAsyncHistoryTaskExecutor = true;
+
+                this.asyncHistoryTaskExecutor = virtualThreadAsyncTaskExecutor;
+
+            } else {
+                logger.warn("Virtual threads are not supported by the current Java runtime, using the threadpool for the async history task executor instead");
+            }
+        }
+
         if (this.asyncHistoryTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -2365,6 +2474,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncHistoryExecutorResetExpiredJobsInterval);
                 defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncHistoryExecutorResetExpiredJobsPageSize);
 
+                // Batched execution
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
+
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
 
                 if (asyncHistoryExecutor.getJobServiceConfiguration() == null) {
@@ -2564,6 +2676,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
+            scriptingEngines.setCacheCompiledScripts(cacheCompiledScripts);
+            scriptingEngines.setCompiledScriptCacheLimit(compiledScriptCacheLimit);
         }
     }
 
@@ -2572,7 +2686,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                processExpressionManager.setExpressionCache(createDeploymentCache(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -2679,7 +2793,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected void initAdditionalEventDispatchActions() {
         if (this.additionalEventDispatchActions == null) {
             this.additionalEventDispatchActions = new ArrayList<>();
-            this.additionalEventDispatchActions.add(new BpmnModelEventDispatchAction());
+            BpmnModelEventDispatchAction bpmnModelEventDispatchAction = new BpmnModelEventDispatchAction();
+            bpmnModelEventDispatchAction.setEventListenerTypesTracked(skipEventsWithoutListeners);
+            this.additionalEventDispatchActions.add(bpmnModelEventDispatchAction);
         }
     }
 
@@ -3206,6 +3322,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public ProcessEngineConfigurationImpl setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
     @Override
     public VariableTypes getVariableTypes() {
         return variableTypes;
@@ -3876,6 +4010,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheWeightLimit() {
+        return processDefinitionCacheWeightLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeightLimit(long processDefinitionCacheWeightLimit) {
+        this.processDefinitionCacheWeightLimit = processDefinitionCacheWeightLimit;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -4034,6 +4177,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.astFunctionCreators = astFunctionCreators;
     }
 
+    public boolean isSkipEventsWithoutListeners() {
+        return skipEventsWithoutListeners;
+    }
+
+    public ProcessEngineConfigurationImpl setSkipEventsWithoutListeners(boolean skipEventsWithoutListeners) {
+        this.skipEventsWithoutListeners = skipEventsWithoutListeners;
+        return this;
+    }
+
     public boolean isEnableDatabaseEventLogging() {
         return enableDatabaseEventLogging;
     }
@@ -4095,6 +4247,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setProcessInstancePreloadingJobHandlerTypes(Set<String> processInstancePreloadingJobHandlerTypes) {
+        this.performanceSettings.setProcessInstancePreloadingJobHandlerTypes(processInstancePreloadingJobHandlerTypes);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -4431,6 +4588,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public AsyncHistoryListener getAsyncHistoryListener() {
         if (asyncHistoryListener == null) {
             asyncHistoryListener = new DefaultAsyncHistoryJobProducer();
@@ -4842,6 +5008,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreadsEnabled() {
+        return asyncExecutorVirtualThreadsEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadsEnabled(boolean asyncExecutorVirtualThreadsEnabled) {
+        this.asyncExecutorVirtualThreadsEnabled = asyncExecutorVirtualThreadsEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorVirtualThreadsMaxConcurrency() {
+        return asyncExecutorVirtualThreadsMaxConcurrency;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadsMaxConcurrency(int asyncExecutorVirtualThreadsMaxConcurrency) {
+        this.asyncExecutorVirtualThreadsMaxConcurrency = asyncExecutorVirtualThreadsMaxConcurrency;
+        return this;
+    }
+
     public boolean isAsyncExecutorAllowCoreThreadTimeout() {
         return asyncExecutorAllowCoreThreadTimeout;
     }
@@ -4905,6 +5089,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorAsyncJobsPrefetchEnabled() {
+        return asyncExecutorAsyncJobsPrefetchEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAsyncJobsPrefetchEnabled(boolean asyncExecutorAsyncJobsPrefetchEnabled) {
+        this.asyncExecutorAsyncJobsPrefetchEnabled = asyncExecutorAsyncJobsPrefetchEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorAsyncJobsPrefetchMinBufferSize() {
+        return asyncExecutorAsyncJobsPrefetchMinBufferSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAsyncJobsPrefetchMinBufferSize(int asyncExecutorAsyncJobsPrefetchMinBufferSize) {
+        this.asyncExecutorAsyncJobsPrefetchMinBufferSize = asyncExecutorAsyncJobsPrefetchMinBufferSize;
+        return this;
+    }
+
+    public int getAsyncExecutorAsyncJobsPrefetchMaxBufferSize() {
+        return asyncExecutorAsyncJobsPrefetchMaxBufferSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAsyncJobsPrefetchMaxBufferSize(int asyncExecutorAsyncJobsPrefetchMaxBufferSize) {
+        this.asyncExecutorAsyncJobsPrefetchMaxBufferSize = asyncExecutorAsyncJobsPrefetchMaxBufferSize;
+        return this;
+    }
+
+    public boolean isAsyncExecutorTimerJobsTimingWheelEnabled() {
+        return asyncExecutorTimerJobsTimingWheelEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobsTimingWheelEnabled(boolean asyncExecutorTimerJobsTimingWheelEnabled) {
+        this.asyncExecutorTimerJobsTimingWheelEnabled = asyncExecutorTimerJobsTimingWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobsLookAheadMinWindowInMillis() {
+        return asyncExecutorTimerJobsLookAheadMinWindowInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobsLookAheadMinWindowInMillis(int asyncExecutorTimerJobsLookAheadMinWindowInMillis) {
+        this.asyncExecutorTimerJobsLookAheadMinWindowInMillis = asyncExecutorTimerJobsLookAheadMinWindowInMillis;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerJobsLookAheadMaxWindowInMillis() {
+        return asyncExecutorTimerJobsLookAheadMaxWindowInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobsLookAheadMaxWindowInMillis(int asyncExecutorTimerJobsLookAheadMaxWindowInMillis) {
+        this.asyncExecutorTimerJobsLookAheadMaxWindowInMillis = asyncExecutorTimerJobsLookAheadMaxWindowInMillis;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -5085,6 +5323,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorVirtualThreadsEnabled() {
+        return asyncHistoryExecutorVirtualThreadsEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorVirtualThreadsEnabled(boolean asyncHistoryExecutorVirtualThreadsEnabled) {
+        this.asyncHistoryExecutorVirtualThreadsEnabled = asyncHistoryExecutorVirtualThreadsEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorVirtualThreadsMaxConcurrency() {
+        return asyncHistoryExecutorVirtualThreadsMaxConcurrency;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorVirtualThreadsMaxConcurrency(int asyncHistoryExecutorVirtualThreadsMaxConcurrency) {
+        this.asyncHistoryExecutorVirtualThreadsMaxConcurrency = asyncHistoryExecutorVirtualThreadsMaxConcurrency;
+        return this;
+    }
+
     public int getAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime() {
         return asyncHistoryExecutorDefaultAsyncJobAcquireWaitTime;
     }
@@ -5148,6 +5404,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
+
     public boolean isAsyncExecutorMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.BulkTaskCompletionBuilderImpl;
+import org.flowable.engine.impl.BulkTaskCompletionBuilderImpl.TaskData;
+import org.flowable.engine.impl.BulkTaskCompletionResultImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.task.BulkTaskCompletionResult;
+import org.flowable.identitylink.service.IdentityLinkService;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.TaskService;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+
+/**
+ * Completes tasks in the same transaction.
+ *
+ * The tasks, the executions of their process instances and the identity links of both are fetched with one query each,
+ * which puts them in the entity cache so completing the tasks one by one doesn't fetch them again.
+ * Tasks that can't be completed are reported in the result, the other tasks are still completed.
+ */
+public class BulkCompleteTasksCmd implements Command<List<BulkTaskCompletionResult>> {
+
+    protected BulkTaskCompletionBuilderImpl builder;
+    protected List<TaskData> tasks;
+
+    public BulkCompleteTasksCmd(BulkTaskCompletionBuilderImpl builder, List<TaskData> tasks) {
+        this.builder = builder;
+        this.tasks = tasks;
+    }
+
+    @Override
+    public List<BulkTaskCompletionResult> execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        TaskService taskService = processEngineConfiguration.getTaskServiceConfiguration().getTaskService();
+
+        fetchTaskData(processEngineConfiguration);
+
+        List<BulkTaskCompletionResult> results = new ArrayList<>(tasks.size());
+        for (TaskData task : tasks) {
+            // Only the checks that are done before anything is changed can fail a single task, anything else fails the whole transaction
+            RuntimeException exception = null;
+            if (task.getTaskId() == null) {
+                exception = new FlowableIllegalArgumentException("taskId is null");
+
+            } else {
+                TaskEntity taskEntity = taskService.getTask(task.getTaskId());
+                if (taskEntity == null) {
+                    exception = new FlowableObjectNotFoundException("Cannot find task with id " + task.getTaskId(), Task.class);
+                } else if (taskEntity.isSuspended()) {
+                    exception = new FlowableException("Cannot complete a suspended task");
+                } else if (StringUtils.isNotEmpty(taskEntity.getScopeId()) && ScopeTypes.CMMN.equals(taskEntity.getScopeType())) {
+                    exception = new FlowableException("The task instance is created by the cmmn engine and should be completed via the cmmn engine API");
+                } else {
+                    completeTask(task, commandContext);
+                }
+            }
+
+            results.add(new BulkTaskCompletionResultImpl(task.getTaskId(), exception));
+        }
+
+        return results;
+    }
+
+    protected void fetchTaskData(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        Set<String> taskIds = new LinkedHashSet<>();
+        for (TaskData task : tasks) {
+            if (task.getTaskId() != null) {
+                taskIds.add(task.getTaskId());
+            }
+        }
+
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        IdentityLinkService identityLinkService = processEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkService();
+        Set<String> processInstanceIds = new HashSet<>();
+        for (TaskEntity taskEntity : processEngineConfiguration.getTaskServiceConfiguration().getTaskService().findTasksByIds(taskIds)) {
+            if (taskEntity.getProcessInstanceId() != null) {
+                processInstanceIds.add(taskEntity.getProcessInstanceId());
+            }
+        }
+        identityLinkService.findIdentityLinksByTaskIds(taskIds);
+
+        if (!processInstanceIds.isEmpty()) {
+            processEngineConfiguration.getExecutionEntityManager().findExecutionsByProcessInstanceIds(processInstanceIds);
+            identityLinkService.findIdentityLinksByProcessInstanceIds(processInstanceIds);
+        }
+    }
+
+    protected void completeTask(TaskData task, CommandContext commandContext) {
+        Map<String, Object> variables = getVariables(task);
+        if (builder.getFormDefinitionId() != null) {
+            new CompleteTaskWithFormCmd(task.getTaskId(), builder.getFormDefinitionId(), builder.getOutcome(), variables,
+                    builder.getVariablesLocal(), builder.getTransientVariables(), builder.getTransientVariablesLocal()).execute(commandContext);
+        } else {
+            new CompleteTaskCmd(task.getTaskId(), variables, builder.getVariablesLocal(),
+                    builder.getTransientVariables(), builder.getTransientVariablesLocal()).execute(commandContext);
+        }
+    }
+
+    protected Map<String, Object> getVariables(TaskData task) {
+        if (builder.getVariables() == null) {
+            return task.getVariables();
+        }
+
+        Map<String, Object> variables = new HashMap<>(builder.getVariables());
+        if (task.getVariables() != null) {
+            variables.putAll(task.getVariables());
+        }
+        return variables;
+    }
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceStartBuilderImpl;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceStartBuilderImpl.InstanceData;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessInstanceHelper;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Starts process instances of one process definition in the same transaction.
+ * The process definition is resolved once, and the data of all instances is inserted at the end of the transaction.
+ */
+public class BulkStartProcessInstancesCmd implements Command<List<ProcessInstance>> {
+
+    protected BulkProcessInstanceStartBuilderImpl builder;
+    protected String processDefinitionId;
+    protected List<InstanceData> instances;
+    protected String overrideDefinitionTenantId;
+
+    /**
+     * @param processDefinitionId the id of the process definition to use, overriding the process definition id or key of the builder (can be null)
+     */
+    public BulkStartProcessInstancesCmd(BulkProcessInstanceStartBuilderImpl builder, String processDefinitionId, List<InstanceData> instances) {
+        this.builder = builder;
+        this.processDefinitionId = processDefinitionId;
+        this.instances = instances;
+    }
+
+    @Override
+    public List<ProcessInstance> execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessDefinition processDefinition = getProcessDefinition(commandContext);
+
+        ProcessInstanceHelper processInstanceHelper = processEngineConfiguration.getProcessInstanceHelper();
+        List<ProcessInstance> processInstances = new ArrayList<>(instances.size());
+        for (InstanceData instance : instances) {
+            processInstances.add(processInstanceHelper.createProcessInstance(processDefinition, instance.getBusinessKey(), instance.getName(),
+                    overrideDefinitionTenantId, null, getVariables(instance), null, null, null, null, null, null, true));
+        }
+
+        return processInstances;
+    }
+
+    /**
+     * Looks up the process definition the same way as when starting a single process instance,
+     * which also determines the tenant id the process instances are started in.
+     */
+    public ProcessDefinition getProcessDefinition(CommandContext commandContext) {
+        StartProcessInstanceCmd<ProcessInstance> startProcessInstanceCmd = new StartProcessInstanceCmd<>(builder.getProcessDefinitionKey(),
+                processDefinitionId != null ? processDefinitionId : builder.getProcessDefinitionId(), null, null, builder.getTenantId());
+        startProcessInstanceCmd.overrideDefinitionTenantId = builder.getOverrideDefinitionTenantId();
+        startProcessInstanceCmd.fallbackToDefaultTenant = builder.isFallbackToDefaultTenant();
+        ProcessDefinition processDefinition = startProcessInstanceCmd.getProcessDefinition(
+                CommandContextUtil.getProcessEngineConfiguration(commandContext), commandContext);
+        overrideDefinitionTenantId = startProcessInstanceCmd.overrideDefinitionTenantId;
+        return processDefinition;
+    }
+
+    protected Map<String, Object> getVariables(InstanceData instance) {
+        if (builder.getVariables() == null) {
+            return instance.getVariables();
+        }
+
+        Map<String, Object> variables = new HashMap<>(builder.getVariables());
+        if (instance.getVariables() != null) {
+            variables.putAll(instance.getVariables());
+        }
+        return variables;
+    }
+}
@@ -115,7 +115,9 @@ public class CreateAttachmentCmd implements Command<Attachment> {
         processEngineConfiguration.getHistoryManager().createAttachmentComment(task, processInstance, attachmentName, true);
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && (eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED, processEngineConfiguration.getEngineCfgKey())
+                        || eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_INITIALIZED, processEngineConfiguration.getEngineCfgKey()))) {
             // Forced to fetch the process-instance to associate the right
             // process definition
             String processDefinitionId = null;
@@ -77,7 +77,8 @@ public class DeleteAttachmentCmd implements Command<Object>, Serializable {
         }
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_DELETED, processEngineConfiguration.getEngineCfgKey())) {
             eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, 
                     attachment, processInstanceId, processInstanceId, processDefinitionId),
                     processEngineConfiguration.getEngineCfgKey());
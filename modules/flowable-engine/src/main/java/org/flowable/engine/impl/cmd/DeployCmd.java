@@ -122,7 +122,8 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, deployment),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, deployment),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -139,7 +140,8 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
         }
 
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, deployment),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, deployment),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -150,7 +150,9 @@ public class JobRetryCmd implements Command<Object> {
         // Dispatch both an update and a retry-decrement event
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && (eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_UPDATED, processEngineConfiguration.getEngineCfgKey())
+                        || eventDispatcher.hasListeners(FlowableEngineEventType.JOB_RETRIES_DECREMENTED, processEngineConfiguration.getEngineCfgKey()))) {
             eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, newJobEntity),
                     processEngineConfiguration.getEngineCfgKey());
             eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_RETRIES_DECREMENTED, newJobEntity),
@@ -63,7 +63,8 @@ public class SaveAttachmentCmd implements Command<Object>, Serializable {
         updateAttachment.setDescription(attachment.getDescription());
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_UPDATED, processEngineConfiguration.getEngineCfgKey())) {
             eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, 
                     attachment, processInstanceId, processInstanceId, processDefinitionId),
                     processEngineConfiguration.getEngineCfgKey());
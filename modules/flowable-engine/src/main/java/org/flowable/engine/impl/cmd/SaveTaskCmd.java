@@ -68,7 +68,8 @@ public class SaveTaskCmd implements Command<Void>, Serializable {
 
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_CREATED, task),
+                processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_CREATED,
+                        () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_CREATED, task),
                         processEngineConfiguration.getEngineCfgKey());
             }
             
@@ -105,7 +106,8 @@ public class SaveTaskCmd implements Command<Void>, Serializable {
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, task),
+            CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_ASSIGNED,
+                    () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, task),
                     processEngineConfiguration.getEngineCfgKey());
         }
     }
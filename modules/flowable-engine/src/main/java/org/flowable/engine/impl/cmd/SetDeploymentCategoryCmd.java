@@ -61,7 +61,8 @@ public class SetDeploymentCategoryCmd implements Command<Void> {
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, deployment),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_UPDATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, deployment),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -72,7 +72,8 @@ public class SetProcessDefinitionCategoryCmd implements Command<Void> {
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, processDefinition),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_UPDATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, processDefinition),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -111,7 +111,8 @@ public class SignalEventReceivedCmd implements Command<Void> {
 
                 } else {
                     processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                            FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), eventName,
+                            FlowableEngineEventType.ACTIVITY_SIGNALED,
+                            () -> FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), eventName,
                                     payload, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
                                     signalEventSubscriptionEntity.getProcessDefinitionId()), processEngineConfiguration.getEngineCfgKey());
 
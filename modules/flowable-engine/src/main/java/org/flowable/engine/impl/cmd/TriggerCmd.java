@@ -71,7 +71,8 @@ public class TriggerCmd extends NeedsActiveExecutionCmd<Object> {
 
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, execution.getCurrentActivityId(), null,
+                    FlowableEngineEventType.ACTIVITY_SIGNALED,
+                    () -> FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, execution.getCurrentActivityId(), null,
                             null, execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId()),
                     processEngineConfiguration.getEngineCfgKey());
 
@@ -0,0 +1,224 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DbIdGenerator} that hands out the ids of the current block without locking.
+ *
+ * When the number of remaining ids in the current block drops below the low-water mark (a percentage of the block),
+ * the next block is fetched on a background thread, so that threads normally don't have to wait for the database when the block runs out.
+ * Only when the prefetched block isn't available yet (or fetching it failed), the thread that exhausted the block fetches one inline.
+ *
+ * When the adaptive block size is enabled, the size of the next block is doubled (up to the max block size) when a block was consumed
+ * faster than the min block duration, and halved (down to the configured block size) when it took more than ten times that duration.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    protected int lowWaterMarkPercentage = 25;
+    protected boolean adaptiveIdBlockSize;
+    protected int maxIdBlockSize = 100000;
+    protected long minIdBlockDurationInMillis = 10000L;
+
+    protected volatile ActiveIdBlock currentIdBlock = new ActiveIdBlock(0, -1, 0, 0L);
+    protected final AtomicReference<CompletableFuture<IdBlock>> prefetchedIdBlock = new AtomicReference<>();
+    protected volatile int nextIdBlockSize;
+
+    protected volatile ExecutorService prefetchExecutor;
+    protected final Object prefetchExecutorLock = new Object();
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            ActiveIdBlock idBlock = currentIdBlock;
+            long id = idBlock.nextId.getAndIncrement();
+            if (id <= idBlock.lastId) {
+                if (id == idBlock.lowWaterMarkId) {
+                    prefetchNewBlock();
+                }
+                return Long.toString(id);
+            }
+
+            switchToNewBlock(idBlock);
+        }
+    }
+
+    @Override
+    protected void getNewBlock() {
+        switchToNewBlock(currentIdBlock);
+    }
+
+    protected synchronized void switchToNewBlock(ActiveIdBlock exhaustedIdBlock) {
+        if (currentIdBlock != exhaustedIdBlock) {
+            // Another thread already switched to a new block
+            return;
+        }
+
+        IdBlock idBlock = null;
+        CompletableFuture<IdBlock> prefetch = prefetchedIdBlock.getAndSet(null);
+        if (prefetch != null) {
+            try {
+                idBlock = prefetch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOGGER.warn("Prefetching the next id block failed, fetching it directly", e.getCause());
+            }
+        }
+
+        if (idBlock == null) {
+            idBlock = fetchNewBlock(getNextIdBlockSize());
+        }
+
+        if (adaptiveIdBlockSize && exhaustedIdBlock.lastId >= exhaustedIdBlock.firstId) {
+            adaptIdBlockSize(exhaustedIdBlock);
+        }
+
+        currentIdBlock = new ActiveIdBlock(idBlock.getNextId(), idBlock.getLastId(), lowWaterMarkPercentage, getCurrentTimeNanos());
+        this.nextId = idBlock.getNextId();
+        this.lastId = idBlock.getLastId();
+    }
+
+    protected void prefetchNewBlock() {
+        CompletableFuture<IdBlock> prefetch = new CompletableFuture<>();
+        if (prefetchedIdBlock.compareAndSet(null, prefetch)) {
+            int idBlockSize = getNextIdBlockSize();
+            try {
+                getPrefetchExecutor().execute(() -> {
+                    try {
+                        prefetch.complete(fetchNewBlock(idBlockSize));
+                    } catch (Throwable t) {
+                        prefetch.completeExceptionally(t);
+                    }
+                });
+            } catch (RuntimeException e) {
+                prefetch.completeExceptionally(e);
+            }
+        }
+    }
+
+    protected IdBlock fetchNewBlock(int idBlockSize) {
+        return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+    }
+
+    protected void adaptIdBlockSize(ActiveIdBlock exhaustedIdBlock) {
+        long durationInMillis = TimeUnit.NANOSECONDS.toMillis(getCurrentTimeNanos() - exhaustedIdBlock.startTime);
+        int currentIdBlockSize = getNextIdBlockSize();
+        if (durationInMillis < minIdBlockDurationInMillis) {
+            nextIdBlockSize = (int) Math.min((long) currentIdBlockSize * 2, Math.max(maxIdBlockSize, idBlockSize));
+        } else if (durationInMillis > 10 * minIdBlockDurationInMillis) {
+            nextIdBlockSize = Math.max(currentIdBlockSize / 2, idBlockSize);
+        }
+
+        if (nextIdBlockSize != currentIdBlockSize) {
+            LOGGER.debug("Block of {} ids consumed in {} ms, changing id block size to {}", currentIdBlockSize, durationInMillis, nextIdBlockSize);
+        }
+    }
+
+    protected long getCurrentTimeNanos() {
+        return System.nanoTime();
+    }
+
+    public ExecutorService getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            // Not synchronized on this, as the thread switching to a new block holds that lock while waiting for the prefetch to be submitted
+            synchronized (prefetchExecutorLock) {
+                if (prefetchExecutor == null) {
+                    // A single daemon thread that stops when idle, so no explicit shutdown is needed
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                            new BasicThreadFactory.Builder().namingPattern("flowable-id-block-prefetch-%d").daemon(true).build());
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    prefetchExecutor = threadPoolExecutor;
+                }
+            }
+        }
+        return prefetchExecutor;
+    }
+
+    public int getNextIdBlockSize() {
+        return nextIdBlockSize > 0 ? nextIdBlockSize : idBlockSize;
+    }
+
+    public int getLowWaterMarkPercentage() {
+        return lowWaterMarkPercentage;
+    }
+
+    public void setLowWaterMarkPercentage(int lowWaterMarkPercentage) {
+        this.lowWaterMarkPercentage = lowWaterMarkPercentage;
+    }
+
+    public boolean isAdaptiveIdBlockSize() {
+        return adaptiveIdBlockSize;
+    }
+
+    public void setAdaptiveIdBlockSize(boolean adaptiveIdBlockSize) {
+        this.adaptiveIdBlockSize = adaptiveIdBlockSize;
+    }
+
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize;
+    }
+
+    public void setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+    }
+
+    public long getMinIdBlockDurationInMillis() {
+        return minIdBlockDurationInMillis;
+    }
+
+    public void setMinIdBlockDurationInMillis(long minIdBlockDurationInMillis) {
+        this.minIdBlockDurationInMillis = minIdBlockDurationInMillis;
+    }
+
+    public void setPrefetchExecutor(ExecutorService prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * The block of ids that is currently handed out. The ids are handed out by incrementing the next id, which can go beyond the last id
+     * when the block is exhausted.
+     */
+    protected static class ActiveIdBlock {
+
+        protected final long firstId;
+        protected final long lastId;
+        protected final long lowWaterMarkId;
+        protected final AtomicLong nextId;
+        protected final long startTime;
+
+        public ActiveIdBlock(long firstId, long lastId, int lowWaterMarkPercentage, long startTime) {
+            this.firstId = firstId;
+            this.lastId = lastId;
+            this.lowWaterMarkId = Math.max(firstId, lastId - (lastId - firstId + 1) * lowWaterMarkPercentage / 100);
+            this.nextId = new AtomicLong(firstId);
+            this.startTime = startTime;
+        }
+    }
+}
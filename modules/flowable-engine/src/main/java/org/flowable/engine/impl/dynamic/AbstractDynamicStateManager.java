@@ -624,7 +624,8 @@ public abstract class AbstractDynamicStateManager {
                         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
                         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
                             eventDispatcher.dispatchEvent(
-                                FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, newFlowElement.getId(), newFlowElement.getName(), newChildExecution.getId(),
+                                FlowableEngineEventType.ACTIVITY_STARTED,
+                                () -> FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, newFlowElement.getId(), newFlowElement.getName(), newChildExecution.getId(),
                                     newChildExecution.getProcessInstanceId(), newChildExecution.getProcessDefinitionId(), newFlowElement),
                                 processEngineConfiguration.getEngineCfgKey());
                         }
@@ -712,7 +713,8 @@ public abstract class AbstractDynamicStateManager {
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             eventDispatcher.dispatchEvent(
-                FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, subProcess.getId(), subProcess.getName(), subProcessExecution.getId(),
+                FlowableEngineEventType.ACTIVITY_STARTED,
+                () -> FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, subProcess.getId(), subProcess.getName(), subProcessExecution.getId(),
                     subProcessExecution.getProcessInstanceId(), subProcessExecution.getProcessDefinitionId(), subProcess),
                 processEngineConfiguration.getEngineCfgKey());
         }
@@ -806,7 +808,8 @@ public abstract class AbstractDynamicStateManager {
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(
+            CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(FlowableEngineEventType.PROCESS_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(
                     FlowableEngineEventType.PROCESS_CREATED, subProcessInstance), processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -840,7 +843,8 @@ public abstract class AbstractDynamicStateManager {
         }
 
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, subProcessInstance),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, subProcessInstance),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -1044,7 +1048,8 @@ public abstract class AbstractDynamicStateManager {
                         messageExecution.getEventSubscriptions().add(messageSubscription);
                         
                         processEngineConfiguration.getEventDispatcher()
-                            .dispatchEvent(FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING, messageSubscription.getActivityId(),
+                            .dispatchEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING,
+                                    () -> FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING, messageSubscription.getActivityId(),
                                     messageSubscription.getEventName(), null, messageSubscription.getExecutionId(),
                                     messageSubscription.getProcessInstanceId(), messageSubscription.getProcessDefinitionId()),
                                     processEngineConfiguration.getEngineCfgKey());
@@ -1081,7 +1086,8 @@ public abstract class AbstractDynamicStateManager {
                         signalExecution.getEventSubscriptions().add(signalSubscription);
                         
                         processEngineConfiguration.getEventDispatcher()
-                            .dispatchEvent(FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING, signalSubscription.getActivityId(),
+                            .dispatchEvent(FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING,
+                                    () -> FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING, signalSubscription.getActivityId(),
                                     signalSubscription.getEventName(), null, signalSubscription.getExecutionId(),
                                     signalSubscription.getProcessInstanceId(), signalSubscription.getProcessDefinitionId()),
                                     processEngineConfiguration.getEngineCfgKey());
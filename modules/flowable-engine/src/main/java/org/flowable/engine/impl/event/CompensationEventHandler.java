@@ -77,7 +77,8 @@ public class CompensationEventHandler implements EventHandler {
             try {
 
                 FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
-                if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                if (eventDispatcher != null && eventDispatcher.isEnabled()
+                        && eventDispatcher.hasListeners(FlowableEngineEventType.ACTIVITY_COMPENSATE, processEngineConfiguration.getEngineCfgKey())) {
                     eventDispatcher.dispatchEvent(
                             FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPENSATE, flowElement.getId(), flowElement.getName(),
                                     compensatingExecution.getId(), compensatingExecution.getProcessInstanceId(), compensatingExecution.getProcessDefinitionId(), flowElement),
@@ -43,7 +43,8 @@ public class MessageEventHandler extends AbstractEventHandler {
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             String executionId = eventSubscription.getExecutionId();
             ExecutionEntity execution = processEngineConfiguration.getExecutionEntityManager().findById(executionId);
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_RECEIVED, eventSubscription.getActivityId(), 
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_RECEIVED,
+                    () -> FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_RECEIVED, eventSubscription.getActivityId(), 
                     eventSubscription.getEventName(), payload, eventSubscription.getExecutionId(), eventSubscription.getProcessInstanceId(), execution.getProcessDefinitionId()),
                     processEngineConfiguration.getEngineCfgKey());
         }
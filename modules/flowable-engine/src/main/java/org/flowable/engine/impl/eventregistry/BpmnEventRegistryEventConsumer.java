@@ -68,6 +68,16 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys);
+        handleEventSubscriptions(eventInstance, correlationKeys, eventSubscriptions);
+    }
+
+    @Override
+    protected Map<EventInstance, RuntimeException> eventsReceived(List<EventInstance> eventInstances) {
+        return eventsReceivedInBatch(ScopeTypes.BPMN, eventInstances);
+    }
+
+    @Override
+    protected void handleEventSubscriptions(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, List<EventSubscription> eventSubscriptions) {
         RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
         for (EventSubscription eventSubscription : eventSubscriptions) {
             handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys);
@@ -118,7 +128,8 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
                     
                     long processInstanceCount = processInstanceQuery.count();
 
-                    if (processInstanceCount > 0) {
+                    if (processInstanceCount > 0 || !registerUniqueReferenceInCurrentTransaction(processDefinition.getKey(),
+                            correlationKeyWithAllParameters.getValue(), eventInstance.getTenantId())) {
                         // Returning, no new instance should be started
                         LOGGER.debug("Event received to start a new process instance, but a unique instance already exists.");
                         return;
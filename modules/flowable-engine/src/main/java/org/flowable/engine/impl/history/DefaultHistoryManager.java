@@ -80,7 +80,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED,
+                            () -> FlowableEventBuilder.createEntityEvent(
                             FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, historicProcessInstance),
                             processEngineConfiguration.getEngineCfgKey());
                 }
@@ -111,7 +112,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
             // Fire event
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, () -> FlowableEventBuilder.createEntityEvent(
                         FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, historicProcessInstance),
                         processEngineConfiguration.getEngineCfgKey());
             }
@@ -172,7 +173,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstanceEntity),
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED,
+                            () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstanceEntity),
                             processEngineConfiguration.getEngineCfgKey());
                 }
             }
@@ -191,7 +193,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance),
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED,
+                            () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance),
                             processEngineConfiguration.getEngineCfgKey());
                 }
             } else {
@@ -210,7 +213,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance),
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED,
+                            () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance),
                             processEngineConfiguration.getEngineCfgKey());
                 }
             }
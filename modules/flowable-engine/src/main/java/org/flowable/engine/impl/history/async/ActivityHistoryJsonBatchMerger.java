@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getStringFromJson;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.job.service.impl.history.async.HistoryJsonBatchMerger;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Merges the activity history of the history jobs that are executed in one batch:
+ * the start and end of the same activity instance are merged into one {@link HistoryJsonConstants#TYPE_ACTIVITY_FULL} node
+ * (as the {@link AsyncHistoryManager} does when an activity is started and ended in the same transaction),
+ * and only the last update of an activity instance is kept, as it replaces all the fields changed by the previous updates.
+ */
+public class ActivityHistoryJsonBatchMerger implements HistoryJsonBatchMerger {
+
+    @Override
+    public List<ObjectNode> merge(List<ObjectNode> historyNodes) {
+        Map<String, ObjectNode> activityStartNodes = new HashMap<>();
+        Map<String, Integer> activityUpdateIndexes = new HashMap<>();
+        List<ObjectNode> mergedHistoryNodes = new ArrayList<>(historyNodes.size());
+        for (ObjectNode historyNode : historyNodes) {
+            JsonNode dataNode = historyNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+            String activityInstanceId = dataNode instanceof ObjectNode
+                    ? getStringFromJson((ObjectNode) dataNode, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID) : null;
+            if (StringUtils.isEmpty(activityInstanceId)) {
+                mergedHistoryNodes.add(historyNode);
+                continue;
+            }
+
+            String type = historyNode.path(HistoryJsonTransformer.FIELD_NAME_TYPE).asText();
+            if (HistoryJsonConstants.TYPE_ACTIVITY_START.equals(type)) {
+                activityStartNodes.put(activityInstanceId, historyNode);
+                mergedHistoryNodes.add(historyNode);
+
+            } else if (HistoryJsonConstants.TYPE_ACTIVITY_END.equals(type) && activityStartNodes.containsKey(activityInstanceId)) {
+                ObjectNode activityStartNode = activityStartNodes.remove(activityInstanceId);
+                ObjectNode activityFullData = (ObjectNode) activityStartNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+                activityFullData.setAll((ObjectNode) dataNode);
+                activityStartNode.put(HistoryJsonTransformer.FIELD_NAME_TYPE, HistoryJsonConstants.TYPE_ACTIVITY_FULL);
+
+            } else if (HistoryJsonConstants.TYPE_UPDATE_HISTORIC_ACTIVITY_INSTANCE.equals(type)) {
+                Integer previousUpdateIndex = activityUpdateIndexes.put(activityInstanceId, mergedHistoryNodes.size());
+                if (previousUpdateIndex != null) {
+                    mergedHistoryNodes.set(previousUpdateIndex, null);
+                }
+                mergedHistoryNodes.add(historyNode);
+
+            } else {
+                mergedHistoryNodes.add(historyNode);
+            }
+        }
+
+        mergedHistoryNodes.removeIf(Objects::isNull);
+        return mergedHistoryNodes;
+    }
+
+}
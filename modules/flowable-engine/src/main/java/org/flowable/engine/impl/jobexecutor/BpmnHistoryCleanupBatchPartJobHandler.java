@@ -0,0 +1,229 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.DeleteRelatedDataOfRemovedHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.cmd.DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic process instances of one part of a history cleanup batch created by the {@link BpmnHistoryCleanupJobHandler}.
+ *
+ * The ids of the instances are stored in the document of the batch part, which is replaced by the result when the part is completed.
+ * The instances are deleted with one set based delete, in the same transaction that completes the part, so a failed job can simply be retried.
+ *
+ * The ids to clean are selected page per page: at most {@link #MAX_BATCH_PARTS_PER_TRANSACTION} parts are created at once,
+ * and the last of them creates the parts for the next page of ids when it's executed.
+ * When all instances are deleted, two last parts delete the data related to them (tasks, activities, variables, ...), the second one completes the batch.
+ */
+public class BpmnHistoryCleanupBatchPartJobHandler implements JobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-batch-part";
+
+    public static final int MAX_BATCH_PARTS_PER_TRANSACTION = 10;
+
+    protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+    protected static final String INSTANCE_IDS_LABEL = "instanceIds";
+    protected static final String CREATE_NEXT_BATCH_PARTS_LABEL = "createNextBatchParts";
+    protected static final String DELETE_RELATED_DATA_STEP_LABEL = "deleteRelatedDataStep";
+    protected static final String NUMBER_OF_INSTANCES_LABEL = "numberOfInstances";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+
+        BatchPart batchPart = batchService.getBatchPart(readJson(configuration, objectMapper).path(CFG_LABEL_BATCH_PART_ID).asText(null));
+        if (batchPart == null || batchPart.isCompleted()) {
+            // The batch was deleted in the meantime or the part was already handled by a rescheduled job
+            return;
+        }
+
+        JsonNode batchPartDocument = readJson(batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey()), objectMapper);
+        int deleteRelatedDataStep = batchPartDocument.path(DELETE_RELATED_DATA_STEP_LABEL).asInt();
+        if (deleteRelatedDataStep > 0) {
+            deleteRelatedData(batchPart, deleteRelatedDataStep, commandContext, processEngineConfiguration);
+            return;
+        }
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (JsonNode instanceIdNode : batchPartDocument.path(INSTANCE_IDS_LABEL)) {
+            processInstanceIds.add(instanceIdNode.asText());
+        }
+
+        boolean nextBatchPartsCreated = false;
+        if (batchPartDocument.path(CREATE_NEXT_BATCH_PARTS_LABEL).asBoolean() && !processInstanceIds.isEmpty()) {
+            // The ids are selected in order, so the next ones come after the last id of this part
+            List<String> nextProcessInstanceIds = findProcessInstanceIdsToClean(processInstanceIds.get(processInstanceIds.size() - 1),
+                    processEngineConfiguration);
+            if (!nextProcessInstanceIds.isEmpty()) {
+                createBatchParts(batchService.getBatch(batchPart.getBatchId()), nextProcessInstanceIds, processEngineConfiguration);
+                nextBatchPartsCreated = true;
+            }
+        }
+
+        if (!processInstanceIds.isEmpty()) {
+            HistoricProcessInstanceQueryImpl processInstanceQuery = new HistoricProcessInstanceQueryImpl();
+            processInstanceQuery.processInstanceIds(new HashSet<>(processInstanceIds));
+            processEngineConfiguration.getHistoricProcessInstanceEntityManager().deleteHistoricProcessInstances(processInstanceQuery);
+        }
+
+        ObjectNode resultNode = objectMapper.createObjectNode();
+        resultNode.put(NUMBER_OF_INSTANCES_LABEL, processInstanceIds.size());
+        batchService.completeBatchPart(batchPart.getId(), BpmnHistoryCleanupJobHandler.STATUS_COMPLETED, resultNode.toString());
+
+        // The parts completed by other (parallel) jobs that didn't commit yet are not seen here,
+        // in that case the related data is deleted and the batch is completed by the next run of the history cleanup
+        if (!nextBatchPartsCreated && areOtherBatchPartsCompleted(batchPart, batchService)) {
+            createDeleteRelatedDataBatchPart(batchService.getBatch(batchPart.getBatchId()), 1, processEngineConfiguration);
+        }
+    }
+
+    /**
+     * Deletes the data related to the deleted instances, in the same steps as {@link HistoricProcessInstanceQueryImpl#deleteWithRelatedData()}.
+     * The related data is found by the absence of the instances (or of the tasks in the second step),
+     * so every step is a separate part, which is only executed after the deletes of the previous one are committed.
+     */
+    protected void deleteRelatedData(BatchPart batchPart, int step, CommandContext commandContext, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        batchService.completeBatchPart(batchPart.getId(), BpmnHistoryCleanupJobHandler.STATUS_COMPLETED, null);
+
+        Batch batch = batchService.getBatch(batchPart.getBatchId());
+        if (step == 1) {
+            new DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd().execute(commandContext);
+            createDeleteRelatedDataBatchPart(batch, 2, processEngineConfiguration);
+
+        } else {
+            new DeleteRelatedDataOfRemovedHistoricProcessInstancesCmd().execute(commandContext);
+            BpmnHistoryCleanupJobHandler.completeBatch(batch, processEngineConfiguration);
+        }
+    }
+
+    protected boolean areOtherBatchPartsCompleted(BatchPart batchPart, BatchService batchService) {
+        for (BatchPart otherBatchPart : batchService.findBatchPartsByBatchId(batchPart.getBatchId())) {
+            if (!otherBatchPart.getId().equals(batchPart.getId()) && !otherBatchPart.isCompleted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the ids of the next page of historic process instances to clean, ordered by id.
+     *
+     * @param afterProcessInstanceId the last id of the previous page, null for the first page
+     */
+    public static List<String> findProcessInstanceIdsToClean(String afterProcessInstanceId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        HistoricProcessInstanceQueryImpl cleaningQuery = (HistoricProcessInstanceQueryImpl) processEngineConfiguration.getHistoryCleaningManager()
+                .createHistoricProcessInstanceCleaningQuery();
+        cleaningQuery.afterCursor(afterProcessInstanceId);
+        cleaningQuery.setFirstResult(0);
+        cleaningQuery.setMaxResults(getBatchSize(processEngineConfiguration) * MAX_BATCH_PARTS_PER_TRANSACTION);
+        return processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstanceIdsByQueryCriteria(cleaningQuery);
+    }
+
+    /**
+     * Creates the parts for a page of ids selected with {@link #findProcessInstanceIdsToClean(String, ProcessEngineConfigurationImpl)}.
+     * When the page is full, the last part will create the parts for the next page.
+     */
+    public static void createBatchParts(Batch batch, List<String> processInstanceIds, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        int batchSize = getBatchSize(processEngineConfiguration);
+        boolean morePages = processInstanceIds.size() >= batchSize * MAX_BATCH_PARTS_PER_TRANSACTION;
+        for (int i = 0; i < processInstanceIds.size(); i += batchSize) {
+            boolean lastBatchPart = i + batchSize >= processInstanceIds.size();
+            ObjectNode batchPartDocument = processEngineConfiguration.getObjectMapper().createObjectNode();
+            ArrayNode instanceIdsNode = batchPartDocument.putArray(INSTANCE_IDS_LABEL);
+            for (String processInstanceId : processInstanceIds.subList(i, Math.min(i + batchSize, processInstanceIds.size()))) {
+                instanceIdsNode.add(processInstanceId);
+            }
+            if (lastBatchPart && morePages) {
+                batchPartDocument.put(CREATE_NEXT_BATCH_PARTS_LABEL, true);
+            }
+            createBatchPart(batch, batchPartDocument, processEngineConfiguration);
+        }
+    }
+
+    public static void createDeleteRelatedDataBatchPart(Batch batch, int step, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode batchPartDocument = processEngineConfiguration.getObjectMapper().createObjectNode();
+        batchPartDocument.put(DELETE_RELATED_DATA_STEP_LABEL, step);
+        createBatchPart(batch, batchPartDocument, processEngineConfiguration);
+    }
+
+    protected static void createBatchPart(Batch batch, ObjectNode batchPartDocument, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        BatchPart batchPart = batchService.createBatchPart(batch, BpmnHistoryCleanupJobHandler.STATUS_WAITING, null, null, ScopeTypes.BPMN);
+        ((BatchPartEntity) batchPart).setResultDocumentJson(batchPartDocument.toString(), processEngineConfiguration.getEngineCfgKey());
+
+        scheduleBatchPartJob(batchPart, processEngineConfiguration);
+    }
+
+    protected static int getBatchSize(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        return Math.max(1, processEngineConfiguration.getCleanInstancesBatchSize());
+    }
+
+    public static void scheduleBatchPartJob(BatchPart batchPart, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode handlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_PART_ID, batchPart.getId());
+
+        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(handlerCfg.toString());
+
+        // Not exclusive, so the parts are deleted in parallel
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    protected static JsonNode readJson(String json, ObjectMapper objectMapper) {
+        if (json == null) {
+            return objectMapper.createObjectNode();
+        }
+
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read history cleanup batch part json " + json, e);
+        }
+    }
+
+}
@@ -12,17 +12,51 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchQueryImpl;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.HistoryCleaningManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic process instances matching the cleaning query of the {@link HistoryCleaningManager}.
+ *
+ * Instead of deleting everything in one transaction, the ids of the instances are split into batch parts of
+ * {@link ProcessEngineConfigurationImpl#getCleanInstancesBatchSize()} instances, which are deleted in parallel
+ * by {@link BpmnHistoryCleanupBatchPartJobHandler} jobs. Only the parts for the first page of ids are created here,
+ * the next ones are created by the batch part jobs.
+ *
+ * A new cleanup is only started when the previous one is finished. When none of the remaining parts of the previous cleanup
+ * will be executed anymore (because their jobs were moved to the dead letter jobs), the parts and the batch are marked as failed,
+ * so the next run can start a new cleanup. The dead letter jobs are kept, with their exception, and can still be moved back by an operator.
+ */
 public class BpmnHistoryCleanupJobHandler implements JobHandler {
 
     public static final String TYPE = "bpmn-history-cleanup";
 
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_FAILED = "failed";
+
+    protected static final String BATCH_SIZE_LABEL = "batchSize";
+
     @Override
     public String getType() {
         return TYPE;
@@ -31,8 +65,77 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
     @Override
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
 
-        processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        List<Batch> unfinishedBatches = batchService.findBatchesByQueryCriteria(new BatchQueryImpl()
+                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .status(STATUS_IN_PROGRESS));
+        if (!unfinishedBatches.isEmpty()) {
+            // A new batch is only started when the previous one is completed
+            for (Batch unfinishedBatch : unfinishedBatches) {
+                continueBatch(unfinishedBatch, commandContext, processEngineConfiguration);
+            }
+            return;
+        }
+
+        List<String> processInstanceIds = BpmnHistoryCleanupBatchPartJobHandler.findProcessInstanceIdsToClean(null, processEngineConfiguration);
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        ObjectNode batchDocument = processEngineConfiguration.getObjectMapper().createObjectNode();
+        batchDocument.put(BATCH_SIZE_LABEL, BpmnHistoryCleanupBatchPartJobHandler.getBatchSize(processEngineConfiguration));
+
+        Batch batch = batchService.createBatchBuilder()
+                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .status(STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchDocument.toString())
+                .create();
+
+        BpmnHistoryCleanupBatchPartJobHandler.createBatchParts(batch, processInstanceIds, processEngineConfiguration);
     }
-    
+
+    protected void continueBatch(Batch batch, CommandContext commandContext, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        List<BatchPart> waitingBatchParts = new ArrayList<>();
+        for (BatchPart batchPart : batchService.findBatchPartsByBatchId(batch.getId())) {
+            if (!batchPart.isCompleted()) {
+                waitingBatchParts.add(batchPart);
+            }
+        }
+
+        if (waitingBatchParts.isEmpty()) {
+            // The last parts were completed in parallel, so none of them saw that all others were completed
+            BpmnHistoryCleanupBatchPartJobHandler.createDeleteRelatedDataBatchPart(batch, 1, processEngineConfiguration);
+            return;
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        long pendingJobCount = jobServiceConfiguration.getJobEntityManager().findJobCountByQueryCriteria(
+                new JobQueryImpl(commandContext, jobServiceConfiguration).handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE))
+                + jobServiceConfiguration.getTimerJobEntityManager().findJobCountByQueryCriteria(
+                new TimerJobQueryImpl(commandContext, jobServiceConfiguration).handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE));
+
+        if (pendingJobCount == 0) {
+            // None of the remaining parts will be executed anymore, their dead letter jobs are left for an operator to inspect
+            for (BatchPart waitingBatchPart : waitingBatchParts) {
+                ((BatchPartEntity) waitingBatchPart).setStatus(STATUS_FAILED);
+            }
+            failBatch(batch, processEngineConfiguration);
+        }
+    }
+
+    protected void failBatch(Batch batch, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BatchEntity batchEntity = (BatchEntity) batch;
+        batchEntity.setStatus(STATUS_FAILED);
+        processEngineConfiguration.getBatchServiceConfiguration().getBatchService().updateBatch(batchEntity);
+    }
+
+    protected static void completeBatch(Batch batch, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BatchEntity batchEntity = (BatchEntity) batch;
+        batchEntity.setStatus(STATUS_COMPLETED);
+        batchEntity.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+        processEngineConfiguration.getBatchServiceConfiguration().getBatchService().updateBatch(batchEntity);
+    }
+
 }
@@ -55,7 +55,8 @@ public class TimerStartEventJobHandler extends TimerEventHandler implements JobH
                 ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
                 FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TIMER_FIRED, job),
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.TIMER_FIRED,
+                            () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TIMER_FIRED, job),
                             processEngineConfiguration.getEngineCfgKey());
                 }
 
@@ -198,7 +198,8 @@ public class DeploymentManager {
 
             // Since all process definitions are deleted by a single query, we should dispatch the events in this loop
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, processDefinition),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, processDefinition),
                         processEngineConfiguration.getEngineCfgKey());
             }
         }
@@ -208,7 +209,8 @@ public class DeploymentManager {
 
         // Since we use a delete by query, delete-events are not automatically dispatched
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, deployment),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, deployment),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -18,14 +18,17 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.entity.CacheIndexedEntity;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
 /**
  * @author martin.grofcik
  */
-public class ActivityInstanceEntityImpl extends AbstractBpmnEngineEntity implements ActivityInstanceEntity, Serializable {
+public class ActivityInstanceEntityImpl extends AbstractBpmnEngineEntity implements ActivityInstanceEntity, Serializable, CacheIndexedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -46,6 +49,8 @@ public class ActivityInstanceEntityImpl extends AbstractBpmnEngineEntity impleme
     protected String calledProcessInstanceId;
     protected String tenantId = ProcessEngineConfiguration.NO_TENANT_ID;
 
+    protected boolean isCacheIndexed;
+
     public ActivityInstanceEntityImpl() {
 
     }
@@ -186,7 +191,10 @@ public class ActivityInstanceEntityImpl extends AbstractBpmnEngineEntity impleme
 
     @Override
     public void setExecutionId(String executionId) {
-        this.executionId = executionId;
+        if (!Objects.equals(this.executionId, executionId)) {
+            this.executionId = executionId;
+            CachedEntityIndex.keyChanged(this);
+        }
     }
 
     @Override
@@ -234,9 +242,18 @@ public class ActivityInstanceEntityImpl extends AbstractBpmnEngineEntity impleme
         return getStartTime();
     }
 
+    @Override
+    public boolean isCacheIndexed() {
+        return isCacheIndexed;
+    }
+
+    @Override
+    public void setCacheIndexed(boolean isCacheIndexed) {
+        this.isCacheIndexed = isCacheIndexed;
+    }
+
     @Override
     public String toString() {
         return "ActivityInstanceEntity[id=" + id + ", activityId=" + activityId + ", activityName=" + activityName + ", executionId= " + executionId + "]";
     }
-
 }
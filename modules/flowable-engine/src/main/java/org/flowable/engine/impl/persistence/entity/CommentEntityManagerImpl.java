@@ -43,7 +43,9 @@ public class CommentEntityManagerImpl
         insert(commentEntity, false);
 
         Comment comment = (Comment) commentEntity;
-        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
+        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()
+                && (getEventDispatcher().hasListeners(FlowableEngineEventType.ENTITY_CREATED, engineConfiguration.getEngineCfgKey())
+                        || getEventDispatcher().hasListeners(FlowableEngineEventType.ENTITY_INITIALIZED, engineConfiguration.getEngineCfgKey()))) {
             // Forced to fetch the process-instance to associate the right
             // process definition
             String processDefinitionId = null;
@@ -69,7 +71,8 @@ public class CommentEntityManagerImpl
 
         CommentEntity updatedCommentEntity = update(commentEntity, false);
 
-        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
+        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()
+                && getEventDispatcher().hasListeners(FlowableEngineEventType.ENTITY_UPDATED, engineConfiguration.getEngineCfgKey())) {
             // Forced to fetch the process-instance to associate the right
             // process definition
             String processDefinitionId = null;
@@ -159,7 +162,8 @@ public class CommentEntityManagerImpl
         delete(commentEntity, false);
 
         Comment comment = (Comment) commentEntity;
-        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
+        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()
+                && getEventDispatcher().hasListeners(FlowableEngineEventType.ENTITY_DELETED, engineConfiguration.getEngineCfgKey())) {
             // Forced to fetch the process-instance to associate the right
             // process definition
             String processDefinitionId = null;
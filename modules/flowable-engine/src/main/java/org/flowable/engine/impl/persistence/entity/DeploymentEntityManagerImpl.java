@@ -148,7 +148,8 @@ public class DeploymentEntityManagerImpl
         if (timerStartJobs != null && timerStartJobs.size() > 0) {
             for (TimerJobEntity timerStartJob : timerStartJobs) {
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                    getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, 
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.JOB_CANCELED,
+                            () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, 
                             timerStartJob, null, null, processDefinition.getId()), engineConfiguration.getEngineCfgKey());
                 }
 
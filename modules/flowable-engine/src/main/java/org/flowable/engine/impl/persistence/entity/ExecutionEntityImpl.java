@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Activity;
@@ -32,6 +33,8 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.entity.CacheIndexedEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSession;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSessionData;
@@ -62,7 +65,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, CacheIndexedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -219,6 +222,8 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     protected boolean forcedUpdate;
 
+    protected boolean isCacheIndexed;
+
     protected List<VariableInstanceEntity> queryVariables;
     
     // Callback
@@ -473,7 +478,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setProcessInstance(ExecutionEntity processInstance) {
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
-            this.processInstanceId = this.processInstance.getId();
+            setProcessInstanceId(this.processInstance.getId());
         }
     }
 
@@ -502,9 +507,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
-            this.parentId = parent.getId();
+            setParentId(parent.getId());
         } else {
-            this.parentId = null;
+            setParentId(null);
         }
     }
 
@@ -958,7 +963,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
-        this.processInstanceId = processInstanceId;
+        if (!Objects.equals(this.processInstanceId, processInstanceId)) {
+            this.processInstanceId = processInstanceId;
+            CachedEntityIndex.keyChanged(this);
+        }
     }
 
     @Override
@@ -968,7 +976,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
-        this.parentId = parentId;
+        if (!Objects.equals(this.parentId, parentId)) {
+            this.parentId = parentId;
+            CachedEntityIndex.keyChanged(this);
+        }
     }
 
     @Override
@@ -1110,6 +1121,16 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
+    @Override
+    public boolean isCacheIndexed() {
+        return isCacheIndexed;
+    }
+
+    @Override
+    public void setCacheIndexed(boolean isCacheIndexed) {
+        this.isCacheIndexed = isCacheIndexed;
+    }
+
     @Override
     public boolean isCountEnabled() {
         return isCountEnabled;
@@ -50,6 +50,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Fetches all executions of the given process instances in one query, which puts them in the entity cache.
+     * For the rest of the command, looking up the executions of these process instances doesn't query the database anymore.
+     */
+    List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(String parentExecutionId, Collection<String> activityIds);
 
     long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery);
@@ -121,6 +121,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findChildExecutionsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findExecutionsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         return dataManager.findExecutionsByParentExecutionAndActivityIds(parentExecutionId, activityIds);
@@ -303,7 +308,8 @@ public class ExecutionEntityManagerImpl
 
         // Fire events
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution),
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution),
                     engineConfiguration.getEngineCfgKey());
         }
 
@@ -335,9 +341,11 @@ public class ExecutionEntityManagerImpl
         }
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution),
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution),
                     engineConfiguration.getEngineCfgKey());
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution),
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution),
                     engineConfiguration.getEngineCfgKey());
         }
 
@@ -382,7 +390,8 @@ public class ExecutionEntityManagerImpl
 
         FlowableEventDispatcher flowableEventDispatcher = engineConfiguration.getEventDispatcher();
         if (flowableEventDispatcher != null && flowableEventDispatcher.isEnabled()) {
-            flowableEventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, subProcessInstance),
+            flowableEventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, subProcessInstance),
                     engineConfiguration.getEngineCfgKey());
         }
 
@@ -469,12 +478,10 @@ public class ExecutionEntityManagerImpl
         }
     }
 
-    protected void deleteProcessInstanceCascade(ExecutionEntity execution, String deleteReason, boolean deleteHistory, boolean directDeleteInDatabase) {
+    protected void deleteProcessInstanceCascade(ExecutionEntity execution, String reason, boolean deleteHistory, boolean directDeleteInDatabase) {
 
         // fill default reason if none provided
-        if (deleteReason == null) {
-            deleteReason = DeleteReason.PROCESS_INSTANCE_DELETED;
-        }
+        String deleteReason = reason != null ? reason : DeleteReason.PROCESS_INSTANCE_DELETED;
         getActivityInstanceEntityManager().deleteActivityInstancesByProcessInstanceId(execution.getId());
 
         List<ExecutionEntity> childExecutions = collectChildren(execution.getProcessInstance());
@@ -486,7 +493,8 @@ public class ExecutionEntityManagerImpl
 
                         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
                             FlowElement callActivityElement = miExecutionEntity.getCurrentFlowElement();
-                            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createActivityCancelledEvent(callActivityElement.getId(),
+                            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ACTIVITY_CANCELLED,
+                                    () -> FlowableEventBuilder.createActivityCancelledEvent(callActivityElement.getId(),
                                     callActivityElement.getName(), miExecutionEntity.getId(), miExecutionEntity.getProcessInstanceId(),
                                     miExecutionEntity.getProcessDefinitionId(), "callActivity", deleteReason), engineConfiguration.getEngineCfgKey());
                         }
@@ -498,7 +506,8 @@ public class ExecutionEntityManagerImpl
 
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
                     FlowElement callActivityElement = subExecutionEntity.getCurrentFlowElement();
-                    getEventDispatcher().dispatchEvent(FlowableEventBuilder.createActivityCancelledEvent(callActivityElement.getId(),
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.ACTIVITY_CANCELLED,
+                            () -> FlowableEventBuilder.createActivityCancelledEvent(callActivityElement.getId(),
                             callActivityElement.getName(), subExecutionEntity.getId(), subExecutionEntity.getProcessInstanceId(),
                             subExecutionEntity.getProcessDefinitionId(), "callActivity", deleteReason), engineConfiguration.getEngineCfgKey());
                 }
@@ -508,7 +517,8 @@ public class ExecutionEntityManagerImpl
         TaskHelper.deleteTasksByProcessInstanceId(execution.getId(), deleteReason, deleteHistory);
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createCancelledEvent(execution.getProcessInstanceId(),
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.PROCESS_CANCELLED,
+                    () -> FlowableEventBuilder.createCancelledEvent(execution.getProcessInstanceId(),
                     execution.getProcessInstanceId(), execution.getProcessDefinitionId(), deleteReason), engineConfiguration.getEngineCfgKey());
         }
 
@@ -597,7 +607,8 @@ public class ExecutionEntityManagerImpl
 
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled() && fireEvents) {
                     FlowElement callActivityElement = subExecutionEntity.getCurrentFlowElement();
-                    getEventDispatcher().dispatchEvent(FlowableEventBuilder.createActivityCancelledEvent(callActivityElement.getId(),
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.ACTIVITY_CANCELLED,
+                            () -> FlowableEventBuilder.createActivityCancelledEvent(callActivityElement.getId(),
                             callActivityElement.getName(), subExecutionEntity.getId(), processInstanceId, subExecutionEntity.getProcessDefinitionId(),
                             "callActivity", deleteReason), engineConfiguration.getEngineCfgKey());
                 }
@@ -616,10 +627,12 @@ public class ExecutionEntityManagerImpl
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled() && fireEvents) {
             if (!cancel) {
-                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_COMPLETED, processInstanceEntity),
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.PROCESS_COMPLETED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_COMPLETED, processInstanceEntity),
                         engineConfiguration.getEngineCfgKey());
             } else {
-                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createCancelledEvent(processInstanceEntity.getId(),
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.PROCESS_CANCELLED,
+                        () -> FlowableEventBuilder.createCancelledEvent(processInstanceEntity.getId(),
                         processInstanceEntity.getId(), processInstanceEntity.getProcessDefinitionId(), deleteReason),
                         engineConfiguration.getEngineCfgKey());
             }
@@ -741,8 +754,8 @@ public class ExecutionEntityManagerImpl
     protected void dispatchActivityCancelled(ExecutionEntity execution, FlowElement cancelActivity) {
         FlowableEventDispatcher eventDispatcher = engineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-              eventDispatcher.dispatchEvent(
-                      FlowableEventBuilder.createActivityCancelledEvent(execution.getCurrentFlowElement().getId(),
+              eventDispatcher.dispatchEvent(FlowableEngineEventType.ACTIVITY_CANCELLED,
+                      () -> FlowableEventBuilder.createActivityCancelledEvent(execution.getCurrentFlowElement().getId(),
                               execution.getCurrentFlowElement().getName(), execution.getId(), execution.getProcessInstanceId(),
                               execution.getProcessDefinitionId(), getActivityType((FlowNode) execution.getCurrentFlowElement()), cancelActivity),
                       engineConfiguration.getEngineCfgKey());
@@ -754,8 +767,8 @@ public class ExecutionEntityManagerImpl
     protected void dispatchMultiInstanceActivityCancelled(ExecutionEntity execution, FlowElement cancelActivity) {
         FlowableEventDispatcher eventDispatcher = engineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(
-                FlowableEventBuilder.createMultiInstanceActivityCancelledEvent(execution.getCurrentFlowElement().getId(),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_CANCELLED,
+                () -> FlowableEventBuilder.createMultiInstanceActivityCancelledEvent(execution.getCurrentFlowElement().getId(),
                     execution.getCurrentFlowElement().getName(), execution.getId(), execution.getProcessInstanceId(),
                     execution.getProcessDefinitionId(), getActivityType((FlowNode) execution.getCurrentFlowElement()), cancelActivity),
                 engineConfiguration.getEngineCfgKey());
@@ -922,9 +935,11 @@ public class ExecutionEntityManagerImpl
                         if (eventDispatcherEnabled) {
                             FlowableEventDispatcher eventDispatcher = engineConfiguration.getEventDispatcher();
                             if (eventDispatcher != null) {
-                                eventDispatcher.dispatchEvent(EventUtil.createVariableDeleteEvent(variableInstanceEntity),
+                                eventDispatcher.dispatchEvent(FlowableEngineEventType.VARIABLE_DELETED,
+                                        () -> EventUtil.createVariableDeleteEvent(variableInstanceEntity),
                                         engineConfiguration.getEngineCfgKey());
-                                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
+                                eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
                                         engineConfiguration.getEngineCfgKey());
                             }
                         }
@@ -950,9 +965,11 @@ public class ExecutionEntityManagerImpl
                 if (eventDispatcherEnabled) {
                     FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher(commandContext);
                     if (eventDispatcher != null) {
-                        eventDispatcher.dispatchEvent(EventUtil.createVariableDeleteEvent(variableInstance),
+                        eventDispatcher.dispatchEvent(FlowableEngineEventType.VARIABLE_DELETED,
+                                () -> EventUtil.createVariableDeleteEvent(variableInstance),
                                 engineConfiguration.getEngineCfgKey());
-                        eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
+                        eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                                () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
                                 engineConfiguration.getEngineCfgKey());
                     }
                 }
@@ -1016,7 +1033,8 @@ public class ExecutionEntityManagerImpl
                 externalWorkerJobEntityManager.delete(job);
                 identityLinkService.deleteIdentityLinksByScopeIdAndType(job.getCorrelationId(), ScopeTypes.EXTERNAL_WORKER);
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                    getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job),
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.JOB_CANCELED,
+                            () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job),
                             engineConfiguration.getEngineCfgKey());
                 }
             }
@@ -1036,7 +1054,8 @@ public class ExecutionEntityManagerImpl
                     
                     fireEntityDeletedEvent(eventSubscription);
                     if (MessageEventSubscriptionEntity.EVENT_TYPE.equals(eventSubscription.getEventType())) {
-                        getEventDispatcher().dispatchEvent(FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_CANCELLED,
+                        getEventDispatcher().dispatchEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_CANCELLED,
+                                () -> FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_CANCELLED,
                                 eventSubscription.getActivityId(), eventSubscription.getEventName(), null, eventSubscription.getExecutionId(),
                                 eventSubscription.getProcessInstanceId(), eventSubscription.getProcessDefinitionId()),
                                 engineConfiguration.getEngineCfgKey());
@@ -1077,7 +1096,8 @@ public class ExecutionEntityManagerImpl
             getHistoryManager().updateProcessBusinessKeyInHistory(executionEntity);
 
             if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, executionEntity),
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_UPDATED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, executionEntity),
                         engineConfiguration.getEngineCfgKey());
             }
 
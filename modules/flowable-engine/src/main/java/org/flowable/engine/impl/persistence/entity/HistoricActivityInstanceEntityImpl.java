@@ -17,7 +17,10 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.common.engine.impl.persistence.entity.CacheIndexedEntity;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.runtime.ActivityInstance;
 
@@ -25,7 +28,7 @@ import org.flowable.engine.runtime.ActivityInstance;
  * @author Christian Stettler
  * @author Joram Barrez
  */
-public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEntityImpl implements HistoricActivityInstanceEntity {
+public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEntityImpl implements HistoricActivityInstanceEntity, CacheIndexedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -39,6 +42,8 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
     protected String calledProcessInstanceId;
     protected String tenantId = ProcessEngineConfiguration.NO_TENANT_ID;
 
+    protected boolean isCacheIndexed;
+
     public HistoricActivityInstanceEntityImpl() {
 
     }
@@ -131,7 +136,10 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setExecutionId(String executionId) {
-        this.executionId = executionId;
+        if (!Objects.equals(this.executionId, executionId)) {
+            this.executionId = executionId;
+            CachedEntityIndex.keyChanged(this);
+        }
     }
 
     @Override
@@ -181,9 +189,18 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     // common methods //////////////////////////////////////////////////////////
 
+    @Override
+    public boolean isCacheIndexed() {
+        return isCacheIndexed;
+    }
+
+    @Override
+    public void setCacheIndexed(boolean isCacheIndexed) {
+        this.isCacheIndexed = isCacheIndexed;
+    }
+
     @Override
     public String toString() {
         return "HistoricActivityInstanceEntity[id=" + id + ", activityId=" + activityId + ", activityName=" + activityName + ", executionId= " + executionId + "]";
     }
-
 }
@@ -140,7 +140,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public List<ExecutionEntity> findChildExecutionsByParentExecutionId(final String parentExecutionId) {
-        if (isExecutionTreeFetched(parentExecutionId)) {
+        if (isProcessInstanceFetched(parentExecutionId) || isExecutionTreeFetched(parentExecutionId)) {
             return getListFromCache(executionsByParentIdMatcher, parentExecutionId);
         } else {
             return getList("selectExecutionsByParentExecutionId", parentExecutionId, executionsByParentIdMatcher, true);
@@ -149,20 +149,33 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public List<ExecutionEntity> findChildExecutionsByProcessInstanceId(final String processInstanceId) {
-        if (isExecutionTreeFetched(processInstanceId)) {
+        if (isProcessInstanceFetched(processInstanceId) || isExecutionTreeFetched(processInstanceId)) {
             return getListFromCache(executionsByProcessInstanceIdMatcher, processInstanceId);
         } else {
             return getList("selectChildExecutionsByProcessInstanceId", processInstanceId, executionsByProcessInstanceIdMatcher, true);
         }
     }
 
+    @Override
+    public List<ExecutionEntity> findExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return fetchAll("selectExecutionsByProcessInstanceIds", processInstanceIds, "processInstanceId");
+    }
+
+    /**
+     * @return true when all executions of the process instance of the execution were fetched with {@link #findExecutionsByProcessInstanceIds(Collection)}
+     */
+    protected boolean isProcessInstanceFetched(String executionId) {
+        ExecutionEntity cachedExecutionEntity = getEntityCache().findInCache(getManagedEntityClass(), executionId);
+        return cachedExecutionEntity != null && isFetched("processInstanceId", cachedExecutionEntity.getProcessInstanceId());
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         Map<String, Object> parameters = new HashMap<>(2);
         parameters.put("parentExecutionId", parentExecutionId);
         parameters.put("activityIds", activityIds);
 
-        if (isExecutionTreeFetched(parentExecutionId)) {
+        if (isProcessInstanceFetched(parentExecutionId) || isExecutionTreeFetched(parentExecutionId)) {
             return getListFromCache(executionsByParentExecutionIdAndActivityIdEntityMatcher, parameters);
         } else {
             return getList("selectExecutionsByParentExecutionAndActivityIds", parameters, executionsByParentExecutionIdAndActivityIdEntityMatcher, true);
@@ -180,7 +193,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public List<ExecutionEntity> findExecutionsByProcessInstanceId(final String processInstanceId) {
-        if (isExecutionTreeFetched(processInstanceId)) {
+        if (isProcessInstanceFetched(processInstanceId) || isExecutionTreeFetched(processInstanceId)) {
             return getListFromCache(executionByProcessInstanceMatcher, processInstanceId);
         } else {
             return getList("selectExecutionsByProcessInstanceId", processInstanceId, executionByProcessInstanceMatcher, true);
@@ -14,13 +14,17 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntity;
 
 /**
  * @author martin.grofcik
  */
-public class ActivityInstanceMatcher extends CachedEntityMatcherAdapter<ActivityInstanceEntity> {
+public class ActivityInstanceMatcher extends CachedEntityMatcherAdapter<ActivityInstanceEntity> implements IndexedCachedEntityMatcher<ActivityInstanceEntity> {
+
+    public static final CachedEntityIndex<ActivityInstanceEntity> EXECUTION_ID_INDEX = new CachedEntityIndex<>("executionId", ActivityInstanceEntity::getExecutionId);
 
     @Override
     public boolean isRetained(ActivityInstanceEntity entity, Object parameter) {
@@ -32,4 +36,15 @@ public class ActivityInstanceMatcher extends CachedEntityMatcherAdapter<Activity
                 && entity.getActivityId() != null && entity.getActivityId().equals(activityId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<ActivityInstanceEntity> getIndex() {
+        return EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("executionId");
+    }
+
+}
@@ -14,13 +14,17 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class HistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> {
+public class HistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> implements IndexedCachedEntityMatcher<HistoricActivityInstanceEntity> {
+
+    public static final CachedEntityIndex<HistoricActivityInstanceEntity> EXECUTION_ID_INDEX = new CachedEntityIndex<>("executionId", HistoricActivityInstanceEntity::getExecutionId);
 
     @Override
     public boolean isRetained(HistoricActivityInstanceEntity entity, Object parameter) {
@@ -32,4 +36,15 @@ public class HistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<
                 && entity.getActivityId() != null && entity.getActivityId().equals(activityId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<HistoricActivityInstanceEntity> getIndex() {
+        return EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("executionId");
+    }
+
+}
@@ -14,13 +14,15 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntity;
 
 /**
  * @author martin.grofcik
  */
-public class UnfinishedActivityInstanceMatcher extends CachedEntityMatcherAdapter<ActivityInstanceEntity> {
+public class UnfinishedActivityInstanceMatcher extends CachedEntityMatcherAdapter<ActivityInstanceEntity> implements IndexedCachedEntityMatcher<ActivityInstanceEntity> {
 
     @Override
     public boolean isRetained(ActivityInstanceEntity entity, Object parameter) {
@@ -33,4 +35,15 @@ public class UnfinishedActivityInstanceMatcher extends CachedEntityMatcherAdapte
                 && entity.getEndTime() == null;
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<ActivityInstanceEntity> getIndex() {
+        return ActivityInstanceMatcher.EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("executionId");
+    }
+
+}
@@ -14,13 +14,15 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> {
+public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> implements IndexedCachedEntityMatcher<HistoricActivityInstanceEntity> {
 
     @Override
     public boolean isRetained(HistoricActivityInstanceEntity entity, Object parameter) {
@@ -33,4 +35,15 @@ public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatch
                 && entity.getEndTime() == null;
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<HistoricActivityInstanceEntity> getIndex() {
+        return HistoricActivityInstanceMatcher.EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("executionId");
+    }
+
+}
@@ -0,0 +1,223 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cmd.BulkStartProcessInstancesCmd;
+import org.flowable.engine.runtime.BulkProcessInstanceStartBuilder;
+import org.flowable.engine.runtime.BulkProcessInstanceStartResult;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class BulkProcessInstanceStartBuilderImpl implements BulkProcessInstanceStartBuilder {
+
+    protected CommandExecutor commandExecutor;
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected String overrideDefinitionTenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected Map<String, Object> variables;
+    protected int transactionSize = 100;
+    protected List<InstanceData> instances = new ArrayList<>();
+
+    public BulkProcessInstanceStartBuilderImpl(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder processDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder overrideProcessDefinitionTenantId(String tenantId) {
+        this.overrideDefinitionTenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder variables(Map<String, Object> variables) {
+        if (this.variables == null) {
+            this.variables = new HashMap<>();
+        }
+        if (variables != null) {
+            this.variables.putAll(variables);
+        }
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder variable(String variableName, Object value) {
+        if (this.variables == null) {
+            this.variables = new HashMap<>();
+        }
+        this.variables.put(variableName, value);
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder transactionSize(int transactionSize) {
+        if (transactionSize < 1) {
+            throw new FlowableIllegalArgumentException("transactionSize must be at least 1");
+        }
+        this.transactionSize = transactionSize;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder instance(String businessKey) {
+        return instance(businessKey, null, null);
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder instance(String businessKey, Map<String, Object> variables) {
+        return instance(businessKey, null, variables);
+    }
+
+    @Override
+    public BulkProcessInstanceStartBuilder instance(String businessKey, String name, Map<String, Object> variables) {
+        instances.add(new InstanceData(businessKey, name, variables));
+        return this;
+    }
+
+    @Override
+    public List<BulkProcessInstanceStartResult> start() {
+        if (processDefinitionId == null && processDefinitionKey == null) {
+            throw new FlowableIllegalArgumentException("No processDefinitionId nor processDefinitionKey provided");
+        }
+
+        List<BulkProcessInstanceStartResult> results = new ArrayList<>(instances.size());
+
+        // The process definition is resolved once and the same process definition is used for all transactions
+        String resolvedProcessDefinitionId;
+        try {
+            resolvedProcessDefinitionId = commandExecutor.execute(commandContext -> new BulkStartProcessInstancesCmd(this, null, Collections.emptyList())
+                    .getProcessDefinition(commandContext).getId());
+        } catch (RuntimeException e) {
+            for (int i = 0; i < instances.size(); i++) {
+                results.add(new BulkProcessInstanceStartResultImpl(i, instances.get(i).getBusinessKey(), null, e));
+            }
+            return results;
+        }
+
+        for (int start = 0; start < instances.size(); start += transactionSize) {
+            List<InstanceData> transactionInstances = instances.subList(start, Math.min(start + transactionSize, instances.size()));
+            try {
+                List<ProcessInstance> processInstances = commandExecutor.execute(
+                        new BulkStartProcessInstancesCmd(this, resolvedProcessDefinitionId, transactionInstances));
+                for (int i = 0; i < processInstances.size(); i++) {
+                    results.add(new BulkProcessInstanceStartResultImpl(start + i, transactionInstances.get(i).getBusinessKey(), processInstances.get(i), null));
+                }
+
+            } catch (RuntimeException e) {
+                // The whole transaction is rolled back, so the instances are started one by one to find out which ones are failing
+                for (int i = 0; i < transactionInstances.size(); i++) {
+                    InstanceData instance = transactionInstances.get(i);
+                    try {
+                        ProcessInstance processInstance = commandExecutor.execute(new BulkStartProcessInstancesCmd(this, resolvedProcessDefinitionId,
+                                Collections.singletonList(instance))).get(0);
+                        results.add(new BulkProcessInstanceStartResultImpl(start + i, instance.getBusinessKey(), processInstance, null));
+                    } catch (RuntimeException instanceException) {
+                        results.add(new BulkProcessInstanceStartResultImpl(start + i, instance.getBusinessKey(), null, instanceException));
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getOverrideDefinitionTenantId() {
+        return overrideDefinitionTenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public int getTransactionSize() {
+        return transactionSize;
+    }
+
+    public List<InstanceData> getInstances() {
+        return instances;
+    }
+
+    public static class InstanceData {
+
+        protected final String businessKey;
+        protected final String name;
+        protected final Map<String, Object> variables;
+
+        public InstanceData(String businessKey, String name, Map<String, Object> variables) {
+            this.businessKey = businessKey;
+            this.name = name;
+            this.variables = variables;
+        }
+
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+}
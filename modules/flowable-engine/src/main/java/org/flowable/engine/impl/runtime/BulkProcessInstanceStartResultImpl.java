@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import org.flowable.engine.runtime.BulkProcessInstanceStartResult;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class BulkProcessInstanceStartResultImpl implements BulkProcessInstanceStartResult {
+
+    protected final int index;
+    protected final String businessKey;
+    protected final ProcessInstance processInstance;
+    protected final RuntimeException exception;
+
+    public BulkProcessInstanceStartResultImpl(int index, String businessKey, ProcessInstance processInstance, RuntimeException exception) {
+        this.index = index;
+        this.businessKey = businessKey;
+        this.processInstance = processInstance;
+        this.exception = exception;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String getBusinessKey() {
+        return businessKey;
+    }
+
+    @Override
+    public ProcessInstance getProcessInstance() {
+        return processInstance;
+    }
+
+    @Override
+    public RuntimeException getException() {
+        return exception;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkProcessInstanceStartResult[index=" + index + ", businessKey=" + businessKey
+                + (exception != null ? ", exception=" + exception.getMessage() : ", processInstanceId=" + processInstance.getId()) + "]";
+    }
+}
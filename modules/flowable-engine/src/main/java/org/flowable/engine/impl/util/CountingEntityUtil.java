@@ -49,9 +49,11 @@ public class CountingEntityUtil {
         
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (fireDeleteEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
                     processEngineConfiguration.getEngineCfgKey());
-            eventDispatcher.dispatchEvent(EventUtil.createVariableDeleteEvent(variableInstance), processEngineConfiguration.getEngineCfgKey());
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.VARIABLE_DELETED,
+                    () -> EventUtil.createVariableDeleteEvent(variableInstance), processEngineConfiguration.getEngineCfgKey());
         }
     }
     
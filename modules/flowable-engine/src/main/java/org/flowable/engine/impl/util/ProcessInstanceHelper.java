@@ -214,7 +214,8 @@ public class ProcessInstanceHelper {
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         boolean eventDispatcherEnabled = eventDispatcher != null && eventDispatcher.isEnabled();
         if (eventDispatcherEnabled) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_CREATED, processInstance),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.PROCESS_CREATED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.PROCESS_CREATED, processInstance),
                     processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -242,7 +243,8 @@ public class ProcessInstanceHelper {
         
         // Fire events
         if (eventDispatcherEnabled) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityWithVariablesEvent(FlowableEngineEventType.ENTITY_INITIALIZED, 
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_INITIALIZED,
+                    () -> FlowableEventBuilder.createEntityWithVariablesEvent(FlowableEngineEventType.ENTITY_INITIALIZED, 
                     processInstance, startInstanceBeforeContext.getVariables(), false), processEngineConfiguration.getEngineCfgKey());
         }
 
@@ -284,7 +286,8 @@ public class ProcessInstanceHelper {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createProcessStartedEvent(execution, variables, false),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.PROCESS_STARTED,
+                    () -> FlowableEventBuilder.createProcessStartedEvent(execution, variables, false),
                     processEngineConfiguration.getEngineCfgKey());
         }
     }
@@ -357,14 +360,16 @@ public class ProcessInstanceHelper {
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             for (EventSubscriptionEntity messageEventSubscription : messageEventSubscriptions) {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING, messageEventSubscription.getActivityId(),
+                processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING,
+                        () -> FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING, messageEventSubscription.getActivityId(),
                         messageEventSubscription.getEventName(), null, messageEventSubscription.getExecutionId(),
                         messageEventSubscription.getProcessInstanceId(), messageEventSubscription.getProcessDefinitionId()),
                         processEngineConfiguration.getEngineCfgKey());
             }
 
             for (EventSubscriptionEntity signalEventSubscription : signalEventSubscriptions) {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING, signalEventSubscription.getActivityId(),
+                processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING,
+                        () -> FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING, signalEventSubscription.getActivityId(),
                         signalEventSubscription.getEventName(), null, signalEventSubscription.getExecutionId(),
                         signalEventSubscription.getProcessInstanceId(), signalEventSubscription.getProcessDefinitionId()),
                         processEngineConfiguration.getEngineCfgKey());
@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+
+/**
+ * Fetches the runtime state of a process instance (executions, variables, tasks, identity links, event subscriptions and timer jobs)
+ * with one query per type of data. All fetched entities end up in the entity cache of the current command, and the lookups done
+ * while continuing the process instance (for example when an execution loads its variables) are answered from that cache
+ * instead of doing a query per execution.
+ *
+ * Used for the jobs with a handler type in {@link org.flowable.engine.impl.cfg.PerformanceSettings#getProcessInstancePreloadingJobHandlerTypes()}.
+ */
+public class ProcessInstancePreloadUtil {
+
+    protected static final String PRELOADED_PROCESS_INSTANCE_IDS_ATTRIBUTE = "preloadedProcessInstanceIds";
+
+    @SuppressWarnings("unchecked")
+    public static void preloadProcessInstance(String processInstanceId, CommandContext commandContext) {
+        Set<String> preloadedProcessInstanceIds = (Set<String>) commandContext.getAttribute(PRELOADED_PROCESS_INSTANCE_IDS_ATTRIBUTE);
+        if (preloadedProcessInstanceIds == null) {
+            preloadedProcessInstanceIds = new HashSet<>();
+            commandContext.addAttribute(PRELOADED_PROCESS_INSTANCE_IDS_ATTRIBUTE, preloadedProcessInstanceIds);
+        }
+        if (!preloadedProcessInstanceIds.add(processInstanceId)) {
+            return;
+        }
+
+        List<String> processInstanceIds = Collections.singletonList(processInstanceId);
+        List<ExecutionEntity> executions = CommandContextUtil.getExecutionEntityManager(commandContext).findExecutionsByProcessInstanceIds(processInstanceIds);
+        if (executions.isEmpty()) {
+            return;
+        }
+
+        List<String> executionIds = new ArrayList<>(executions.size());
+        for (ExecutionEntity execution : executions) {
+            executionIds.add(execution.getId());
+        }
+
+        CommandContextUtil.getVariableService(commandContext).findVariableInstancesByExecutionIds(executionIds);
+        CommandContextUtil.getEventSubscriptionService(commandContext).findEventSubscriptionsByExecutionIds(executionIds);
+        CommandContextUtil.getTimerJobService(commandContext).findTimerJobsByExecutionIds(executionIds);
+        CommandContextUtil.getIdentityLinkService(commandContext).findIdentityLinksByProcessInstanceIds(processInstanceIds);
+
+        List<TaskEntity> tasks = CommandContextUtil.getTaskService(commandContext).findTasksByExecutionIds(executionIds);
+        if (!tasks.isEmpty()) {
+            List<String> taskIds = new ArrayList<>(tasks.size());
+            for (TaskEntity task : tasks) {
+                taskIds.add(task.getId());
+            }
+            CommandContextUtil.getIdentityLinkService(commandContext).findIdentityLinksByTaskIds(taskIds);
+        }
+    }
+
+}
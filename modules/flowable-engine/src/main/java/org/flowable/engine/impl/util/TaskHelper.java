@@ -112,7 +112,8 @@ public class TaskHelper {
         logUserTaskCompleted(taskEntity);
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && eventDispatcher.hasListeners(FlowableEngineEventType.TASK_COMPLETED, processEngineConfiguration.getEngineCfgKey())) {
             if (variables != null) {
 
                 // The only way a task can be completed + event thrown is either with variables or with localvariables,
@@ -232,7 +233,8 @@ public class TaskHelper {
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (fireCreateEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
             if (taskEntity.getAssignee() != null) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.TASK_ASSIGNED,
+                        () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity),
                         processEngineConfiguration.getEngineCfgKey());
             }
         }
@@ -362,7 +364,8 @@ public class TaskHelper {
                 List<IdentityLinkEntity> identityLinks = processEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkService()
                         .findIdentityLinksByTaskId(task.getId());
                 for (IdentityLinkEntity identityLinkEntity : identityLinks) {
-                    eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, identityLinkEntity),
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                            () -> FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, identityLinkEntity),
                             processEngineConfiguration.getEngineCfgKey());
                 }
                 deleteIdentityLinks = !identityLinks.isEmpty();
@@ -381,7 +384,8 @@ public class TaskHelper {
             List<ByteArrayRef> variableByteArrayRefs = new ArrayList<>();
             for (VariableInstanceEntity variableInstanceEntity : taskVariables.values()) {
                 if (fireEvents) {
-                    eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstanceEntity),
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                            () -> FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstanceEntity),
                             processEngineConfiguration.getEngineCfgKey());
                 }
                 if (variableInstanceEntity.getByteArrayRef() != null && variableInstanceEntity.getByteArrayRef().getId() != null) {
@@ -429,7 +433,8 @@ public class TaskHelper {
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
             CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                    FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, task),
+                    FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, task),
                     processEngineConfiguration.getEngineCfgKey());
         }
     }
@@ -577,7 +582,8 @@ public class TaskHelper {
 
         FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.TASK_ASSIGNED,
+                    () -> FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity),
                     processEngineConfiguration.getEngineCfgKey());
         }
     }
@@ -235,11 +235,13 @@ public class TimerUtil {
 
             FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableEventBuilder.createJobRescheduledEvent(FlowableEngineEventType.JOB_RESCHEDULED, 
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_RESCHEDULED,
+                        () -> FlowableEventBuilder.createJobRescheduledEvent(FlowableEngineEventType.JOB_RESCHEDULED, 
                         rescheduledTimerJob, timerJob.getId()), processEngineConfiguration.getEngineCfgKey());
                 
              // job rescheduled event should occur before new timer scheduled event
-                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.TIMER_SCHEDULED, rescheduledTimerJob),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.TIMER_SCHEDULED,
+                        () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.TIMER_SCHEDULED, rescheduledTimerJob),
                                 processEngineConfiguration.getEngineCfgKey());
             }
 
@@ -17,11 +17,12 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.ClassResolvableVariableType;
 
 /**
  * @author Filip Hrisafov
  */
-public class BpmnAggregatedVariableType implements VariableType {
+public class BpmnAggregatedVariableType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "bpmnAggregation";
 
@@ -46,6 +47,11 @@ public class BpmnAggregatedVariableType implements VariableType {
         return value instanceof BpmnAggregation;
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(BpmnAggregation.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public boolean isReadOnly() {
         return true;
@@ -21,11 +21,12 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.ClassResolvableVariableType;
 
 /**
  * @author Filip Hrisafov
  */
-public class ParallelMultiInstanceLoopVariableType implements VariableType {
+public class ParallelMultiInstanceLoopVariableType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "bpmnParallelMultiInstanceCompleted";
     protected static final String NUMBER_OF_INSTANCES = "nrOfInstances";
@@ -51,6 +52,11 @@ public class ParallelMultiInstanceLoopVariableType implements VariableType {
         return value instanceof ParallelMultiInstanceLoopVariable;
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(ParallelMultiInstanceLoopVariable.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         if (value instanceof ParallelMultiInstanceLoopVariable) {
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+
+/**
+ * Helper for starting many process instances of the same process definition.
+ *
+ * An instance can be obtained through {@link org.flowable.engine.RuntimeService#createBulkProcessInstanceStartBuilder()}.
+ *
+ * Instead of starting every process instance in its own transaction, the instances are started in transactions of
+ * {@link #transactionSize(int)} instances, which allows the engine to insert the data of these instances together.
+ * When starting one of the instances fails, the other instances of its transaction are started again one by one,
+ * so that only the failing instances are reported as failed in the {@link BulkProcessInstanceStartResult}s.
+ */
+public interface BulkProcessInstanceStartBuilder {
+
+    /**
+     * Set the id of the process definition
+     **/
+    BulkProcessInstanceStartBuilder processDefinitionId(String processDefinitionId);
+
+    /**
+     * Set the key of the process definition, latest version of the process definition with the given key.
+     * All instances are started in the same version, which is the latest version when the instances are started.
+     **/
+    BulkProcessInstanceStartBuilder processDefinitionKey(String processDefinitionKey);
+
+    /**
+     * Set the tenant id of the process definition
+     **/
+    BulkProcessInstanceStartBuilder tenantId(String tenantId);
+
+    /**
+     * Indicator to override the tenant id of the process definition with the provided value.
+     * The tenantId to lookup the process definition should still be provided if needed.
+     */
+    BulkProcessInstanceStartBuilder overrideProcessDefinitionTenantId(String tenantId);
+
+    /**
+     * If the process definition is not found for the given tenant, the lookup falls back to the default tenant.
+     */
+    BulkProcessInstanceStartBuilder fallbackToDefaultTenant();
+
+    /**
+     * Sets the variables that are set on every started process instance.
+     * The variables of an instance (see {@link #instance(String, Map)}) take precedence over these variables.
+     */
+    BulkProcessInstanceStartBuilder variables(Map<String, Object> variables);
+
+    /**
+     * Sets a variable that is set on every started process instance.
+     */
+    BulkProcessInstanceStartBuilder variable(String variableName, Object value);
+
+    /**
+     * The number of process instances that are started in one transaction. Default 100.
+     */
+    BulkProcessInstanceStartBuilder transactionSize(int transactionSize);
+
+    /**
+     * Adds a process instance to start, with the given business key (can be null).
+     */
+    BulkProcessInstanceStartBuilder instance(String businessKey);
+
+    /**
+     * Adds a process instance to start, with the given business key (can be null) and variables.
+     */
+    BulkProcessInstanceStartBuilder instance(String businessKey, Map<String, Object> variables);
+
+    /**
+     * Adds a process instance to start, with the given business key (can be null), name (can be null) and variables.
+     */
+    BulkProcessInstanceStartBuilder instance(String businessKey, String name, Map<String, Object> variables);
+
+    /**
+     * Starts the added process instances.
+     *
+     * @return a result for every added instance, in the order in which they were added.
+     *         When the process definition cannot be found, every result contains the {@link FlowableObjectNotFoundException}.
+     * @throws FlowableIllegalArgumentException
+     *             when no process definition id or key is provided
+     */
+    List<BulkProcessInstanceStartResult> start();
+
+}
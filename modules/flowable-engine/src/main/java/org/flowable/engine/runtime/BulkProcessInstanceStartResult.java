@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+/**
+ * The outcome of starting one of the process instances of a {@link BulkProcessInstanceStartBuilder}.
+ */
+public interface BulkProcessInstanceStartResult {
+
+    /**
+     * @return the position of the instance in the list of instances added to the builder
+     */
+    int getIndex();
+
+    /**
+     * @return the business key with which the instance was added to the builder
+     */
+    String getBusinessKey();
+
+    /**
+     * @return the started process instance, or null when starting it failed
+     */
+    ProcessInstance getProcessInstance();
+
+    /**
+     * @return the exception that made starting the instance fail, or null when it was started
+     */
+    RuntimeException getException();
+
+    boolean isSuccessful();
+
+}
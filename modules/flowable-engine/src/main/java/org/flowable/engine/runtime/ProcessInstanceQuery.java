@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.flowable.common.engine.api.query.CursorPagingQuery;
 import org.flowable.common.engine.api.query.Query;
 
 /**
@@ -27,7 +28,7 @@ import org.flowable.common.engine.api.query.Query;
  * @author Frederik Heremans
  * @author Falko Menge
  */
-public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance> {
+public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance>, CursorPagingQuery<ProcessInstanceQuery, ProcessInstance> {
 
     /** Select the process instance with the given id */
     ProcessInstanceQuery processInstanceId(String processInstanceId);
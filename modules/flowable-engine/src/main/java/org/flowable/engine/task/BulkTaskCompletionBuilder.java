@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.task;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper for completing many tasks at once, for example when all tasks of a list are approved together.
+ *
+ * An instance can be obtained through {@link org.flowable.engine.TaskService#createBulkTaskCompletionBuilder()}.
+ *
+ * Instead of completing every task in its own transaction, the tasks are completed in transactions of {@link #transactionSize(int)} tasks.
+ * The tasks, their executions and identity links are fetched together at the start of such a transaction.
+ * Tasks that can't be completed (because they don't exist or are suspended) are reported as failed without affecting the other tasks.
+ * When completing one of the tasks fails, the other tasks of its transaction are completed again one by one,
+ * so that only the failing tasks are reported as failed in the {@link BulkTaskCompletionResult}s.
+ */
+public interface BulkTaskCompletionBuilder {
+
+    /**
+     * Sets variables on all tasks before they are completed.
+     * The variables will be stored on the process instance of each task.
+     */
+    BulkTaskCompletionBuilder variables(Map<String, Object> variables);
+
+    /**
+     * Sets local variables on all tasks before they are completed.
+     */
+    BulkTaskCompletionBuilder variablesLocal(Map<String, Object> variablesLocal);
+
+    /**
+     * Sets non-persisted variables on all tasks before they are completed.
+     */
+    BulkTaskCompletionBuilder transientVariables(Map<String, Object> transientVariables);
+
+    /**
+     * Sets non-persisted local variables on all tasks before they are completed.
+     */
+    BulkTaskCompletionBuilder transientVariablesLocal(Map<String, Object> transientVariablesLocal);
+
+    /**
+     * Sets a variable on all tasks before they are completed.
+     */
+    BulkTaskCompletionBuilder variable(String variableName, Object variableValue);
+
+    /**
+     * Sets a local variable on all tasks before they are completed.
+     */
+    BulkTaskCompletionBuilder variableLocal(String variableName, Object variableValue);
+
+    /**
+     * Sets a non-persisted variable on all tasks before they are completed.
+     */
+    BulkTaskCompletionBuilder transientVariable(String variableName, Object variableValue);
+
+    /**
+     * Sets a non-persisted local variable on all tasks before they are completed.
+     */
+    BulkTaskCompletionBuilder transientVariableLocal(String variableName, Object variableValue);
+
+    /**
+     * Sets the form definition with which all tasks are completed
+     */
+    BulkTaskCompletionBuilder formDefinitionId(String formDefinitionId);
+
+    /**
+     * Sets the outcome with which all tasks are completed
+     */
+    BulkTaskCompletionBuilder outcome(String outcome);
+
+    /**
+     * Adds a task to complete.
+     */
+    BulkTaskCompletionBuilder task(String taskId);
+
+    /**
+     * Adds a task to complete with its own variables, which take precedence over the variables set for all tasks.
+     */
+    BulkTaskCompletionBuilder task(String taskId, Map<String, Object> variables);
+
+    /**
+     * The number of tasks completed in one transaction, 100 by default.
+     */
+    BulkTaskCompletionBuilder transactionSize(int transactionSize);
+
+    /**
+     * Completes the tasks.
+     *
+     * @return the result of every task, in the order in which the tasks were added
+     */
+    List<BulkTaskCompletionResult> completeAll();
+
+}
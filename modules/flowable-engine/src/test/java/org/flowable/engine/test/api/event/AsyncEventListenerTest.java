@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.event.AsyncEventListenerExecutor;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventListener;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncEventListenerTest extends PluggableFlowableTestCase {
+
+    protected AsyncEventListenerExecutor asyncEventListenerExecutor;
+    protected ProcessStartedEventListener processStartedListener;
+    protected AsyncFlowableEventListener asyncListener;
+
+    @BeforeEach
+    protected void setUp() {
+        asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        // A single worker delivers the events of all process instances in order
+        asyncEventListenerExecutor.setNumberOfWorkers(1);
+
+        processStartedListener = new ProcessStartedEventListener();
+        asyncListener = new AsyncFlowableEventListener(processStartedListener, asyncEventListenerExecutor);
+        processEngineConfiguration.getEventDispatcher().addEventListener(asyncListener);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processStartedListener.releaseLatch.countDown();
+        processEngineConfiguration.getEventDispatcher().removeEventListener(asyncListener);
+        asyncEventListenerExecutor.shutdown();
+    }
+
+    @Test
+    public void testListenerIsExecutedAfterCommit() throws Exception {
+        deployOneTaskTestProcess();
+
+        // The listener blocks until it is released, which doesn't block the start of the process instance
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertThat(processStartedListener.processInstanceIds).isEmpty();
+
+        processStartedListener.releaseLatch.countDown();
+        assertThat(processStartedListener.receivedLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(processStartedListener.processInstanceIds).containsExactly(processInstance.getId());
+        assertThat(processStartedListener.committedProcessInstanceIds).containsExactly(processInstance.getId());
+        assertThat(processStartedListener.threadNames).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/event/TransactionEventListenerTest.testProcessExecutionWithRollback.bpmn20.xml")
+    public void testListenerIsNotExecutedOnRollback() throws Exception {
+        processStartedListener.releaseLatch.countDown();
+
+        assertThatThrownBy(() -> runtimeService.startProcessInstanceByKey("testProcessExecutionWithRollback",
+                CollectionUtil.singletonMap("throwException", true)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+
+        // The events of the rolled back transaction would be delivered before the events of this one
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testProcessExecutionWithRollback",
+                CollectionUtil.singletonMap("throwException", false));
+        assertThat(processStartedListener.receivedLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(processStartedListener.processInstanceIds).containsExactly(processInstance.getId());
+        assertThat(processStartedListener.committedProcessInstanceIds).containsExactly(processInstance.getId());
+    }
+
+    protected class ProcessStartedEventListener implements FlowableEventListener {
+
+        protected final CountDownLatch releaseLatch = new CountDownLatch(1);
+        protected final CountDownLatch receivedLatch = new CountDownLatch(1);
+        protected final List<String> processInstanceIds = new CopyOnWriteArrayList<>();
+        protected final List<String> committedProcessInstanceIds = new CopyOnWriteArrayList<>();
+        protected final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            if (event.getType() != FlowableEngineEventType.PROCESS_STARTED) {
+                return;
+            }
+
+            try {
+                releaseLatch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            String processInstanceId = ((FlowableEngineEvent) event).getProcessInstanceId();
+            // The process instance can only be found from another thread when its transaction is committed
+            if (runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count() == 1) {
+                committedProcessInstanceIds.add(processInstanceId);
+            }
+            threadNames.add(Thread.currentThread().getName());
+            processInstanceIds.add(processInstanceId);
+            receivedLatch.countDown();
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+        @Override
+        public boolean isFireOnTransactionLifecycleEvent() {
+            return false;
+        }
+
+        @Override
+        public String getOnTransaction() {
+            return null;
+        }
+    }
+}
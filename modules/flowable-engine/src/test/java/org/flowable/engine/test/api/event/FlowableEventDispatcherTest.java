@@ -21,8 +21,10 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.event.FlowableEngineEventImpl;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.delegate.event.BaseEntityEventListener;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.delegate.event.impl.FlowableEntityEventImpl;
 import org.flowable.engine.delegate.event.impl.FlowableProcessEventImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -252,6 +254,62 @@ public class FlowableEventDispatcherTest extends PluggableFlowableTestCase {
         assertThat(secondListener.getEventsReceived()).isEmpty();
     }
 
+    /**
+     * Test that the event of a supplier is only created when a listener is registered for its type.
+     * The dispatcher is a fresh one, and no command context is active, so the listeners of the shared engine are not involved.
+     */
+    @Test
+    public void testDispatchEventSupplierOnlyCalledWhenListenersForType() throws Exception {
+        TestFlowableEventListener newListener = new TestFlowableEventListener();
+        dispatcher.addEventListener(newListener, FlowableEngineEventType.ENTITY_CREATED);
+
+        TaskServiceConfiguration taskServiceConfiguration = (TaskServiceConfiguration) processEngineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_TASK_SERVICE_CONFIG);
+        FlowableEntityEventImpl event = new FlowableEntityEventImpl(taskServiceConfiguration.getTaskEntityManager().create(),
+                FlowableEngineEventType.ENTITY_CREATED);
+
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED, processEngineConfiguration.getEngineCfgKey())).isTrue();
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_DELETED, processEngineConfiguration.getEngineCfgKey())).isFalse();
+
+        dispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED, () -> {
+            throw new IllegalStateException("Event should not be created without listeners");
+        }, processEngineConfiguration.getEngineCfgKey());
+        dispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_CREATED, () -> event, processEngineConfiguration.getEngineCfgKey());
+
+        assertThat(newListener.getEventsReceived()).containsExactly(event);
+
+        // A listener for all types is interested in every event
+        dispatcher.addEventListener(new TestFlowableEventListener());
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_DELETED, processEngineConfiguration.getEngineCfgKey())).isTrue();
+
+        // A disabled dispatcher has no listeners
+        dispatcher.setEnabled(false);
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED, processEngineConfiguration.getEngineCfgKey())).isFalse();
+    }
+
+    /**
+     * Test that the event types of the process definition listeners are only tracked when enabled, using a freshly built dispatch action.
+     */
+    @Test
+    public void testBpmnModelEventDispatchActionTracksListenerTypes() throws Exception {
+        BpmnModelEventDispatchAction eventDispatchAction = new BpmnModelEventDispatchAction();
+        FlowableEventSupport eventSupport = new FlowableEventSupport();
+
+        // Not tracked by default, so every event type could have a listener
+        assertThat(eventDispatchAction.hasListeners(null, eventSupport, FlowableEngineEventType.ENTITY_DELETED)).isTrue();
+
+        eventDispatchAction.setEventListenerTypesTracked(true);
+        assertThat(eventDispatchAction.hasListeners(null, eventSupport, FlowableEngineEventType.ENTITY_DELETED)).isFalse();
+
+        eventDispatchAction.registerEventListenerTypes(FlowableEngineEventType.ENTITY_CREATED);
+        assertThat(eventDispatchAction.hasListeners(null, eventSupport, FlowableEngineEventType.ENTITY_CREATED)).isTrue();
+        assertThat(eventDispatchAction.hasListeners(null, eventSupport, FlowableEngineEventType.ENTITY_DELETED)).isFalse();
+
+        // A listener without types is interested in every event
+        eventDispatchAction.registerEventListenerTypes();
+        assertThat(eventDispatchAction.hasListeners(null, eventSupport, FlowableEngineEventType.ENTITY_DELETED)).isTrue();
+    }
+
     /**
      * Test conversion of string-value (and list) in list of {@link FlowableEngineEventType}s, used in configuration of process-engine
      * {@link ProcessEngineConfigurationImpl#setTypedEventListeners(java.util.Map)} .
@@ -15,6 +15,8 @@ package org.flowable.engine.test.api.history;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -105,6 +107,28 @@ public class HistoricProcessInstanceQueryTest extends PluggableFlowableTestCase
         }
     }
 
+    @Test
+    public void testQueryCursorPaging() {
+        deployOneTaskTestProcess();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        Collections.sort(processInstanceIds);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricProcessInstanceQuery().afterCursor(processInstanceIds.get(1)).orderByProcessInstanceId().asc().listPage(0, 2))
+                    .extracting(HistoricProcessInstance::getId)
+                    .containsExactly(processInstanceIds.get(2), processInstanceIds.get(3));
+
+            assertThat(historyService.createHistoricProcessInstanceQuery().afterCursor(processInstanceIds.get(1)).orderByProcessInstanceId().desc().list())
+                    .extracting(HistoricProcessInstance::getId)
+                    .containsExactly(processInstanceIds.get(0));
+
+            assertThat(historyService.createHistoricProcessInstanceQuery().afterCursor(processInstanceIds.get(3)).count()).isEqualTo(1);
+        }
+    }
+
     @Test
     public void testQueryByReferenceId() {
         deployOneTaskTestProcess();
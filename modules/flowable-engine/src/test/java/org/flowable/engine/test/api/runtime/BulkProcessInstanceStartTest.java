@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.BulkProcessInstanceStartBuilder;
+import org.flowable.engine.runtime.BulkProcessInstanceStartResult;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class BulkProcessInstanceStartTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testBulkStart() {
+        BulkProcessInstanceStartBuilder builder = runtimeService.createBulkProcessInstanceStartBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("campaign", "spring")
+                .transactionSize(10);
+        for (int i = 0; i < 25; i++) {
+            builder.instance("key" + i, "name" + i, Collections.singletonMap("index", i));
+        }
+
+        List<BulkProcessInstanceStartResult> results = builder.start();
+
+        assertThat(results).hasSize(25);
+        assertThat(results).allMatch(BulkProcessInstanceStartResult::isSuccessful);
+        for (int i = 0; i < results.size(); i++) {
+            BulkProcessInstanceStartResult result = results.get(i);
+            assertThat(result.getIndex()).isEqualTo(i);
+            assertThat(result.getBusinessKey()).isEqualTo("key" + i);
+            assertThat(result.getProcessInstance().getBusinessKey()).isEqualTo("key" + i);
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(25);
+        assertThat(taskService.createTaskQuery().count()).isEqualTo(25);
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().processInstanceBusinessKey("key7").singleResult();
+        assertThat(processInstance.getName()).isEqualTo("name7");
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsOnlyKeys("campaign", "index")
+                .containsEntry("campaign", "spring")
+                .containsEntry("index", 7);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/BulkProcessInstanceStartTest.assigneeProcess.bpmn20.xml")
+    public void testBulkStartWithFailingInstances() {
+        BulkProcessInstanceStartBuilder builder = runtimeService.createBulkProcessInstanceStartBuilder()
+                .processDefinitionKey("assigneeProcess")
+                .transactionSize(4);
+        for (int i = 0; i < 10; i++) {
+            // Without assignee variable, the user task can't be created
+            builder.instance("key" + i, i % 3 == 1 ? null : Collections.singletonMap("assignee", "user" + i));
+        }
+
+        List<BulkProcessInstanceStartResult> results = builder.start();
+
+        assertThat(results)
+                .extracting(BulkProcessInstanceStartResult::getIndex, BulkProcessInstanceStartResult::isSuccessful)
+                .containsExactly(
+                        tuple(0, true), tuple(1, false), tuple(2, true), tuple(3, true), tuple(4, false),
+                        tuple(5, true), tuple(6, true), tuple(7, false), tuple(8, true), tuple(9, true));
+
+        BulkProcessInstanceStartResult failedResult = results.get(4);
+        assertThat(failedResult.getProcessInstance()).isNull();
+        assertThat(failedResult.getException()).hasMessageContaining("assignee");
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(7);
+        assertThat(taskService.createTaskQuery().list())
+                .extracting(Task::getAssignee)
+                .containsExactlyInAnyOrder("user0", "user2", "user3", "user5", "user6", "user8", "user9");
+    }
+
+    @Test
+    public void testBulkStartWithUnknownProcessDefinition() {
+        List<BulkProcessInstanceStartResult> results = runtimeService.createBulkProcessInstanceStartBuilder()
+                .processDefinitionKey("unknown")
+                .instance("key1")
+                .instance("key2")
+                .start();
+
+        assertThat(results)
+                .extracting(BulkProcessInstanceStartResult::getBusinessKey, BulkProcessInstanceStartResult::isSuccessful)
+                .containsExactly(tuple("key1", false), tuple("key2", false));
+        assertThat(results.get(0).getException()).isInstanceOf(FlowableObjectNotFoundException.class);
+
+        assertThatThrownBy(() -> runtimeService.createBulkProcessInstanceStartBuilder().instance("key").start())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+}
@@ -765,6 +765,33 @@ public class ProcessInstanceQueryTest extends PluggableFlowableTestCase {
         assertThat(runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_DEFINITION_KEY).listPage(1, 3)).hasSize(3);
     }
 
+    @Test
+    public void testQueryCursorPaging() {
+        List<String> sortedProcessInstanceIds = new ArrayList<>(processInstanceIds);
+        Collections.sort(sortedProcessInstanceIds);
+
+        List<String> pagedProcessInstanceIds = new ArrayList<>();
+        String cursor = null;
+        List<ProcessInstance> page;
+        do {
+            page = runtimeService.createProcessInstanceQuery().afterCursor(cursor).listPage(0, 2);
+            for (ProcessInstance processInstance : page) {
+                pagedProcessInstanceIds.add(processInstance.getId());
+            }
+            cursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+        } while (page.size() == 2);
+        assertThat(pagedProcessInstanceIds).containsExactlyElementsOf(sortedProcessInstanceIds);
+
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_DEFINITION_KEY).afterCursor(sortedProcessInstanceIds.get(0))
+                .includeProcessVariables().orderByProcessInstanceId().desc().listPage(0, 10))
+                .extracting(ProcessInstance::getId)
+                .doesNotContain(sortedProcessInstanceIds.get(0))
+                .isSortedAccordingTo(Collections.reverseOrder());
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().afterCursor(sortedProcessInstanceIds.get(0)).orderByProcessDefinitionKey().asc().list())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
     @Test
     public void testQuerySorting() {
         assertThat(runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list()).hasSize(PROCESS_DEPLOY_COUNT);
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.BulkTaskCompletionBuilder;
+import org.flowable.engine.task.BulkTaskCompletionResult;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class BulkTaskCompletionTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/task/BulkTaskCompletionTest.reviewProcess.bpmn20.xml")
+    public void testBulkComplete() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("reviewProcess", "key" + i).getId());
+        }
+
+        BulkTaskCompletionBuilder builder = taskService.createBulkTaskCompletionBuilder()
+                .variable("approved", true)
+                .transactionSize(7);
+        for (int i = 0; i < processInstanceIds.size(); i++) {
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+            builder.task(task.getId(), Collections.singletonMap("reviewer", "user" + i));
+        }
+
+        List<BulkTaskCompletionResult> results = builder.completeAll();
+
+        assertThat(results).hasSize(20);
+        assertThat(results).allMatch(BulkTaskCompletionResult::isSuccessful);
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("approveTask").count()).isZero();
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("reviewTask").count()).isEqualTo(20);
+        assertThat(taskService.createTaskQuery().taskCandidateGroup("management").count()).isZero();
+
+        Task reviewTask = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(5)).singleResult();
+        assertThat(reviewTask.getAssignee()).isEqualTo("user5");
+        assertThat(runtimeService.getVariables(processInstanceIds.get(5)))
+                .containsEntry("approved", true)
+                .containsEntry("reviewer", "user5");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/task/BulkTaskCompletionTest.reviewProcess.bpmn20.xml")
+    public void testBulkCompleteWithFailingTasks() {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("reviewProcess");
+            taskIds.add(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        }
+        runtimeService.suspendProcessInstanceById(taskService.createTaskQuery().taskId(taskIds.get(1)).singleResult().getProcessInstanceId());
+
+        List<BulkTaskCompletionResult> results = taskService.createBulkTaskCompletionBuilder()
+                .task(taskIds.get(0), Collections.singletonMap("reviewer", "user0"))
+                .task(taskIds.get(1), Collections.singletonMap("reviewer", "user1"))
+                .task("unknown")
+                // Without a reviewer, the review task can't be created
+                .task(taskIds.get(2))
+                .task(taskIds.get(3), Collections.singletonMap("reviewer", "user3"))
+                .task(taskIds.get(4), Collections.singletonMap("reviewer", "user4"))
+                .transactionSize(4)
+                .completeAll();
+
+        assertThat(results)
+                .extracting(BulkTaskCompletionResult::getTaskId, BulkTaskCompletionResult::isSuccessful)
+                .containsExactly(
+                        tuple(taskIds.get(0), true),
+                        tuple(taskIds.get(1), false),
+                        tuple("unknown", false),
+                        tuple(taskIds.get(2), false),
+                        tuple(taskIds.get(3), true),
+                        tuple(taskIds.get(4), true));
+        assertThat(results.get(1).getException()).isInstanceOf(FlowableException.class).hasMessage("Cannot complete a suspended task");
+        assertThat(results.get(2).getException()).isInstanceOf(FlowableObjectNotFoundException.class);
+        assertThat(results.get(3).getException()).hasMessageContaining("reviewer");
+
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("reviewTask").list())
+                .extracting(Task::getAssignee)
+                .containsExactlyInAnyOrder("user0", "user3", "user4");
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("approveTask").list())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(taskIds.get(1), taskIds.get(2), taskIds.get(5));
+    }
+
+}
@@ -3091,6 +3091,47 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         // tasks
     }
 
+    @Test
+    public void testQueryCursorPaging() {
+        List<String> taskIdsInOrder = new ArrayList<>();
+        for (Task task : taskService.createTaskQuery().orderByTaskId().asc().list()) {
+            taskIdsInOrder.add(task.getId());
+        }
+        assertThat(taskIdsInOrder).hasSize(12);
+
+        List<String> pagedTaskIds = new ArrayList<>();
+        String cursor = null;
+        List<Task> page;
+        do {
+            page = taskService.createTaskQuery().afterCursor(cursor).listPage(0, 5);
+            for (Task task : page) {
+                pagedTaskIds.add(task.getId());
+            }
+            cursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+        } while (page.size() == 5);
+        assertThat(pagedTaskIds).containsExactlyElementsOf(taskIdsInOrder);
+
+        // Descending
+        assertThat(taskService.createTaskQuery().afterCursor(taskIdsInOrder.get(2)).orderByTaskId().desc().list())
+                .extracting(Task::getId)
+                .containsExactly(taskIdsInOrder.get(1), taskIdsInOrder.get(0));
+
+        // Combined with other criteria and the count
+        TaskQuery query = taskService.createTaskQuery().taskCandidateUser("kermit").afterCursor(taskIdsInOrder.get(0));
+        assertThat(query.list()).extracting(Task::getId).doesNotContain(taskIdsInOrder.get(0));
+        assertThat(query.count()).isEqualTo(query.list().size());
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().afterCursor(taskIdsInOrder.get(0)).orderByTaskName().asc().list())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("ordered by id");
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricTaskInstanceQuery().afterCursor(taskIdsInOrder.get(9)).orderByTaskId().asc().list())
+                    .extracting(HistoricTaskInstance::getId)
+                    .containsExactly(taskIdsInOrder.get(10), taskIdsInOrder.get(11));
+        }
+    }
+
     @Test
     public void testQuerySorting() {
         assertThat(taskService.createTaskQuery().orderByTaskId().asc().list()).hasSize(12);
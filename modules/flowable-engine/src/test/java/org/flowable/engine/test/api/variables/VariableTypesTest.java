@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+class VariableTypesTest extends PluggableFlowableTestCase {
+
+    @Test
+    void testFindVariableTypeIsEqualToCheckingAllTypes() {
+        DefaultVariableTypes variableTypes = (DefaultVariableTypes) processEngineConfiguration.getVariableTypes();
+        List<VariableType> typesList = variableTypes.getTypesList();
+
+        String longString = StringUtils.repeat("a", processEngineConfiguration.getMaxLengthString() + 1);
+        List<Object> values = Arrays.asList(null, "kermit", longString, "gonzo", true, (short) 1, 2, 3L, 4.0, 5.0f, new Date(), Instant.now(),
+                LocalDate.now(), UUID.randomUUID(), new byte[] { 1 }, JsonNodeFactory.instance.objectNode(), JsonNodeFactory.instance.arrayNode(),
+                Collections.emptyList(), Collections.emptySet(), new ArrayList<>(), new HashMap<>(), new Object());
+
+        // Twice, to also use the types resolved for the class
+        for (int i = 0; i < 2; i++) {
+            for (Object value : values) {
+                VariableType expectedType = null;
+                for (VariableType candidateType : typesList) {
+                    if (candidateType.isAbleToStore(value)) {
+                        expectedType = candidateType;
+                        break;
+                    }
+                }
+
+                if (expectedType != null) {
+                    assertThat(variableTypes.findVariableType(value)).as("type for %s", value).isSameAs(expectedType);
+                }
+            }
+        }
+
+        assertThat(variableTypes.findVariableType("kermit").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(longString).getTypeName()).isEqualTo(LongStringType.TYPE_NAME);
+    }
+
+    @Test
+    void testResolvedTypesAreClearedWhenTypesChange() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(10));
+        variableTypes.addType(new LongStringType(11));
+        variableTypes.addType(new SerializableType());
+
+        assertThat(variableTypes.findVariableType("kermit").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType("kermit the frog").getTypeName()).isEqualTo(LongStringType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(5).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+
+        variableTypes.addTypeBefore(new IntegerType(), SerializableType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(5).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+
+        // A subclass overriding isAbleToStore is always asked for the value
+        variableTypes.addType(new StringType(10) {
+
+            @Override
+            public String getTypeName() {
+                return "gonzoString";
+            }
+
+            @Override
+            public boolean isAbleToStore(Object value) {
+                return "gonzo".equals(value);
+            }
+        }, 0);
+        assertThat(variableTypes.findVariableType("gonzo").getTypeName()).isEqualTo("gonzoString");
+        assertThat(variableTypes.findVariableType("kermit").getTypeName()).isEqualTo(StringType.TYPE_NAME);
+
+        variableTypes.removeType(variableTypes.getVariableType(IntegerType.TYPE_NAME));
+        assertThat(variableTypes.findVariableType(5).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+    }
+}
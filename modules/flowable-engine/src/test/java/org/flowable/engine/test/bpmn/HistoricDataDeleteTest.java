@@ -19,10 +19,13 @@ import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchPartJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -263,6 +266,21 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
                 
                 assertThat(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).count()).isEqualTo(1);
                 
+                // The instances are deleted by the jobs of the parts of the cleanup batch
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(20);
+                // The last part job creates the part that deletes the related data
+                List<Job> batchPartJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                while (!batchPartJobs.isEmpty()) {
+                    for (Job batchPartJob : batchPartJobs) {
+                        managementService.executeJob(batchPartJob.getId());
+                    }
+                    batchPartJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                }
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+                
                 assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(10);
                 assertThat(historyService.createHistoricActivityInstanceQuery().count()).isEqualTo(30);
                 assertThat(historyService.createHistoricTaskInstanceQuery().count()).isEqualTo(10);
@@ -287,6 +305,9 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
                 }
                 
                 managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                for (Batch batch : managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).list()) {
+                    managementService.deleteBatch(batch.getId());
+                }
             }
         
         } finally {
@@ -295,6 +316,73 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupWithFailedBatchPart() {
+        try {
+            processEngineConfiguration.setEnableHistoryCleaning(true);
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 5; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                managementService.handleHistoryCleanupTimerJob();
+                executeHistoryCleanupTimerJob();
+
+                // As if the job of the part failed until it ran out of retries
+                Job batchPartJob = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).singleResult();
+                managementService.moveJobToDeadLetterJob(batchPartJob.getId());
+
+                executeHistoryCleanupTimerJob();
+
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(BpmnHistoryCleanupJobHandler.STATUS_FAILED);
+                assertThat(managementService.findBatchPartsByBatchId(batch.getId()))
+                        .extracting(BatchPart::getStatus)
+                        .containsExactly(BpmnHistoryCleanupJobHandler.STATUS_FAILED);
+                // The dead letter job is kept, so it can be inspected and moved back by an operator
+                assertThat(managementService.createDeadLetterJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).count()).isEqualTo(1);
+                assertThat(managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).count()).isZero();
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(5);
+
+                // The failed batch doesn't prevent a new cleanup
+                executeHistoryCleanupTimerJob();
+                assertThat(managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                        .status(BpmnHistoryCleanupJobHandler.STATUS_IN_PROGRESS).count()).isEqualTo(1);
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                for (Job job : managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list()) {
+                    managementService.deleteJob(job.getId());
+                }
+                managementService.deleteDeadLetterJob(managementService.createDeadLetterJobQuery()
+                        .handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).singleResult().getId());
+                for (Batch cleanupBatch : managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).list()) {
+                    managementService.deleteBatch(cleanupBatch.getId());
+                }
+            }
+
+        } finally {
+            processEngineConfiguration.setEnableHistoryCleaning(false);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    protected void executeHistoryCleanupTimerJob() {
+        Job executableJob = managementService.moveTimerToExecutableJob(
+                managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+        managementService.executeJob(executableJob.getId());
+    }
+
     @Test
     @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
     public void testDeleteSingleHistoricInstanceWithSingleMethodOnHistoryService() {
@@ -18,8 +18,10 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupBatchPartJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
@@ -68,6 +70,16 @@ public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
                 managementService.executeJob(executableJob.getId());
                 
                 assertThat(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).count()).isEqualTo(1);
+
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(BpmnHistoryCleanupJobHandler.STATUS_IN_PROGRESS);
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(20);
+
+                executeBatchPartJobs();
+
+                batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(BpmnHistoryCleanupJobHandler.STATUS_COMPLETED);
+                assertThat(batch.getCompleteTime()).isNotNull();
                 
                 assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(10);
                 assertThat(historyService.createHistoricActivityInstanceQuery().count()).isEqualTo(30);
@@ -89,10 +101,133 @@ public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
                 }
                 
                 managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.deleteBatch(batch.getId());
             }
         
         } finally {
             processEngineConfiguration.resetClock();
         }
     }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupInBatchParts() {
+        int originalBatchSize = processEngineConfiguration.getCleanInstancesBatchSize();
+        processEngineConfiguration.setCleanInstancesBatchSize(3);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            for (int i = 0; i < 10; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                executeHistoryCleanupTimerJob();
+
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertThat(managementService.findBatchPartsByBatchId(batch.getId())).hasSize(4);
+                assertThat(managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).count()).isEqualTo(4);
+
+                // Delete two parts and let the other two fail
+                List<Job> batchPartJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+                managementService.executeJob(batchPartJobs.get(0).getId());
+                managementService.executeJob(batchPartJobs.get(1).getId());
+                managementService.moveJobToDeadLetterJob(batchPartJobs.get(2).getId());
+                managementService.moveJobToDeadLetterJob(batchPartJobs.get(3).getId());
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isBetween(1L, 9L);
+                assertThat(managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), BpmnHistoryCleanupJobHandler.STATUS_COMPLETED)).hasSize(2);
+
+                // The next run continues the unfinished cleanup instead of starting a new one
+                executeHistoryCleanupTimerJob();
+
+                assertThat(managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).count()).isEqualTo(1);
+                assertThat(managementService.createDeadLetterJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).count()).isZero();
+                assertThat(managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).count()).isEqualTo(2);
+
+                executeBatchPartJobs();
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+                assertThat(historyService.createHistoricVariableInstanceQuery().count()).isZero();
+                assertThat(historyService.createHistoricTaskInstanceQuery().count()).isZero();
+                assertThat(managementService.createBatchQuery().batchId(batch.getId()).singleResult().getStatus())
+                        .isEqualTo(BpmnHistoryCleanupJobHandler.STATUS_COMPLETED);
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.deleteBatch(batch.getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setCleanInstancesBatchSize(originalBatchSize);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupCreatesBatchPartsPerPage() {
+        int originalBatchSize = processEngineConfiguration.getCleanInstancesBatchSize();
+        processEngineConfiguration.setCleanInstancesBatchSize(1);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            int numberOfInstances = BpmnHistoryCleanupBatchPartJobHandler.MAX_BATCH_PARTS_PER_TRANSACTION + 2;
+            for (int i = 0; i < numberOfInstances; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                executeHistoryCleanupTimerJob();
+
+                // Only the parts of the first page of ids are created by the cleanup job
+                Batch batch = managementService.createBatchQuery().batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE).singleResult();
+                assertThat(managementService.findBatchPartsByBatchId(batch.getId())).hasSize(BpmnHistoryCleanupBatchPartJobHandler.MAX_BATCH_PARTS_PER_TRANSACTION);
+
+                executeBatchPartJobs();
+
+                // One part per instance and the two parts deleting the related data
+                assertThat(managementService.findBatchPartsByBatchId(batch.getId())).hasSize(numberOfInstances + 2);
+                assertThat(managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), BpmnHistoryCleanupJobHandler.STATUS_COMPLETED))
+                        .hasSize(numberOfInstances + 2);
+                assertThat(managementService.createBatchQuery().batchId(batch.getId()).singleResult().getStatus())
+                        .isEqualTo(BpmnHistoryCleanupJobHandler.STATUS_COMPLETED);
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+                assertThat(historyService.createHistoricActivityInstanceQuery().count()).isZero();
+                assertThat(historyService.createHistoricTaskInstanceQuery().count()).isZero();
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.deleteBatch(batch.getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setCleanInstancesBatchSize(originalBatchSize);
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    protected void executeHistoryCleanupTimerJob() {
+        Job executableJob = managementService.moveTimerToExecutableJob(
+                managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+        managementService.executeJob(executableJob.getId());
+    }
+
+    protected void executeBatchPartJobs() {
+        // The batch part jobs create new batch parts (for the next page of ids and to delete the related data)
+        List<Job> batchPartJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+        while (!batchPartJobs.isEmpty()) {
+            for (Job job : batchPartJobs) {
+                managementService.executeJob(job.getId());
+            }
+            batchPartJobs = managementService.createJobQuery().handlerType(BpmnHistoryCleanupBatchPartJobHandler.TYPE).list();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessInstancePreloadUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstancePreloadingTest extends PluggableFlowableTestCase {
+
+    protected Set<String> oldPreloadingJobHandlerTypes;
+
+    @BeforeEach
+    protected void setUp() {
+        oldPreloadingJobHandlerTypes = processEngineConfiguration.getPerformanceSettings().getProcessInstancePreloadingJobHandlerTypes();
+        processEngineConfiguration.setProcessInstancePreloadingJobHandlerTypes(Collections.singleton(AsyncContinuationJobHandler.TYPE));
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setProcessInstancePreloadingJobHandlerTypes(oldPreloadingJobHandlerTypes);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/cfg/ProcessInstancePreloadingTest.asyncProcess.bpmn20.xml")
+    public void testAsyncContinuationWithPreloading() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", 1);
+        variables.put("b", 2);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncProcess", variables);
+
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        managementService.executeJob(job.getId());
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "sum")).isEqualTo(3L);
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(processInstance.getId()).eventName("continue").count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskCandidateUser("kermit").count()).isEqualTo(1);
+
+        Execution execution = runtimeService.createExecutionQuery().messageEventSubscriptionName("continue").singleResult();
+        runtimeService.messageEventReceived("continue", execution.getId());
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/cfg/ProcessInstancePreloadingTest.asyncProcess.bpmn20.xml")
+    public void testPreloadFillsEntityCache() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", 1);
+        variables.put("b", 2);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncProcess", variables);
+
+        managementService.executeCommand(commandContext -> {
+            ProcessInstancePreloadUtil.preloadProcessInstance(processInstance.getId(), commandContext);
+
+            EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+            // the process instance, the fork executions of the user task and the async service task
+            assertThat(entityCache.findInCache(ExecutionEntityImpl.class)).hasSize(3);
+            assertThat(entityCache.findInCache(VariableInstanceEntityImpl.class)).hasSize(2);
+            assertThat(entityCache.findInCache(TaskEntityImpl.class)).hasSize(1);
+            // the candidate user of the task and the participant link of the process instance
+            assertThat(entityCache.findInCache(IdentityLinkEntityImpl.class)).hasSize(2);
+
+            // answered from the cache
+            assertThat(CommandContextUtil.getVariableService(commandContext).findVariableInstancesByExecutionId(processInstance.getId()))
+                    .extracting(variableInstance -> variableInstance.getName())
+                    .containsExactlyInAnyOrder("a", "b");
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchedFlushTest {
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:batchedFlushTest");
+        processEngineConfiguration.setBatchedFlushEnabled(true);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        for (Task task : processEngine.getTaskService().createTaskQuery().list()) {
+            processEngine.getTaskService().deleteTask(task.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    @Test
+    public void testBatchedUpdatesAndDeletes() {
+        Task task = processEngine.getTaskService().newTask();
+        processEngine.getTaskService().saveTask(task);
+
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        processEngine.getTaskService().setVariables(task.getId(), variables);
+
+        for (int i = 0; i < 10; i++) {
+            variables.put("var" + i, "updated" + i);
+        }
+        processEngine.getTaskService().setVariables(task.getId(), variables);
+        assertThat(processEngine.getTaskService().getVariables(task.getId()))
+                .containsAllEntriesOf(variables)
+                .hasSize(10);
+
+        processEngine.getTaskService().removeVariables(task.getId(), variables.keySet());
+        assertThat(processEngine.getTaskService().getVariables(task.getId())).isEmpty();
+    }
+
+    @Test
+    public void testBatchedUpdateOptimisticLocking() {
+        assertOptimisticLockingOnConcurrentUpdate();
+    }
+
+    @Test
+    public void testOptimisticLockingWithoutBatchUpdateCounts() {
+        // As if the driver returned SUCCESS_NO_INFO for a previous batch, the updates are verified without batching
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateCountsUnavailable(true);
+        assertOptimisticLockingOnConcurrentUpdate();
+    }
+
+    protected void assertOptimisticLockingOnConcurrentUpdate() {
+        Task task1 = processEngine.getTaskService().newTask();
+        processEngine.getTaskService().saveTask(task1);
+        Task task2 = processEngine.getTaskService().newTask();
+        processEngine.getTaskService().saveTask(task2);
+
+        assertThatThrownBy(() -> processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            TaskEntity firstTask = CommandContextUtil.getTaskService(commandContext).getTask(task1.getId());
+            TaskEntity secondTask = CommandContextUtil.getTaskService(commandContext).getTask(task2.getId());
+
+            // Concurrent update of the first task in a separate transaction
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), innerCommandContext -> {
+                TaskEntity concurrentTask = CommandContextUtil.getTaskService(innerCommandContext).getTask(task1.getId());
+                concurrentTask.setName("concurrent");
+                return null;
+            });
+
+            firstTask.setName("first");
+            secondTask.setName("second");
+            return null;
+        })).isExactlyInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().taskId(task1.getId()).singleResult().getName()).isEqualTo("concurrent");
+        assertThat(processEngine.getTaskService().createTaskQuery().taskId(task2.getId()).singleResult().getName()).isNull();
+    }
+
+}
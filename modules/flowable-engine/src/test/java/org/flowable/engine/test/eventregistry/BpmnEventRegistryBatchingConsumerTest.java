@@ -0,0 +1,231 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEventChannelAdapter;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.BatchingInboundEventProcessor;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BpmnEventRegistryBatchingConsumerTest extends FlowableEventRegistryBpmnTestCase {
+
+    protected static final String BPMN_EVENT_CONSUMER_KEY = "bpmnEventConsumer";
+
+    protected InboundChannelModel inboundChannelModel;
+    protected BatchingInboundEventProcessor inboundEventProcessor;
+    protected ExecutorService executorService;
+    protected EventRegistryEventConsumer bpmnEventConsumer;
+
+    @BeforeEach
+    public void setUp() {
+        getEventRegistryEngineConfiguration().getExpressionManager().getBeans()
+            .put("inboundEventChannelAdapter", new TestInboundEventChannelAdapter());
+
+        getEventRepositoryService().createInboundChannelModelBuilder()
+            .key("test-channel")
+            .resourceName("testChannel.channel")
+            .channelAdapter("${inboundEventChannelAdapter}")
+            .jsonDeserializer()
+            .detectEventKeyUsingJsonField("type")
+            .jsonFieldsMapDirectlyToPayload()
+            .deploy();
+
+        getEventRepositoryService().createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .correlationParameter("customerId", EventPayloadTypes.STRING)
+            .correlationParameter("orderId", EventPayloadTypes.STRING)
+            .payload("payload1", EventPayloadTypes.STRING)
+            .payload("payload2", EventPayloadTypes.INTEGER)
+            .deploy();
+
+        inboundChannelModel = (InboundChannelModel) getEventRepositoryService().getChannelModelByKey("test-channel");
+        inboundEventProcessor = new BatchingInboundEventProcessor(getEventRegistry(), getEventRegistryEngineConfiguration());
+        inboundEventProcessor.setBatchWindowInMs(200L);
+        executorService = Executors.newFixedThreadPool(12);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+        inboundEventProcessor.shutdown();
+        if (bpmnEventConsumer != null) {
+            getEventRegistry().registerEventRegistryEventConsumer(bpmnEventConsumer);
+        }
+
+        EventRepositoryService eventRepositoryService = getEventRepositoryService();
+        List<EventDeployment> deployments = eventRepositoryService.createDeploymentQuery().list();
+        for (EventDeployment eventDeployment : deployments) {
+            eventRepositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelation() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "fozzie");
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        waitForAll(triggerTestEventAsync("kermit"), triggerTestEventAsync("piggy"), triggerTestEventAsync("gonzo"));
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceInBatch() {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            futures.add(triggerTestEventAsync("testCustomer"));
+        }
+        for (int i = 1; i <= 3; i++) {
+            futures.add(triggerTestEventAsync("anotherTestCustomer"));
+        }
+        waitForAll(futures.toArray(new Future<?>[0]));
+
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceId)
+            .doesNotHaveDuplicates()
+            .hasSize(2);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testFailingEventIsReportedToReceiver() throws Exception {
+        // Replaces the bpmn consumer with one that fails for the events of gonzo
+        bpmnEventConsumer = getEventRegistryEngineConfiguration().getEventRegistryEventConsumers().get(BPMN_EVENT_CONSUMER_KEY);
+        FailingEventConsumer failingEventConsumer = new FailingEventConsumer(bpmnEventConsumer, "gonzo");
+        getEventRegistry().registerEventRegistryEventConsumer(failingEventConsumer);
+
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        Future<?> kermitFuture = triggerTestEventAsync("kermit");
+        Future<?> gonzoFuture = triggerTestEventAsync("gonzo");
+
+        // The receiver of the failing event gets the exception (so the event is not acknowledged), the other event of the batch is handled
+        kermitFuture.get(10, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> gonzoFuture.get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseInstanceOf(FlowableException.class)
+            .hasRootCauseMessage("Failing for gonzo");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+        // When the event is delivered again after the problem is solved, it is handled
+        failingEventConsumer.failingCustomerId = null;
+        waitForAll(triggerTestEventAsync("gonzo"));
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+    }
+
+    protected Future<?> triggerTestEventAsync(String customerId) {
+        return executorService.submit(() -> triggerTestEvent(customerId));
+    }
+
+    protected void waitForAll(Future<?>... futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    protected void triggerTestEvent(String customerId) {
+        inboundEventProcessor.eventReceived(inboundChannelModel,
+            "{\"type\": \"myEvent\", \"customerId\": \"" + customerId + "\", \"payload1\": \"Hello World\", \"payload2\": 123}");
+    }
+
+    protected static class FailingEventConsumer implements EventRegistryEventConsumer {
+
+        protected final EventRegistryEventConsumer delegate;
+        protected volatile String failingCustomerId;
+
+        public FailingEventConsumer(EventRegistryEventConsumer delegate, String failingCustomerId) {
+            this.delegate = delegate;
+            this.failingCustomerId = failingCustomerId;
+        }
+
+        @Override
+        public void eventReceived(EventRegistryEvent event) {
+            EventInstance eventInstance = (EventInstance) event.getEventObject();
+            for (EventPayloadInstance correlationParameterInstance : eventInstance.getCorrelationParameterInstances()) {
+                if ("customerId".equals(correlationParameterInstance.getDefinitionName()) && correlationParameterInstance.getValue().equals(failingCustomerId)) {
+                    throw new FlowableException("Failing for " + failingCustomerId);
+                }
+            }
+            delegate.eventReceived(event);
+        }
+
+        @Override
+        public String getConsumerKey() {
+            return delegate.getConsumerKey();
+        }
+    }
+
+    protected static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
+
+        @Override
+        public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+
+        }
+
+        @Override
+        public void setEventRegistry(EventRegistry eventRegistry) {
+
+        }
+    }
+}
@@ -15,7 +15,9 @@ package org.flowable.engine.test.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -233,6 +235,35 @@ public class HistoricVariableInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoricVariableInstanceQueryCursorPaging() {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            variables.put("var" + i, i);
+        }
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            List<String> variableInstanceIds = new ArrayList<>();
+            for (HistoricVariableInstance variableInstance : historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).list()) {
+                variableInstanceIds.add(variableInstance.getId());
+            }
+            Collections.sort(variableInstanceIds);
+            assertThat(variableInstanceIds).hasSize(5);
+
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                    .afterCursor(variableInstanceIds.get(1)).listPage(0, 2))
+                    .extracting(HistoricVariableInstance::getId)
+                    .containsExactly(variableInstanceIds.get(2), variableInstanceIds.get(3));
+
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                    .afterCursor(variableInstanceIds.get(3)).count()).isEqualTo(1);
+        }
+    }
+
     @Test
     public void testHistoricVariableQuery2() {
         deployTwoTasksTestProcess();
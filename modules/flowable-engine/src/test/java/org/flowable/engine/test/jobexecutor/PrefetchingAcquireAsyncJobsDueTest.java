@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueLifecycleListener;
+import org.junit.jupiter.api.Test;
+
+class PrefetchingAcquireAsyncJobsDueTest extends JobExecutorTestCase {
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.setAsyncJobsPrefetchEnabled(true);
+        asyncExecutor.setAsyncJobsPrefetchMinBufferSize(2);
+        asyncExecutor.setAsyncJobsPrefetchMaxBufferSize(8);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(500);
+        asyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(500);
+
+        // A single thread with a small queue, to make sure the task executor regularly has no capacity left
+        processEngineConfiguration.setAsyncExecutorCorePoolSize(1);
+        processEngineConfiguration.setAsyncExecutorMaxPoolSize(1);
+        processEngineConfiguration.setAsyncExecutorThreadPoolQueueSize(2);
+    }
+
+    @Test
+    void prefetchedJobsAreExecutedWithoutRejections() {
+        TestAcquireAsyncJobsDueLifecycleListener listener = new TestAcquireAsyncJobsDueLifecycleListener();
+        ((AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor()).setAsyncJobsDueLifecycleListener(listener);
+
+        int nrOfJobs = 30;
+        processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            JobService jobService = CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration()
+                    .getJobService();
+            for (int i = 0; i < nrOfJobs; i++) {
+                jobService.scheduleAsyncJob(createTweetMessage("Message " + i));
+            }
+            return null;
+        });
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 20000L, 200L);
+
+        assertThat(tweetHandler.getMessages()).hasSize(nrOfJobs);
+        assertThat(managementService.createJobQuery().count()).isZero();
+
+        // Jobs acquired before the owned jobs are unlocked at startup are acquired again
+        assertThat(listener.jobsAcquired.get()).isGreaterThanOrEqualTo(nrOfJobs);
+        assertThat(listener.jobsRejected.get()).isZero();
+        assertThat(listener.acquisitionLatencyCalls.get()).isPositive();
+        assertThat(listener.prefetchBufferDepthCalls.get()).isPositive();
+        assertThat(listener.maxBufferDepth.get()).isBetween(0, 8);
+        assertThat(listener.maxTargetBufferSize.get()).isBetween(2, 8);
+    }
+
+    static class TestAcquireAsyncJobsDueLifecycleListener implements AcquireAsyncJobsDueLifecycleListener {
+
+        protected final AtomicInteger jobsAcquired = new AtomicInteger();
+        protected final AtomicInteger jobsRejected = new AtomicInteger();
+        protected final AtomicInteger acquisitionLatencyCalls = new AtomicInteger();
+        protected final AtomicInteger prefetchBufferDepthCalls = new AtomicInteger();
+        protected final AtomicInteger maxBufferDepth = new AtomicInteger();
+        protected final AtomicInteger maxTargetBufferSize = new AtomicInteger();
+
+        @Override
+        public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+
+        }
+
+        @Override
+        public void stopAcquiring(String engineName) {
+
+        }
+
+        @Override
+        public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+            this.jobsAcquired.addAndGet(jobsAcquired);
+        }
+
+        @Override
+        public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+            this.jobsRejected.addAndGet(jobsRejected);
+        }
+
+        @Override
+        public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+
+        }
+
+        @Override
+        public void startWaiting(String engineName, long millisToWait) {
+
+        }
+
+        @Override
+        public void acquisitionLatency(String engineName, long acquisitionTimeInMillis, int jobsAcquired) {
+            acquisitionLatencyCalls.incrementAndGet();
+        }
+
+        @Override
+        public void prefetchBufferDepth(String engineName, int bufferDepth, int targetBufferSize, int maxBufferSize) {
+            prefetchBufferDepthCalls.incrementAndGet();
+            maxBufferDepth.accumulateAndGet(bufferDepth, Math::max);
+            maxTargetBufferSize.accumulateAndGet(targetBufferSize, Math::max);
+        }
+    }
+}
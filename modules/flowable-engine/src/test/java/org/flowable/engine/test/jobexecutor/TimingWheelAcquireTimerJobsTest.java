@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelAcquireTimerJobsTest extends JobExecutorTestCase {
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.setTimerJobsTimingWheelEnabled(true);
+        asyncExecutor.setTimerJobsLookAheadMinWindowInMillis(2000);
+        asyncExecutor.setTimerJobsLookAheadMaxWindowInMillis(5000);
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(500);
+    }
+
+    @AfterEach
+    void deleteTimerJobs() {
+        for (Job timerJob : managementService.createTimerJobQuery().list()) {
+            managementService.deleteTimerJob(timerJob.getId());
+        }
+    }
+
+    @Test
+    void timerJobsAreMovedAtDueTime() {
+        long now = System.currentTimeMillis();
+        scheduleTimer("due", now - 1000);
+        scheduleTimer("soon", now + 1500);
+        scheduleTimer("later", now + 3000);
+        String farTimerJobId = scheduleTimer("far", now + 60 * 60 * 1000);
+
+        JobTestHelper.waitForJobExecutorOnCondition(processEngineConfiguration, 20000L, 100L, () -> tweetHandler.getMessages().size() == 3);
+
+        assertThat(tweetHandler.getMessages()).containsExactlyInAnyOrder("due", "soon", "later");
+        assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(now + 3000);
+
+        // Beyond the max look-ahead window, so never acquired
+        TimerJobEntity farTimerJob = (TimerJobEntity) managementService.createTimerJobQuery().jobId(farTimerJobId).singleResult();
+        assertThat(farTimerJob.getLockOwner()).isNull();
+    }
+
+    @Test
+    void acquiredTimerJobsAreLockedUntilAfterDueTimeAndUnlockedOnShutdown() {
+        long dueTime = System.currentTimeMillis() + 4000;
+        String timerJobId = scheduleTimer("timer", dueTime);
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.start();
+        try {
+            await().atMost(Duration.ofSeconds(10)).until(() -> getTimerJob(timerJobId).getLockOwner() != null);
+
+            TimerJobEntity timerJob = getTimerJob(timerJobId);
+            assertThat(timerJob.getLockOwner()).isEqualTo(asyncExecutor.getLockOwner());
+            assertThat(timerJob.getLockExpirationTime().getTime()).isEqualTo(dueTime + asyncExecutor.getTimerLockTimeInMillis());
+            assertThat(tweetHandler.getMessages()).isEmpty();
+
+        } finally {
+            asyncExecutor.shutdown();
+        }
+
+        assertThat(getTimerJob(timerJobId).getLockOwner()).isNull();
+        assertThat(getTimerJob(timerJobId).getLockExpirationTime()).isNull();
+    }
+
+    @Test
+    void deletedTimerJobIsNotMoved() {
+        long dueTime = System.currentTimeMillis() + 3000;
+        String timerJobId = scheduleTimer("deleted", dueTime);
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.start();
+        try {
+            await().atMost(Duration.ofSeconds(10)).until(() -> getTimerJob(timerJobId).getLockOwner() != null);
+
+            // Similar to the timer being deleted when its process instance is deleted, which doesn't check the lock
+            processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                processEngineConfiguration.getJobServiceConfiguration().getTimerJobEntityManager().delete(timerJobId);
+                return null;
+            });
+
+            await().atMost(Duration.ofSeconds(10)).until(() -> System.currentTimeMillis() > dueTime + 1000);
+
+        } finally {
+            asyncExecutor.shutdown();
+        }
+
+        assertThat(managementService.createJobQuery().count()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+        assertThat(tweetHandler.getMessages()).isEmpty();
+    }
+
+    protected String scheduleTimer(String message, long dueTime) {
+        return processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer(message, new Date(dueTime));
+            processEngineConfiguration.getJobServiceConfiguration().getTimerJobService().scheduleTimerJob(timer);
+            return timer.getId();
+        });
+    }
+
+    protected TimerJobEntity getTimerJob(String timerJobId) {
+        return (TimerJobEntity) managementService.createTimerJobQuery().jobId(timerJobId).singleResult();
+    }
+}
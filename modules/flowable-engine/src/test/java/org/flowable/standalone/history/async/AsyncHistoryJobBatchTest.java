@@ -0,0 +1,280 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.HistoryJobProcessor;
+import org.flowable.job.service.HistoryJobProcessorContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncHistoryJobBatchRunnable;
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobBatchCmd;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.HistoryJsonBatchMerger;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class AsyncHistoryJobBatchTest extends CustomConfigurationFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoryJobBatchTest.class);
+
+    public AsyncHistoryJobBatchTest() {
+        super("asyncHistoryJobBatchTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(false);
+        processEngineConfiguration.setAsyncHistoryExecutorJobBatchSize(20);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+    }
+
+    @Test
+    public void testExecuteHistoryJobsInOneBatch() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .businessKey("testBusinessKey")
+                .start()
+                .getId();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        taskService.setAssignee(task.getId(), "fozzie");
+        taskService.complete(task.getId());
+
+        List<String> historyJobIds = getHistoryJobIds();
+        assertThat(historyJobIds).hasSizeGreaterThan(1);
+
+        managementService.executeCommand(new ExecuteHistoryJobBatchCmd(historyJobIds, processEngineConfiguration.getJobServiceConfiguration()));
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicProcessInstance.getBusinessKey()).isEqualTo("testBusinessKey");
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicTaskInstance.getAssignee()).isEqualTo("fozzie");
+        assertThat(historicTaskInstance.getEndTime()).isNotNull();
+
+        List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list();
+        assertThat(historicActivityInstances).hasSize(5);
+        for (HistoricActivityInstance historicActivityInstance : historicActivityInstances) {
+            assertThat(historicActivityInstance.getEndTime()).isNotNull();
+        }
+
+        HistoricActivityInstance taskActivityInstance = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId)
+                .activityId("theTask").singleResult();
+        assertThat(taskActivityInstance.getAssignee()).isEqualTo("fozzie");
+        assertThat(taskActivityInstance.getTaskId()).isEqualTo(task.getId());
+    }
+
+    @Test
+    public void testJobsAreExecutedOneByOneWhenBatchFails() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        List<AbstractAsyncHistoryJobHandler> historyJobHandlers = new ArrayList<>();
+        List<HistoryJsonBatchMerger> originalMergers = new ArrayList<>();
+        for (HistoryJobHandler historyJobHandler : jobServiceConfiguration.getHistoryJobHandlers().values()) {
+            if (historyJobHandler instanceof AbstractAsyncHistoryJobHandler) {
+                AbstractAsyncHistoryJobHandler asyncHistoryJobHandler = (AbstractAsyncHistoryJobHandler) historyJobHandler;
+                historyJobHandlers.add(asyncHistoryJobHandler);
+                originalMergers.add(asyncHistoryJobHandler.getHistoryJsonBatchMerger());
+                asyncHistoryJobHandler.setHistoryJsonBatchMerger(historyNodes -> {
+                    throw new FlowableException("Batch merge failure");
+                });
+            }
+        }
+
+        try {
+            List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+            assertThat(historyJobs).hasSizeGreaterThan(1);
+
+            new ExecuteAsyncHistoryJobBatchRunnable(historyJobs, jobServiceConfiguration, jobServiceConfiguration.getHistoryJobEntityManager(), null).run();
+
+        } finally {
+            for (int i = 0; i < historyJobHandlers.size(); i++) {
+                historyJobHandlers.get(i).setHistoryJsonBatchMerger(originalMergers.get(i));
+            }
+        }
+
+        // The jobs ending an activity are recreated when they are executed before the job starting it
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).finished().count()).isEqualTo(1);
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).finished().count()).isEqualTo(5);
+    }
+
+    @Test
+    public void testHistoryJobProcessorsAreCalledOncePerJob() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        List<String> processedHistoryJobIds = new ArrayList<>();
+        List<HistoryJobProcessor> originalHistoryJobProcessors = jobServiceConfiguration.getHistoryJobProcessors();
+        jobServiceConfiguration.setHistoryJobProcessors(Collections.singletonList(historyJobProcessorContext -> {
+            if (historyJobProcessorContext.isInPhase(HistoryJobProcessorContext.Phase.BEFORE_EXECUTE)) {
+                processedHistoryJobIds.add(historyJobProcessorContext.getHistoryJobEntity().getId());
+            }
+        }));
+
+        // A history job of which the handler doesn't support batches is executed through the job manager
+        HistoryJobHandler customHistoryJobHandler = new HistoryJobHandler() {
+
+            @Override
+            public String getType() {
+                return "custom-history-job";
+            }
+
+            @Override
+            public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+            }
+        };
+        jobServiceConfiguration.getHistoryJobHandlers().put(customHistoryJobHandler.getType(), customHistoryJobHandler);
+
+        try {
+            managementService.executeCommand(commandContext -> {
+                HistoryJobEntity historyJob = jobServiceConfiguration.getHistoryJobEntityManager().create();
+                historyJob.setJobHandlerType(customHistoryJobHandler.getType());
+                jobServiceConfiguration.getHistoryJobEntityManager().insert(historyJob);
+                return null;
+            });
+
+            List<String> historyJobIds = getHistoryJobIds();
+            managementService.executeCommand(new ExecuteHistoryJobBatchCmd(historyJobIds, jobServiceConfiguration));
+
+            assertThat(processedHistoryJobIds).containsExactlyInAnyOrderElementsOf(historyJobIds);
+            assertThat(managementService.createHistoryJobQuery().count()).isZero();
+
+        } finally {
+            jobServiceConfiguration.setHistoryJobProcessors(originalHistoryJobProcessors);
+            jobServiceConfiguration.getHistoryJobHandlers().remove(customHistoryJobHandler.getType());
+        }
+    }
+
+    @Test
+    public void testAsyncHistoryExecutorExecutesJobsInBatches() {
+        deployOneTaskTestProcess();
+        for (int i = 0; i < 10; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.setAssignee(task.getId(), "kermit");
+            taskService.complete(task.getId());
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(10);
+        assertThat(historyService.createHistoricActivityInstanceQuery().finished().count()).isEqualTo(50);
+        assertThat(historyService.createHistoricTaskInstanceQuery().finished().count()).isEqualTo(10);
+    }
+
+    /**
+     * Executes the same history jobs one by one and in batches, and logs how long both took.
+     * Set the flowable.test.benchmarks system property to true to run it.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "flowable.test.benchmarks", matches = "true")
+    public void testHistoryJobBatchBenchmark() {
+        deployOneTaskTestProcess();
+        int nrOfProcessInstances = Integer.getInteger("flowable.test.asyncHistoryJobBatchProcessInstances", 50);
+        int batchSize = Integer.getInteger("flowable.test.asyncHistoryJobBatchSize", 50);
+
+        for (boolean batched : new boolean[] { false, true }) {
+            for (int i = 0; i < nrOfProcessInstances; i++) {
+                runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            }
+            for (Task task : taskService.createTaskQuery().list()) {
+                taskService.complete(task.getId());
+            }
+
+            List<String> historyJobIds = getHistoryJobIds();
+            int nrOfHistoryJobs = historyJobIds.size();
+            long start = System.currentTimeMillis();
+            for (int round = 0; round < 5 && !historyJobIds.isEmpty(); round++) {
+                if (batched) {
+                    for (int i = 0; i < historyJobIds.size(); i += batchSize) {
+                        managementService.executeCommand(new ExecuteHistoryJobBatchCmd(historyJobIds.subList(i, Math.min(i + batchSize, historyJobIds.size())),
+                                processEngineConfiguration.getJobServiceConfiguration()));
+                    }
+                } else {
+                    for (String historyJobId : historyJobIds) {
+                        try {
+                            managementService.executeHistoryJob(historyJobId);
+                        } catch (FlowableException e) {
+                            // The job is not applicable yet when it is executed before the job starting the activity, it is retried in the next round
+                        }
+                    }
+                }
+                historyJobIds = getHistoryJobIds();
+            }
+            long executeTime = System.currentTimeMillis() - start;
+
+            assertThat(historyJobIds).isEmpty();
+            assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(nrOfProcessInstances);
+            assertThat(historyService.createHistoricActivityInstanceQuery().finished().count()).isEqualTo(5L * nrOfProcessInstances);
+
+            LOGGER.info("{}: executing {} history jobs took {} ms", batched ? "batches of " + batchSize : "one by one", nrOfHistoryJobs, executeTime);
+
+            historyService.createHistoricProcessInstanceQuery().list()
+                    .forEach(historicProcessInstance -> historyService.deleteHistoricProcessInstance(historicProcessInstance.getId()));
+            waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+        }
+    }
+
+    protected List<String> getHistoryJobIds() {
+        List<String> historyJobIds = new ArrayList<>();
+        for (HistoryJob historyJob : managementService.createHistoryJobQuery().list()) {
+            historyJobIds.add(historyJob.getId());
+        }
+        return historyJobIds;
+    }
+
+}
@@ -0,0 +1,227 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.BinaryAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.JsonAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.message.AsyncHistoryJobMessageReceiver;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class AsyncHistoryPayloadCodecTest extends CustomConfigurationFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoryPayloadCodecTest.class);
+
+    public AsyncHistoryPayloadCodecTest() {
+        super("asyncHistoryPayloadCodecTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(1);
+        processEngineConfiguration.setAsyncHistoryPayloadCodec(new BinaryAsyncHistoryPayloadCodec());
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryPayloadCodec(new BinaryAsyncHistoryPayloadCodec());
+
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+    }
+
+    @Test
+    public void testOneTaskProcessWithBinaryPayload() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .businessKey("testBusinessKey")
+                .start()
+                .getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertThat(historyJobs).isNotEmpty();
+        for (HistoryJob historyJob : historyJobs) {
+            assertThat(BinaryAsyncHistoryPayloadCodec.isBinaryPayload(getPayload(historyJob))).isTrue();
+
+            // The payload is still returned as json
+            assertThat(managementService.getHistoryJobHistoryJson(historyJob.getId())).startsWith("[{\"type\":");
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicProcessInstance.getBusinessKey()).isEqualTo("testBusinessKey");
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicTaskInstance.getTaskDefinitionKey()).isEqualTo("theTask");
+        assertThat(historicTaskInstance.getEndTime()).isNotNull();
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(5);
+    }
+
+    @Test
+    public void testJsonPayloadIsProcessedAfterSwitchingToBinaryCodec() {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryPayloadCodec(new JsonAsyncHistoryPayloadCodec());
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        for (HistoryJob historyJob : managementService.createHistoryJobQuery().list()) {
+            assertThat(BinaryAsyncHistoryPayloadCodec.isBinaryPayload(getPayload(historyJob))).isFalse();
+        }
+
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryPayloadCodec(new BinaryAsyncHistoryPayloadCodec());
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+        assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testMessageQueueReceiverDecodesBinaryPayload() {
+        deployOneTaskTestProcess();
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        List<JsonNode> receivedHistoryData = new ArrayList<>();
+        AsyncHistoryJobMessageReceiver messageReceiver = new AsyncHistoryJobMessageReceiver(processEngineConfiguration.getCommandExecutor(),
+                (historyJobEntity, historyData) -> {
+                    receivedHistoryData.add(historyData);
+                    return false;
+                }, processEngineConfiguration.getJobServiceConfiguration());
+
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertThat(historyJobs).isNotEmpty();
+        for (HistoryJob historyJob : historyJobs) {
+            assertThat(BinaryAsyncHistoryPayloadCodec.isBinaryPayload(getPayload(historyJob))).isTrue();
+            messageReceiver.messageForJobReceived(historyJob.getId());
+        }
+
+        assertThat(receivedHistoryData).hasSameSizeAs(historyJobs);
+        for (JsonNode historyData : receivedHistoryData) {
+            assertThat(historyData.isArray()).isTrue();
+            assertThat(historyData.get(0).path("type").asText()).isNotEmpty();
+        }
+
+        // The jobs are kept when the handler returns false, so the history is still created by the history job executor
+        assertThat(managementService.createHistoryJobQuery().count()).isEqualTo(historyJobs.size());
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(1);
+    }
+
+    /**
+     * Logs the payload size, the decoding time and the execution time of the history jobs per codec.
+     * Only enabled with -Dflowable.test.benchmarks=true, as it executes the history jobs of many process instances twice.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "flowable.test.benchmarks", matches = "true")
+    public void testPayloadCodecBenchmark() {
+        deployOneTaskTestProcess();
+        int nrOfProcessInstances = Integer.getInteger("flowable.test.asyncHistoryPayloadCodecProcessInstances", 50);
+
+        for (AsyncHistoryPayloadCodec codec : new AsyncHistoryPayloadCodec[] { new JsonAsyncHistoryPayloadCodec(), new BinaryAsyncHistoryPayloadCodec() }) {
+            processEngineConfiguration.getJobServiceConfiguration().setAsyncHistoryPayloadCodec(codec);
+            for (int i = 0; i < nrOfProcessInstances; i++) {
+                runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            }
+            for (Task task : taskService.createTaskQuery().list()) {
+                taskService.complete(task.getId());
+            }
+
+            List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+            List<byte[]> payloads = new ArrayList<>(historyJobs.size());
+            long totalBytes = 0;
+            for (HistoryJob historyJob : historyJobs) {
+                byte[] payload = getPayload(historyJob);
+                payloads.add(payload);
+                totalBytes += payload.length;
+            }
+
+            // Decoding the payloads is what happens before the history json transformers are invoked
+            ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+            long decodeStart = System.nanoTime();
+            int nrOfHistoryEvents = 0;
+            for (int i = 0; i < 20; i++) {
+                for (byte[] payload : payloads) {
+                    JsonNode historyNode = codec.decode(payload, objectMapper);
+                    nrOfHistoryEvents += historyNode.size();
+                }
+            }
+            long decodeTime = (System.nanoTime() - decodeStart) / 1_000_000;
+
+            long executeStart = System.currentTimeMillis();
+            List<HistoryJob> jobsToExecute = historyJobs;
+            for (int round = 0; round < 5 && !jobsToExecute.isEmpty(); round++) {
+                // The jobs ending an activity are recreated when they are executed before the job starting it
+                for (HistoryJob historyJob : jobsToExecute) {
+                    managementService.executeHistoryJob(historyJob.getId());
+                }
+                jobsToExecute = managementService.createHistoryJobQuery().list();
+            }
+            long executeTime = System.currentTimeMillis() - executeStart;
+
+            assertThat(jobsToExecute).isEmpty();
+            assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(nrOfProcessInstances);
+
+            LOGGER.info("{}: {} history jobs ({} history events), {} bytes per job, decoding 20 times took {} ms, executing the jobs took {} ms",
+                    codec.getClass().getSimpleName(), historyJobs.size(), nrOfHistoryEvents / 20, totalBytes / historyJobs.size(), decodeTime, executeTime);
+
+            historyService.createHistoricProcessInstanceQuery().list()
+                    .forEach(historicProcessInstance -> historyService.deleteHistoricProcessInstance(historicProcessInstance.getId()));
+            waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+        }
+    }
+
+    protected byte[] getPayload(HistoryJob historyJob) {
+        return managementService.executeCommand(new Command<byte[]>() {
+
+            @Override
+            public byte[] execute(CommandContext commandContext) {
+                HistoryJobEntity historyJobEntity = processEngineConfiguration.getJobServiceConfiguration().getHistoryJobEntityManager().findById(historyJob.getId());
+                return historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJobEntity.getScopeType());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,162 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public PrefetchingDbIdGeneratorTest() throws Exception {
+        super("org/flowable/standalone/idgenerator/prefetchingdbidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testConcurrentIdsAreUnique() throws Exception {
+        PrefetchingDbIdGenerator idGenerator = (PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(new Callable<List<String>>() {
+
+                    @Override
+                    public List<String> call() {
+                        List<String> ids = new ArrayList<>();
+                        for (int j = 0; j < 1000; j++) {
+                            ids.add(idGenerator.getNextId());
+                        }
+                        return ids;
+                    }
+                }));
+            }
+
+            Set<String> ids = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                ids.addAll(future.get(1, TimeUnit.MINUTES));
+            }
+            assertThat(ids).hasSize(8000);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(idGenerator.getNextIdBlockSize()).isBetween(20, 160);
+    }
+
+    @Test
+    public void testAdaptiveIdBlockSize() {
+        TestPrefetchingDbIdGenerator idGenerator = new TestPrefetchingDbIdGenerator();
+        idGenerator.setIdBlockSize(10);
+        idGenerator.setAdaptiveIdBlockSize(true);
+        idGenerator.setMaxIdBlockSize(40);
+        idGenerator.setMinIdBlockDurationInMillis(1000L);
+
+        // The first block is fetched with the configured size
+        assertThat(idGenerator.getNextId()).isEqualTo("1");
+
+        // Blocks consumed within the min duration double the size up to the max
+        assertThat(consumeBlock(idGenerator, 0, 10L)).isEqualTo(20);
+        assertThat(consumeBlock(idGenerator, 1, 10L)).isEqualTo(40);
+        assertThat(consumeBlock(idGenerator, 2, 10L)).isEqualTo(40);
+
+        // Blocks taking more than ten times the min duration halve the size down to the configured size
+        assertThat(consumeBlock(idGenerator, 3, 20000L)).isEqualTo(20);
+        assertThat(consumeBlock(idGenerator, 4, 20000L)).isEqualTo(10);
+        assertThat(consumeBlock(idGenerator, 5, 20000L)).isEqualTo(10);
+
+        // Blocks consumed in between keep the size
+        assertThat(consumeBlock(idGenerator, 6, 5000L)).isEqualTo(10);
+
+        // The next block is prefetched before the current one is exhausted, so it has the size from before the current block was adapted
+        assertThat(idGenerator.fetchedIdBlockSizes).containsExactly(10, 10, 20, 40, 40, 20, 10, 10);
+    }
+
+    /**
+     * Consumes the remaining ids of the block with the given index in the given time and returns the size of the next block.
+     */
+    protected int consumeBlock(TestPrefetchingDbIdGenerator idGenerator, int blockIndex, long durationInMillis) {
+        for (int i = 1; i < idGenerator.fetchedIdBlockSizes.get(blockIndex); i++) {
+            idGenerator.getNextId();
+        }
+        idGenerator.currentTimeNanos += TimeUnit.MILLISECONDS.toNanos(durationInMillis);
+
+        // Switches to the next block
+        idGenerator.getNextId();
+        return idGenerator.getNextIdBlockSize();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testPrefetchingDbIdGeneratorUsage() throws Exception {
+        // Fewer threads than connections in the pool, as fetching a new id block needs a connection besides the one of the command
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<ProcessInstance>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(executorService.submit(() -> runtimeService.startProcessInstanceByKey("simpleProcess")));
+            }
+
+            // Rethrows the exception of a failed start
+            for (Future<ProcessInstance> future : futures) {
+                assertThat(future.get(1, TimeUnit.MINUTES)).isNotNull();
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(50);
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(50);
+    }
+
+    protected static class TestPrefetchingDbIdGenerator extends PrefetchingDbIdGenerator {
+
+        protected final List<Integer> fetchedIdBlockSizes = new CopyOnWriteArrayList<>();
+        protected volatile long currentTimeNanos;
+        protected final AtomicLong lastFetchedId = new AtomicLong();
+
+        @Override
+        protected IdBlock fetchNewBlock(int idBlockSize) {
+            // Called by the prefetch thread while the thread switching to a new block holds the lock of the generator
+            fetchedIdBlockSizes.add(idBlockSize);
+            long lastId = lastFetchedId.addAndGet(idBlockSize);
+            return new IdBlock(lastId - idBlockSize + 1, lastId);
+        }
+
+        @Override
+        protected long getCurrentTimeNanos() {
+            return currentTimeNanos;
+        }
+    }
+
+}
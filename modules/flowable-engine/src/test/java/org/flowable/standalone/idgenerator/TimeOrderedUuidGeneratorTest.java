@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
+import org.flowable.common.engine.impl.persistence.TimeOrderedUuidGenerator;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies the {@link TimeOrderedUuidGenerator} with the engine and contains a small benchmark comparing the insert throughput
+ * into the history tables with the {@link StrongUuidGenerator}.
+ *
+ * The benchmark only runs when the flowable.test.benchmarks system property is true. It runs on the database configured
+ * for the tests (through the jdbc.* system properties), the number of process instances can be changed with the flowable.test.idGeneratorBenchmarkInstances system property.
+ */
+public class TimeOrderedUuidGeneratorTest extends ResourceFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimeOrderedUuidGeneratorTest.class);
+
+    public TimeOrderedUuidGeneratorTest() throws Exception {
+        super("org/flowable/standalone/idgenerator/timeordereduuidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testTimeOrderedUuidGeneratorUsage() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+        assertThat(UUID.fromString(processInstance.getId()).version()).isEqualTo(7);
+
+        List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery()
+                .processInstanceId(processInstance.getId())
+                .list();
+        assertThat(historicActivityInstances).isNotEmpty();
+
+        // The ids are generated after the id of the process instance, so they sort after it
+        for (HistoricActivityInstance historicActivityInstance : historicActivityInstances) {
+            assertThat(UUID.fromString(historicActivityInstance.getId()).version()).isEqualTo(7);
+            assertThat(historicActivityInstance.getId()).isGreaterThan(processInstance.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    @EnabledIfSystemProperty(named = "flowable.test.benchmarks", matches = "true")
+    public void testHistoryInsertThroughputBenchmark() {
+        int instances = Integer.getInteger("flowable.test.idGeneratorBenchmarkInstances", 100);
+
+        IdGenerator originalIdGenerator = processEngineConfiguration.getIdGenerator();
+        try {
+            long strongUuidDuration = runBenchmark(new StrongUuidGenerator(), instances);
+            long timeOrderedUuidDuration = runBenchmark(new TimeOrderedUuidGenerator(), instances);
+
+            LOGGER.info("Started {} process instances in {} ms with the StrongUuidGenerator and in {} ms with the TimeOrderedUuidGenerator",
+                    instances, strongUuidDuration, timeOrderedUuidDuration);
+
+        } finally {
+            processEngineConfiguration.setIdGenerator(originalIdGenerator);
+        }
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(2L * (instances + instances / 10));
+    }
+
+    protected long runBenchmark(IdGenerator idGenerator, int instances) {
+        // The process engine inserts the process and activity instances with this generator, the task service keeps its own
+        processEngineConfiguration.setIdGenerator(idGenerator);
+
+        // Warm up
+        startProcessInstances(instances / 10);
+
+        long start = System.nanoTime();
+        startProcessInstances(instances);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    protected void startProcessInstances(int instances) {
+        for (int i = 0; i < instances; i++) {
+            runtimeService.startProcessInstanceByKey("simpleProcess");
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.script.ScriptEngineManager;
+
+import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests the cache of compiled scripts of the {@link ScriptingEngines}, and compares evaluating scripts with and without the cache.
+ *
+ * The benchmark is skipped unless -Dflowable.test.benchmarks=true is passed, the number of its evaluations can be changed
+ * with the flowable.test.scriptBenchmarkEvaluations system property.
+ * Languages for which no script engine is available on the classpath are skipped by the benchmark.
+ */
+public class CompiledScriptCacheTest extends PluggableFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledScriptCacheTest.class);
+
+    protected static final String GROOVY_SCRIPT = "def sum = 0\nfor (int i = 0; i < 10; i++) {\n  sum += i * factor\n}\nsum";
+    protected static final String JAVASCRIPT_SCRIPT = "var sum = 0;\nfor (var i = 0; i < 10; i++) {\n  sum += i * factor;\n}\nsum";
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCompiledScriptIsReused() {
+        ProcessInstance processInstance = startProcessInstance();
+        ScriptingEngines scriptingEngines = createScriptingEngines();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(evaluate(scriptingEngines, GROOVY_SCRIPT, "groovy", processInstance.getId())).isEqualTo(90);
+        }
+
+        assertThat(scriptingEngines.getCompiledScriptCache().size()).isEqualTo(1);
+        assertThat(scriptingEngines.getCompiledScriptCache().getMissCount()).isEqualTo(1);
+        assertThat(scriptingEngines.getCompiledScriptCache().getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCompiledScriptCacheLimit() {
+        ProcessInstance processInstance = startProcessInstance();
+        ScriptingEngines scriptingEngines = createScriptingEngines();
+        scriptingEngines.setCompiledScriptCacheLimit(2);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(evaluate(scriptingEngines, "factor + " + i, "groovy", processInstance.getId())).isEqualTo(2 + i);
+        }
+
+        assertThat(scriptingEngines.getCompiledScriptCache().size()).isEqualTo(2);
+        assertThat(scriptingEngines.getCompiledScriptCache().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCompiledScriptCacheConfiguration() {
+        ProcessEngineConfigurationImpl configuration = new StandaloneInMemProcessEngineConfiguration()
+                .setCacheCompiledScripts(true)
+                .setCompiledScriptCacheLimit(5);
+        configuration.initScriptingEngines();
+
+        assertThat(configuration.getScriptingEngines().isCacheCompiledScripts()).isTrue();
+        assertThat(configuration.getScriptingEngines().getCompiledScriptCache().getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCompiledScriptCacheDisabled() {
+        ProcessInstance processInstance = startProcessInstance();
+        ScriptingEngines scriptingEngines = createScriptingEngines();
+        scriptingEngines.setCacheCompiledScripts(false);
+
+        assertThat(evaluate(scriptingEngines, GROOVY_SCRIPT, "groovy", processInstance.getId())).isEqualTo(90);
+        assertThat(scriptingEngines.getCompiledScriptCache().size()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    @EnabledIfSystemProperty(named = "flowable.test.benchmarks", matches = "true")
+    public void testCompiledScriptCacheBenchmark() {
+        ProcessInstance processInstance = startProcessInstance();
+        int evaluations = Integer.getInteger("flowable.test.scriptBenchmarkEvaluations", 1000);
+
+        runBenchmark("groovy", GROOVY_SCRIPT, evaluations, processInstance.getId());
+        runBenchmark("javascript", JAVASCRIPT_SCRIPT, evaluations, processInstance.getId());
+    }
+
+    protected void runBenchmark(String language, String script, int evaluations, String executionId) {
+        if (new ScriptEngineManager().getEngineByName(language) == null) {
+            LOGGER.info("No script engine for {} available, skipping the benchmark", language);
+            return;
+        }
+
+        ScriptingEngines uncachedScriptingEngines = createScriptingEngines();
+        uncachedScriptingEngines.setCacheCompiledScripts(false);
+        long uncachedDuration = runBenchmark(uncachedScriptingEngines, language, script, evaluations, executionId);
+
+        ScriptingEngines cachedScriptingEngines = createScriptingEngines();
+        long cachedDuration = runBenchmark(cachedScriptingEngines, language, script, evaluations, executionId);
+
+        LOGGER.info("Evaluated a {} script {} times in {} ms without and in {} ms with the compiled script cache",
+                language, evaluations, uncachedDuration, cachedDuration);
+
+        assertThat(cachedScriptingEngines.getCompiledScriptCache().getMissCount()).isEqualTo(1);
+    }
+
+    protected long runBenchmark(ScriptingEngines scriptingEngines, String language, String script, int evaluations, String executionId) {
+        return managementService.executeCommand(commandContext -> {
+            VariableScope variableScope = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId);
+
+            // Warm up
+            for (int i = 0; i < evaluations / 10; i++) {
+                scriptingEngines.evaluate(script, language, variableScope, false);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < evaluations; i++) {
+                scriptingEngines.evaluate(script, language, variableScope, false);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        });
+    }
+
+    protected ProcessInstance startProcessInstance() {
+        return runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("factor", 2));
+    }
+
+    protected ScriptingEngines createScriptingEngines() {
+        ScriptingEngines defaultScriptingEngines = processEngineConfiguration.getScriptingEngines();
+        ScriptingEngines scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(processEngineConfiguration,
+                defaultScriptingEngines.getScriptBindingsFactory().getResolverFactories()));
+        scriptingEngines.setCacheCompiledScripts(true);
+        return scriptingEngines;
+    }
+
+    protected Object evaluate(ScriptingEngines scriptingEngines, String script, String language, String executionId) {
+        return managementService.executeCommand(commandContext -> scriptingEngines.evaluate(script, language,
+                CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId), false));
+    }
+
+}
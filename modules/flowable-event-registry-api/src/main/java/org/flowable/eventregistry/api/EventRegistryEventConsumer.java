@@ -12,12 +12,34 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     void eventReceived(EventRegistryEvent event);
+
+    /**
+     * Handles a batch of events, in the order in which they were received.
+     * By default, every event is passed to {@link #eventReceived(EventRegistryEvent)}.
+     *
+     * @return the exceptions of the events that could not be handled (by event instance), empty when all events were handled.
+     */
+    default Map<EventRegistryEvent, RuntimeException> eventsReceived(Collection<EventRegistryEvent> events) {
+        Map<EventRegistryEvent, RuntimeException> failedEvents = new IdentityHashMap<>();
+        for (EventRegistryEvent event : events) {
+            try {
+                eventReceived(event);
+            } catch (RuntimeException e) {
+                failedEvents.put(event, e);
+            }
+        }
+        return failedEvents;
+    }
     
     String getConsumerKey();
 }
@@ -0,0 +1,283 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An inbound event processor that doesn't pass every inbound event to the consumers immediately,
+ * but collects them for a short window (or until the max batch size is reached) and passes them
+ * as one batch to {@link EventRegistryEventConsumer#eventsReceived(java.util.Collection)}.
+ * This allows the consumers to look up the event subscriptions of all events of the batch at once.
+ * <p>
+ * The inbound event is deserialized and transformed by the thread that receives it, the consumers handle the batch in a separate thread.
+ * The receiving thread waits until its event has been handled, and an exception of a consumer for that event is rethrown to it.
+ * This way, the inbound channel adapter keeps its usual semantics (e.g. an event that fails isn't acknowledged and can be redelivered).
+ * As a consequence, events are only batched when they are received by multiple threads concurrently
+ * (e.g. a message listener container with multiple consumers), and every event is delayed by at most the batch window.
+ * <p>
+ * When the queue of events that still need to be handled is full, receiving a new event blocks until there is room again.
+ */
+public class BatchingInboundEventProcessor extends DefaultInboundEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingInboundEventProcessor.class);
+
+    protected EventRegistryEngineConfiguration engineConfiguration;
+
+    protected long batchWindowInMs;
+    protected int maxBatchSize;
+    protected int queueSize;
+    protected long secondsToWaitOnShutdown = 60L;
+    protected String threadName = "flowable-event-registry-inbound-batcher";
+
+    protected BlockingQueue<PendingEvent> queue;
+    protected Thread batchThread;
+    protected volatile boolean isActive;
+    protected volatile boolean isShutdown;
+
+    public BatchingInboundEventProcessor(EventRegistry eventRegistry, EventRegistryEngineConfiguration engineConfiguration) {
+        super(eventRegistry);
+        this.engineConfiguration = engineConfiguration;
+        this.batchWindowInMs = engineConfiguration.getInboundEventBatchWindowInMs();
+        this.maxBatchSize = engineConfiguration.getInboundEventMaxBatchSize();
+        this.queueSize = engineConfiguration.getInboundEventBatchQueueSize();
+    }
+
+    @Override
+    protected void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
+        if (isShutdown) {
+            super.sendEventToConsumers(eventRegistryEvent);
+            return;
+        }
+
+        if (!isActive) {
+            start();
+        }
+
+        PendingEvent pendingEvent = new PendingEvent(eventRegistryEvent);
+        try {
+            queue.put(pendingEvent);
+            waitUntilHandled(pendingEvent);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for the event to be handled in an inbound event batch", e);
+        }
+
+        Throwable failure = pendingEvent.getFailure();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new FlowableException("Exception while handling event in an inbound event batch", failure);
+        }
+    }
+
+    protected void waitUntilHandled(PendingEvent pendingEvent) throws InterruptedException {
+        while (!pendingEvent.await(1L, TimeUnit.SECONDS)) {
+            // When the batch thread has stopped (shutdown), the event is handled by the receiving thread itself
+            if (!batchThread.isAlive() && queue.remove(pendingEvent)) {
+                sendEventsToConsumers(Collections.singletonList(pendingEvent));
+            }
+        }
+    }
+
+    public synchronized void start() {
+        if (isActive) {
+            return;
+        }
+
+        LOGGER.info("Starting inbound event batching with a window of {} ms and a max batch size of {}", batchWindowInMs, maxBatchSize);
+        queue = new LinkedBlockingQueue<>(queueSize);
+        isActive = true;
+        batchThread = new Thread(this::handleBatches, threadName);
+        batchThread.setDaemon(true);
+        batchThread.start();
+    }
+
+    /**
+     * Stops accepting events in batches and waits until all the events in the queue have been handled.
+     */
+    public synchronized void shutdown() {
+        isShutdown = true;
+        if (!isActive) {
+            return;
+        }
+
+        isActive = false;
+        try {
+            batchThread.join(TimeUnit.SECONDS.toMillis(secondsToWaitOnShutdown));
+            if (batchThread.isAlive()) {
+                LOGGER.warn("Timeout during shutdown of inbound event batching. {} events could not be handled within {} seconds.",
+                        queue.size(), secondsToWaitOnShutdown);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the inbound event batching.", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected void handleBatches() {
+        List<PendingEvent> batch = new ArrayList<>(maxBatchSize);
+        while (isActive || !queue.isEmpty()) {
+            try {
+                PendingEvent event = queue.poll(100L, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+
+                batch.add(event);
+                long batchDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowInMs);
+                while (batch.size() < maxBatchSize) {
+                    long remainingTime = batchDeadline - System.nanoTime();
+                    event = remainingTime > 0 ? queue.poll(remainingTime, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    batch.add(event);
+                }
+
+                sendEventsToConsumers(batch);
+
+            } catch (InterruptedException e) {
+                LOGGER.warn("Inbound event batching interrupted, the {} events in the queue are handled by the threads that received them", queue.size());
+                for (PendingEvent pendingEvent : batch) {
+                    pendingEvent.handled(new FlowableException("Inbound event batching was interrupted before the event was handled", e));
+                }
+                Thread.currentThread().interrupt();
+                return;
+
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Passes the batch to all consumers and reports the outcome of every event to the thread that received it.
+     * An event fails when one of the consumers couldn't handle it, the first exception is reported.
+     */
+    protected void sendEventsToConsumers(List<PendingEvent> pendingEvents) {
+        LOGGER.debug("Sending batch of {} events to consumers", pendingEvents.size());
+        List<EventRegistryEvent> events = new ArrayList<>(pendingEvents.size());
+        for (PendingEvent pendingEvent : pendingEvents) {
+            events.add(pendingEvent.getEvent());
+        }
+
+        Map<EventRegistryEvent, Throwable> failedEvents = new IdentityHashMap<>();
+        for (EventRegistryEventConsumer eventConsumer : engineConfiguration.getEventRegistryEventConsumers().values()) {
+            try {
+                for (Map.Entry<EventRegistryEvent, RuntimeException> failedEvent : eventConsumer.eventsReceived(new ArrayList<>(events)).entrySet()) {
+                    failedEvents.putIfAbsent(failedEvent.getKey(), failedEvent.getValue());
+                }
+
+            } catch (Throwable t) {
+                LOGGER.warn("Exception while handling a batch of {} events in consumer {}", events.size(), eventConsumer.getConsumerKey(), t);
+                for (EventRegistryEvent event : events) {
+                    failedEvents.putIfAbsent(event, t);
+                }
+            }
+        }
+
+        for (PendingEvent pendingEvent : pendingEvents) {
+            pendingEvent.handled(failedEvents.get(pendingEvent.getEvent()));
+        }
+    }
+
+    public long getBatchWindowInMs() {
+        return batchWindowInMs;
+    }
+
+    public void setBatchWindowInMs(long batchWindowInMs) {
+        this.batchWindowInMs = batchWindowInMs;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * An event in the queue, with the outcome of handling it once the batch it is part of has been handled.
+     */
+    protected static class PendingEvent {
+
+        protected final EventRegistryEvent event;
+        protected final CountDownLatch handledLatch = new CountDownLatch(1);
+        protected volatile Throwable failure;
+
+        public PendingEvent(EventRegistryEvent event) {
+            this.event = event;
+        }
+
+        public void handled(Throwable failure) {
+            this.failure = failure;
+            handledLatch.countDown();
+        }
+
+        public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return handledLatch.await(timeout, unit);
+        }
+
+        public EventRegistryEvent getEvent() {
+            return event;
+        }
+
+        public Throwable getFailure() {
+            return failure;
+        }
+    }
+}
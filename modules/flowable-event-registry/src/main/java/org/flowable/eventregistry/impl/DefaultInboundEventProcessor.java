@@ -39,9 +39,13 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
         Collection<EventRegistryEvent> eventRegistryEvents = inboundEventProcessingPipeline.run(channelModel.getKey(), event);
 
         for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
-            eventRegistry.sendEventToConsumers(eventRegistryEvent);
+            sendEventToConsumers(eventRegistryEvent);
         }
 
     }
 
+    protected void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
+        eventRegistry.sendEventToConsumers(eventRegistryEvent);
+    }
+
 }
@@ -27,7 +27,6 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.FullDeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -150,6 +149,12 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected OutboundEventProcessor outboundEventProcessor;
     protected OutboundEventProcessor systemOutboundEventProcessor;
 
+    // Inbound event batching
+    protected boolean inboundEventBatchingEnabled;
+    protected long inboundEventBatchWindowInMs = 50L;
+    protected int inboundEventMaxBatchSize = 100;
+    protected int inboundEventBatchQueueSize = 10000;
+
     // Change detection
     protected boolean enableEventRegistryChangeDetection;
     protected long eventRegistryChangeDetectionInitialDelayInMs = 10000L;
@@ -441,11 +446,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         }
 
         if (eventDefinitionCache == null) {
-            if (eventDefinitionCacheLimit <= 0) {
-                eventDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                eventDefinitionCache = new DefaultDeploymentCache<>(eventDefinitionCacheLimit);
-            }
+            eventDefinitionCache = createDeploymentCache(eventDefinitionCacheLimit);
         }
         
         if (channelDefinitionCache == null) {
@@ -513,7 +514,11 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
 
     public void initInboundEventProcessor() {
         if (this.inboundEventProcessor == null) {
-            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            if (inboundEventBatchingEnabled) {
+                this.inboundEventProcessor = new BatchingInboundEventProcessor(eventRegistry, this);
+            } else {
+                this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            }
         }
         this.eventRegistry.setInboundEventProcessor(this.inboundEventProcessor);
     }
@@ -659,6 +664,42 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public boolean isInboundEventBatchingEnabled() {
+        return inboundEventBatchingEnabled;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchingEnabled(boolean inboundEventBatchingEnabled) {
+        this.inboundEventBatchingEnabled = inboundEventBatchingEnabled;
+        return this;
+    }
+
+    public long getInboundEventBatchWindowInMs() {
+        return inboundEventBatchWindowInMs;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchWindowInMs(long inboundEventBatchWindowInMs) {
+        this.inboundEventBatchWindowInMs = inboundEventBatchWindowInMs;
+        return this;
+    }
+
+    public int getInboundEventMaxBatchSize() {
+        return inboundEventMaxBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventMaxBatchSize(int inboundEventMaxBatchSize) {
+        this.inboundEventMaxBatchSize = inboundEventMaxBatchSize;
+        return this;
+    }
+
+    public int getInboundEventBatchQueueSize() {
+        return inboundEventBatchQueueSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchQueueSize(int inboundEventBatchQueueSize) {
+        this.inboundEventBatchQueueSize = inboundEventBatchQueueSize;
+        return this;
+    }
+
     public boolean isEnableEventRegistryChangeDetection() {
         return enableEventRegistryChangeDetection;
     }
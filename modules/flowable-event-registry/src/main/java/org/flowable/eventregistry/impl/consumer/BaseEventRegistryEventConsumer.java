@@ -18,13 +18,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.eventregistry.api.EventRegistry;
@@ -36,6 +41,8 @@ import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -43,6 +50,15 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
+    /**
+     * The max number of correlation key values in one event subscription query, to stay below the limits of the databases for IN clauses.
+     */
+    protected static final int MAX_CORRELATION_KEY_VALUES_PER_QUERY = 500;
+
+    protected static final String UNIQUE_REFERENCES_ATTRIBUTE = "eventRegistryUniqueReferences";
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -66,6 +82,105 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    @Override
+    public Map<EventRegistryEvent, RuntimeException> eventsReceived(Collection<EventRegistryEvent> events) {
+        Map<EventRegistryEvent, RuntimeException> failedEvents = new IdentityHashMap<>();
+        Map<EventInstance, EventRegistryEvent> eventInstances = new IdentityHashMap<>();
+        List<EventInstance> eventInstanceList = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            if (event.getEventObject() instanceof EventInstance) {
+                eventInstances.put((EventInstance) event.getEventObject(), event);
+                eventInstanceList.add((EventInstance) event.getEventObject());
+            } else if (event.getEventObject() == null) {
+                failedEvents.put(event, new FlowableIllegalArgumentException("No event object was passed to the consumer"));
+            } else {
+                failedEvents.put(event, new FlowableIllegalArgumentException("Unsupported event object type: " + event.getEventObject().getClass()));
+            }
+        }
+
+        if (!eventInstanceList.isEmpty()) {
+            for (Map.Entry<EventInstance, RuntimeException> failedEventInstance : eventsReceived(eventInstanceList).entrySet()) {
+                failedEvents.put(eventInstances.get(failedEventInstance.getKey()), failedEventInstance.getValue());
+            }
+        }
+        return failedEvents;
+    }
+
+    /**
+     * Handles a batch of event instances. By default, every event instance is handled on its own.
+     * Consumers that implement {@link #handleEventSubscriptions(EventInstance, Collection, List)} can use {@link #eventsReceivedInBatch(String, List)}.
+     *
+     * @return the exceptions of the event instances that could not be handled, empty when all event instances were handled.
+     */
+    protected Map<EventInstance, RuntimeException> eventsReceived(List<EventInstance> eventInstances) {
+        Map<EventInstance, RuntimeException> failedEventInstances = new IdentityHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            try {
+                eventReceived(eventInstance);
+            } catch (RuntimeException e) {
+                failedEventInstances.put(eventInstance, e);
+            }
+        }
+        return failedEventInstances;
+    }
+
+    /**
+     * Handles a batch of event instances: the event subscriptions of all events are fetched with one query per event type and tenant,
+     * after which all event subscriptions are handled in one transaction.
+     * When that transaction fails, every event of the batch is handled again on its own,
+     * and the exceptions of the event instances that fail on their own as well are returned.
+     */
+    protected Map<EventInstance, RuntimeException> eventsReceivedInBatch(String scopeType, List<EventInstance> eventInstances) {
+        Map<EventInstance, Collection<CorrelationKey>> correlationKeys = new IdentityHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            correlationKeys.put(eventInstance, generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        }
+
+        try {
+            Map<EventInstance, List<EventSubscription>> eventSubscriptions = findEventSubscriptions(scopeType, eventInstances, correlationKeys);
+            commandExecutor.execute(commandContext -> {
+                for (EventInstance eventInstance : eventInstances) {
+                    handleEventSubscriptions(eventInstance, correlationKeys.get(eventInstance), eventSubscriptions.get(eventInstance));
+                }
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.warn("Exception while handling a batch of {} events, handling every event on its own", eventInstances.size(), e);
+            return eventsReceived(eventInstances);
+        }
+
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Handles the event subscriptions that match the event instance. Needed when handling events with {@link #eventsReceivedInBatch(String, List)}.
+     */
+    protected void handleEventSubscriptions(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, List<EventSubscription> eventSubscriptions) {
+        throw new FlowableException(getClass().getName() + " does not support handling events in batch");
+    }
+
+    /**
+     * Registers the reference id of an instance that is started for an event in the current transaction.
+     *
+     * @return false if an instance with the same reference id was already started for an event in the current transaction.
+     *         Such an instance can't be found with a query yet, when the events are handled in one transaction.
+     */
+    protected boolean registerUniqueReferenceInCurrentTransaction(String definitionKey, String referenceId, String tenantId) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<List<String>> uniqueReferences = (Set<List<String>>) commandContext.getAttribute(UNIQUE_REFERENCES_ATTRIBUTE);
+        if (uniqueReferences == null) {
+            uniqueReferences = new HashSet<>();
+            commandContext.addAttribute(UNIQUE_REFERENCES_ATTRIBUTE, uniqueReferences);
+        }
+        return uniqueReferences.add(Arrays.asList(definitionKey, referenceId, tenantId));
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -116,55 +231,114 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
         return commandExecutor.execute(commandContext -> {
+            Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+            return createEventSubscriptionQuery(scopeType, eventInstance, allCorrelationKeyValues).list();
+        });
+    }
 
-            EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
-                .eventType(eventInstance.getEventKey())
-                .scopeType(scopeType);
+    /**
+     * Fetches the event subscriptions for all given event instances, with one query per event type and tenant.
+     */
+    protected Map<EventInstance, List<EventSubscription>> findEventSubscriptions(String scopeType, List<EventInstance> eventInstances,
+            Map<EventInstance, Collection<CorrelationKey>> correlationKeys) {
 
-            if (!correlationKeys.isEmpty()) {
+        Map<List<String>, List<EventInstance>> eventInstancesByTypeAndTenant = new LinkedHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            eventInstancesByTypeAndTenant.computeIfAbsent(Arrays.asList(eventInstance.getEventKey(), eventInstance.getTenantId()), key -> new ArrayList<>())
+                .add(eventInstance);
+        }
 
-                Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        return commandExecutor.execute(commandContext -> {
+            Map<EventInstance, List<EventSubscription>> eventSubscriptions = new IdentityHashMap<>();
+            for (List<EventInstance> eventInstanceGroup : eventInstancesByTypeAndTenant.values()) {
+
+                Map<EventInstance, Set<String>> correlationKeyValues = new IdentityHashMap<>();
+                Set<String> allCorrelationKeyValues = new HashSet<>();
+                for (EventInstance eventInstance : eventInstanceGroup) {
+                    Set<String> eventCorrelationKeyValues = correlationKeys.get(eventInstance).stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+                    correlationKeyValues.put(eventInstance, eventCorrelationKeyValues);
+                    allCorrelationKeyValues.addAll(eventCorrelationKeyValues);
+                }
 
-                eventSubscriptionQuery.or()
-                    .withoutConfiguration()
-                    .configurations(allCorrelationKeyValues)
-                    .endOr();
+                List<EventSubscription> groupEventSubscriptions = findEventSubscriptionsByCorrelationKeyValues(scopeType, eventInstanceGroup.get(0), allCorrelationKeyValues);
 
-            } else {
-                eventSubscriptionQuery.withoutConfiguration();
+                for (EventInstance eventInstance : eventInstanceGroup) {
+                    Set<String> eventCorrelationKeyValues = correlationKeyValues.get(eventInstance);
+                    List<EventSubscription> matchingEventSubscriptions = new ArrayList<>();
+                    for (EventSubscription eventSubscription : groupEventSubscriptions) {
+                        if (eventSubscription.getConfiguration() == null || eventCorrelationKeyValues.contains(eventSubscription.getConfiguration())) {
+                            matchingEventSubscriptions.add(eventSubscription);
+                        }
+                    }
+                    eventSubscriptions.put(eventInstance, matchingEventSubscriptions);
+                }
+            }
+            return eventSubscriptions;
+        });
+    }
 
+    protected List<EventSubscription> findEventSubscriptionsByCorrelationKeyValues(String scopeType, EventInstance eventInstance, Set<String> allCorrelationKeyValues) {
+        if (allCorrelationKeyValues.size() <= MAX_CORRELATION_KEY_VALUES_PER_QUERY) {
+            return createEventSubscriptionQuery(scopeType, eventInstance, allCorrelationKeyValues).list();
+        }
+
+        // The subscriptions without configuration are returned by every query
+        Map<String, EventSubscription> eventSubscriptions = new LinkedHashMap<>();
+        List<String> correlationKeyValues = new ArrayList<>(allCorrelationKeyValues);
+        for (int i = 0; i < correlationKeyValues.size(); i += MAX_CORRELATION_KEY_VALUES_PER_QUERY) {
+            Set<String> chunk = new HashSet<>(correlationKeyValues.subList(i, Math.min(i + MAX_CORRELATION_KEY_VALUES_PER_QUERY, correlationKeyValues.size())));
+            for (EventSubscription eventSubscription : createEventSubscriptionQuery(scopeType, eventInstance, chunk).list()) {
+                eventSubscriptions.put(eventSubscription.getId(), eventSubscription);
             }
+        }
+        return new ArrayList<>(eventSubscriptions.values());
+    }
 
-            String eventInstanceTenantId = eventInstance.getTenantId();
-            if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+    protected EventSubscriptionQuery createEventSubscriptionQuery(String scopeType, EventInstance eventInstance, Set<String> allCorrelationKeyValues) {
+        EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+            .eventType(eventInstance.getEventKey())
+            .scopeType(scopeType);
 
-                EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+        if (!allCorrelationKeyValues.isEmpty()) {
 
-                if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
-                    String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
-                        .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+            eventSubscriptionQuery.or()
+                .withoutConfiguration()
+                .configurations(allCorrelationKeyValues)
+                .endOr();
 
-                    if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
-                        eventSubscriptionQuery.or()
-                            .tenantId(eventInstance.getTenantId())
-                            .withoutTenantId()
-                        .endOr();
+        } else {
+            eventSubscriptionQuery.withoutConfiguration();
 
-                    } else {
-                        eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
+        }
 
-                    }
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+
+            EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+
+            if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+                String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                    .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+
+                if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
+                    eventSubscriptionQuery.or()
+                        .tenantId(eventInstance.getTenantId())
+                        .withoutTenantId()
+                    .endOr();
 
                 } else {
-                    eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+                    eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
 
                 }
 
+            } else {
+                eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+
             }
 
-            return eventSubscriptionQuery.list();
+        }
 
-        });
+        return eventSubscriptionQuery;
     }
 
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -34,6 +35,8 @@ public interface EventSubscriptionService {
     List<EventSubscriptionEntity> findEventSubscriptionsByName(String type, String eventName, String tenantId);
     
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(String executionId);
+
+    List<EventSubscriptionEntity> findEventSubscriptionsByExecutionIds(Collection<String> executionIds);
     
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
     
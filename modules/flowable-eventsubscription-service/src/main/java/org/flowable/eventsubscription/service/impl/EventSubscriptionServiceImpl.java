@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -49,6 +50,11 @@ public class EventSubscriptionServiceImpl extends CommonServiceImpl<EventSubscri
         return getEventSubscriptionEntityManager().findEventSubscriptionsByExecution(executionId);
     }
 
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByExecutionIds(Collection<String> executionIds) {
+        return getEventSubscriptionEntityManager().findEventSubscriptionsByExecutionIds(executionIds);
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId) {
         return getEventSubscriptionEntityManager().findEventSubscriptionsByNameAndExecution(type, eventName, executionId);
@@ -14,6 +14,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -158,6 +159,11 @@ public class EventSubscriptionEntityManagerImpl
     public List<EventSubscriptionEntity> findEventSubscriptionsByExecution(final String executionId) {
         return dataManager.findEventSubscriptionsByExecution(executionId);
     }
+
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByExecutionIds(Collection<String> executionIds) {
+        return dataManager.findEventSubscriptionsByExecutionIds(executionIds);
+    }
     
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsBySubScopeId(final String subScopeId) {
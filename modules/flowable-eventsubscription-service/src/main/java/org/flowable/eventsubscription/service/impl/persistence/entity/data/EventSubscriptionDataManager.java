@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -57,6 +58,12 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
     List<EventSubscriptionEntity> findEventSubscriptionsByProcessInstanceAndActivityId(final String processInstanceId, final String activityId, final String type);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(final String executionId);
+
+    /**
+     * Fetches all event subscriptions of the given executions in one query.
+     * For the rest of the command, looking up the event subscriptions of one of these executions doesn't query the database anymore.
+     */
+    List<EventSubscriptionEntity> findEventSubscriptionsByExecutionIds(Collection<String> executionIds);
     
     List<EventSubscriptionEntity> findEventSubscriptionsBySubScopeId(final String subScopeId);
 
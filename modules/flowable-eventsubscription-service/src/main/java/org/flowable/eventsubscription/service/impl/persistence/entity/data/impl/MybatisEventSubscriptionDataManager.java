@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -203,6 +204,9 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         Map<String, String> params = new HashMap<>();
         params.put("executionId", executionId);
         params.put("eventType", type);
+        if (isFetched("executionId", executionId)) {
+            return getListFromCache(eventSubscriptionsByExecutionAndTypeMatcher, params);
+        }
         return getList("selectEventSubscriptionsByExecutionAndType", params, eventSubscriptionsByExecutionAndTypeMatcher, true);
     }
     
@@ -228,12 +232,17 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the execution has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetched("executionId", executionId)) {
             return getListFromCache(eventSubscriptionsByExecutionIdMatcher, executionId);
         }
         
         return getList(dbSqlSession, "selectEventSubscriptionsByExecution", executionId, eventSubscriptionsByExecutionIdMatcher, true);
     }
+
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsByExecutionIds(Collection<String> executionIds) {
+        return fetchAll("selectEventSubscriptionsByExecutionIds", executionIds, "executionId");
+    }
     
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsBySubScopeId(final String subScopeId) {
@@ -16,7 +16,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
 import javax.script.ScriptException;
 
@@ -79,6 +81,24 @@ public class GroovyStaticScriptEngine extends GroovyScriptEngineImpl {
         return ret;
     }
 
+    @Override
+    public CompiledScript compile(final String script) throws ScriptException {
+        // The static compilation needs the types of the variables in the bindings, so the script is compiled on its first evaluation.
+        // The class of the script is kept by the engine after that.
+        return new CompiledScript() {
+
+            @Override
+            public Object eval(ScriptContext context) throws ScriptException {
+                return GroovyStaticScriptEngine.this.eval(script, context);
+            }
+
+            @Override
+            public ScriptEngine getEngine() {
+                return GroovyStaticScriptEngine.this;
+            }
+        };
+    }
+
     protected static CompilerConfiguration createStaticConfiguration() {
         CompilerConfiguration compilerConfiguration = new CompilerConfiguration();
         ASTTransformationCustomizer astTransformationCustomizer = new ASTTransformationCustomizer(
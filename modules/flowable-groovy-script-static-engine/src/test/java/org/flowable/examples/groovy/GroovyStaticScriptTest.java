@@ -15,17 +15,25 @@ package org.flowable.examples.groovy;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Filip Grochowski
  */
 public class GroovyStaticScriptTest extends PluggableFlowableTestCase {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroovyStaticScriptTest.class);
+
     @Test
     @Deployment
     public void testGroovyStaticScriptEngine() {
@@ -49,4 +57,66 @@ public class GroovyStaticScriptTest extends PluggableFlowableTestCase {
         assertThat(result).isEqualTo("ABC");
         assertThat(sum).isEqualTo(15);
     }
+
+    @Test
+    @Deployment(resources = "org/flowable/examples/groovy/GroovyStaticScriptTest.testGroovyStaticScriptEngine.bpmn20.xml")
+    public void testGroovyStaticScriptEngineWithCompiledScriptCache() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        scriptingEngines.setCacheCompiledScripts(true);
+        scriptingEngines.getCompiledScriptCache().clear();
+        try {
+            long hitCount = scriptingEngines.getCompiledScriptCache().getHitCount();
+            for (int i = 0; i < 2; i++) {
+                ProcessInstance pi = runtimeService.startProcessInstanceByKey("staticScriptEngine", CollectionUtil.singletonMap("inputArray", new int[] { 1, 2, 3, 4, 5 }));
+                assertThat(runtimeService.getVariable(pi.getId(), "a")).isEqualTo("ABC");
+                assertThat(runtimeService.getVariable(pi.getId(), "sum")).isEqualTo(15);
+            }
+            assertThat(scriptingEngines.getCompiledScriptCache().getHitCount()).isEqualTo(hitCount + 1);
+
+        } finally {
+            scriptingEngines.setCacheCompiledScripts(false);
+        }
+    }
+
+    /**
+     * Compares starting process instances with a static Groovy script task with and without the compiled script cache.
+     * Starting that many process instances twice is slow, so it is only done with -Dflowable.test.benchmarks=true.
+     * The number of process instances can be changed with the flowable.test.scriptBenchmarkInstances system property.
+     */
+    @Test
+    @Deployment(resources = "org/flowable/examples/groovy/GroovyStaticScriptTest.testGroovyStaticScriptEngine.bpmn20.xml")
+    @EnabledIfSystemProperty(named = "flowable.test.benchmarks", matches = "true")
+    public void testCompiledScriptCacheBenchmark() {
+        int instances = Integer.getInteger("flowable.test.scriptBenchmarkInstances", 100);
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        try {
+            long uncachedDuration = runBenchmark(scriptingEngines, false, instances);
+            long cachedDuration = runBenchmark(scriptingEngines, true, instances);
+
+            LOGGER.info("Started {} process instances with a static Groovy script in {} ms without and in {} ms with the compiled script cache",
+                    instances, uncachedDuration, cachedDuration);
+
+        } finally {
+            scriptingEngines.setCacheCompiledScripts(false);
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(2L * (instances + instances / 10));
+    }
+
+    protected long runBenchmark(ScriptingEngines scriptingEngines, boolean cacheCompiledScripts, int instances) {
+        scriptingEngines.setCacheCompiledScripts(cacheCompiledScripts);
+
+        // Warm up
+        startProcessInstances(instances / 10);
+
+        long start = System.nanoTime();
+        startProcessInstances(instances);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    protected void startProcessInstances(int instances) {
+        for (int i = 0; i < instances; i++) {
+            runtimeService.startProcessInstanceByKey("staticScriptEngine", CollectionUtil.singletonMap("inputArray", new int[] { 1, 2, 3, 4, 5 }));
+        }
+    }
 }
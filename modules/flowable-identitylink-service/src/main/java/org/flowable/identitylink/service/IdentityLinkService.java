@@ -31,6 +31,10 @@ public interface IdentityLinkService {
     
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
     
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+    
+    List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
     
     List<IdentityLinkEntity> findIdentityLinksBySubScopeIdAndType(String subScopeId, String scopeType);
@@ -46,6 +46,16 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
         return getIdentityLinkEntityManager().findIdentityLinksByProcessInstanceId(processInstanceId);
     }
     
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return getIdentityLinkEntityManager().findIdentityLinksByTaskIds(taskIds);
+    }
+    
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getIdentityLinkEntityManager().findIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType) {
         return getIdentityLinkEntityManager().findIdentityLinksByScopeIdAndType(scopeId, scopeType);
@@ -29,6 +29,10 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
 
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
     
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+    
+    List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
     
     List<IdentityLinkEntity> findIdentityLinksBySubScopeIdAndType(String subScopeId, String scopeType);
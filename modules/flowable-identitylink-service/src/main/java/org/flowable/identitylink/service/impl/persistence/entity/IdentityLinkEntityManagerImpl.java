@@ -73,6 +73,16 @@ public class IdentityLinkEntityManagerImpl
         return dataManager.findIdentityLinksByProcessInstanceId(processInstanceId);
     }
     
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return dataManager.findIdentityLinksByTaskIds(taskIds);
+    }
+    
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType) {
         return dataManager.findIdentityLinksByScopeIdAndType(scopeId, scopeType);
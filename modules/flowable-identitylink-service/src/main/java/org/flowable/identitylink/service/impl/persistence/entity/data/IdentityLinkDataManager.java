@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -28,6 +29,18 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
 
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Fetches the identity links of all given tasks in one query.
+     * Afterwards, the identity links of these tasks are taken from the entity cache for the rest of the command.
+     */
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+
+    /**
+     * Fetches the identity links of all given process instances in one query.
+     * Afterwards, the identity links of these process instances are taken from the entity cache for the rest of the command.
+     */
+    List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessDefinitionId(String processDefinitionId);
     
     List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
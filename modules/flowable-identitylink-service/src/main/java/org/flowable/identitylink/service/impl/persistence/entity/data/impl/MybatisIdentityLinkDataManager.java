@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,7 +71,7 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
     public List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
         
-        if (isEntityInserted(dbSqlSession, "task", taskId)) {
+        if (isEntityInserted(dbSqlSession, "task", taskId) || isFetched("taskId", taskId)) {
             return getListFromCache(identityLinksByTaskIdMatcher, taskId);
         }
         
@@ -82,13 +83,23 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the process instance has been inserted in the same command execution as this query, there can't be any in the database 
-        if (isEntityInserted(dbSqlSession, "execution", processInstanceId)) {
+        if (isEntityInserted(dbSqlSession, "execution", processInstanceId) || isFetched("processInstanceId", processInstanceId)) {
             return getListFromCache(identityLinkByProcessInstanceMatcher, processInstanceId);
         }
         
         return getList("selectIdentityLinksByProcessInstance", processInstanceId, identityLinkByProcessInstanceMatcher, true);
     }
-    
+
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return fetchAll("selectIdentityLinksByTaskIds", taskIds, "taskId");
+    }
+
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return fetchAll("selectIdentityLinksByProcessInstanceIds", processInstanceIds, "processInstanceId");
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType) {
         Map<String, String> parameters = new HashMap<>();
@@ -404,6 +404,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
             }
         }
 
+        initAsyncEventListeners();
     }
 
     // getters and setters
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -30,6 +31,8 @@ public interface TimerJobService {
     TimerJobEntity findTimerJobById(String jobId);
     
     List<TimerJobEntity> findTimerJobsByExecutionId(String executionId);
+
+    List<TimerJobEntity> findTimerJobsByExecutionIds(Collection<String> executionIds);
     
     List<TimerJobEntity> findTimerJobsByProcessInstanceId(String processInstanceId);
     
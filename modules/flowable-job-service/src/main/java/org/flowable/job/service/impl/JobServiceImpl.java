@@ -196,7 +196,7 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         for (JobEntity job : jobsForExecution) {
             getJobEntityManager().delete(job);
             if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.JOB_CANCELED, () -> FlowableJobEventBuilder.createEntityEvent(
                         FlowableEngineEventType.JOB_CANCELED, job), configuration.getEngineName());
             }
         }
@@ -209,7 +209,7 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         for (SuspendedJobEntity job : suspendedJobsForExecution) {
             suspendedJobEntityManager.delete(job);
             if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.JOB_CANCELED, () -> FlowableJobEventBuilder.createEntityEvent(
                         FlowableEngineEventType.JOB_CANCELED, job), configuration.getEngineName());
             }
         }
@@ -222,7 +222,7 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         for (DeadLetterJobEntity job : deadLetterJobsForExecution) {
             deadLetterJobEntityManager.delete(job);
             if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.JOB_CANCELED, () -> FlowableJobEventBuilder.createEntityEvent(
                         FlowableEngineEventType.JOB_CANCELED, job), configuration.getEngineName());
             }
         }
@@ -43,6 +43,11 @@ public class TimerJobServiceImpl extends ServiceImpl implements TimerJobService
         return getTimerJobEntityManager().findJobsByExecutionId(executionId);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsByExecutionIds(Collection<String> executionIds) {
+        return getTimerJobEntityManager().findJobsByExecutionIds(executionIds);
+    }
+
     @Override
     public List<TimerJobEntity> findTimerJobsByProcessInstanceId(String processInstanceId) {
         return getTimerJobEntityManager().findJobsByProcessInstanceId(processInstanceId);
@@ -95,7 +100,7 @@ public class TimerJobServiceImpl extends ServiceImpl implements TimerJobService
         for (TimerJobEntity job : timerJobsForExecution) {
             timerJobEntityManager.delete(job);
             if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+                getEventDispatcher().dispatchEvent(FlowableEngineEventType.JOB_CANCELED, () -> FlowableJobEventBuilder.createEntityEvent(
                         FlowableEngineEventType.JOB_CANCELED, job), configuration.getEngineName());
             }
         }
@@ -74,6 +74,18 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected Duration timerLockWaitTime = Duration.ofMinutes(1);
     protected Duration timerLockPollRate = Duration.ofMillis(500);
 
+    // When enabled, async jobs are acquired ahead into a local prefetch buffer, which is sized between the min and max size
+    // based on the observed execution rate. The jobs are handed to the task executor only when it has capacity left.
+    protected boolean asyncJobsPrefetchEnabled;
+    protected int asyncJobsPrefetchMinBufferSize = 32;
+    protected int asyncJobsPrefetchMaxBufferSize = 512;
+
+    // When enabled, timer jobs due within a look-ahead window (sized between the min and max window based on the number of acquired timer jobs)
+    // are acquired into a timing wheel, from which they are moved to the executable jobs at their due time.
+    protected boolean timerJobsTimingWheelEnabled;
+    protected int timerJobsLookAheadMinWindowInMillis = 20 * 1000;
+    protected int timerJobsLookAheadMaxWindowInMillis = 2 * 60 * 1000;
+
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
@@ -141,8 +153,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected void initializeRunnables() {
         if (timerRunnableNeeded && timerJobRunnable == null) {
-            timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
-                timerLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveTimerExecutorPoolSize);
+            if (timerJobsTimingWheelEnabled) {
+                timerJobRunnable = new TimingWheelAcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
+                    timerLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveTimerExecutorPoolSize,
+                    timerJobsLookAheadMinWindowInMillis, timerJobsLookAheadMaxWindowInMillis);
+            } else {
+                timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
+                    timerLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveTimerExecutorPoolSize);
+            }
 
             timerJobRunnable.setLockWaitTime(timerLockWaitTime);
             timerJobRunnable.setLockPollRate(timerLockPollRate);
@@ -160,8 +178,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
-            asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse,
-                asyncJobsDueLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix);
+            if (asyncJobsPrefetchEnabled) {
+                asyncJobsDueRunnable = new PrefetchingAcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse,
+                    asyncJobsDueLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix,
+                    asyncJobsPrefetchMinBufferSize, asyncJobsPrefetchMaxBufferSize);
+            } else {
+                asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse,
+                    asyncJobsDueLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix);
+            }
 
             asyncJobsDueRunnable.setLockWaitTime(asyncJobsGlobalLockWaitTime);
             asyncJobsDueRunnable.setLockPollRate(asyncJobsGlobalLockPollRate);
@@ -410,6 +434,54 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         }
     }
 
+    public boolean isAsyncJobsPrefetchEnabled() {
+        return asyncJobsPrefetchEnabled;
+    }
+
+    public void setAsyncJobsPrefetchEnabled(boolean asyncJobsPrefetchEnabled) {
+        this.asyncJobsPrefetchEnabled = asyncJobsPrefetchEnabled;
+    }
+
+    public int getAsyncJobsPrefetchMinBufferSize() {
+        return asyncJobsPrefetchMinBufferSize;
+    }
+
+    public void setAsyncJobsPrefetchMinBufferSize(int asyncJobsPrefetchMinBufferSize) {
+        this.asyncJobsPrefetchMinBufferSize = asyncJobsPrefetchMinBufferSize;
+    }
+
+    public int getAsyncJobsPrefetchMaxBufferSize() {
+        return asyncJobsPrefetchMaxBufferSize;
+    }
+
+    public void setAsyncJobsPrefetchMaxBufferSize(int asyncJobsPrefetchMaxBufferSize) {
+        this.asyncJobsPrefetchMaxBufferSize = asyncJobsPrefetchMaxBufferSize;
+    }
+
+    public boolean isTimerJobsTimingWheelEnabled() {
+        return timerJobsTimingWheelEnabled;
+    }
+
+    public void setTimerJobsTimingWheelEnabled(boolean timerJobsTimingWheelEnabled) {
+        this.timerJobsTimingWheelEnabled = timerJobsTimingWheelEnabled;
+    }
+
+    public int getTimerJobsLookAheadMinWindowInMillis() {
+        return timerJobsLookAheadMinWindowInMillis;
+    }
+
+    public void setTimerJobsLookAheadMinWindowInMillis(int timerJobsLookAheadMinWindowInMillis) {
+        this.timerJobsLookAheadMinWindowInMillis = timerJobsLookAheadMinWindowInMillis;
+    }
+
+    public int getTimerJobsLookAheadMaxWindowInMillis() {
+        return timerJobsLookAheadMaxWindowInMillis;
+    }
+
+    public void setTimerJobsLookAheadMaxWindowInMillis(int timerJobsLookAheadMaxWindowInMillis) {
+        this.timerJobsLookAheadMaxWindowInMillis = timerJobsLookAheadMaxWindowInMillis;
+    }
+
     public Duration getTimerLockWaitTime() {
         return timerLockWaitTime;
     }
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs like the {@link AcquireAsyncJobsDueRunnable}, but hands them in batches of
+ * {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()} jobs to the executor, which executes each batch in one transaction.
+ */
+public class AcquireAsyncHistoryJobBatchesDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected DefaultAsyncHistoryJobExecutor asyncHistoryJobExecutor;
+
+    public AcquireAsyncHistoryJobBatchesDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryJobExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager, AcquireAsyncJobsDueLifecycleListener lifecycleListener,
+            boolean globalAcquireLockEnabled, String globalAcquireLockPrefix) {
+
+        super(name, asyncHistoryJobExecutor, jobEntityManager, lifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix);
+        this.asyncHistoryJobExecutor = asyncHistoryJobExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        int batchSize = Math.max(1, asyncHistoryJobExecutor.getHistoryJobBatchSize());
+        for (int i = 0; i < acquiredJobs.size(); i += batchSize) {
+            List<JobInfoEntity> batch = new ArrayList<>(acquiredJobs.subList(i, Math.min(i + batchSize, acquiredJobs.size())));
+            if (!asyncHistoryJobExecutor.executeAsyncHistoryJobBatch(batch)) {
+                rejected.addAll(batch);
+            }
+        }
+        return rejected;
+    }
+
+}
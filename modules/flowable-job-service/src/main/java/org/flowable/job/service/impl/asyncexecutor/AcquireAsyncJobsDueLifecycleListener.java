@@ -29,4 +29,19 @@ public interface AcquireAsyncJobsDueLifecycleListener {
 
     void startWaiting(String engineName, long millisToWait);
 
+    /**
+     * Invoked after every acquire query with the time it took to acquire and lock the due async jobs.
+     */
+    default void acquisitionLatency(String engineName, long acquisitionTimeInMillis, int jobsAcquired) {
+
+    }
+
+    /**
+     * Invoked before every acquire cycle when the async jobs are acquired in prefetch mode,
+     * with the number of acquired jobs that are waiting in the local prefetch buffer to be handed to the task executor.
+     */
+    default void prefetchBufferDepth(String engineName, int bufferDepth, int targetBufferSize, int maxBufferSize) {
+
+    }
+
 }
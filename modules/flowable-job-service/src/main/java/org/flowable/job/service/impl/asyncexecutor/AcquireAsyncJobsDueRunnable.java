@@ -15,6 +15,7 @@ package org.flowable.job.service.impl.asyncexecutor;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -178,14 +179,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
-            List<? extends JobInfoEntity> acquiredJobs;
-            if (globalAcquireLockEnabled) {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
-
-            } else {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
-
-            }
+            List<? extends JobInfoEntity> acquiredJobs = acquireJobs(commandExecutor, remainingCapacity);
 
             lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
@@ -227,6 +221,22 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected List<? extends JobInfoEntity> acquireJobs(CommandExecutor commandExecutor, int remainingCapacity) {
+        long acquisitionStartTime = System.nanoTime();
+
+        List<? extends JobInfoEntity> acquiredJobs;
+        if (globalAcquireLockEnabled) {
+            acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+
+        } else {
+            acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+
+        }
+
+        lifecycleListener.acquisitionLatency(getEngineName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquisitionStartTime), acquiredJobs.size());
+        return acquiredJobs;
+    }
+
     protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs) {
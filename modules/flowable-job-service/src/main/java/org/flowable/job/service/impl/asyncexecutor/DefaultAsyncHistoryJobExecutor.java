@@ -12,8 +12,16 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.api.JobInfo;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     
+    // When larger than 1, the acquired history jobs are executed in batches of this size, each batch in one transaction
+    protected int historyJobBatchSize = 1;
+
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
@@ -28,8 +36,62 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected void initializeRunnables() {
+        if (historyJobBatchSize > 1 && !isMessageQueueMode && asyncJobsDueRunnable == null) {
+            String acquireJobsRunnableName = acquireRunnableThreadName != null ?
+                    acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-history-jobs";
+            asyncJobsDueRunnable = new AcquireAsyncHistoryJobBatchesDueRunnable(acquireJobsRunnableName, this, jobEntityManager,
+                    asyncJobsDueLifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix);
+            asyncJobsDueRunnable.setLockWaitTime(asyncJobsGlobalLockWaitTime);
+            asyncJobsDueRunnable.setLockPollRate(asyncJobsGlobalLockPollRate);
+        }
+        super.initializeRunnables();
+    }
+
+    /**
+     * Executes the given history jobs in one transaction, falling back to executing them one by one when that fails.
+     *
+     * @return false when the jobs were rejected because the queue of the task executor is full
+     */
+    public boolean executeAsyncHistoryJobBatch(List<? extends JobInfo> jobs) {
+        if (isMessageQueueMode) {
+            return true;
+        }
+
+        if (jobs.size() == 1) {
+            return executeAsyncJob(jobs.get(0));
+        }
+
+        if (!isActive) {
+            temporaryJobQueue.addAll(jobs);
+            return true;
+        }
+
+        try {
+            taskExecutor.execute(new ExecuteAsyncHistoryJobBatchRunnable(jobs, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            for (JobInfo job : jobs) {
+                sendRejectedEvent(job);
+                unacquireJobAfterRejection(job);
+            }
+            return false;
+        }
+    }
+
     @Override
     protected ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName) {
         return new ResetExpiredJobsRunnable(resetRunnableName, this, jobServiceConfiguration.getHistoryJobEntityManager());
     }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
 }
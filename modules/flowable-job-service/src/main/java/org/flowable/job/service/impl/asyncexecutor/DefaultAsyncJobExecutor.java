@@ -95,7 +95,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     protected void sendRejectedEvent(JobInfo job) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_REJECTED, () -> FlowableJobEventBuilder.createEntityEvent(
                 FlowableEngineEventType.JOB_REJECTED, job), jobServiceConfiguration.getEngineName());
         }
     }
@@ -64,7 +64,8 @@ public class DefaultAsyncRunnableExecutionExceptionHandler implements AsyncRunna
                 FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
                     try {
-                        eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityExceptionEvent(
+                        eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_EXECUTION_FAILURE,
+                                () -> FlowableJobEventBuilder.createEntityExceptionEvent(
                                 FlowableEngineEventType.JOB_EXECUTION_FAILURE, job, exception), jobServiceConfiguration.getEngineName());
                     } catch (Throwable ignore) {
                         LOGGER.warn("Exception occurred while dispatching job failure event, ignoring.", ignore);
@@ -128,7 +128,7 @@ public class DefaultJobManager implements JobManager {
     protected void sendTimerScheduledEvent(TimerJobEntity timerJob) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.TIMER_SCHEDULED, () -> FlowableJobEventBuilder.createEntityEvent(
                     FlowableEngineEventType.TIMER_SCHEDULED, timerJob), jobServiceConfiguration.getEngineName());
         }
     }
@@ -264,7 +264,7 @@ public class DefaultJobManager implements JobManager {
     protected void sendMoveToDeadletterEvent(JobInfo job) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER, () -> FlowableJobEventBuilder.createEntityEvent(
                 FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER, job), jobServiceConfiguration.getEngineName());
         }
     }
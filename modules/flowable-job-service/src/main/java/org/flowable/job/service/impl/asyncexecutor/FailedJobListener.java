@@ -57,7 +57,8 @@ public class FailedJobListener implements CommandContextCloseListener {
     public void closed(CommandContext context) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job),
                     jobServiceConfiguration.getEngineName());
         }
     }
@@ -66,7 +67,8 @@ public class FailedJobListener implements CommandContextCloseListener {
     public void closeFailure(CommandContext commandContext) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityExceptionEvent(FlowableEngineEventType.JOB_EXECUTION_FAILURE, 
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_EXECUTION_FAILURE,
+                    () -> FlowableJobEventBuilder.createEntityExceptionEvent(FlowableEngineEventType.JOB_EXECUTION_FAILURE, 
                     job, commandContext.getException()), jobServiceConfiguration.getEngineName());
         }
 
@@ -0,0 +1,250 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A hierarchical timing wheel, holding items until their expiration time (in milliseconds) has passed.
+ *
+ * The first level has {@code wheelSize} buckets of {@code tickInMillis} each. Items that expire beyond the interval of a level are stored
+ * in the next level, of which one bucket spans the whole interval of the previous level. Levels are created when needed.
+ * When the clock advances, the buckets that were passed are emptied and their items are added again, so that items cascade down
+ * to the lower levels until they expire. Adding an item and advancing the clock over a bucket are constant time operations,
+ * regardless of the number of items in the wheel.
+ *
+ * Items never expire before their expiration time. This class is not thread safe, it is meant to be used by one (acquisition) thread.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    protected final long tickInMillis;
+    protected final int wheelSize;
+    protected final List<Level<T>> levels = new ArrayList<>();
+
+    protected long currentTime;
+    protected int size;
+
+    public HierarchicalTimingWheel(long tickInMillis, int wheelSize, long currentTime) {
+        if (tickInMillis < 1) {
+            throw new IllegalArgumentException("tickInMillis must be at least 1");
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("wheelSize must be at least 2");
+        }
+
+        this.tickInMillis = tickInMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = currentTime;
+        this.levels.add(new Level<>(tickInMillis, wheelSize, currentTime));
+    }
+
+    /**
+     * Adds the item to the wheel.
+     *
+     * @return false when the expiration time is not after the current time of the wheel, the item is not added in that case
+     */
+    public boolean add(T item, long expirationTime) {
+        if (expirationTime <= currentTime) {
+            return false;
+        }
+
+        addEntry(new Entry<>(item, expirationTime));
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances the clock of the wheel to the given time and adds the items that expired (expiration time before or at the given time)
+     * to the given collection.
+     */
+    public void advanceClock(long time, Collection<T> expiredItems) {
+        if (time <= currentTime) {
+            return;
+        }
+
+        currentTime = time;
+        List<Entry<T>> entries = new ArrayList<>();
+        for (Level<T> level : levels) {
+            level.advance(time, entries, level == levels.get(0));
+        }
+
+        for (Entry<T> entry : entries) {
+            if (entry.expirationTime <= time) {
+                expiredItems.add(entry.item);
+                size--;
+            } else {
+                addEntry(entry);
+            }
+        }
+    }
+
+    /**
+     * @return the time at which the clock needs to be advanced next, either because an item expires or items need to move to a lower level,
+     *         or {@link Long#MAX_VALUE} when the wheel is empty
+     */
+    public long getNextExpirationTime() {
+        if (size == 0) {
+            return Long.MAX_VALUE;
+        }
+
+        long nextExpirationTime = Long.MAX_VALUE;
+        for (int i = 0; i < levels.size(); i++) {
+            nextExpirationTime = Math.min(nextExpirationTime, levels.get(i).getNextExpirationTime(i == 0));
+        }
+        return nextExpirationTime;
+    }
+
+    /**
+     * Removes all items from the wheel.
+     *
+     * @return the removed items
+     */
+    public List<T> removeAll() {
+        List<Entry<T>> entries = new ArrayList<>(size);
+        for (Level<T> level : levels) {
+            level.removeAll(entries);
+        }
+
+        List<T> items = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            items.add(entry.item);
+        }
+        size = 0;
+        return items;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    protected void addEntry(Entry<T> entry) {
+        // Starting from the first level, an entry never ends up in the current bucket of a higher level
+        int levelIndex = 0;
+        while (!getOrCreateLevel(levelIndex).add(entry)) {
+            levelIndex++;
+        }
+    }
+
+    protected Level<T> getOrCreateLevel(int levelIndex) {
+        if (levelIndex == levels.size()) {
+            Level<T> previousLevel = levels.get(levelIndex - 1);
+            levels.add(new Level<>(previousLevel.interval, wheelSize, currentTime));
+        }
+        return levels.get(levelIndex);
+    }
+
+    protected static class Entry<T> {
+
+        protected final T item;
+        protected final long expirationTime;
+
+        public Entry(T item, long expirationTime) {
+            this.item = item;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+    protected static class Level<T> {
+
+        protected final long tick;
+        protected final long interval;
+        protected final List<List<Entry<T>>> buckets;
+        protected long startTime;
+
+        public Level(long tick, int wheelSize, long currentTime) {
+            this.tick = tick;
+            // The top level accepts everything when the interval doesn't fit in a long anymore
+            this.interval = tick > Long.MAX_VALUE / wheelSize ? Long.MAX_VALUE : tick * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            this.startTime = currentTime - Math.floorMod(currentTime, tick);
+        }
+
+        public boolean add(Entry<T> entry) {
+            if (interval != Long.MAX_VALUE && entry.expirationTime - startTime >= interval) {
+                return false;
+            }
+
+            buckets.get(bucketIndex(entry.expirationTime)).add(entry);
+            return true;
+        }
+
+        public void advance(long time, List<Entry<T>> entries, boolean firstLevel) {
+            long newStartTime = time - Math.floorMod(time, tick);
+            if (newStartTime == startTime && !firstLevel) {
+                // Only the first level can have entries in the current bucket
+                return;
+            }
+
+            long ticks = (newStartTime - startTime) / tick;
+            if (ticks >= buckets.size() - 1) {
+                removeAll(entries);
+            } else {
+                for (long i = 0; i <= ticks; i++) {
+                    List<Entry<T>> bucket = buckets.get(bucketIndex(startTime + i * tick));
+                    if (!bucket.isEmpty()) {
+                        entries.addAll(bucket);
+                        bucket.clear();
+                    }
+                }
+            }
+            startTime = newStartTime;
+        }
+
+        public long getNextExpirationTime(boolean firstLevel) {
+            for (int i = 0; i < buckets.size(); i++) {
+                long bucketStartTime = startTime + i * tick;
+                List<Entry<T>> bucket = buckets.get(bucketIndex(bucketStartTime));
+                if (!bucket.isEmpty()) {
+                    if (!firstLevel) {
+                        // The entries need to move to a lower level when the clock passes the start of the bucket
+                        // (only entries of the top level, that can span more than one rotation, can be in the current bucket)
+                        return i == 0 ? startTime + tick : bucketStartTime;
+                    }
+
+                    long nextExpirationTime = Long.MAX_VALUE;
+                    for (Entry<T> entry : bucket) {
+                        nextExpirationTime = Math.min(nextExpirationTime, entry.expirationTime);
+                    }
+                    return nextExpirationTime;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        public void removeAll(List<Entry<T>> entries) {
+            for (List<Entry<T>> bucket : buckets) {
+                if (!bucket.isEmpty()) {
+                    entries.addAll(bucket);
+                    bucket.clear();
+                }
+            }
+        }
+
+        protected int bucketIndex(long time) {
+            return (int) Math.floorMod(Math.floorDiv(time, tick), (long) buckets.size());
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AcquireAsyncJobsDueRunnable} that acquires the due async jobs ahead of their execution into a bounded local prefetch buffer.
+ * <p>
+ * A separate dispatcher thread hands the buffered jobs to the task executor, but only when the task executor has capacity left.
+ * As such, acquired jobs are never rejected by the task executor (which would mean they need to be unacquired again with an extra transaction).
+ * The acquisition thread refills the buffer as soon as it has been drained below half of its target size,
+ * so that new jobs are already available locally when the task executor frees up.
+ * <p>
+ * The target size of the buffer adapts to the observed execution rate: it is sized to hold the jobs that are executed
+ * during a few acquisition round trips, bounded by the configured minimum and maximum buffer size.
+ * Since jobs are only dispatched when the task executor has capacity, the dispatch rate is used as the execution rate.
+ * <p>
+ * The jobs dispatched by this runnable signal the dispatcher when they start and when they end, which is when the task executor gets capacity again.
+ * Jobs of which the lock has expired while they were waiting in the buffer are dropped, as they can already be acquired by another async executor.
+ */
+public class PrefetchingAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingAcquireAsyncJobsDueRunnable.class);
+
+    /**
+     * The number of acquisition round trips the prefetch buffer should be able to cover at the observed execution rate.
+     */
+    protected static final int ACQUISITION_ROUND_TRIPS_TO_BUFFER = 4;
+
+    /**
+     * The minimum time between two samples of the execution rate.
+     */
+    protected static final long EXECUTION_RATE_SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    protected static final double SMOOTHING_FACTOR = 0.3;
+
+    protected int minBufferSize;
+    protected int maxBufferSize;
+    protected long dispatchWaitTimeInMillis = 1000L;
+
+    protected final BlockingQueue<JobInfoEntity> prefetchBuffer;
+    protected volatile int targetBufferSize;
+
+    protected Thread dispatcherThread;
+    protected volatile JobInfoEntity dispatchingJob;
+    protected final LongAdder dispatchedJobs = new LongAdder();
+    protected final Semaphore taskExecutorCapacitySignal = new Semaphore(0);
+
+    // Only accessed by the acquisition thread
+    protected int lastAcquiredJobs;
+    protected double executionRatePerMilli;
+    protected double acquisitionLatencyInMillis;
+    protected long lastRateSampleTime = System.nanoTime();
+    protected long lastRateSampleDispatchedJobs;
+
+    public PrefetchingAcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            AcquireAsyncJobsDueLifecycleListener lifecycleListener, boolean globalAcquireLockEnabled, String globalAcquireLockPrefix,
+            int minBufferSize, int maxBufferSize) {
+        super(name, asyncExecutor, jobEntityManager, lifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix);
+        this.minBufferSize = Math.max(1, Math.min(minBufferSize, maxBufferSize));
+        this.maxBufferSize = Math.max(this.minBufferSize, maxBufferSize);
+        this.targetBufferSize = this.minBufferSize;
+        this.prefetchBuffer = new LinkedBlockingQueue<>(this.maxBufferSize);
+    }
+
+    @Override
+    public synchronized void run() {
+        startDispatcher();
+        try {
+            super.run();
+        } finally {
+            stopDispatcher();
+            unacquireBufferedJobs();
+        }
+    }
+
+    @Override
+    protected long executeAcquireCycle(CommandExecutor commandExecutor) {
+        updateTargetBufferSize();
+
+        int bufferDepth = prefetchBuffer.size();
+        int freeBufferSpace = targetBufferSize - bufferDepth;
+        lifecycleListener.prefetchBufferDepth(getEngineName(), bufferDepth, targetBufferSize, maxBufferSize);
+        lifecycleListener.startAcquiring(getEngineName(), freeBufferSpace, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+
+        long millisToWait;
+        if (freeBufferSpace > 0 && bufferDepth <= getLowWatermark()) {
+            lastAcquiredJobs = 0;
+            millisToWait = acquireAndExecuteJobs(commandExecutor, freeBufferSpace);
+
+            if (lastAcquiredJobs >= Math.min(freeBufferSpace, asyncExecutor.getMaxAsyncJobsDuePerAcquisition())) {
+                // More jobs are probably due, acquire them as soon as the buffer has been drained
+                millisToWait = getMillisUntilLowWatermark();
+            }
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("prefetched {} async jobs for engine {} (buffer target size {}); sleeping for {} ms",
+                        lastAcquiredJobs, getEngineName(), targetBufferSize, millisToWait);
+            }
+
+        } else {
+            millisToWait = getMillisUntilLowWatermark();
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("prefetch buffer holds {} async jobs for engine {}; sleeping for {} ms", bufferDepth, getEngineName(), millisToWait);
+            }
+        }
+
+        lifecycleListener.stopAcquiring(getEngineName());
+
+        return millisToWait;
+    }
+
+    @Override
+    protected List<? extends JobInfoEntity> acquireJobs(CommandExecutor commandExecutor, int remainingCapacity) {
+        long acquisitionStartTime = System.nanoTime();
+        List<? extends JobInfoEntity> acquiredJobs = super.acquireJobs(commandExecutor, remainingCapacity);
+        double latency = (System.nanoTime() - acquisitionStartTime) / 1_000_000.0;
+        acquisitionLatencyInMillis = acquisitionLatencyInMillis == 0.0 ? latency : smooth(acquisitionLatencyInMillis, latency);
+        lastAcquiredJobs = acquiredJobs.size();
+        return acquiredJobs;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        for (JobInfoEntity job : acquiredJobs) {
+            // At most the free buffer space is acquired, so the buffer should never be full here.
+            // If it is nevertheless, the job is offered to the task executor directly, as done without prefetching.
+            if (!prefetchBuffer.offer(job) && !asyncExecutor.executeAsyncJob(job)) {
+                rejected.add(job);
+            }
+        }
+        return rejected;
+    }
+
+    protected void updateTargetBufferSize() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRateSampleTime;
+        if (elapsed >= EXECUTION_RATE_SAMPLE_INTERVAL_NANOS) {
+            long dispatched = dispatchedJobs.sum();
+            double currentRate = (dispatched - lastRateSampleDispatchedJobs) / (elapsed / 1_000_000.0);
+            executionRatePerMilli = smooth(executionRatePerMilli, currentRate);
+            lastRateSampleTime = now;
+            lastRateSampleDispatchedJobs = dispatched;
+        }
+
+        double jobsPerRoundTrip = executionRatePerMilli * Math.max(acquisitionLatencyInMillis, 1.0);
+        long desiredBufferSize = (long) Math.ceil(jobsPerRoundTrip * ACQUISITION_ROUND_TRIPS_TO_BUFFER);
+        targetBufferSize = (int) Math.max(minBufferSize, Math.min(maxBufferSize, desiredBufferSize));
+    }
+
+    protected long getMillisUntilLowWatermark() {
+        int jobsAboveLowWatermark = prefetchBuffer.size() - getLowWatermark();
+        if (jobsAboveLowWatermark <= 0) {
+            return 0L;
+        }
+
+        // The dispatcher wakes up the acquisition thread when reaching the low watermark,
+        // the estimation is only an upper bound in case that notification is missed.
+        long queueSizeFullWaitTime = asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+        if (executionRatePerMilli <= 0.0) {
+            return queueSizeFullWaitTime;
+        }
+        long estimation = (long) Math.ceil(jobsAboveLowWatermark / executionRatePerMilli);
+        return Math.max(1L, Math.min(queueSizeFullWaitTime, estimation));
+    }
+
+    protected int getLowWatermark() {
+        return targetBufferSize / 2;
+    }
+
+    protected double smooth(double previousValue, double newValue) {
+        return SMOOTHING_FACTOR * newValue + (1 - SMOOTHING_FACTOR) * previousValue;
+    }
+
+    protected void startDispatcher() {
+        dispatcherThread = new Thread(this::dispatchJobs, name + "-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    protected void dispatchJobs() {
+        LOGGER.info("starting to dispatch prefetched async jobs for engine {}", getEngineName());
+        try {
+            while (!isInterrupted) {
+                JobInfoEntity job = prefetchBuffer.poll(dispatchWaitTimeInMillis, TimeUnit.MILLISECONDS);
+                if (job != null) {
+                    dispatchingJob = job;
+                    if (!waitForTaskExecutorCapacity()) {
+                        break;
+                    }
+
+                    if (isLockExpired(job)) {
+                        LOGGER.debug("dropping prefetched async job {} for engine {}, its lock has expired", job.getId(), getEngineName());
+
+                    } else {
+                        if (!dispatchJob(job)) {
+                            // Another component took the remaining capacity, the job has been unacquired by the async executor
+                            lifecycleListener.rejectedJobs(getEngineName(), 1, 1, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+                        }
+                        dispatchedJobs.increment();
+                    }
+                    dispatchingJob = null;
+
+                    if (prefetchBuffer.size() == getLowWatermark()) {
+                        wakeUpAcquisition();
+                    }
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.info("stopped dispatching prefetched async jobs for engine {}", getEngineName());
+    }
+
+    protected boolean waitForTaskExecutorCapacity() throws InterruptedException {
+        while (true) {
+            // Signals given before checking the capacity are outdated, signals given afterwards trigger a new check
+            taskExecutorCapacitySignal.drainPermits();
+            if (asyncExecutor.getTaskExecutor().getRemainingCapacity() > 0) {
+                return true;
+            }
+            if (isInterrupted) {
+                return false;
+            }
+
+            // Jobs that are not dispatched by this runnable don't signal, so the capacity is checked again after the wait time anyway
+            taskExecutorCapacitySignal.tryAcquire(dispatchWaitTimeInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    protected boolean dispatchJob(JobInfoEntity job) {
+        if (!(asyncExecutor instanceof AbstractAsyncExecutor)) {
+            return asyncExecutor.executeAsyncJob(job);
+        }
+
+        AbstractAsyncExecutor abstractAsyncExecutor = (AbstractAsyncExecutor) asyncExecutor;
+        if (abstractAsyncExecutor.isMessageQueueMode() || !abstractAsyncExecutor.isActive()) {
+            return abstractAsyncExecutor.executeAsyncJob(job);
+        }
+
+        Runnable runnable = abstractAsyncExecutor.createRunnableForJob(job);
+        return abstractAsyncExecutor.executeAsyncJob(job, () -> {
+            // A queued job has left the queue of the task executor when it starts, and a running job frees its thread when it ends
+            taskExecutorCapacitySignal.release();
+            try {
+                runnable.run();
+            } finally {
+                taskExecutorCapacitySignal.release();
+            }
+        });
+    }
+
+    protected boolean isLockExpired(JobInfoEntity job) {
+        Date lockExpirationTime = job.getLockExpirationTime();
+        return lockExpirationTime != null
+                && !lockExpirationTime.after(asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime());
+    }
+
+    protected void wakeUpAcquisition() {
+        synchronized (MONITOR) {
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    protected void stopDispatcher() {
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+            try {
+                dispatcherThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the async job dispatcher thread to terminate", e);
+                Thread.currentThread().interrupt();
+            }
+            dispatcherThread = null;
+        }
+    }
+
+    protected void unacquireBufferedJobs() {
+        List<JobInfo> bufferedJobs = new ArrayList<>();
+        if (dispatchingJob != null) {
+            bufferedJobs.add(dispatchingJob);
+            dispatchingJob = null;
+        }
+        List<JobInfoEntity> prefetchedJobs = new ArrayList<>();
+        prefetchBuffer.drainTo(prefetchedJobs);
+        for (JobInfoEntity prefetchedJob : prefetchedJobs) {
+            // Jobs with an expired lock might already be acquired by another async executor
+            if (!isLockExpired(prefetchedJob)) {
+                bufferedJobs.add(prefetchedJob);
+            }
+        }
+
+        if (!bufferedJobs.isEmpty()) {
+            LOGGER.debug("unacquiring {} prefetched async jobs for engine {}", bufferedJobs.size(), getEngineName());
+            try {
+                JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+                jobServiceConfiguration.getCommandExecutor().execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW), commandContext -> {
+                    for (JobInfo job : bufferedJobs) {
+                        jobServiceConfiguration.getJobManager().unacquire(job);
+                    }
+                    return null;
+                });
+
+            } catch (Throwable e) {
+                // The jobs will be picked up again after their lock has expired
+                LOGGER.warn("Could not unacquire {} prefetched async jobs for engine {}", bufferedJobs.size(), getEngineName(), e);
+            }
+        }
+    }
+
+    public int getBufferDepth() {
+        return prefetchBuffer.size();
+    }
+
+    public int getTargetBufferSize() {
+        return targetBufferSize;
+    }
+
+    public int getMinBufferSize() {
+        return minBufferSize;
+    }
+
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    public long getDispatchWaitTimeInMillis() {
+        return dispatchWaitTimeInMillis;
+    }
+
+    public void setDispatchWaitTimeInMillis(long dispatchWaitTimeInMillis) {
+        this.dispatchWaitTimeInMillis = dispatchWaitTimeInMillis;
+    }
+}
@@ -0,0 +1,223 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithLookAheadCmd;
+import org.flowable.job.service.impl.cmd.BulkMoveLockedTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AcquireTimerJobsRunnable} that doesn't only acquire the timer jobs that are due, but also the ones that are due within a look-ahead window.
+ * The acquired timer jobs are kept in a {@link HierarchicalTimingWheel} and moved to the executable jobs at their due time,
+ * so the precision of the timers doesn't depend on the acquire interval anymore.
+ *
+ * The look-ahead window adapts to the load: it is halved (down to the min window) when the max number of timer jobs per acquisition was acquired,
+ * and doubled (up to the max window) when less than half of that number was acquired. The next acquisition happens after half of the window
+ * (but not earlier than the default timer job acquire wait time), so idle nodes query less often.
+ *
+ * The lock of an acquired timer job expires the timer lock time after its due date (see {@link AcquireTimerJobsWithLookAheadCmd}),
+ * so when this node goes down, the timer jobs in the wheel are reset by the expired jobs thread of another node.
+ * Timer jobs of which the lock has expired, or that were deleted in the meantime, are not moved.
+ * When the acquisition stops, the timer jobs that are still in the wheel are unlocked.
+ */
+public class TimingWheelAcquireTimerJobsRunnable extends AcquireTimerJobsRunnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelAcquireTimerJobsRunnable.class);
+
+    protected final int minLookAheadWindowInMillis;
+    protected final int maxLookAheadWindowInMillis;
+
+    protected long tickInMillis = 10L;
+    protected int wheelSize = 128;
+
+    protected HierarchicalTimingWheel<TimerJobEntity> timingWheel;
+    protected int lookAheadWindowInMillis;
+    protected long nextAcquisitionTime;
+
+    public TimingWheelAcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager,
+            AcquireTimerLifecycleListener lifecycleListener, boolean globalAcquireLockEnabled, String globalAcquireLockPrefix, int moveExecutorPoolSize,
+            int minLookAheadWindowInMillis, int maxLookAheadWindowInMillis) {
+        super(asyncExecutor, jobManager, lifecycleListener, globalAcquireLockEnabled, globalAcquireLockPrefix, moveExecutorPoolSize);
+        this.minLookAheadWindowInMillis = Math.max(0, minLookAheadWindowInMillis);
+        this.maxLookAheadWindowInMillis = Math.max(this.minLookAheadWindowInMillis, maxLookAheadWindowInMillis);
+    }
+
+    @Override
+    public synchronized void run() {
+        this.timingWheel = new HierarchicalTimingWheel<>(tickInMillis, wheelSize, getCurrentTime());
+        this.lookAheadWindowInMillis = minLookAheadWindowInMillis;
+        this.nextAcquisitionTime = 0L;
+
+        super.run();
+
+        // Other nodes don't have to wait until the locks expire to pick up the timer jobs that weren't moved yet
+        unlockTimerJobs(timingWheel.removeAll());
+    }
+
+    @Override
+    protected long executeAcquireAndMoveCycle() {
+        moveDueTimerJobs();
+
+        // The acquisitions are scheduled on the system time, as the engine clock is not necessarily moving (e.g. in tests)
+        long millisToAcquisition = nextAcquisitionTime - System.currentTimeMillis();
+        if (millisToAcquisition <= 0) {
+            millisToAcquisition = acquireTimerJobs();
+            nextAcquisitionTime = System.currentTimeMillis() + millisToAcquisition;
+        }
+
+        // Waking up doesn't query the database, but is needed to notice when the engine clock is changed
+        long millisToWait = Math.min(millisToAcquisition, asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis());
+        long nextExpirationTime = timingWheel.getNextExpirationTime();
+        if (nextExpirationTime != Long.MAX_VALUE) {
+            millisToWait = Math.min(millisToWait, nextExpirationTime - getCurrentTime());
+        }
+        return Math.max(0L, millisToWait);
+    }
+
+    protected long acquireTimerJobs() {
+        int maxTimerJobsPerAcquisition = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        lifecycleListener.startAcquiring(getEngineName(), maxTimerJobsPerAcquisition);
+
+        long millisToWait = 0L;
+        try {
+            List<TimerJobEntity> timerJobs = Collections.emptyList();
+            int lookAheadInMillis = lookAheadWindowInMillis;
+            if (globalAcquireLockEnabled) {
+                try {
+                    timerJobs = lockManager.waitForLockRunAndRelease(lockWaitTime, () -> {
+                        return commandExecutor.execute(new AcquireTimerJobsWithLookAheadCmd(asyncExecutor, lookAheadInMillis));
+                    });
+
+                } catch (Exception e) {
+                    // Don't do anything, lock will be tried again next time
+                    if (!(e instanceof FlowableException)) {
+                        LOGGER.warn("Error while waiting for global acquire lock", e);
+                    }
+                }
+
+            } else {
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsWithLookAheadCmd(asyncExecutor, lookAheadInMillis));
+
+            }
+
+            List<TimerJobEntity> dueTimerJobs = new ArrayList<>();
+            for (TimerJobEntity timerJob : timerJobs) {
+                if (timerJob.getDuedate() == null || !timingWheel.add(timerJob, timerJob.getDuedate().getTime())) {
+                    dueTimerJobs.add(timerJob);
+                }
+            }
+            moveTimerJobs(dueTimerJobs);
+
+            int nrOfJobsAcquired = timerJobs.size();
+            lifecycleListener.acquiredJobs(getEngineName(), nrOfJobsAcquired, maxTimerJobsPerAcquisition);
+            adaptLookAheadWindow(nrOfJobsAcquired, maxTimerJobsPerAcquisition);
+
+            if (nrOfJobsAcquired >= maxTimerJobsPerAcquisition) {
+                // Same as the regular acquisition: let other nodes acquire first when running with the global acquire lock
+                millisToWait = globalAcquireLockEnabled ? lockPollRate.toMillis() : 0L;
+            } else {
+                millisToWait = Math.max(asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis(), lookAheadWindowInMillis / 2);
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            logOptimisticLockingException(optimisticLockingException);
+
+        } catch (Throwable e) {
+            LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
+            millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+
+        }
+
+        lifecycleListener.stopAcquiring(getEngineName());
+
+        return millisToWait;
+    }
+
+    protected void adaptLookAheadWindow(int nrOfJobsAcquired, int maxTimerJobsPerAcquisition) {
+        int previousLookAheadWindowInMillis = lookAheadWindowInMillis;
+        if (nrOfJobsAcquired >= maxTimerJobsPerAcquisition) {
+            lookAheadWindowInMillis = Math.max(minLookAheadWindowInMillis, lookAheadWindowInMillis / 2);
+        } else if (nrOfJobsAcquired < maxTimerJobsPerAcquisition / 2) {
+            lookAheadWindowInMillis = (int) Math.min(maxLookAheadWindowInMillis, Math.max(1L, 2L * lookAheadWindowInMillis));
+        }
+
+        if (lookAheadWindowInMillis != previousLookAheadWindowInMillis && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} timer jobs acquired, changing timer job look-ahead window from {} to {} millis for engine {}",
+                nrOfJobsAcquired, previousLookAheadWindowInMillis, lookAheadWindowInMillis, getEngineName());
+        }
+    }
+
+    protected void moveDueTimerJobs() {
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>();
+        timingWheel.advanceClock(getCurrentTime(), dueTimerJobs);
+        moveTimerJobs(dueTimerJobs);
+    }
+
+    protected void moveTimerJobs(List<TimerJobEntity> timerJobs) {
+        if (!timerJobs.isEmpty()) {
+            moveTimerJobsExecutorService.execute(() -> {
+                executeMoveTimerJobsToExecutableJobs(timerJobs);
+            });
+        }
+    }
+
+    @Override
+    protected void executeMoveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        try {
+            commandExecutor.execute(new BulkMoveLockedTimerJobsToExecutableJobsCmd(jobManager, timerJobs,
+                asyncExecutor.getLockOwner(), asyncExecutor.getJobServiceConfiguration()));
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            logOptimisticLockingException(optimisticLockingException);
+            unlockTimerJobs(timerJobs);
+
+        } catch (Throwable t) {
+            LOGGER.error("exception during timer job move: {}", t.getMessage(), t);
+            unlockTimerJobs(timerJobs);
+
+        }
+    }
+
+    protected long getCurrentTime() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
+    public int getLookAheadWindowInMillis() {
+        return lookAheadWindowInMillis;
+    }
+
+    public long getTickInMillis() {
+        return tickInMillis;
+    }
+
+    public void setTickInMillis(long tickInMillis) {
+        this.tickInMillis = tickInMillis;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+}
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Acquires the timer jobs that are due now or within the given look-ahead window, ordered by due date.
+ *
+ * The lock of a timer job that isn't due yet expires the timer lock time after its due date, so that
+ * the timer job is reset by the expired jobs thread when the node holding the lock goes down.
+ */
+public class AcquireTimerJobsWithLookAheadCmd extends AcquireTimerJobsCmd {
+
+    protected long lookAheadInMillis;
+
+    public AcquireTimerJobsWithLookAheadCmd(AsyncExecutor asyncExecutor, long lookAheadInMillis) {
+        super(asyncExecutor);
+        this.lookAheadInMillis = lookAheadInMillis;
+    }
+
+    @Override
+    public List<TimerJobEntity> execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        Date dueBefore = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() + lookAheadInMillis);
+        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
+            .findJobsToExecuteDueBefore(jobServiceConfiguration.getEnabledJobCategories(), dueBefore, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+
+        for (TimerJobEntity job : timerJobs) {
+            lockJob(commandContext, job, asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
+        }
+
+        return timerJobs;
+    }
+
+    @Override
+    protected void lockJob(CommandContext commandContext, TimerJobEntity job, int lockTimeInMillis, JobServiceConfiguration jobServiceConfiguration) {
+        long lockStartTime = jobServiceConfiguration.getClock().getCurrentTime().getTime();
+        if (job.getDuedate() != null && job.getDuedate().getTime() > lockStartTime) {
+            lockStartTime = job.getDuedate().getTime();
+        }
+
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(new Date(lockStartTime + lockTimeInMillis));
+    }
+
+}
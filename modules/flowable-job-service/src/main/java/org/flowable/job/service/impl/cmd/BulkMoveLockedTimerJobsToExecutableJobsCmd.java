@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
+
+/**
+ * Moves timer jobs that were acquired some time before they are due to the executable jobs.
+ *
+ * As the timer jobs could have been deleted in the meantime (e.g. when the process instance was cancelled),
+ * or reset because the lock expired, only the timer jobs that still exist and are still locked by the given lock owner are moved.
+ */
+public class BulkMoveLockedTimerJobsToExecutableJobsCmd extends BulkMoveTimerJobsToExecutableJobsCmd {
+
+    protected String lockOwner;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public BulkMoveLockedTimerJobsToExecutableJobsCmd(JobManager jobManager, List<TimerJobEntity> timerJobs, String lockOwner,
+            JobServiceConfiguration jobServiceConfiguration) {
+        super(jobManager, timerJobs);
+        this.lockOwner = lockOwner;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        TimerJobEntityManager timerJobEntityManager = jobServiceConfiguration.getTimerJobEntityManager();
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+
+        List<TimerJobEntity> lockedTimerJobs = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            TimerJobEntity dbTimerJob = timerJobEntityManager.findById(timerJob.getId());
+            if (dbTimerJob != null && Objects.equals(lockOwner, dbTimerJob.getLockOwner())
+                    && dbTimerJob.getLockExpirationTime() != null && dbTimerJob.getLockExpirationTime().after(now)) {
+                lockedTimerJobs.add(dbTimerJob);
+            }
+        }
+
+        if (!lockedTimerJobs.isEmpty()) {
+            jobManager.bulkMoveTimerJobsToExecutableJobs(lockedTimerJobs);
+        }
+        return null;
+    }
+}
@@ -52,15 +52,15 @@ public class CancelJobsCmd implements Command<Void>, Serializable {
 
     @Override
     public Void execute(CommandContext commandContext) {
-        JobEntity jobToDelete = null;
         for (String jobId : jobIds) {
-            jobToDelete = jobServiceConfiguration.getJobEntityManager().findById(jobId);
+            JobEntity jobToDelete = jobServiceConfiguration.getJobEntityManager().findById(jobId);
 
             FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
             if (jobToDelete != null) {
                 // When given job doesn't exist, ignore
                 if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                    eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, jobToDelete),
+                    eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_CANCELED,
+                            () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, jobToDelete),
                             jobServiceConfiguration.getEngineName());
                 }
 
@@ -72,7 +72,8 @@ public class CancelJobsCmd implements Command<Void>, Serializable {
                 if (timerJobToDelete != null) {
                     // When given job doesn't exist, ignore
                     if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                        eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, timerJobToDelete),
+                        eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_CANCELED,
+                                () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, timerJobToDelete),
                                 jobServiceConfiguration.getEngineName());
                     }
 
@@ -58,7 +58,8 @@ public class DeleteDeadLetterJobCmd implements Command<Object>, Serializable {
     protected void sendCancelEvent(DeadLetterJobEntity jobToDelete) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, jobToDelete),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_CANCELED,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, jobToDelete),
                     jobServiceConfiguration.getEngineName());
         }
     }
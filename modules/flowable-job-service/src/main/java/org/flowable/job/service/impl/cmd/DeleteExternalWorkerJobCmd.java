@@ -52,7 +52,8 @@ public class DeleteExternalWorkerJobCmd implements Command<Object> {
 
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_CANCELED,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job),
                     jobServiceConfiguration.getEngineName());
         }
 
@@ -67,7 +67,8 @@ public class DeleteJobCmd implements Command<Object>, Serializable {
     protected void sendCancelEvent(JobEntity jobToDelete) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, jobToDelete),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_CANCELED,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, jobToDelete),
                     jobServiceConfiguration.getEngineName());
         }
     }
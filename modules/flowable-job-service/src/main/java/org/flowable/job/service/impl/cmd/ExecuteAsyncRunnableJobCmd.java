@@ -89,7 +89,8 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
 
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job),
                     jobServiceConfiguration.getEngineName());
         }
 
@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.HistoryJobProcessor;
+import org.flowable.job.service.HistoryJobProcessorContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.HistoryJobProcessorContextImpl;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes multiple history jobs in one transaction. The history json of the jobs with the same async history job handler
+ * is processed together (see {@link AbstractAsyncHistoryJobHandler#executeBatch(List, CommandContext, JobServiceConfiguration)}),
+ * other history jobs are executed as usual.
+ *
+ * When this command fails, the jobs are expected to be executed one by one, as is done by the async history executor.
+ */
+public class ExecuteHistoryJobBatchCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteHistoryJobBatchCmd.class);
+
+    protected Collection<String> historyJobIds;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteHistoryJobBatchCmd(Collection<String> historyJobIds, JobServiceConfiguration jobServiceConfiguration) {
+        this.historyJobIds = historyJobIds;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (historyJobIds == null || historyJobIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("historyJobIds is null or empty");
+        }
+
+        HistoryJobEntityManager historyJobEntityManager = jobServiceConfiguration.getHistoryJobEntityManager();
+        List<HistoryJobEntity> historyJobs = new ArrayList<>(historyJobIds.size());
+        for (String historyJobId : historyJobIds) {
+            // The job could have been deleted in the meantime (e.g. executed by another node after its lock expired)
+            HistoryJobEntity historyJob = historyJobEntityManager.findById(historyJobId);
+            if (historyJob != null) {
+                historyJobs.add(historyJob);
+            }
+        }
+
+        // The history of the jobs needs to be applied in the order in which it was created
+        historyJobs.sort(Comparator.comparing(HistoryJobEntity::getCreateTime, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        Map<String, List<HistoryJobEntity>> historyJobsByHandlerType = new LinkedHashMap<>();
+        for (HistoryJobEntity historyJob : historyJobs) {
+            historyJobsByHandlerType.computeIfAbsent(historyJob.getJobHandlerType(), type -> new ArrayList<>()).add(historyJob);
+        }
+
+        Map<String, HistoryJobHandler> historyJobHandlers = jobServiceConfiguration.getHistoryJobHandlers();
+        for (Map.Entry<String, List<HistoryJobEntity>> entry : historyJobsByHandlerType.entrySet()) {
+            HistoryJobHandler historyJobHandler = historyJobHandlers != null && entry.getKey() != null ? historyJobHandlers.get(entry.getKey()) : null;
+            if (historyJobHandler instanceof AbstractAsyncHistoryJobHandler) {
+                LOGGER.debug("Executing {} history jobs of type {} in one batch", entry.getValue().size(), entry.getKey());
+                for (HistoryJobEntity historyJob : entry.getValue()) {
+                    callHistoryJobProcessors(historyJob);
+                }
+                ((AbstractAsyncHistoryJobHandler) historyJobHandler).executeBatch(entry.getValue(), commandContext, jobServiceConfiguration);
+                for (HistoryJobEntity historyJob : entry.getValue()) {
+                    historyJobEntityManager.delete(historyJob);
+                }
+
+            } else {
+                // The job manager calls the history job processors itself
+                for (HistoryJobEntity historyJob : entry.getValue()) {
+                    jobServiceConfiguration.getJobManager().execute(historyJob);
+                }
+            }
+        }
+
+        FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            for (HistoryJobEntity historyJob : historyJobs) {
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS,
+                        () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, historyJob),
+                        jobServiceConfiguration.getEngineName());
+            }
+        }
+
+        return null;
+    }
+
+    protected void callHistoryJobProcessors(HistoryJobEntity historyJob) {
+        if (jobServiceConfiguration.getHistoryJobProcessors() != null) {
+            HistoryJobProcessorContextImpl historyJobProcessorContext = new HistoryJobProcessorContextImpl(HistoryJobProcessorContext.Phase.BEFORE_EXECUTE, historyJob);
+            for (HistoryJobProcessor historyJobProcessor : jobServiceConfiguration.getHistoryJobProcessors()) {
+                historyJobProcessor.process(historyJobProcessorContext);
+            }
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.JobNotFoundException;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.BinaryAsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +50,13 @@ public class GetHistoryJobAdvancedConfigurationCmd implements Command<String> {
         if (historyJobEntity == null) {
             throw new JobNotFoundException(historyJobId);
         }
+
+        if (historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+            byte[] bytes = historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJobEntity.getScopeType());
+            if (BinaryAsyncHistoryPayloadCodec.isBinaryPayload(bytes)) {
+                return jobServiceConfiguration.getAsyncHistoryPayloadCodec().decode(bytes, jobServiceConfiguration.getObjectMapper()).toString();
+            }
+        }
         return historyJobEntity.getAdvancedJobHandlerConfiguration();
     }
 
@@ -58,7 +58,8 @@ public class SetTimerJobRetriesCmd implements Command<Void>, Serializable {
 
             FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
             if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, job),
+                eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_UPDATED,
+                        () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, job),
                         jobServiceConfiguration.getEngineName());
             }
         } else {
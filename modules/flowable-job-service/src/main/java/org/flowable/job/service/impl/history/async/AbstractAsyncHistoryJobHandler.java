@@ -15,7 +15,9 @@ package org.flowable.job.service.impl.history.async;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -36,6 +38,7 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
     protected final Logger logger = LoggerFactory.getLogger(getClass());
     
     protected boolean isAsyncHistoryJsonGroupingEnabled;
+    protected HistoryJsonBatchMerger historyJsonBatchMerger;
     protected String jobType;
     
     public AbstractAsyncHistoryJobHandler(String jobType) {
@@ -56,7 +59,7 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
             JsonNode historyNode;
             try {
                 byte[] bytes = getJobBytes(job);
-                historyNode = objectMapper.readTree(bytes);
+                historyNode = jobServiceConfiguration.getAsyncHistoryPayloadCodec().decode(bytes, objectMapper);
             } catch (Exception e) {
                 // The transaction will be rolled back and the job retries decremented,
                 // which is different from unacquiring the job where the retries are not changed.
@@ -128,6 +131,40 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    /**
+     * Processes the history json of multiple jobs of this handler in the current transaction.
+     * Contrary to {@link #execute(HistoryJobEntity, String, CommandContext, JobServiceConfiguration)}, a failure for one of the history json nodes
+     * is not handled by creating a new job for it, but thrown, so the caller can roll back and execute the jobs one by one instead.
+     */
+    public void executeBatch(List<HistoryJobEntity> jobs, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+        ObjectMapper objectMapper = commandContext.getObjectMapper();
+        List<ObjectNode> historyNodes = new ArrayList<>();
+        Map<JsonNode, HistoryJobEntity> historyNodeJobs = new IdentityHashMap<>();
+        for (HistoryJobEntity job : jobs) {
+            if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+                JsonNode historyNode = jobServiceConfiguration.getAsyncHistoryPayloadCodec().decode(getJobBytes(job), objectMapper);
+                if (historyNode.isArray()) {
+                    for (JsonNode elementNode : historyNode) {
+                        historyNodes.add((ObjectNode) elementNode);
+                        historyNodeJobs.put(elementNode, job);
+                    }
+                } else {
+                    historyNodes.add((ObjectNode) historyNode);
+                    historyNodeJobs.put(historyNode, job);
+                }
+            }
+        }
+
+        if (historyJsonBatchMerger != null) {
+            historyNodes = historyJsonBatchMerger.merge(historyNodes);
+        }
+
+        for (ObjectNode historyNode : historyNodes) {
+            HistoryJobEntity job = historyNodeJobs.get(historyNode);
+            processHistoryJson(commandContext, job != null ? job : jobs.get(0), historyNode);
+        }
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(job.getScopeType());
     }
@@ -141,5 +178,13 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
     public void setAsyncHistoryJsonGroupingEnabled(boolean isAsyncHistoryJsonGroupingEnabled) {
         this.isAsyncHistoryJsonGroupingEnabled = isAsyncHistoryJsonGroupingEnabled;
     }
+
+    public HistoryJsonBatchMerger getHistoryJsonBatchMerger() {
+        return historyJsonBatchMerger;
+    }
+
+    public void setHistoryJsonBatchMerger(HistoryJsonBatchMerger historyJsonBatchMerger) {
+        this.historyJsonBatchMerger = historyJsonBatchMerger;
+    }
     
 }
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converts the history data of an async history job to the bytes stored with the job and back.
+ *
+ * The bytes of jobs created before the codec was changed can still be in the database, so implementations
+ * should be able to decode the format of the other codecs of the job service as well.
+ */
+public interface AsyncHistoryPayloadCodec {
+
+    byte[] encode(JsonNode historyNode, ObjectMapper objectMapper);
+
+    JsonNode decode(byte[] bytes, ObjectMapper objectMapper);
+
+}
@@ -0,0 +1,396 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link AsyncHistoryPayloadCodec} storing the history data in a compact binary format instead of json.
+ *
+ * The field names of the history data are written as an index in a fixed dictionary of the field names used by the engines
+ * (field names that are not in the dictionary are written once per payload and referenced afterwards).
+ * Strings that occur multiple times in a payload (ids, types, dates, ...) are written once and referenced by their index afterwards as well.
+ * Numbers are written as variable length integers.
+ *
+ * Decoding creates the json nodes directly, without parsing text. Json payloads (e.g. of jobs created before the codec was configured)
+ * are still decoded.
+ */
+public class BinaryAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    protected static final byte[] HEADER = new byte[] { 0, 'F', 'H' };
+    protected static final byte VERSION = 1;
+
+    protected static final int TYPE_NULL = 0;
+    protected static final int TYPE_TRUE = 1;
+    protected static final int TYPE_FALSE = 2;
+    protected static final int TYPE_INTEGER = 3;
+    protected static final int TYPE_DOUBLE = 4;
+    protected static final int TYPE_STRING = 5;
+    protected static final int TYPE_STRING_REFERENCE = 6;
+    protected static final int TYPE_OBJECT = 7;
+    protected static final int TYPE_ARRAY = 8;
+    protected static final int TYPE_BIG_INTEGER = 9;
+    protected static final int TYPE_BIG_DECIMAL = 10;
+    protected static final int TYPE_BINARY = 11;
+
+    /**
+     * The field names of the history data of the process and cmmn engine.
+     * Only new names can be appended to this list, as the index of a name is stored in the payloads.
+     */
+    protected static final String[] FIELD_NAMES = new String[] {
+        "type", "data", "__timeStamp", "id", "name", "description", "revision", "category", "executionId", "sourceExecutionId",
+        "isMiRootExecution", "processInstanceId", "taskId", "businessKey", "processDefinitionId", "processDefinitionKey",
+        "processDefinitionName", "processDefinitionVersion", "processDefinitionCategory", "processDefinitionDerivedFrom",
+        "processDefinitionDerivedFromRoot", "processDefinitionDerivedVersion", "deploymentId", "startTime", "endTime", "createTime",
+        "claimTime", "lastUpdatedTime", "startUserId", "startActivityId", "activityId", "activityName", "activityType", "transactionOrder",
+        "superProcessInstanceId", "deleteReason", "parentTaskId", "assignee", "activityAssigneeHandled", "owner", "identityLinkType",
+        "entityLinkType", "taskDefinitionKey", "taskDefinitionId", "formKey", "priority", "dueDate", "property", "variableType",
+        "variableTextValue", "variableDoubleValue", "variableLongValue", "variableBytesValue", "formPropertyId", "formPropertyValue",
+        "userId", "groupId", "tenantId", "callbackId", "callbackType", "referenceId", "referenceType", "propagatedStageInstanceId",
+        "calledProcessInstanceId", "scopeId", "subScopeId", "scopeType", "scopeDefinitionId", "parentElementId", "referenceScopeId",
+        "referenceScopeType", "referenceScopeDefinitionId", "rootScopeId", "rootScopeType", "hierarchyType", "runtimeActivityInstanceId",
+        "logEntryType", "logEntryData", "logNumber", "caseDefinitionCategory", "caseDefinitionDeploymentId", "caseDefinitionDescription",
+        "caseDefinitionId", "derivedCaseDefinitionId", "caseDefinitionKey", "caseDefinitionName", "caseDefinitionVersion", "caseInstanceId",
+        "completedTime", "duration", "elementId", "exitTime", "isStage", "isShowInOverview", "lastAvailableTime", "lastUnavailableTime",
+        "lastDisabledTime", "lastEnabledTime", "lastStartedTime", "lastSuspendedTime", "lastUpdateTime", "occurredTime", "parentId",
+        "planItemDefinitionId", "planItemDefinitionType", "planItemInstanceId", "entryCriterionId", "exitCriterionId", "extraValue",
+        "refScopeId", "refScopeDefinitionId", "refScopeType", "stageInstanceId", "lastReactivationTime", "lastReactivationUserId", "state",
+        "terminatedTime"
+    };
+
+    protected static final Map<String, Integer> FIELD_NAME_INDEXES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < FIELD_NAMES.length; i++) {
+            FIELD_NAME_INDEXES.put(FIELD_NAMES[i], i);
+        }
+    }
+
+    @Override
+    public byte[] encode(JsonNode historyNode, ObjectMapper objectMapper) {
+        Encoder encoder = new Encoder();
+        encoder.writeBytes(HEADER);
+        encoder.writeByte(VERSION);
+        encoder.writeNode(historyNode);
+        return encoder.toByteArray();
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, ObjectMapper objectMapper) {
+        if (isBinaryPayload(bytes)) {
+            return decodeBinary(bytes, objectMapper);
+        }
+
+        try {
+            return objectMapper.readTree(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize async history json", e);
+        }
+    }
+
+    public static boolean isBinaryPayload(byte[] bytes) {
+        if (bytes == null || bytes.length <= HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (bytes[i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static JsonNode decodeBinary(byte[] bytes, ObjectMapper objectMapper) {
+        if (bytes[HEADER.length] != VERSION) {
+            throw new FlowableException("Unsupported version " + bytes[HEADER.length] + " of binary async history data");
+        }
+
+        try {
+            Decoder decoder = new Decoder(bytes, HEADER.length + 1, objectMapper.getNodeFactory());
+            return decoder.readNode();
+        } catch (IndexOutOfBoundsException e) {
+            throw new FlowableException("Could not deserialize binary async history data", e);
+        }
+    }
+
+    protected static class Encoder {
+
+        protected byte[] buffer = new byte[256];
+        protected int position;
+        protected Map<String, Integer> fieldNameIndexes = new HashMap<>(FIELD_NAME_INDEXES);
+        protected Map<String, Integer> stringIndexes = new HashMap<>();
+
+        protected void writeNode(JsonNode node) {
+            switch (node.getNodeType()) {
+                case OBJECT:
+                    writeVarInt(TYPE_OBJECT);
+                    writeVarInt(node.size());
+                    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        writeFieldName(field.getKey());
+                        writeNode(field.getValue());
+                    }
+                    break;
+                case ARRAY:
+                    writeVarInt(TYPE_ARRAY);
+                    writeVarInt(node.size());
+                    for (JsonNode element : node) {
+                        writeNode(element);
+                    }
+                    break;
+                case STRING:
+                    writeString(node.textValue());
+                    break;
+                case NUMBER:
+                    writeNumber(node);
+                    break;
+                case BOOLEAN:
+                    writeVarInt(node.booleanValue() ? TYPE_TRUE : TYPE_FALSE);
+                    break;
+                case BINARY:
+                    try {
+                        byte[] binaryValue = node.binaryValue();
+                        writeVarInt(TYPE_BINARY);
+                        writeVarInt(binaryValue.length);
+                        writeBytes(binaryValue);
+                    } catch (IOException e) {
+                        throw new FlowableException("Could not serialize historic data for async history", e);
+                    }
+                    break;
+                case NULL:
+                case MISSING:
+                    writeVarInt(TYPE_NULL);
+                    break;
+                default:
+                    // POJO nodes are not used in the history data, they are written as json would write them
+                    writeString(node.asText());
+            }
+        }
+
+        protected void writeNumber(JsonNode node) {
+            if (node.isIntegralNumber()) {
+                if (node.canConvertToLong()) {
+                    writeVarInt(TYPE_INTEGER);
+                    writeVarLong((node.longValue() << 1) ^ (node.longValue() >> 63));
+                } else {
+                    writeVarInt(TYPE_BIG_INTEGER);
+                    writeUtf8(node.bigIntegerValue().toString());
+                }
+            } else if (node.isBigDecimal()) {
+                writeVarInt(TYPE_BIG_DECIMAL);
+                writeUtf8(node.decimalValue().toString());
+            } else {
+                writeVarInt(TYPE_DOUBLE);
+                writeLong(Double.doubleToLongBits(node.doubleValue()));
+            }
+        }
+
+        protected void writeFieldName(String fieldName) {
+            Integer index = fieldNameIndexes.get(fieldName);
+            if (index != null) {
+                writeVarInt(index << 1);
+            } else {
+                // Names that are not in the dictionary get the next index in the payload
+                fieldNameIndexes.put(fieldName, fieldNameIndexes.size());
+                writeVarInt(1);
+                writeUtf8(fieldName);
+            }
+        }
+
+        protected void writeString(String value) {
+            Integer index = stringIndexes.get(value);
+            if (index != null) {
+                writeVarInt(TYPE_STRING_REFERENCE);
+                writeVarInt(index);
+            } else {
+                stringIndexes.put(value, stringIndexes.size());
+                writeVarInt(TYPE_STRING);
+                writeUtf8(value);
+            }
+        }
+
+        protected void writeUtf8(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        protected void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        protected void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        protected void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                writeByte((int) (value >>> shift));
+            }
+        }
+
+        protected void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        protected void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        protected void ensureCapacity(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+            }
+        }
+
+        protected byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    protected static class Decoder {
+
+        protected byte[] bytes;
+        protected int position;
+        protected JsonNodeFactory nodeFactory;
+        protected List<String> fieldNames = new ArrayList<>(Arrays.asList(FIELD_NAMES));
+        protected List<String> strings = new ArrayList<>();
+
+        protected Decoder(byte[] bytes, int position, JsonNodeFactory nodeFactory) {
+            this.bytes = bytes;
+            this.position = position;
+            this.nodeFactory = nodeFactory;
+        }
+
+        protected JsonNode readNode() {
+            int type = readVarInt();
+            switch (type) {
+                case TYPE_NULL:
+                    return nodeFactory.nullNode();
+                case TYPE_TRUE:
+                    return nodeFactory.booleanNode(true);
+                case TYPE_FALSE:
+                    return nodeFactory.booleanNode(false);
+                case TYPE_INTEGER:
+                    long zigZagValue = readVarLong();
+                    long longValue = (zigZagValue >>> 1) ^ -(zigZagValue & 1);
+                    // Same node types as when the json is parsed
+                    if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                        return nodeFactory.numberNode((int) longValue);
+                    }
+                    return nodeFactory.numberNode(longValue);
+                case TYPE_DOUBLE:
+                    return nodeFactory.numberNode(Double.longBitsToDouble(readLong()));
+                case TYPE_STRING:
+                    String value = readUtf8();
+                    strings.add(value);
+                    return nodeFactory.textNode(value);
+                case TYPE_STRING_REFERENCE:
+                    return nodeFactory.textNode(strings.get(readVarInt()));
+                case TYPE_OBJECT:
+                    int fieldCount = readVarInt();
+                    ObjectNode objectNode = nodeFactory.objectNode();
+                    for (int i = 0; i < fieldCount; i++) {
+                        String fieldName = readFieldName();
+                        objectNode.set(fieldName, readNode());
+                    }
+                    return objectNode;
+                case TYPE_ARRAY:
+                    int elementCount = readVarInt();
+                    ArrayNode arrayNode = nodeFactory.arrayNode(elementCount);
+                    for (int i = 0; i < elementCount; i++) {
+                        arrayNode.add(readNode());
+                    }
+                    return arrayNode;
+                case TYPE_BIG_INTEGER:
+                    return nodeFactory.numberNode(new BigInteger(readUtf8()));
+                case TYPE_BIG_DECIMAL:
+                    return nodeFactory.numberNode(new BigDecimal(readUtf8()));
+                case TYPE_BINARY:
+                    int length = readVarInt();
+                    byte[] binaryValue = Arrays.copyOfRange(bytes, position, position + length);
+                    position += length;
+                    return nodeFactory.binaryNode(binaryValue);
+                default:
+                    throw new FlowableException("Unknown value type " + type + " in binary async history data");
+            }
+        }
+
+        protected String readFieldName() {
+            int value = readVarInt();
+            if ((value & 1) == 0) {
+                return fieldNames.get(value >>> 1);
+            }
+            String fieldName = readUtf8();
+            fieldNames.add(fieldName);
+            return fieldName;
+        }
+
+        protected String readUtf8() {
+            int length = readVarInt();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        protected int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        protected long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        protected long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+    }
+
+}
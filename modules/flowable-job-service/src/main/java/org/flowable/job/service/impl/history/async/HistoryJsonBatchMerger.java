@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Merges the history json of multiple history jobs that are executed in one transaction by the batching
+ * {@link org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor}, e.g. replacing a start and end
+ * of the same instance by one node, so superseded intermediate updates don't need to be applied.
+ */
+public interface HistoryJsonBatchMerger {
+
+    /**
+     * @param historyNodes the history json nodes (with a type and data field) of the jobs, in the order of creation of the jobs
+     * @return the history json nodes to process, in the order in which they need to be processed
+     */
+    List<ObjectNode> merge(List<ObjectNode> historyNodes);
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.IOException;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The default {@link AsyncHistoryPayloadCodec}, storing the history data as json.
+ * Payloads written by the {@link BinaryAsyncHistoryPayloadCodec} are decoded as well.
+ */
+public class JsonAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    @Override
+    public byte[] encode(JsonNode historyNode, ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsBytes(historyNode);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize historic data for async history", e);
+        }
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, ObjectMapper objectMapper) {
+        if (BinaryAsyncHistoryPayloadCodec.isBinaryPayload(bytes)) {
+            return BinaryAsyncHistoryPayloadCodec.decodeBinary(bytes, objectMapper);
+        }
+
+        try {
+            return objectMapper.readTree(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize async history json", e);
+        }
+    }
+
+}
@@ -12,7 +12,6 @@
  */
 package org.flowable.job.service.impl.history.async.message;
 
-import java.io.IOException;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -96,8 +95,9 @@ public class AsyncHistoryJobMessageReceiver {
         ObjectMapper objectMapper = jobServiceConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName()));
-            } catch (IOException e) {
+                byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName());
+                return jobServiceConfiguration.getAsyncHistoryPayloadCodec().decode(bytes, objectMapper);
+            } catch (Exception e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
         }
@@ -102,7 +102,7 @@ public class DeadLetterJobEntityManagerImpl
 
         // Send event
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_DELETED, () -> FlowableJobEventBuilder.createEntityEvent(
                     FlowableEngineEventType.ENTITY_DELETED, jobEntity), engineType);
         }
     }
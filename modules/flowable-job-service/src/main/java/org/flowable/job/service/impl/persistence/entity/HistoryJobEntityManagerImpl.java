@@ -60,7 +60,8 @@ public class HistoryJobEntityManagerImpl
         // Send event
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
                     serviceConfiguration.getEngineName());
         }
     }
@@ -87,7 +87,8 @@ public class JobEntityManagerImpl
         // Send event
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
                     serviceConfiguration.getEngineName());
         }
     }
@@ -90,7 +90,8 @@ public class SuspendedJobEntityManagerImpl
 
         // Send event
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
                     serviceConfiguration.getEngineName());
         }
     }
@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -56,11 +59,23 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String type, String processDefinitionKey);
 
+    /**
+     * Returns all {@link TimerJobEntity} of the given executions, fetched in one query.
+     * For the rest of the command, looking up the timer jobs of one of these executions doesn't query the database anymore.
+     */
+    List<TimerJobEntity> findJobsByExecutionIds(Collection<String> executionIds);
+
     /**
      * Returns all {@link TimerJobEntity} for the given scope and subscope.
      */
     List<TimerJobEntity> findJobsByScopeIdAndSubScopeId(String scopeId, String subScopeId);
 
+    /**
+     * Same as {@link #findJobsToExecute(List, Page)}, but returns the unlocked timer jobs that are due before the given date
+     * (which can be in the future), ordered by due date.
+     */
+    List<TimerJobEntity> findJobsToExecuteDueBefore(List<String> enabledCategories, Date dueBefore, Page page);
+
     /**
      * Executes a {@link JobQueryImpl} and returns the matching {@link TimerJobEntity} instances.
      */
@@ -14,11 +14,13 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -84,6 +86,11 @@ public class TimerJobEntityManagerImpl
         return dataManager.findJobsByExecutionId(id);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsByExecutionIds(Collection<String> executionIds) {
+        return dataManager.findJobsByExecutionIds(executionIds);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByProcessInstanceId(String id) {
         return dataManager.findJobsByProcessInstanceId(id);
@@ -94,6 +101,11 @@ public class TimerJobEntityManagerImpl
         return dataManager.findJobsByScopeIdAndSubScopeId(scopeId, subScopeId);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsToExecuteDueBefore(List<String> enabledCategories, Date dueBefore, Page page) {
+        return dataManager.findJobsToExecuteDueBefore(enabledCategories, dueBefore, page);
+    }
+
     @Override
     public List<Job> findJobsByQueryCriteria(TimerJobQueryImpl jobQuery) {
         return dataManager.findJobsByQueryCriteria(jobQuery);
@@ -150,7 +162,8 @@ public class TimerJobEntityManagerImpl
         // Send event
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, jobEntity),
                     serviceConfiguration.getEngineName());
         }
     }
@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -32,8 +35,12 @@ public interface TimerJobDataManager extends JobInfoDataManager<TimerJobEntity>
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyAndTenantId(String jobHandlerType, String processDefinitionKey, String tenantId);
 
+    List<TimerJobEntity> findJobsByExecutionIds(Collection<String> executionIds);
+
     List<TimerJobEntity> findJobsByScopeIdAndSubScopeId(String scopeId, String subScopeId);
 
+    List<TimerJobEntity> findJobsToExecuteDueBefore(List<String> enabledCategories, Date dueBefore, Page page);
+
     List<Job> findJobsByQueryCriteria(TimerJobQueryImpl jobQuery);
 
     long findJobCountByQueryCriteria(TimerJobQueryImpl jobQuery);
@@ -12,15 +12,18 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
@@ -116,6 +119,24 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToExecuteDueBefore(List<String> enabledCategories, Date dueBefore, Page page) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("now", dueBefore);
+        if (enabledCategories != null && enabledCategories.size() > 0) {
+            params.put("enabledCategories", enabledCategories);
+        }
+
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject();
+        parameterObject.setParameter(params);
+        parameterObject.setFirstResult(page.getFirstResult());
+        parameterObject.setMaxResults(page.getMaxResults());
+        parameterObject.addOrder("DUEDATE_", Direction.ASCENDING.getName(), null);
+        return getDbSqlSession().selectList("selectTimerJobsToExecute", parameterObject);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
@@ -131,13 +152,18 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the execution has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetched("executionId", executionId)) {
             return getListFromCache(timerJobsByExecutionIdMatcher, executionId);
         }
         
         return getList(dbSqlSession, "selectTimerJobsByExecutionId", executionId, timerJobsByExecutionIdMatcher, true);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsByExecutionIds(Collection<String> executionIds) {
+        return fetchAll("selectTimerJobsByExecutionIds", executionIds, "executionId");
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByProcessInstanceId(final String processInstanceId) {
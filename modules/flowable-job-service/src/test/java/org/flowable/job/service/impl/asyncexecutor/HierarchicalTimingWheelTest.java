@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void itemsExpireAtTheirExpirationTime() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1000);
+        assertThat(wheel.add("due", 1000)).isFalse();
+        assertThat(wheel.add("first", 1005)).isTrue();
+        assertThat(wheel.add("second", 1075)).isTrue();
+        assertThat(wheel.add("third", 1500)).isTrue();
+        assertThat(wheel.add("fourth", 100000)).isTrue();
+        assertThat(wheel.size()).isEqualTo(4);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceClock(1004, expired);
+        assertThat(expired).isEmpty();
+        assertThat(wheel.getNextExpirationTime()).isEqualTo(1005);
+
+        wheel.advanceClock(1005, expired);
+        assertThat(expired).containsExactly("first");
+
+        wheel.advanceClock(1074, expired);
+        assertThat(expired).containsExactly("first");
+        assertThat(wheel.getNextExpirationTime()).isEqualTo(1075);
+
+        wheel.advanceClock(1499, expired);
+        assertThat(expired).containsExactly("first", "second");
+
+        // A large jump expires everything in between at once
+        wheel.advanceClock(200000, expired);
+        assertThat(expired).containsExactly("first", "second", "third", "fourth");
+        assertThat(wheel.isEmpty()).isTrue();
+        assertThat(wheel.getNextExpirationTime()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void itemsNeverExpireEarlyOrLate() {
+        Random random = new Random(42);
+        long time = 0;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 16, time);
+        for (int i = 0; i < 1000; i++) {
+            long expirationTime = 1 + random.nextInt(200000);
+            wheel.add(expirationTime, expirationTime);
+        }
+
+        List<Long> expired = new ArrayList<>();
+        while (!wheel.isEmpty()) {
+            long nextExpirationTime = wheel.getNextExpirationTime();
+            assertThat(nextExpirationTime).isGreaterThan(time);
+
+            time = nextExpirationTime;
+            expired.clear();
+            wheel.advanceClock(time, expired);
+            for (Long expirationTime : expired) {
+                assertThat(expirationTime).isEqualTo(time);
+            }
+        }
+    }
+
+    @Test
+    void removeAll() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        wheel.add("a", 5);
+        wheel.add("b", 500);
+        wheel.add("c", 50000);
+
+        assertThat(wheel.removeAll()).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+}
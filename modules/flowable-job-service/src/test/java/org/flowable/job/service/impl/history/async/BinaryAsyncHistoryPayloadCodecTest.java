@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class BinaryAsyncHistoryPayloadCodecTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+    protected BinaryAsyncHistoryPayloadCodec binaryCodec = new BinaryAsyncHistoryPayloadCodec();
+    protected JsonAsyncHistoryPayloadCodec jsonCodec = new JsonAsyncHistoryPayloadCodec();
+
+    @Test
+    void roundTripOfHistoryData() {
+        ArrayNode historyNodes = objectMapper.createArrayNode();
+        for (int i = 0; i < 3; i++) {
+            historyNodes.add(createHistoryNode("activity-start", "1234-" + i));
+        }
+
+        byte[] bytes = binaryCodec.encode(historyNodes, objectMapper);
+        assertThat(BinaryAsyncHistoryPayloadCodec.isBinaryPayload(bytes)).isTrue();
+
+        JsonNode decoded = binaryCodec.decode(bytes, objectMapper);
+        assertThat(decoded).isEqualTo(historyNodes);
+        assertThat(decoded.get(0).path("data").get("transactionOrder").isInt()).isTrue();
+        assertThat(decoded.get(0).path("data").get("variableLongValue").isLong()).isTrue();
+        assertThat(decoded.get(0).path("data").get("variableDoubleValue").isDouble()).isTrue();
+        assertThat(decoded.get(0).path("data").get("customField").asText()).isEqualTo("custom");
+        assertThat(decoded.get(0).path("data").get("deleteReason").isNull()).isTrue();
+
+        // The same codec decodes the payloads written by the json codec and the other way around
+        assertThat(jsonCodec.decode(bytes, objectMapper)).isEqualTo(historyNodes);
+        assertThat(binaryCodec.decode(jsonCodec.encode(historyNodes, objectMapper), objectMapper)).isEqualTo(historyNodes);
+    }
+
+    @Test
+    void binaryPayloadIsSmallerThanJson() {
+        ObjectNode historyNode = createHistoryNode("activity-start", "1234");
+        assertThat(binaryCodec.encode(historyNode, objectMapper).length).isLessThan(jsonCodec.encode(historyNode, objectMapper).length);
+    }
+
+    @Test
+    void nonAsciiAndSpecialValues() {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("name", "Naïve ünïcödé ☃");
+        node.put("negative", -42);
+        node.put("min", Long.MIN_VALUE);
+        node.put("decimal", new BigDecimal("12345678901234567890.123"));
+        node.put("flag", true);
+        node.put("bytes", "abc".getBytes(StandardCharsets.UTF_8));
+        node.putArray("empty");
+        node.putObject("nested").put("name", "Naïve ünïcödé ☃");
+
+        assertThat(binaryCodec.decode(binaryCodec.encode(node, objectMapper), objectMapper)).isEqualTo(node);
+    }
+
+    @Test
+    void unsupportedVersion() {
+        byte[] bytes = binaryCodec.encode(objectMapper.createObjectNode(), objectMapper);
+        bytes[3] = 99;
+        assertThatThrownBy(() -> binaryCodec.decode(bytes, objectMapper))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Unsupported version 99");
+    }
+
+    protected ObjectNode createHistoryNode(String type, String processInstanceId) {
+        ObjectNode historyNode = objectMapper.createObjectNode();
+        historyNode.put("type", type);
+        ObjectNode data = historyNode.putObject("data");
+        data.put("id", "a2d6d5f4-4f0c-11eb-b6a4-0242ac130003");
+        data.put("processInstanceId", processInstanceId);
+        data.put("executionId", processInstanceId);
+        data.put("processDefinitionId", "oneTaskProcess:1:a2c1c4d2-4f0c-11eb-b6a4-0242ac130003");
+        data.put("activityId", "theTask");
+        data.put("activityType", "userTask");
+        data.put("startTime", "2021-01-05T10:15:30.123Z");
+        data.put("transactionOrder", 3);
+        data.put("variableLongValue", 3_000_000_000L);
+        data.put("variableDoubleValue", 1.5d);
+        data.put("customField", "custom");
+        data.putNull("deleteReason");
+        data.put("tenantId", "");
+        return historyNode;
+    }
+
+}
@@ -53,6 +53,7 @@ public final class RestUrls {
     public static final String SEGMENT_IDENTITYLINKS_FAMILY_GROUPS = "groups";
     public static final String SEGMENT_IDENTITYLINKS_FAMILY_USERS = "users";
     public static final String SEGMENT_VARIABLE_DATA = "data";
+    public static final String SEGMENT_EXPORT = "export";
     public static final String SEGMENT_HISTORIC_PROCESS_INSTANCE_RESOURCE = "historic-process-instances";
     public static final String SEGMENT_HISTORIC_TASK_INSTANCE_RESOURCE = "historic-task-instances";
     public static final String SEGMENT_HISTORIC_ACTIVITY_INSTANCE_RESOURCE = "historic-activity-instances";
@@ -461,6 +462,21 @@ public final class RestUrls {
      */
     public static final String[] URL_HISTORIC_VARIABLE_INSTANCE_QUERY = { SEGMENT_QUERY_RESOURCES, SEGMENT_HISTORIC_VARIABLE_INSTANCE_RESOURCE };
 
+    /**
+     * URL template for historic process instance export: <i>query/historic-process-instances/export</i>
+     */
+    public static final String[] URL_HISTORIC_PROCESS_INSTANCE_EXPORT = { SEGMENT_QUERY_RESOURCES, SEGMENT_HISTORIC_PROCESS_INSTANCE_RESOURCE, SEGMENT_EXPORT };
+
+    /**
+     * URL template for historic task instance export: <i>query/historic-task-instances/export</i>
+     */
+    public static final String[] URL_HISTORIC_TASK_INSTANCE_EXPORT = { SEGMENT_QUERY_RESOURCES, SEGMENT_HISTORIC_TASK_INSTANCE_RESOURCE, SEGMENT_EXPORT };
+
+    /**
+     * URL template for historic variable instance export: <i>query/historic-variable-instances/export</i>
+     */
+    public static final String[] URL_HISTORIC_VARIABLE_INSTANCE_EXPORT = { SEGMENT_QUERY_RESOURCES, SEGMENT_HISTORIC_VARIABLE_INSTANCE_RESOURCE, SEGMENT_EXPORT };
+
     /**
      * URL template for historic detail query: <i>query/historic-detail</i>
      */
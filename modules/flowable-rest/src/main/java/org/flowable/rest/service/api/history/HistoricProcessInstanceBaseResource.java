@@ -13,8 +13,11 @@
 
 package org.flowable.rest.service.api.history;
 
+import static org.flowable.common.rest.api.ExportListUtil.exportList;
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +40,8 @@ import org.flowable.rest.service.api.engine.variable.QueryVariable;
 import org.flowable.rest.service.api.engine.variable.QueryVariable.QueryVariableOperation;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -63,10 +68,31 @@ public class HistoricProcessInstanceBaseResource {
     @Autowired
     protected RepositoryService repositoryService;
     
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     @Autowired(required=false)
     protected BpmnRestApiInterceptor restApiInterceptor;
 
     protected DataResponse<HistoricProcessInstanceResponse> getQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricProcessInstanceQuery query = createQuery(queryRequest);
+
+        DataResponse<HistoricProcessInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
+                restResponseFactory::createHistoricProcessInstanceResponseList);
+        addProcessDefinitionInfo(responseList.getData());
+
+        return responseList;
+    }
+
+    protected long exportQueryResponse(HistoricProcessInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, OutputStream outputStream) throws IOException {
+        return exportList(allRequestParams, createQuery(queryRequest), HistoricProcessInstance::getId, historicProcessInstances -> {
+            List<HistoricProcessInstanceResponse> processInstanceList = restResponseFactory.createHistoricProcessInstanceResponseList(historicProcessInstances);
+            addProcessDefinitionInfo(processInstanceList);
+            return processInstanceList;
+        }, objectMapper, outputStream);
+    }
+
+    protected HistoricProcessInstanceQuery createQuery(HistoricProcessInstanceQueryRequest queryRequest) {
         HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery();
 
         // Populate query based on request
@@ -186,11 +212,11 @@ public class HistoricProcessInstanceBaseResource {
             restApiInterceptor.accessHistoryProcessInfoWithQuery(query, queryRequest);
         }
 
-        DataResponse<HistoricProcessInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
-                restResponseFactory::createHistoricProcessInstanceResponseList);
-        
+        return query;
+    }
+
+    protected void addProcessDefinitionInfo(List<HistoricProcessInstanceResponse> processInstanceList) {
         Set<String> processDefinitionIds = new HashSet<>();
-        List<HistoricProcessInstanceResponse> processInstanceList = responseList.getData();
         for (HistoricProcessInstanceResponse processInstanceResponse : processInstanceList) {
             if (!processDefinitionIds.contains(processInstanceResponse.getProcessDefinitionId())) {
                 processDefinitionIds.add(processInstanceResponse.getProcessDefinitionId());
@@ -212,8 +238,6 @@ public class HistoricProcessInstanceBaseResource {
                 }
             }
         }
-        
-        return responseList;
     }
     
     protected HistoricProcessInstance getHistoricProcessInstanceFromRequest(String processInstanceId) {
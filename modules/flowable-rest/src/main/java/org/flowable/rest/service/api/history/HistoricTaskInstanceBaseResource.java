@@ -13,8 +13,11 @@
 
 package org.flowable.rest.service.api.history;
 
+import static org.flowable.common.rest.api.ExportListUtil.exportList;
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +35,8 @@ import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -68,10 +73,23 @@ public class HistoricTaskInstanceBaseResource {
     @Autowired
     protected HistoryService historyService;
     
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     @Autowired(required=false)
     protected BpmnRestApiInterceptor restApiInterceptor;
 
     protected DataResponse<HistoricTaskInstanceResponse> getQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, String serverRootUrl) {
+        return paginateList(allRequestParams, queryRequest, createQuery(queryRequest), "taskInstanceId", allowedSortProperties,
+            restResponseFactory::createHistoricTaskInstanceResponseList);
+    }
+
+    protected long exportQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, Map<String, String> allRequestParams, OutputStream outputStream) throws IOException {
+        return exportList(allRequestParams, createQuery(queryRequest), HistoricTaskInstance::getId,
+            restResponseFactory::createHistoricTaskInstanceResponseList, objectMapper, outputStream);
+    }
+
+    protected HistoricTaskInstanceQuery createQuery(HistoricTaskInstanceQueryRequest queryRequest) {
         HistoricTaskInstanceQuery query = historyService.createHistoricTaskInstanceQuery();
 
         // Populate query based on request
@@ -277,8 +295,7 @@ public class HistoricTaskInstanceBaseResource {
             restApiInterceptor.accessHistoryTaskInfoWithQuery(query, queryRequest);
         }
 
-        return paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties,
-            restResponseFactory::createHistoricTaskInstanceResponseList);
+        return query;
     }
     
     protected HistoricTaskInstance getHistoricTaskInstanceFromRequest(String taskId) {
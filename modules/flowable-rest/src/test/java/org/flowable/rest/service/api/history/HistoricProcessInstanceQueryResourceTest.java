@@ -14,13 +14,18 @@
 package org.flowable.rest.service.api.history;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -310,4 +315,44 @@ public class HistoricProcessInstanceQueryResourceTest extends BaseSpringRestTest
                 + "} ]"
                 + "}");
     }
+
+    /**
+     * Test exporting historic process instances. POST query/historic-process-instances/export
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/twoTaskProcess.bpmn20.xml" })
+    public void testExportProcessInstances() throws Exception {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        Collections.sort(processInstanceIds);
+
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("processDefinitionKey", "oneTaskProcess");
+
+        // A page size smaller than the number of process instances, so the instances are fetched in multiple pages
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_HISTORIC_PROCESS_INSTANCE_EXPORT);
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + url + "?pageSize=2");
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+
+        assertThat(response.getEntity().getContentType().getValue()).startsWith("application/x-ndjson");
+        String[] lines = EntityUtils.toString(response.getEntity()).split("\n");
+        closeResponse(response);
+
+        assertThat(lines).hasSize(5);
+        for (int i = 0; i < lines.length; i++) {
+            assertThatJson(objectMapper.readTree(lines[i]))
+                    .when(Option.IGNORING_EXTRA_FIELDS)
+                    .isEqualTo("{"
+                            + "   id: '" + processInstanceIds.get(i) + "',"
+                            + "   processDefinitionName: 'The One Task Process'"
+                            + "}");
+        }
+
+        httpPost = new HttpPost(SERVER_URL_PREFIX + url + "?pageSize=0");
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+    }
 }
@@ -237,6 +237,51 @@ public class ProcessInstanceCollectionResourceTest extends BaseSpringRestTestCas
         assertResultsExactlyPresentInDataResponse(url, nowPlus1InstanceId, nowInstanceId, nowMinus1InstanceId);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceResourceTest.process-one.bpmn20.xml" })
+    public void testGetProcessInstancesAfterCursor() throws Exception {
+        List<String> sortedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sortedIds.add(runtimeService.startProcessInstanceByKey("processOne").getId());
+        }
+        Collections.sort(sortedIds);
+
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "?afterCursor=" + sortedIds.get(0);
+        assertResultsExactlyPresentInDataResponse(url, sortedIds.get(1), sortedIds.get(2));
+
+        url = RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "?afterCursor=" + sortedIds.get(2) + "&order=desc";
+        assertResultsExactlyPresentInDataResponse(url, sortedIds.get(1), sortedIds.get(0));
+
+        // The total counts all results, not only the ones after the cursor
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION)
+                + "?afterCursor=" + sortedIds.get(0) + "&size=1"), HttpStatus.SC_OK);
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertThatJson(responseNode)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{"
+                        + "  data: [ { id: '" + sortedIds.get(1) + "' } ],"
+                        + "  total: 3,"
+                        + "  size: 1"
+                        + "}");
+
+        response = executeRequest(new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION)
+                + "?afterCursor=" + sortedIds.get(0) + "&size=1&includeTotal=false"), HttpStatus.SC_OK);
+        responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertThatJson(responseNode)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{"
+                        + "  data: [ { id: '" + sortedIds.get(1) + "' } ],"
+                        + "  total: -1,"
+                        + "  size: 1"
+                        + "}");
+
+        // Ordering by another property than the id is not possible with a cursor
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION)
+                + "?afterCursor=" + sortedIds.get(0) + "&sort=processDefinitionId"), HttpStatus.SC_BAD_REQUEST));
+    }
+
     /**
      * Test getting a list of process instance, using all tenant filters.
      */
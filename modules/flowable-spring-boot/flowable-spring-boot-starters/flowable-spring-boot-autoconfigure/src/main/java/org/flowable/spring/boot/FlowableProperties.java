@@ -126,6 +126,7 @@ public class FlowableProperties {
     private boolean enableHistoryCleaning = false;
     private String historyCleaningCycle = "0 0 1 * * ?";
     private int historyCleaningAfterDays = 365;
+    private int historyCleaningBatchSize = 100;
 
     public boolean isAsyncExecutorActivate() {
         return asyncExecutorActivate;
@@ -367,4 +368,10 @@ public class FlowableProperties {
     public void setHistoryCleaningAfterDays(int historyCleaningAfterDays) {
         this.historyCleaningAfterDays = historyCleaningAfterDays;
     }
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+    public void setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+    }
 }
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueLifecycleListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the number of acquired and rejected async jobs ({@code flowable.async.jobs.acquired} and {@code flowable.async.jobs.rejected}),
+ * the optimistic locking failures ({@code flowable.async.jobs.acquire.optimistic.locking}) and the duration of the acquisitions
+ * ({@code flowable.async.jobs.acquire}). The remaining capacity of the task executor and the depth of the prefetch buffer are exposed as gauges.
+ * Calls are passed on to the listener that was configured before, if any.
+ */
+public class AcquireAsyncJobsDueMetricsListener implements AcquireAsyncJobsDueLifecycleListener {
+
+    protected final AcquireAsyncJobsDueLifecycleListener delegate;
+
+    protected final Counter acquiredJobsCounter;
+    protected final Counter rejectedJobsCounter;
+    protected final Counter optimisticLockingCounter;
+    protected final Timer acquisitionTimer;
+    protected final AtomicInteger remainingCapacity = new AtomicInteger();
+    protected final AtomicInteger prefetchBufferDepth = new AtomicInteger();
+
+    public AcquireAsyncJobsDueMetricsListener(MeterRegistry meterRegistry, Tags tags, AcquireAsyncJobsDueLifecycleListener delegate) {
+        this.delegate = delegate;
+        this.acquiredJobsCounter = Counter.builder("flowable.async.jobs.acquired")
+                .description("Number of async jobs acquired by the async executor")
+                .tags(tags)
+                .register(meterRegistry);
+        this.rejectedJobsCounter = Counter.builder("flowable.async.jobs.rejected")
+                .description("Number of acquired async jobs that were rejected by the task executor")
+                .tags(tags)
+                .register(meterRegistry);
+        this.optimisticLockingCounter = Counter.builder("flowable.async.jobs.acquire.optimistic.locking")
+                .description("Number of async job acquisitions that failed with an optimistic locking exception")
+                .tags(tags)
+                .register(meterRegistry);
+        this.acquisitionTimer = Timer.builder("flowable.async.jobs.acquire")
+                .description("Time taken to acquire and lock the due async jobs")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("flowable.async.jobs.acquire.remaining.capacity", remainingCapacity, AtomicInteger::get)
+                .description("Remaining capacity of the task executor when the last acquisition started")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("flowable.async.jobs.prefetch.buffer.depth", prefetchBufferDepth, AtomicInteger::get)
+                .description("Number of prefetched async jobs waiting to be handed to the task executor")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+        this.remainingCapacity.set(remainingCapacity);
+        if (delegate != null) {
+            delegate.startAcquiring(engineName, remainingCapacity, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+        if (delegate != null) {
+            delegate.stopAcquiring(engineName);
+        }
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        acquiredJobsCounter.increment(jobsAcquired);
+        if (delegate != null) {
+            delegate.acquiredJobs(engineName, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        rejectedJobsCounter.increment(jobsRejected);
+        if (delegate != null) {
+            delegate.rejectedJobs(engineName, jobsRejected, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+        optimisticLockingCounter.increment();
+        if (delegate != null) {
+            delegate.optimistLockingException(engineName, maxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+        if (delegate != null) {
+            delegate.startWaiting(engineName, millisToWait);
+        }
+    }
+
+    @Override
+    public void acquisitionLatency(String engineName, long acquisitionTimeInMillis, int jobsAcquired) {
+        acquisitionTimer.record(acquisitionTimeInMillis, TimeUnit.MILLISECONDS);
+        if (delegate != null) {
+            delegate.acquisitionLatency(engineName, acquisitionTimeInMillis, jobsAcquired);
+        }
+    }
+
+    @Override
+    public void prefetchBufferDepth(String engineName, int bufferDepth, int targetBufferSize, int maxBufferSize) {
+        prefetchBufferDepth.set(bufferDepth);
+        if (delegate != null) {
+            delegate.prefetchBufferDepth(engineName, bufferDepth, targetBufferSize, maxBufferSize);
+        }
+    }
+}
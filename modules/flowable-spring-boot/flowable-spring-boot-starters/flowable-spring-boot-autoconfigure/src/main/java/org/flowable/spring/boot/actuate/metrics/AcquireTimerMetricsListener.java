@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.job.service.impl.asyncexecutor.AcquireTimerLifecycleListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Records the number of acquired timer jobs ({@code flowable.timer.jobs.acquired}) and the number of acquisition cycles
+ * ({@code flowable.timer.jobs.acquisitions}).
+ * Calls are passed on to the listener that was configured before, if any.
+ */
+public class AcquireTimerMetricsListener implements AcquireTimerLifecycleListener {
+
+    protected final AcquireTimerLifecycleListener delegate;
+
+    protected final Counter acquiredJobsCounter;
+    protected final Counter acquisitionsCounter;
+
+    public AcquireTimerMetricsListener(MeterRegistry meterRegistry, Tags tags, AcquireTimerLifecycleListener delegate) {
+        this.delegate = delegate;
+        this.acquiredJobsCounter = Counter.builder("flowable.timer.jobs.acquired")
+                .description("Number of timer jobs acquired by the async executor")
+                .tags(tags)
+                .register(meterRegistry);
+        this.acquisitionsCounter = Counter.builder("flowable.timer.jobs.acquisitions")
+                .description("Number of timer job acquisition cycles")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void startAcquiring(String engineName, int maxTimerJobsPerAcquisition) {
+        acquisitionsCounter.increment();
+        if (delegate != null) {
+            delegate.startAcquiring(engineName, maxTimerJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void stopAcquiring(String engineName) {
+        if (delegate != null) {
+            delegate.stopAcquiring(engineName);
+        }
+    }
+
+    @Override
+    public void acquiredJobs(String engineName, int jobsAcquired, int maxTimerJobsPerAcquisition) {
+        acquiredJobsCounter.increment(jobsAcquired);
+        if (delegate != null) {
+            delegate.acquiredJobs(engineName, jobsAcquired, maxTimerJobsPerAcquisition);
+        }
+    }
+
+    @Override
+    public void startWaiting(String engineName, long millisToWait) {
+        if (delegate != null) {
+            delegate.startWaiting(engineName, millisToWait);
+        }
+    }
+}
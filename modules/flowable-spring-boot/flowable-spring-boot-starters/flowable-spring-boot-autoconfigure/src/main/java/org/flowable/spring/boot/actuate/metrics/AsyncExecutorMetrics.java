@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
+import org.flowable.common.spring.async.SpringAsyncTaskExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the state of the task executor of an {@link AsyncExecutor}: the number of queued jobs ({@code flowable.async.executor.queue.size}),
+ * the number of active threads ({@code flowable.async.executor.active.threads}) and the remaining capacity
+ * ({@code flowable.async.executor.remaining.capacity}). The task executor is looked up on every poll, as it is only created when the async executor starts.
+ * Values that can't be determined for the used task executor are reported as {@link Double#NaN}.
+ */
+public class AsyncExecutorMetrics implements MeterBinder {
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final Tags tags;
+
+    public AsyncExecutorMetrics(AsyncExecutor asyncExecutor, Tags tags) {
+        this.asyncExecutor = asyncExecutor;
+        this.tags = tags;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("flowable.async.executor.queue.size", asyncExecutor, AsyncExecutorMetrics::getQueueSize)
+                .description("Number of jobs waiting in the queue of the async task executor")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("flowable.async.executor.active.threads", asyncExecutor, AsyncExecutorMetrics::getActiveCount)
+                .description("Number of threads of the async task executor that are executing jobs")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("flowable.async.executor.remaining.capacity", asyncExecutor, AsyncExecutorMetrics::getRemainingCapacity)
+                .description("Number of jobs the async task executor can still accept")
+                .tags(tags)
+                .register(registry);
+    }
+
+    protected static double getQueueSize(AsyncExecutor asyncExecutor) {
+        ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor(asyncExecutor.getTaskExecutor());
+        return threadPoolExecutor != null ? threadPoolExecutor.getQueue().size() : Double.NaN;
+    }
+
+    protected static double getActiveCount(AsyncExecutor asyncExecutor) {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        if (taskExecutor instanceof VirtualThreadAsyncTaskExecutor) {
+            return ((VirtualThreadAsyncTaskExecutor) taskExecutor).getActiveCount();
+        }
+
+        ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor(taskExecutor);
+        return threadPoolExecutor != null ? threadPoolExecutor.getActiveCount() : Double.NaN;
+    }
+
+    protected static double getRemainingCapacity(AsyncExecutor asyncExecutor) {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        return taskExecutor != null ? taskExecutor.getRemainingCapacity() : Double.NaN;
+    }
+
+    protected static ThreadPoolExecutor getThreadPoolExecutor(AsyncTaskExecutor taskExecutor) {
+        if (taskExecutor instanceof DefaultAsyncTaskExecutor) {
+            ExecutorService executorService = ((DefaultAsyncTaskExecutor) taskExecutor).getExecutorService();
+            if (executorService instanceof ThreadPoolExecutor) {
+                return (ThreadPoolExecutor) executorService;
+            }
+
+        } else if (taskExecutor instanceof SpringAsyncTaskExecutor) {
+            Object springTaskExecutor = ((SpringAsyncTaskExecutor) taskExecutor).getAsyncTaskExecutor();
+            if (springTaskExecutor instanceof ThreadPoolTaskExecutor) {
+                try {
+                    return ((ThreadPoolTaskExecutor) springTaskExecutor).getThreadPoolExecutor();
+                } catch (IllegalStateException e) {
+                    // The Spring task executor has not been initialized yet
+                    return null;
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * A command interceptor that records the execution time of every command in the {@value #COMMAND_METRIC_NAME} timer,
+ * tagged with the name of the command class and the simple name of the exception thrown by the command (or <code>None</code>).
+ * Commands defined as a lambda are tagged with the name of the class defining the lambda.
+ *
+ * The interceptor is executed for every command, so the timers are registered once and then looked up per command class.
+ */
+public class CommandMetricsInterceptor extends AbstractCommandInterceptor {
+
+    public static final String COMMAND_METRIC_NAME = "flowable.command";
+
+    protected static final String NO_EXCEPTION = "None";
+
+    protected final MeterRegistry meterRegistry;
+    protected final Tags tags;
+    protected final Map<Class<?>, Map<String, Timer>> commandTimers = new ConcurrentHashMap<>();
+
+    public CommandMetricsInterceptor(MeterRegistry meterRegistry, Tags tags) {
+        this.meterRegistry = meterRegistry;
+        this.tags = tags;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return next.execute(config, command, commandExecutor);
+
+        } catch (RuntimeException | Error e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+
+        } finally {
+            sample.stop(getTimer(command.getClass(), exception));
+        }
+    }
+
+    protected Timer getTimer(Class<?> commandClass, String exception) {
+        return commandTimers.computeIfAbsent(commandClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(exception, key -> Timer.builder(COMMAND_METRIC_NAME)
+                        .description("Time taken to execute Flowable commands")
+                        .tags(tags)
+                        .tag("command", resolveCommandName(commandClass))
+                        .tag("exception", exception)
+                        .register(meterRegistry));
+    }
+
+    protected String resolveCommandName(Class<?> commandClass) {
+        String className = commandClass.getName();
+
+        // Every lambda gets its own generated class, use the class defining it instead to keep the number of tag values small
+        int lambdaIndex = className.indexOf("$$Lambda");
+        if (lambdaIndex > -1) {
+            className = className.substring(0, lambdaIndex);
+        }
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.db.DbSqlSessionFlushListener;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the duration of every flush in the {@value #FLUSH_METRIC_NAME} timer, and histograms of the number of inserts, updates and deletes
+ * per flush in the {@code flowable.db.flush.inserts}, {@code flowable.db.flush.updates} and {@code flowable.db.flush.deletes} summaries.
+ * Calls are passed on to the listener that was configured before, if any.
+ */
+public class DbSqlSessionFlushMetricsListener implements DbSqlSessionFlushListener {
+
+    public static final String FLUSH_METRIC_NAME = "flowable.db.flush";
+
+    protected final DbSqlSessionFlushListener delegate;
+
+    protected final Timer flushTimer;
+    protected final DistributionSummary insertsSummary;
+    protected final DistributionSummary updatesSummary;
+    protected final DistributionSummary deletesSummary;
+
+    public DbSqlSessionFlushMetricsListener(MeterRegistry meterRegistry, Tags tags, DbSqlSessionFlushListener delegate) {
+        this.delegate = delegate;
+        this.flushTimer = Timer.builder(FLUSH_METRIC_NAME)
+                .description("Time taken to flush the changes of a command to the database")
+                .tags(tags)
+                .register(meterRegistry);
+        this.insertsSummary = createSummary(meterRegistry, tags, "inserts");
+        this.updatesSummary = createSummary(meterRegistry, tags, "updates");
+        this.deletesSummary = createSummary(meterRegistry, tags, "deletes");
+    }
+
+    protected DistributionSummary createSummary(MeterRegistry meterRegistry, Tags tags, String operation) {
+        return DistributionSummary.builder(FLUSH_METRIC_NAME + "." + operation)
+                .description("Number of " + operation + " per flush")
+                .baseUnit("entities")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void flushed(int insertCount, int updateCount, int deleteCount, long durationInNanos) {
+        flushTimer.record(durationInNanos, TimeUnit.NANOSECONDS);
+        insertsSummary.record(insertCount);
+        updatesSummary.record(updateCount);
+        deletesSummary.record(deleteCount);
+
+        if (delegate != null) {
+            delegate.flushed(insertCount, updateCount, deleteCount, durationInNanos);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.condition.ConditionalOnCmmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnProcessEngine;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Registers Micrometer meters for the commands, the async executor and the database flushes of the Flowable engines,
+ * when a {@link MeterRegistry} bean is available (e.g. through the Spring Boot actuator).
+ * See {@link CommandMetricsInterceptor}, {@link DbSqlSessionFlushMetricsListener}, {@link AsyncExecutorMetrics},
+ * {@link AcquireAsyncJobsDueMetricsListener} and {@link AcquireTimerMetricsListener} for the registered meters.
+ * All meters are tagged with the type of the engine ({@code bpmn} or {@code cmmn}).
+ * The metrics can be disabled with {@code flowable.metrics.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(name = {
+    "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+    "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlowableMetricsAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProcessEngine
+    public static class ProcessEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsProcessEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurer(MeterRegistry meterRegistry) {
+            return processEngineConfiguration -> configureMetrics(meterRegistry, processEngineConfiguration,
+                    processEngineConfiguration.getAsyncExecutor(), ScopeTypes.BPMN);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnCmmnEngine
+    public static class CmmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsCmmnEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> metricsCmmnEngineConfigurer(MeterRegistry meterRegistry) {
+            return cmmnEngineConfiguration -> configureMetrics(meterRegistry, cmmnEngineConfiguration,
+                    cmmnEngineConfiguration.getAsyncExecutor(), ScopeTypes.CMMN);
+        }
+    }
+
+    protected static void configureMetrics(MeterRegistry meterRegistry, AbstractEngineConfiguration engineConfiguration,
+            AsyncExecutor asyncExecutor, String engineType) {
+
+        Tags tags = Tags.of("engine", engineType);
+
+        List<CommandInterceptor> preCommandInterceptors = new ArrayList<>();
+        preCommandInterceptors.add(new CommandMetricsInterceptor(meterRegistry, tags));
+        if (engineConfiguration.getCustomPreCommandInterceptors() != null) {
+            preCommandInterceptors.addAll(engineConfiguration.getCustomPreCommandInterceptors());
+        }
+        engineConfiguration.setCustomPreCommandInterceptors(preCommandInterceptors);
+
+        engineConfiguration.setDbSqlSessionFlushListener(
+                new DbSqlSessionFlushMetricsListener(meterRegistry, tags, engineConfiguration.getDbSqlSessionFlushListener()));
+
+        if (asyncExecutor != null) {
+            new AsyncExecutorMetrics(asyncExecutor, tags).bindTo(meterRegistry);
+
+            if (asyncExecutor instanceof AbstractAsyncExecutor) {
+                AbstractAsyncExecutor abstractAsyncExecutor = (AbstractAsyncExecutor) asyncExecutor;
+                abstractAsyncExecutor.setAsyncJobsDueLifecycleListener(new AcquireAsyncJobsDueMetricsListener(meterRegistry, tags,
+                        abstractAsyncExecutor.getAsyncJobsDueLifecycleListener()));
+                abstractAsyncExecutor.setTimerLifecycleListener(new AcquireTimerMetricsListener(meterRegistry, tags,
+                        abstractAsyncExecutor.getTimerLifecycleListener()));
+            }
+        }
+    }
+}
@@ -219,6 +219,7 @@ public class CmmnEngineAutoConfiguration extends AbstractSpringEngineAutoConfigu
         configuration.setEnableHistoryCleaning(flowableProperties.isEnableHistoryCleaning());
         configuration.setHistoryCleaningTimeCycleConfig(flowableProperties.getHistoryCleaningCycle());
         configuration.setCleanInstancesEndedAfterNumberOfDays(flowableProperties.getHistoryCleaningAfterDays());
+        configuration.setCleanInstancesBatchSize(flowableProperties.getHistoryCleaningBatchSize());
 
         return configuration;
     }
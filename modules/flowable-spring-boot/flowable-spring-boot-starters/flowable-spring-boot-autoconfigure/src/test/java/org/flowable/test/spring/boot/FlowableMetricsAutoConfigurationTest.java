@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RepositoryService;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.ProcessEngineServicesAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.CommandMetricsInterceptor;
+import org.flowable.spring.boot.actuate.metrics.DbSqlSessionFlushMetricsListener;
+import org.flowable.spring.boot.actuate.metrics.FlowableMetricsAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FlowableMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            ProcessEngineServicesAutoConfiguration.class,
+            ProcessEngineAutoConfiguration.class,
+            FlowableMetricsAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            DataSourceAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+        ))
+        .withClassLoader(new FilteredClassLoader(EntityManagerFactory.class));
+
+    @Test
+    public void metricsAreRegisteredAndRecorded() {
+        contextRunner.withUserConfiguration(MeterRegistryConfiguration.class).run(context -> {
+            assertThat(context).hasSingleBean(ProcessEngine.class);
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            assertThat(meterRegistry.find(DbSqlSessionFlushMetricsListener.FLUSH_METRIC_NAME).tag("engine", "bpmn").timer()).isNotNull();
+            assertThat(meterRegistry.find("flowable.async.executor.remaining.capacity").tag("engine", "bpmn").gauge()).isNotNull();
+            assertThat(meterRegistry.find("flowable.async.jobs.acquired").tag("engine", "bpmn").counter()).isNotNull();
+            assertThat(meterRegistry.find("flowable.timer.jobs.acquired").tag("engine", "bpmn").counter()).isNotNull();
+
+            RepositoryService repositoryService = context.getBean(RepositoryService.class);
+            long flushCount = meterRegistry.get(DbSqlSessionFlushMetricsListener.FLUSH_METRIC_NAME).timer().count();
+            repositoryService.createDeploymentQuery().count();
+            repositoryService.createDeploymentQuery().count();
+
+            Timer queryTimer = meterRegistry.get(CommandMetricsInterceptor.COMMAND_METRIC_NAME)
+                    .tag("engine", "bpmn")
+                    .tag("command", "DeploymentQueryImpl")
+                    .tag("exception", "None")
+                    .timer();
+            assertThat(queryTimer.count()).isEqualTo(2);
+            assertThat(meterRegistry.get(DbSqlSessionFlushMetricsListener.FLUSH_METRIC_NAME).timer().count()).isGreaterThanOrEqualTo(flushCount + 2);
+
+            assertThatThrownBy(() -> repositoryService.getProcessDefinition("unknown"))
+                    .isInstanceOf(FlowableObjectNotFoundException.class);
+            assertThat(meterRegistry.get(CommandMetricsInterceptor.COMMAND_METRIC_NAME)
+                    .tag("command", "GetDeploymentProcessDefinitionCmd")
+                    .tag("exception", "FlowableObjectNotFoundException")
+                    .timer().count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void metricsDisabled() {
+        contextRunner.withUserConfiguration(MeterRegistryConfiguration.class)
+            .withPropertyValues("flowable.metrics.enabled=false")
+            .run(context -> {
+                assertThat(context).hasSingleBean(ProcessEngine.class);
+
+                context.getBean(RepositoryService.class).createDeploymentQuery().count();
+
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                assertThat(meterRegistry.find(CommandMetricsInterceptor.COMMAND_METRIC_NAME).timer()).isNull();
+                assertThat(meterRegistry.find(DbSqlSessionFlushMetricsListener.FLUSH_METRIC_NAME).timer()).isNull();
+            });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
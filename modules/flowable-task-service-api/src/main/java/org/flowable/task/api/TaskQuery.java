@@ -14,6 +14,8 @@ package org.flowable.task.api;
 
 import java.util.Collection;
 
+import org.flowable.common.engine.api.query.CursorPagingQuery;
+
 /**
  * Allows programmatic querying of {@link Task}s;
  *
@@ -21,7 +23,7 @@ import java.util.Collection;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
+public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task>, CursorPagingQuery<TaskQuery, Task> {
 
     /** Only select tasks with the given {@link DelegationState}. */
     TaskQuery taskDelegationState(DelegationState delegationState);
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
@@ -36,6 +37,10 @@ public interface TaskService {
     List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId);
     
     List<Task> findTasksByParentTaskId(String parentTaskId);
+
+    List<TaskEntity> findTasksByIds(Collection<String> taskIds);
+
+    List<TaskEntity> findTasksByExecutionIds(Collection<String> executionIds);
     
     List<TaskEntity> findTasksBySubScopeIdScopeType(String subScopeId, String scopeType);
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
@@ -56,6 +57,16 @@ public class TaskServiceImpl extends CommonServiceImpl<TaskServiceConfiguration>
     public List<Task> findTasksByParentTaskId(String parentTaskId) {
         return getTaskEntityManager().findTasksByParentTaskId(parentTaskId);
     }
+
+    @Override
+    public List<TaskEntity> findTasksByIds(Collection<String> taskIds) {
+        return getTaskEntityManager().findTasksByIds(taskIds);
+    }
+
+    @Override
+    public List<TaskEntity> findTasksByExecutionIds(Collection<String> executionIds) {
+        return getTaskEntityManager().findTasksByExecutionIds(executionIds);
+    }
     
     @Override
     public List<TaskEntity> findTasksBySubScopeIdScopeType(String subScopeId, String scopeType) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -55,6 +56,10 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
 
     List<Task> findTasksByParentTaskId(String parentTaskId);
 
+    List<TaskEntity> findTasksByIds(Collection<String> taskIds);
+
+    List<TaskEntity> findTasksByExecutionIds(Collection<String> executionIds);
+
     void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId);
     
     void updateAllTaskRelatedEntityCountFlags(boolean configProperty);
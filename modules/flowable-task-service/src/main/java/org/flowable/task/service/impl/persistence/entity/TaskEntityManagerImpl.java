@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -88,7 +89,8 @@ public class TaskEntityManagerImpl extends AbstractTaskServiceEntityManager<Task
         );
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled() && taskEntity.getAssignee() != null) {
-            getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity),
+            getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_ASSIGNED,
+                    () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity),
                     serviceConfiguration.getEngineName());
         }
 
@@ -191,6 +193,16 @@ public class TaskEntityManagerImpl extends AbstractTaskServiceEntityManager<Task
         return dataManager.findTasksByParentTaskId(parentTaskId);
     }
 
+    @Override
+    public List<TaskEntity> findTasksByIds(Collection<String> taskIds) {
+        return dataManager.findTasksByIds(taskIds);
+    }
+
+    @Override
+    public List<TaskEntity> findTasksByExecutionIds(Collection<String> executionIds) {
+        return dataManager.findTasksByExecutionIds(executionIds);
+    }
+
     @Override
     public void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId) {
         dataManager.updateTaskTenantIdForDeployment(deploymentId, newTenantId);
@@ -274,7 +286,8 @@ public class TaskEntityManagerImpl extends AbstractTaskServiceEntityManager<Task
             }
             if (!Objects.equals(task.getOwner(), getOriginalState(task, "owner"))) {
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                    getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_OWNER_CHANGED, task),
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_OWNER_CHANGED,
+                            () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_OWNER_CHANGED, task),
                             serviceConfiguration.getEngineName());
                 }
 
@@ -282,21 +295,24 @@ public class TaskEntityManagerImpl extends AbstractTaskServiceEntityManager<Task
             }
             if (!Objects.equals(task.getPriority(), getOriginalState(task, "priority"))) {
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                    getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_PRIORITY_CHANGED, task),
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_PRIORITY_CHANGED,
+                            () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_PRIORITY_CHANGED, task),
                             serviceConfiguration.getEngineName());
                 }
                 logPriorityChanged(task, (Integer) getOriginalState(task, "priority"), task.getPriority());
             }
             if (!Objects.equals(task.getDueDate(), getOriginalState(task, "dueDate"))) {
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                    getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_DUEDATE_CHANGED, task),
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_DUEDATE_CHANGED,
+                            () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_DUEDATE_CHANGED, task),
                             serviceConfiguration.getEngineName());
                 }
                 logDueDateChanged(task, (Date) getOriginalState(task, "dueDate"), task.getDueDate());
             }
             if (!Objects.equals(task.getName(), getOriginalState(task, "name"))) {
                 if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-                    getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_NAME_CHANGED, task),
+                    getEventDispatcher().dispatchEvent(FlowableEngineEventType.TASK_NAME_CHANGED,
+                            () -> FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_NAME_CHANGED, task),
                             serviceConfiguration.getEngineName());
                 }
                 logNameChanged(task, (String) getOriginalState(task, "name"), task.getName());
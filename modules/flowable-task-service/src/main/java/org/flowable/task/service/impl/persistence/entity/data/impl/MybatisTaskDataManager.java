@@ -12,6 +12,8 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,7 +67,7 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         DbSqlSession dbSqlSession = getDbSqlSession();
         
         // If the process instance has been inserted in the same command execution as this query, there can't be any in the database
-        if (isEntityInserted(dbSqlSession, "execution", executionId)) {
+        if (isEntityInserted(dbSqlSession, "execution", executionId) || isFetched("executionId", executionId)) {
             return getListFromCache(tasksByExecutionIdMatcher, executionId);
         }
         
@@ -140,6 +142,20 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return getDbSqlSession().selectList("selectTasksByParentTaskId", parentTaskId);
     }
 
+    @Override
+    public List<TaskEntity> findTasksByIds(Collection<String> taskIds) {
+        List<TaskEntity> tasks = new ArrayList<>(taskIds.size());
+        for (List<String> safeTaskIds : createSafeInValuesList(taskIds)) {
+            tasks.addAll(getList("selectTasksByIds", safeTaskIds, null, false));
+        }
+        return tasks;
+    }
+
+    @Override
+    public List<TaskEntity> findTasksByExecutionIds(Collection<String> executionIds) {
+        return fetchAll("selectTasksByExecutionIds", executionIds, "executionId");
+    }
+
     @Override
     public void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId) {
         HashMap<String, Object> params = new HashMap<>();
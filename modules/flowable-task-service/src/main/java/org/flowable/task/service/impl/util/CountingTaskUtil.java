@@ -37,10 +37,12 @@ public class CountingTaskUtil {
 
         FlowableEventDispatcher eventDispatcher = taskServiceConfiguration.getEventDispatcher();
         if (fireDeleteEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.ENTITY_DELETED,
+                    () -> FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, variableInstance),
                     taskServiceConfiguration.getEngineName());
 
-            eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_DELETED,
+            eventDispatcher.dispatchEvent(FlowableEngineEventType.VARIABLE_DELETED,
+                    () -> FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_DELETED,
                     variableInstance, null, variableInstance.getType()), taskServiceConfiguration.getEngineName());
         }
     }
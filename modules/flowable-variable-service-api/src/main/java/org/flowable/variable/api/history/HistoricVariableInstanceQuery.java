@@ -15,6 +15,7 @@ package org.flowable.variable.api.history;
 
 import java.util.Set;
 
+import org.flowable.common.engine.api.query.CursorPagingQuery;
 import org.flowable.common.engine.api.query.Query;
 
 /**
@@ -23,7 +24,8 @@ import org.flowable.common.engine.api.query.Query;
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public interface HistoricVariableInstanceQuery extends Query<HistoricVariableInstanceQuery, HistoricVariableInstance> {
+public interface HistoricVariableInstanceQuery extends Query<HistoricVariableInstanceQuery, HistoricVariableInstance>,
+        CursorPagingQuery<HistoricVariableInstanceQuery, HistoricVariableInstance> {
 
     /** Only select a historic variable with the given id. */
     HistoricVariableInstanceQuery id(String id);
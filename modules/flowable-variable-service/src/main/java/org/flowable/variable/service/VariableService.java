@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.variable.api.types.VariableType;
@@ -39,6 +40,8 @@ public interface VariableService {
         return createInternalVariableInstanceQuery().subScopeId(subScopeId).scopeType(scopeType).list();
     }
 
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds);
+
     VariableInstanceEntity createVariableInstance(String name, VariableType type, Object value);
 
     /**
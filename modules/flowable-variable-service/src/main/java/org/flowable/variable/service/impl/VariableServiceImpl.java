@@ -12,6 +12,9 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.InternalVariableInstanceQuery;
@@ -35,6 +38,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().createInternalVariableInstanceQuery();
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        return getVariableInstanceEntityManager().findVariableInstancesByExecutionIds(executionIds);
+    }
+
     @Override
     public VariableInstanceEntity createVariableInstance(String name, VariableType type, Object value) {
         return getVariableInstanceEntityManager().create(name, type, value);
@@ -15,10 +15,12 @@ package org.flowable.variable.service.impl.persistence.entity;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -27,7 +29,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -53,6 +55,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     protected boolean forcedUpdate;
     protected boolean deleted;
 
+    protected boolean isDirty = true;
+    protected String originalByteArrayRefId;
+
     public VariableInstanceEntityImpl() {
 
     }
@@ -84,11 +89,27 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void forceUpdate() {
         forcedUpdate = true;
+        isDirty = true;
+    }
+
+    @Override
+    public boolean isDirty() {
+        // The byte array reference can be changed (e.g. deleted) without going through this entity
+        return isDirty || !Objects.equals(originalByteArrayRefId, byteArrayRef != null ? byteArrayRef.getId() : null);
+    }
+
+    @Override
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+        if (!isDirty) {
+            this.originalByteArrayRefId = byteArrayRef != null ? byteArrayRef.getId() : null;
+        }
     }
     
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        this.isDirty = true;
     }
 
     @Override
@@ -113,6 +134,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
         byteArrayRef.setValue("var-" + name, bytes, getEngineType());
+        isDirty = true;
     }
 
     @Override
@@ -141,6 +163,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
         type.setValue(value, this);
         typeName = type.getTypeName();
         cachedValue = value;
+        isDirty = true;
     }
 
     // getters and setters ////////////////////////////////////////////////////////
@@ -148,6 +171,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setName(String name) {
         this.name = name;
+        this.isDirty = true;
     }
 
     @Override
@@ -169,6 +193,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTypeName(String typeName) {
         this.typeName = typeName;
+        this.isDirty = true;
     }
 
     @Override
@@ -179,6 +204,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setType(VariableType type) {
         this.type = type;
+        this.isDirty = true;
     }
 
     @Override
@@ -214,6 +240,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        this.isDirty = true;
     }
     
     @Override
@@ -224,6 +251,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        this.isDirty = true;
     }
 
     @Override
@@ -234,6 +262,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        this.isDirty = true;
     }
 
     @Override
@@ -244,6 +273,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setLongValue(Long longValue) {
         this.longValue = longValue;
+        this.isDirty = true;
     }
 
     @Override
@@ -254,6 +284,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setDoubleValue(Double doubleValue) {
         this.doubleValue = doubleValue;
+        this.isDirty = true;
     }
 
     @Override
@@ -264,6 +295,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue(String textValue) {
         this.textValue = textValue;
+        this.isDirty = true;
     }
 
     @Override
@@ -274,6 +306,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setTextValue2(String textValue2) {
         this.textValue2 = textValue2;
+        this.isDirty = true;
     }
 
     @Override
@@ -13,6 +13,7 @@
 package org.flowable.variable.service.impl.persistence.entity;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.variable.api.types.VariableType;
@@ -38,6 +39,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     InternalVariableInstanceQuery createInternalVariableInstanceQuery();
 
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds);
+
     void deleteVariablesByTaskId(String taskId);
 
     void deleteVariablesByExecutionId(String executionId);
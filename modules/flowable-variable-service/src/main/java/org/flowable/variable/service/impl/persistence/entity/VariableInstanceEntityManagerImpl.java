@@ -14,6 +14,7 @@
 package org.flowable.variable.service.impl.persistence.entity;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
@@ -57,6 +58,11 @@ public class VariableInstanceEntityManagerImpl
         return new InternalVariableInstanceQueryImpl(dataManager);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        return dataManager.findVariableInstancesByExecutionIds(executionIds);
+    }
+
     @Override
     public void delete(VariableInstanceEntity entity, boolean fireDeleteEvent) {
         super.delete(entity, false);
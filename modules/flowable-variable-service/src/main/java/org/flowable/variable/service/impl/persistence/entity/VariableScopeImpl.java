@@ -878,7 +878,8 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         // Dispatch event, if needed
         if (variableServiceConfiguration.isEventDispatcherEnabled()) {
             variableServiceConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_UPDATED, variableInstance, value,
+                    FlowableEngineEventType.VARIABLE_UPDATED,
+                    () -> FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_UPDATED, variableInstance, value,
                             variableInstance.getType()), variableServiceConfiguration.getEngineName());
         }
         
@@ -919,7 +920,8 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         if (variableServiceConfiguration.isEventDispatcherEnabled()) {
             variableServiceConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_CREATED, variableInstance, value,
+                    FlowableEngineEventType.VARIABLE_CREATED,
+                    () -> FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_CREATED, variableInstance, value,
                             variableInstance.getType()), variableServiceConfiguration.getEngineName());
         }
         
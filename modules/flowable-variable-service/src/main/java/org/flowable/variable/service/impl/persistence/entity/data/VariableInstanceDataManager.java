@@ -28,6 +28,12 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     VariableInstanceEntity findVariablesInstanceByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery);
 
+    /**
+     * Fetches all variables (including the task local variables) of the given executions in one query.
+     * For the rest of the command, queries for the variables of one of these executions are answered from the entity cache.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds);
+
     void deleteVariablesByTaskId(String taskId);
     
     void deleteVariablesByExecutionId(String executionId);
@@ -72,12 +72,21 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
 
     @Override
     public List<VariableInstanceEntity> findVariablesInstancesByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery) {
+        if (internalVariableInstanceQuery.getExecutionId() != null && isFetched("executionId", internalVariableInstanceQuery.getExecutionId())) {
+            return getListFromCache(internalVariableInstanceQuery, internalVariableInstanceQuery);
+        }
         return getList("selectVariablesByQuery", internalVariableInstanceQuery, internalVariableInstanceQuery, true);
     }
 
     @Override
     public VariableInstanceEntity findVariablesInstanceByQuery(InternalVariableInstanceQueryImpl internalVariableInstanceQuery) {
-        return getEntity("selectVariablesByQuery", internalVariableInstanceQuery, internalVariableInstanceQuery, true);
+        boolean checkDatabase = internalVariableInstanceQuery.getExecutionId() == null || !isFetched("executionId", internalVariableInstanceQuery.getExecutionId());
+        return getEntity("selectVariablesByQuery", internalVariableInstanceQuery, internalVariableInstanceQuery, checkDatabase);
+    }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        return fetchAll("selectVariableInstancesByExecutionIds", executionIds, "executionId");
     }
 
     @Override
@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Frederik Heremans
  */
-public class BooleanType implements VariableType {
+public class BooleanType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "boolean";
     private static final long serialVersionUID = 1L;
@@ -62,4 +62,9 @@ public class BooleanType implements VariableType {
         }
         return Boolean.class.isAssignableFrom(value.getClass()) || boolean.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Boolean.class.isAssignableFrom(valueClass));
+    }
 }
@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Tom Baeyens
  */
-public class ByteArrayType implements VariableType {
+public class ByteArrayType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "bytes";
 
@@ -51,4 +51,9 @@ public class ByteArrayType implements VariableType {
         }
         return byte[].class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(byte[].class.isAssignableFrom(valueClass));
+    }
 }
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+/**
+ * An interface that can be implemented by a {@link org.flowable.variable.api.types.VariableType VariableType}
+ * if it can tell, based on the class of a value only, whether it is able to store that value.
+ * <p>
+ * This allows {@link DefaultVariableTypes} to resolve the type for a class once and cache it, instead of calling
+ * {@link org.flowable.variable.api.types.VariableType#isAbleToStore(Object) isAbleToStore} on every type for every value.
+ * When the decision also depends on the value itself (e.g. the length of a string), {@link Resolution#DEPENDS_ON_VALUE}
+ * is returned and {@code isAbleToStore} is called for every value of that class.
+ */
+public interface ClassResolvableVariableType {
+
+    /**
+     * @param valueClass the class of a non null value
+     * @return whether all, none or only some of the values of the class can be stored by this type.
+     *         The result must be consistent with {@link org.flowable.variable.api.types.VariableType#isAbleToStore(Object) isAbleToStore}.
+     */
+    Resolution resolveForClass(Class<?> valueClass);
+
+    enum Resolution {
+
+        ABLE_TO_STORE,
+
+        NOT_ABLE_TO_STORE,
+
+        DEPENDS_ON_VALUE;
+
+        public static Resolution of(boolean ableToStore) {
+            return ableToStore ? ABLE_TO_STORE : NOT_ABLE_TO_STORE;
+        }
+    }
+
+}
@@ -20,7 +20,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Tom Baeyens
  */
-public class DateType implements VariableType {
+public class DateType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "date";
 
@@ -42,6 +42,11 @@ public class DateType implements VariableType {
         return Date.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Date.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
@@ -14,24 +14,40 @@ package org.flowable.variable.service.impl.types;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.impl.types.ClassResolvableVariableType.Resolution;
 
 /**
+ * The variable type for a value is found in two stages. First, the types are resolved for the class of the value:
+ * types implementing {@link ClassResolvableVariableType} are skipped when they can't store any value of the class,
+ * and the first one that can store every value of the class ends the lookup. The result of this stage is cached per class.
+ * Second, {@link VariableType#isAbleToStore(Object)} is called on the remaining types that depend on the value itself
+ * (e.g. the length of a string), in the order in which the types were added.
+ *
  * @author Tom Baeyens
  */
 public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Upper bound on the number of classes for which the resolved types are cached, to not hold on to an unbounded number of classes.
+     */
+    private static final int MAX_CACHED_VALUE_CLASSES = 1000;
+
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    private transient volatile Map<Class<?>, ResolvedVariableTypes> resolvedTypesByValueClass = new ConcurrentHashMap<>();
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,9 +57,14 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        clearResolvedTypes();
         return this;
     }
 
+    public List<VariableType> getTypesList() {
+        return Collections.unmodifiableList(typesList);
+    }
+
     public void setTypesList(List<VariableType> typesList) {
         this.typesList.clear();
         this.typesList.addAll(typesList);
@@ -51,6 +72,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        clearResolvedTypes();
     }
 
     @Override
@@ -60,14 +82,78 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
+        if (value != null) {
+            VariableType type = getResolvedTypes(value.getClass()).findVariableType(value);
+            if (type != null) {
                 return type;
             }
+
+        } else {
+            for (VariableType type : typesList) {
+                if (type.isAbleToStore(null)) {
+                    return type;
+                }
+            }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected ResolvedVariableTypes getResolvedTypes(Class<?> valueClass) {
+        Map<Class<?>, ResolvedVariableTypes> resolvedTypes = resolvedTypesByValueClass;
+        if (resolvedTypes == null) {
+            // Not initialized after deserialization
+            resolvedTypes = new ConcurrentHashMap<>();
+            resolvedTypesByValueClass = resolvedTypes;
+        }
+
+        ResolvedVariableTypes resolvedTypesForClass = resolvedTypes.get(valueClass);
+        if (resolvedTypesForClass == null) {
+            resolvedTypesForClass = resolveTypes(valueClass);
+            if (resolvedTypes.size() < MAX_CACHED_VALUE_CLASSES) {
+                resolvedTypes.put(valueClass, resolvedTypesForClass);
+            }
+        }
+        return resolvedTypesForClass;
+    }
+
+    protected ResolvedVariableTypes resolveTypes(Class<?> valueClass) {
+        List<VariableType> valueDependentTypes = new ArrayList<>();
+        for (VariableType type : typesList) {
+            Resolution resolution = resolveForClass(type, valueClass);
+            if (resolution == Resolution.ABLE_TO_STORE) {
+                return new ResolvedVariableTypes(valueDependentTypes, type);
+            } else if (resolution == Resolution.DEPENDS_ON_VALUE) {
+                valueDependentTypes.add(type);
+            }
+        }
+        return new ResolvedVariableTypes(valueDependentTypes, null);
+    }
+
+    protected Resolution resolveForClass(VariableType type, Class<?> valueClass) {
+        if (type instanceof ClassResolvableVariableType && isClassResolutionConsistent(type)) {
+            return ((ClassResolvableVariableType) type).resolveForClass(valueClass);
+        }
+        return Resolution.DEPENDS_ON_VALUE;
+    }
+
+    /**
+     * A subclass of a class resolvable type that overrides {@link VariableType#isAbleToStore(Object)},
+     * but not {@link ClassResolvableVariableType#resolveForClass(Class)}, can't be resolved based on the class.
+     */
+    protected boolean isClassResolutionConsistent(VariableType type) {
+        try {
+            Class<?> isAbleToStoreClass = type.getClass().getMethod("isAbleToStore", Object.class).getDeclaringClass();
+            Class<?> resolveForClassClass = type.getClass().getMethod("resolveForClass", Class.class).getDeclaringClass();
+            return isAbleToStoreClass.isAssignableFrom(resolveForClassClass);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    protected void clearResolvedTypes() {
+        resolvedTypesByValueClass = new ConcurrentHashMap<>();
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
@@ -87,10 +173,34 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        clearResolvedTypes();
         return this;
     }
 
     public int size() {
         return typesList.size();
     }
+
+    /**
+     * The types resolved for a class: the types that need to check the value itself, followed by the type that can store any value of the class.
+     */
+    protected static class ResolvedVariableTypes {
+
+        protected final VariableType[] valueDependentTypes;
+        protected final VariableType classType;
+
+        public ResolvedVariableTypes(List<VariableType> valueDependentTypes, VariableType classType) {
+            this.valueDependentTypes = valueDependentTypes.toArray(new VariableType[0]);
+            this.classType = classType;
+        }
+
+        public VariableType findVariableType(Object value) {
+            for (VariableType type : valueDependentTypes) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
+            }
+            return classType;
+        }
+    }
 }
@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Tom Baeyens
  */
-public class DoubleType implements VariableType {
+public class DoubleType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "double";
 
@@ -51,4 +51,9 @@ public class DoubleType implements VariableType {
         }
         return Double.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Double.class.isAssignableFrom(valueClass));
+    }
 }
@@ -21,7 +21,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Filip Hrisafov
  */
-public class EmptyCollectionType implements VariableType {
+public class EmptyCollectionType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "emptyCollection";
 
@@ -49,6 +49,11 @@ public class EmptyCollectionType implements VariableType {
         return false;
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(EMPTY_LIST_CLASS.isAssignableFrom(valueClass) || EMPTY_SET_CLASS.isAssignableFrom(valueClass));
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         if (EMPTY_LIST_CLASS.isInstance(value)) {
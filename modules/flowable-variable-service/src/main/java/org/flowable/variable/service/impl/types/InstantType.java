@@ -20,7 +20,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Filip Hrisafov
  */
-public class InstantType implements VariableType {
+public class InstantType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "instant";
 
@@ -42,6 +42,11 @@ public class InstantType implements VariableType {
         return Instant.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Instant.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
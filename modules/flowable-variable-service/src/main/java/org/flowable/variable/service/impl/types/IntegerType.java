@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Joram Barrez
  */
-public class IntegerType implements VariableType {
+public class IntegerType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "integer";
 
@@ -60,4 +60,9 @@ public class IntegerType implements VariableType {
         }
         return Integer.class.isAssignableFrom(value.getClass()) || int.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Integer.class.isAssignableFrom(valueClass));
+    }
 }
@@ -32,7 +32,7 @@ import org.flowable.variable.api.types.VariableType;
  * 
  * @author Frederik Heremans
  */
-public class JPAEntityListVariableType implements VariableType, CacheableVariable {
+public class JPAEntityListVariableType implements VariableType, CacheableVariable, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "jpa-entity-list";
 
@@ -85,6 +85,12 @@ public class JPAEntityListVariableType implements VariableType, CacheableVariabl
         return canStore;
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        // Whether the list can be stored depends on the elements of the list
+        return List.class.isAssignableFrom(valueClass) ? Resolution.DEPENDS_ON_VALUE : Resolution.NOT_ABLE_TO_STORE;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         EntityManagerSession entityManagerSession = Context.getCommandContext().getSession(EntityManagerSession.class);
@@ -23,7 +23,7 @@ import org.flowable.variable.api.types.VariableType;
  * 
  * @author Frederik Heremans
  */
-public class JPAEntityVariableType implements VariableType, CacheableVariable {
+public class JPAEntityVariableType implements VariableType, CacheableVariable, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "jpa-entity";
 
@@ -53,6 +53,11 @@ public class JPAEntityVariableType implements VariableType, CacheableVariable {
         return mappings.isJPAEntity(value);
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(mappings.getEntityMetaData(valueClass).isJPAEntity());
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         EntityManagerSession entityManagerSession = Context.getCommandContext().getSession(EntityManagerSession.class);
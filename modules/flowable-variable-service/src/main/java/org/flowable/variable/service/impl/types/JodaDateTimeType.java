@@ -19,7 +19,7 @@ import org.joda.time.DateTime;
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateTimeType implements VariableType {
+public class JodaDateTimeType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "jodadatetime";
 
@@ -41,6 +41,11 @@ public class JodaDateTimeType implements VariableType {
         return DateTime.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(DateTime.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
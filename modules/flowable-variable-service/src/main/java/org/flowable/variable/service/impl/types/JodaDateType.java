@@ -19,7 +19,7 @@ import org.joda.time.LocalDate;
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateType implements VariableType {
+public class JodaDateType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "jodadate";
 
@@ -41,6 +41,11 @@ public class JodaDateType implements VariableType {
         return LocalDate.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(LocalDate.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
@@ -38,7 +38,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * @author Tijs Rademakers
  * @author Filip Hrisafov
  */
-public class JsonType implements VariableType, MutableVariableType<JsonNode, JsonNode> {
+public class JsonType implements VariableType, MutableVariableType<JsonNode, JsonNode>, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "json";
 
@@ -198,4 +198,9 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
         return value instanceof JsonNode;
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(JsonNode.class.isAssignableFrom(valueClass));
+    }
 }
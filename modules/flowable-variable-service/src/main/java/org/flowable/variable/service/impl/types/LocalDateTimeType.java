@@ -22,7 +22,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Filip Hrisafov
  */
-public class LocalDateTimeType implements VariableType {
+public class LocalDateTimeType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "localdatetime";
 
@@ -44,6 +44,11 @@ public class LocalDateTimeType implements VariableType {
         return LocalDateTime.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(LocalDateTime.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
@@ -20,7 +20,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Filip Hrisafov
  */
-public class LocalDateType implements VariableType {
+public class LocalDateType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "localdate";
 
@@ -42,6 +42,11 @@ public class LocalDateType implements VariableType {
         return LocalDate.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(LocalDate.class.isAssignableFrom(valueClass));
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
@@ -40,4 +40,9 @@ public class LongStringType extends SerializableType {
         }
         return false;
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return String.class.isAssignableFrom(valueClass) ? Resolution.DEPENDS_ON_VALUE : Resolution.NOT_ABLE_TO_STORE;
+    }
 }
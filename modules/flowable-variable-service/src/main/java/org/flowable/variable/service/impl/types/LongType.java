@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Tom Baeyens
  */
-public class LongType implements VariableType {
+public class LongType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "long";
 
@@ -56,4 +56,9 @@ public class LongType implements VariableType {
         }
         return Long.class.isAssignableFrom(value.getClass()) || long.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Long.class.isAssignableFrom(valueClass));
+    }
 }
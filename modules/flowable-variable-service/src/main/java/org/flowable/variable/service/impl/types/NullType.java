@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Tom Baeyens
  */
-public class NullType implements VariableType {
+public class NullType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "null";
 
@@ -44,6 +44,11 @@ public class NullType implements VariableType {
         return (value == null);
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.NOT_ABLE_TO_STORE;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
     }
@@ -190,6 +190,11 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         return value instanceof Serializable;
     }
 
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Serializable.class.isAssignableFrom(valueClass));
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Joram Barrez
  */
-public class ShortType implements VariableType {
+public class ShortType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "short";
 
@@ -60,4 +60,9 @@ public class ShortType implements VariableType {
         }
         return Short.class.isAssignableFrom(value.getClass()) || short.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(Short.class.isAssignableFrom(valueClass));
+    }
 }
@@ -18,7 +18,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Tom Baeyens
  */
-public class StringType implements VariableType {
+public class StringType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "string";
     private final int maxLength;
@@ -58,4 +58,10 @@ public class StringType implements VariableType {
         }
         return false;
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        // The length of the string decides between this type and the long string type
+        return String.class.isAssignableFrom(valueClass) ? Resolution.DEPENDS_ON_VALUE : Resolution.NOT_ABLE_TO_STORE;
+    }
 }
@@ -20,7 +20,7 @@ import org.flowable.variable.api.types.VariableType;
 /**
  * @author Birger Zimmermann
  */
-public class UUIDType implements VariableType {
+public class UUIDType implements VariableType, ClassResolvableVariableType {
 
     public static final String TYPE_NAME = "uuid";
 
@@ -61,4 +61,9 @@ public class UUIDType implements VariableType {
         }
         return UUID.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Resolution resolveForClass(Class<?> valueClass) {
+        return Resolution.of(UUID.class.isAssignableFrom(valueClass));
+    }
 }
\ No newline at end of file